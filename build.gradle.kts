@@ -44,6 +44,8 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	// 외부 은행 API 커넥션 풀 (버전은 Spring Boot BOM 관리)
+	implementation("org.apache.httpcomponents.client5:httpclient5")
 	// Redis는 개발 환경에서 제외 (운영 환경에서만 사용)
 	// implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.springframework.boot:spring-boot-starter-cache")
@@ -84,6 +86,35 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// 벤치마크(@Tag("benchmark"))는 기본 테스트에서 제외하고 ./gradlew benchmark 로 실행
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("benchmark")
+	}
+}
+
+tasks.register<Test>("benchmark") {
+	description = "벤치마크 테스트 실행"
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// 가상 스레드 모드 실행: ./gradlew bootRun -Pvthreads
+// 캐리어 스레드 고정(pinning) 발생 시 스택을 출력
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+	if (project.hasProperty("vthreads")) {
+		systemProperty("spring.profiles.active", "dev,vthreads")
+		jvmArgs("-Djdk.tracePinnedThreads=short")
+	}
+}
+
 // Gatling 설정 - 기본 설정 사용
 
 // SpotBugs 플러그인 전체 설정 (Extension)
@@ -0,0 +1,66 @@
+#!/bin/bash
+
+# 플랫폼 스레드 / 가상 스레드 모드 부하 비교 스크립트
+# 같은 시뮬레이션(TransferLoadTestSimulation)을 두 모드로 차례로 실행하고 리포트 위치를 출력
+#
+# 사용법: ./scripts/compare-thread-modes.sh [sync|async]
+
+TRANSFER_MODE=${1:-sync}
+BASE_URL="http://localhost:8090"
+SIMULATION="fintech2.easypay.performance.TransferLoadTestSimulation"
+
+# 색상 코드
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+wait_for_server() {
+  for i in $(seq 1 60); do
+    if curl -s "$BASE_URL/actuator/health" > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  return 1
+}
+
+run_mode() {
+  local mode=$1
+  local gradle_args=""
+  if [ "$mode" = "virtual" ]; then
+    gradle_args="-Pvthreads"
+  fi
+
+  echo "=== $mode 스레드 모드 실행 ==="
+  ./gradlew bootRun $gradle_args > "build/bootRun-$mode.log" 2>&1 &
+  local app_pid=$!
+
+  if ! wait_for_server; then
+    echo -e "${RED}서버 기동 실패 ($mode) - build/bootRun-$mode.log 확인${NC}"
+    kill $app_pid 2>/dev/null
+    return 1
+  fi
+
+  ./scripts/prepare-test-data.sh > /dev/null
+
+  ./gradlew gatlingRun --simulation "$SIMULATION" \
+    -DbaseUrl="$BASE_URL" -DthreadMode="$mode" -DtransferMode="$TRANSFER_MODE"
+
+  # 고정(pinning) 발생 여부 확인
+  if [ "$mode" = "virtual" ]; then
+    local pinned=$(grep -c "가상 스레드 고정 감지" "build/bootRun-$mode.log")
+    echo "가상 스레드 고정 감지 건수: $pinned"
+  fi
+
+  kill $app_pid
+  wait $app_pid 2>/dev/null
+  echo -e "${GREEN}$mode 모드 완료${NC}"
+}
+
+mkdir -p build
+run_mode platform
+run_mode virtual
+
+echo ""
+echo "리포트: build/reports/gatling/ (최근 두 개가 platform, virtual 순서)"
+echo "비교 항목: 송금 요청 p95/최대 응답시간, 성공률, hikaricp_connections_pending (actuator/prometheus)"
@@ -0,0 +1,115 @@
+#!/bin/bash
+
+# 결제 부하 테스트 커넥션 풀 지표 전후 비교 스크립트
+# 두 커밋(변경 전/후)을 각각 기동해 같은 시뮬레이션(PaymentLoadTestSimulation)을 실행하고
+# hikaricp.connections.pending / hikaricp.connections.acquire 를 수집해 결과 표 한 줄씩 출력
+#
+# 사용법: ./scripts/measure-payment-pool.sh [변경 전 ref] [변경 후 ref]
+#   기본값: 689e4a9^ (PG 호출을 결제 트랜잭션 밖으로 옮기기 전) / HEAD
+# 결과: build/pool-compare/results.md (docs/performance/payment-pool-results.md 표에 옮겨 적음)
+# 필요: curl, jq, git worktree
+
+BEFORE_REF=${1:-689e4a9^}
+AFTER_REF=${2:-HEAD}
+BASE_URL="http://localhost:8090"
+SIMULATION="fintech2.easypay.performance.PaymentLoadTestSimulation"
+MAX_DURATION_MINUTES=${MAX_DURATION_MINUTES:-12}
+SAMPLE_INTERVAL_SECONDS=1
+
+ROOT_DIR=$(git rev-parse --show-toplevel)
+WORK_DIR="$ROOT_DIR/build/pool-compare"
+RESULTS="$WORK_DIR/results.md"
+
+# 색상 코드
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+wait_for_server() {
+  for i in $(seq 1 90); do
+    if curl -s "$BASE_URL/actuator/health" > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  return 1
+}
+
+# /actuator/metrics/{name} 의 측정값 하나 (statistic: VALUE, COUNT, TOTAL_TIME, MAX)
+metric() {
+  curl -s "$BASE_URL/actuator/metrics/$1" \
+    | jq -r --arg stat "$2" '.measurements[] | select(.statistic == $stat) | .value'
+}
+
+# 실행 중 pending 게이지와 acquire 최대값(구간 최대라 시간이 지나면 줄어듦)을 주기적으로 기록
+sample_pool() {
+  local out=$1
+  while true; do
+    echo "$(metric hikaricp.connections.pending VALUE) $(metric hikaricp.connections.acquire MAX)" >> "$out"
+    sleep $SAMPLE_INTERVAL_SECONDS
+  done
+}
+
+run_ref() {
+  local label=$1
+  local ref=$2
+  local tree="$WORK_DIR/$label"
+  local commit=$(git rev-parse --short "$ref")
+
+  echo "=== $label ($ref = $commit) 실행 ==="
+  git worktree remove --force "$tree" 2>/dev/null
+  git worktree add --detach "$tree" "$commit" > /dev/null || return 1
+
+  # 기본 프로필은 health만 노출하므로 metrics 엔드포인트를 열어 기동
+  (cd "$tree" && ./gradlew bootRun \
+    --args='--management.endpoints.web.exposure.include=health,metrics') > "$WORK_DIR/bootRun-$label.log" 2>&1 &
+  local app_pid=$!
+
+  if ! wait_for_server; then
+    echo -e "${RED}서버 기동 실패 ($label) - $WORK_DIR/bootRun-$label.log 확인${NC}"
+    kill $app_pid 2>/dev/null
+    return 1
+  fi
+
+  "$ROOT_DIR/scripts/prepare-test-data.sh" > /dev/null
+
+  local count_before=$(metric hikaricp.connections.acquire COUNT)
+  local total_before=$(metric hikaricp.connections.acquire TOTAL_TIME)
+  local samples="$WORK_DIR/samples-$label.txt"
+  : > "$samples"
+  sample_pool "$samples" &
+  local sampler_pid=$!
+
+  # 시뮬레이션은 항상 현재 체크아웃의 것을 사용해 두 실행의 부하를 같게 유지
+  (cd "$ROOT_DIR" && ./gradlew gatlingRun --simulation "$SIMULATION" \
+    -DbaseUrl="$BASE_URL" -DmaxDurationMinutes="$MAX_DURATION_MINUTES") > "$WORK_DIR/gatling-$label.log" 2>&1
+
+  kill $sampler_pid 2>/dev/null
+  local count_after=$(metric hikaricp.connections.acquire COUNT)
+  local total_after=$(metric hikaricp.connections.acquire TOTAL_TIME)
+
+  # 초 단위 누적값 차이로 실행 구간의 평균 획득 시간(ms) 계산
+  local acquires=$(echo "$count_after - $count_before" | bc)
+  local mean_ms=$(echo "scale=3; ($total_after - $total_before) * 1000 / $acquires" | bc)
+  local pending=$(awk '{ if ($1 > max) max = $1; sum += $1; n++ } END { printf "%.2f %d", sum / n, max }' "$samples")
+  local max_ms=$(awk '{ if ($2 > max) max = $2 } END { printf "%.3f", max * 1000 }' "$samples")
+
+  echo "| $label | $commit | ${pending% *} | ${pending#* } | $acquires | $mean_ms | $max_ms |" >> "$RESULTS"
+
+  kill $app_pid
+  wait $app_pid 2>/dev/null
+  git worktree remove --force "$tree"
+  echo -e "${GREEN}$label 완료${NC}"
+}
+
+mkdir -p "$WORK_DIR"
+echo "| 구분 | 커밋 | pending 평균 | pending 최대 | acquire 건수 | acquire 평균(ms) | acquire 최대(ms) |" > "$RESULTS"
+echo "|---|---|---|---|---|---|---|" >> "$RESULTS"
+
+run_ref before "$BEFORE_REF"
+run_ref after "$AFTER_REF"
+
+echo ""
+cat "$RESULTS"
+echo ""
+echo "Gatling 리포트: build/reports/gatling/ (최근 두 개가 before, after 순서)"
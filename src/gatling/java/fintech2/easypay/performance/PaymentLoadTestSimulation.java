@@ -18,12 +18,21 @@ import java.util.Map;
  * 1. 사용자 로그인
  * 2. 결제 요청 (다양한 금액)
  * 3. 결제 상태 확인
+ *
+ * 실행 옵션 (시스템 프로퍼티):
+ * -DbaseUrl=http://localhost:8090   대상 서버
+ * -DmaxDurationMinutes=12           최대 실행 시간 (결제 루프가 끝나지 않으므로 이 시간에 종료)
+ *
+ * 커넥션 풀 지표(hikaricp.connections.pending/acquire) 전후 비교: scripts/measure-payment-pool.sh
  */
 public class PaymentLoadTestSimulation extends Simulation {
 
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8090");
+    private static final long MAX_DURATION_MINUTES = Long.getLong("maxDurationMinutes", 12L);
+
     // HTTP 프로토콜 설정
     private HttpProtocolBuilder httpProtocol = http
-        .baseUrl("http://localhost:8090")
+        .baseUrl(BASE_URL)
         .acceptHeader("application/json")
         .contentTypeHeader("application/json")
         .userAgentHeader("Gatling Performance Test");
@@ -92,6 +101,10 @@ public class PaymentLoadTestSimulation extends Simulation {
         )
     );
 
+    // 카드 결제 시 추가 필드 (Mock PG에서 승인되는 카드번호)
+    private static final String CARD_FIELDS =
+        ", \"cardNumber\": \"4111111111111111\", \"cardExpiryDate\": \"12/29\", \"cardCvv\": \"123\"";
+
     // 결제 시나리오
     private ChainBuilder paymentChain = exec(
         feed(paymentAmountFeeder)
@@ -101,18 +114,22 @@ public class PaymentLoadTestSimulation extends Simulation {
                 .header("Authorization", "Bearer #{accessToken}")
                 .body(StringBody(session -> {
                     String merchantId = "MERCHANT_" + ThreadLocalRandom.current().nextInt(1000, 9999);
+                    // 절반은 카드 결제 - PG 호출 구간에서 커넥션 풀 대기(hikaricp.connections.pending)를 함께 관찰
+                    boolean card = ThreadLocalRandom.current().nextBoolean();
                     return String.format("""
                         {
                             "merchantId": "%s",
                             "merchantName": "%s",
                             "amount": %s,
                             "memo": "Gatling 부하테스트 결제",
-                            "paymentMethod": "BALANCE"
+                            "paymentMethod": "%s"%s
                         }
                         """, 
                         merchantId,
                         session.getString("merchantName"),
-                        session.getString("amount")
+                        session.getString("amount"),
+                        card ? "CARD" : "BALANCE",
+                        card ? CARD_FIELDS : ""
                     );
                 })).asJson()
                 .check(status().in(200, 201))
@@ -187,6 +204,7 @@ public class PaymentLoadTestSimulation extends Simulation {
                 constantUsersPerSec(5).during(Duration.ofMinutes(10)) // 10분간 초당 5명 지속
             ).protocols(httpProtocol)
         )
+        .maxDuration(Duration.ofMinutes(MAX_DURATION_MINUTES))
         .assertions(
             // 성능 기준 설정
             global().responseTime().max().lt(5000), // 최대 응답시간 5초 이하
@@ -19,15 +19,24 @@ import java.util.Map;
  * 2. 송금 요청 (다양한 금액, 수신자)
  * 3. 송금 상태 확인
  * 4. 송금 내역 조회
+ *
+ * 실행 옵션 (스레드 모드 비교 시 scripts/compare-thread-modes.sh 사용)
+ * -DbaseUrl=http://localhost:8090  대상 서버
+ * -DthreadMode=platform|virtual    리포트 구분용 라벨
+ * -DtransferMode=sync|async        송금 API 처리 방식
  */
 public class TransferLoadTestSimulation extends Simulation {
 
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8090");
+    private static final String THREAD_MODE = System.getProperty("threadMode", "platform");
+    private static final String TRANSFER_MODE = System.getProperty("transferMode", "sync");
+
     // HTTP 프로토콜 설정
     private HttpProtocolBuilder httpProtocol = http
-        .baseUrl("http://localhost:8090")
+        .baseUrl(BASE_URL)
         .acceptHeader("application/json")
         .contentTypeHeader("application/json")
-        .userAgentHeader("Gatling Transfer Test");
+        .userAgentHeader("Gatling Transfer Test (" + THREAD_MODE + ")");
 
     // 로그인을 위한 패스워드 피더
     private FeederBuilder<Object> loginFeeder = listFeeder(List.of(
@@ -74,7 +83,7 @@ public class TransferLoadTestSimulation extends Simulation {
                session.getString("accessToken").isEmpty()).then(
             exec(
                 http("송금자 로그인")
-                    .post("/auth/login")
+                    .post("/api/auth/login")
                     .body(StringBody("""
                         {
                             "phoneNumber": "#{phoneNumber}",
@@ -94,24 +103,25 @@ public class TransferLoadTestSimulation extends Simulation {
         .feed(transferAmountFeeder)
         .exec(
             http("송금 요청")
-                .post("/transfers")
+                .post("/api/transfers")
+                .queryParam("mode", TRANSFER_MODE)
                 .header("Authorization", "Bearer #{accessToken}")
                 .body(StringBody("""
                     {
-                        "receiverAccountNumber": "#{accountNumber}",
+                        "receiverAccountNumber": "#{receiverAccount}",
                         "amount": #{amount},
                         "memo": "#{memo} - Gatling 테스트"
                     }
                     """)).asJson()
-                .check(status().in(200, 201))
-                .check(jsonPath("$.transferId").optional().saveAs("transferId"))
-                .check(jsonPath("$.status").optional().saveAs("transferStatus"))
+                .check(status().in(200, 201, 202))
+                .check(jsonPath("$.data.transactionId").optional().saveAs("transferId"))
+                .check(jsonPath("$.data.status").optional().saveAs("transferStatus"))
         )
         .pause(1, 2)
         .doIf(session -> session.contains("transferId")).then(
             exec(
                 http("송금 상태 확인")
-                    .get("/transfers/#{transferId}")
+                    .get("/api/transfers/#{transferId}")
                     .header("Authorization", "Bearer #{accessToken}")
                     .check(status().is(200))
             )
@@ -121,7 +131,7 @@ public class TransferLoadTestSimulation extends Simulation {
     // 송금 내역 조회 시나리오
     private ChainBuilder transferHistoryChain = exec(
         http("송금 내역 조회")
-            .get("/transfers/history")
+            .get("/api/transfers/history")
             .header("Authorization", "Bearer #{accessToken}")
             .queryParam("page", "0")
             .queryParam("size", "10")
@@ -131,7 +141,7 @@ public class TransferLoadTestSimulation extends Simulation {
     // 계좌 잔액 확인 시나리오
     private ChainBuilder balanceCheckChain = exec(
         http("잔액 조회")
-            .get("/accounts/balance")
+            .get("/api/accounts/balance")
             .header("Authorization", "Bearer #{accessToken}")
             .check(status().is(200))
             .check(jsonPath("$.balance").saveAs("balance"))
@@ -2,6 +2,7 @@ package fintech2.easypay.account.controller;
 
 import fintech2.easypay.account.entity.UserAccount;
 import fintech2.easypay.account.service.AccountService;
+import fintech2.easypay.account.service.TransactionHistoryExporter;
 import fintech2.easypay.account.service.UserAccountService;
 import fintech2.easypay.auth.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -164,20 +165,27 @@ public class AccountController {
     public ResponseEntity<?> getTransactionHistory(@PathVariable String accountNumber, @RequestHeader("Authorization") String token) {
         return accountService.getTransactionHistory(accountNumber);
     }
-    
-    @PostMapping("/sync-account-balance")
-    public ResponseEntity<?> syncAccountBalance(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+    @GetMapping("/{accountNumber}/transactions/page")
+    public ResponseEntity<?> getTransactionHistoryPage(@PathVariable String accountNumber,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @AuthenticationPrincipal UserPrincipal userPrincipal) {
         if (userPrincipal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "UNAUTHORIZED", "message", "인증이 필요합니다"));
         }
-        
-        try {
-            return accountService.syncAccountBalance(userPrincipal.getAccountNumber());
-        } catch (Exception e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "SYNC_FAILED");
-            error.put("message", "Account 엔티티 동기화 실패");
-            return ResponseEntity.status(500).body(error);
+        accountService.checkOwnership(accountNumber, userPrincipal.getId());
+        return accountService.getTransactionHistoryPage(accountNumber, cursor, size);
+    }
+
+    @GetMapping("/{accountNumber}/transactions/export")
+    public ResponseEntity<?> exportTransactionHistory(@PathVariable String accountNumber,
+                                                      @RequestParam(defaultValue = "NDJSON") TransactionHistoryExporter.Format format,
+                                                      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "UNAUTHORIZED", "message", "인증이 필요합니다"));
         }
+        accountService.checkOwnership(accountNumber, userPrincipal.getId());
+        return accountService.exportTransactionHistory(accountNumber, format);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package fintech2.easypay.account.dto;
+
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.common.enums.TransactionStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionHistoryResponse {
+    private Long id;
+    private String accountNumber;
+    private TransactionType transactionType;
+    private BigDecimal amount;
+    private BigDecimal balanceBefore;
+    private BigDecimal balanceAfter;
+    private String description;
+    private String referenceId;
+    private String transactionId;
+    private TransactionStatus status;
+    private LocalDateTime createdAt;
+
+    public static TransactionHistoryResponse from(TransactionHistory history) {
+        return TransactionHistoryResponse.builder()
+                .id(history.getId())
+                .accountNumber(history.getAccountNumber())
+                .transactionType(history.getTransactionType())
+                .amount(history.getAmount())
+                .balanceBefore(history.getBalanceBefore())
+                .balanceAfter(history.getBalanceAfter())
+                .description(history.getDescription())
+                .referenceId(history.getReferenceId())
+                .transactionId(history.getTransactionId())
+                .status(history.getStatus())
+                .createdAt(history.getCreatedAt())
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package fintech2.easypay.account.entity;
 import fintech2.easypay.common.enums.AccountStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -30,7 +31,12 @@ public class Account {
     @Column(name = "user_id", nullable = false) // memberId -> userId 통일
     private Long userId; // Member -> User로 변경에 따라 userId 사용
 
-    @Column(name = "balance", precision = 15, scale = 2, nullable = false)
+    /**
+     * 잔액 (account_balances 원장에서 파생, 읽기 전용)
+     * 잔액 변경은 BalanceService를 통해서만 수행
+     */
+    @Formula("coalesce((select ab.balance from account_balances ab where ab.account_number = account_number), 0)"
+            + " + coalesce((select sum(s.balance) from account_balance_shards s where s.account_number = account_number), 0)")
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
 
@@ -50,7 +56,7 @@ public class Account {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    // 비즈니스 메소드들 (기존 payment/transfer 코드에서 사용)
+    // 비즈니스 메소드들 (잔액 변경 메소드는 두지 않음 - 입출금은 BalanceService 사용)
     
     /**
      * 잔액 확인
@@ -59,26 +65,6 @@ public class Account {
         return this.balance.compareTo(amount) >= 0;
     }
 
-    /**
-     * 출금 (결제, 송금 시 사용)
-     */
-    public void withdraw(BigDecimal amount) {
-        if (!hasEnoughBalance(amount)) {
-            throw new IllegalArgumentException("잔액 부족: 현재 잔액 " + this.balance + ", 요청 금액 " + amount);
-        }
-        this.balance = this.balance.subtract(amount);
-    }
-
-    /**
-     * 입금 (환불, 송금 수신 시 사용)
-     */
-    public void deposit(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다: " + amount);
-        }
-        this.balance = this.balance.add(amount);
-    }
-
     /**
      * 잔액 조회
      */
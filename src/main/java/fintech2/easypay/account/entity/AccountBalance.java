@@ -22,6 +22,10 @@ public class AccountBalance {
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
 
+    @Column(name = "shard_count", nullable = false)
+    @Builder.Default
+    private Integer shardCount = 1; // 1이면 샤딩 미사용 (AccountBalanceShard 참조)
+
     @Version
     private Integer version;
 
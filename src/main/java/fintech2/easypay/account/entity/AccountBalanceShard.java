@@ -0,0 +1,42 @@
+package fintech2.easypay.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 서브 원장 (샤드)
+ * 입금이 몰리는 계좌의 잔액을 여러 행으로 분산해 행 락 경합을 줄임
+ * 0번 샤드는 account_balances 본 행이며, 이 테이블에는 1번 이후 샤드만 저장
+ * 계좌 총 잔액 = account_balances.balance + SUM(account_balance_shards.balance)
+ */
+@Entity
+@Table(name = "account_balance_shards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_shards", columnNames = {"account_number", "shard_no"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceShard {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_number", nullable = false)
+    private String accountNumber;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(precision = 15, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,55 @@
+package fintech2.easypay.account.entity;
+
+import fintech2.easypay.common.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 핫 계좌 입금 저널
+ * 핫 계좌로 들어온 입금을 먼저 기록하고, 주기적으로 account_balances에 합산 반영
+ * 반영 전 장애가 나도 저널에 남아 있으므로 유실되지 않음
+ * 반영된 행은 거래 내역으로 옮겨졌으므로 보관 기간이 지나면 삭제
+ */
+@Entity
+@Table(name = "hot_account_credits", indexes = {
+        @Index(name = "idx_hot_account_credits_pending", columnList = "account_number, flushed, id"),
+        @Index(name = "idx_hot_account_credits_flushed_at", columnList = "flushed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotAccountCredit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_number", nullable = false)
+    private String accountNumber;
+
+    @Column(precision = 15, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    private String description;
+    private String referenceId;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean flushed = false;
+
+    private LocalDateTime flushedAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
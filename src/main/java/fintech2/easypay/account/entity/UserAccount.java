@@ -3,6 +3,7 @@ package fintech2.easypay.account.entity;
 import fintech2.easypay.common.enums.AccountStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -33,7 +34,9 @@ public class UserAccount {
     @Column(name = "account_name", nullable = false, length = 50)
     private String accountName; // 계좌 별칭 (예: "용돈계좌", "저축계좌" 등)
     
-    @Column(name = "balance", precision = 15, scale = 2, nullable = false)
+    // 잔액은 account_balances 원장에서 파생 (읽기 전용, 변경은 BalanceService 사용)
+    @Formula("coalesce((select ab.balance from account_balances ab where ab.account_number = account_number), 0)"
+            + " + coalesce((select sum(s.balance) from account_balance_shards s where s.account_number = account_number), 0)")
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
     
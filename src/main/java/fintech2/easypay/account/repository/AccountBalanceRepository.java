@@ -3,10 +3,14 @@ package fintech2.easypay.account.repository;
 import fintech2.easypay.account.entity.AccountBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountBalanceRepository extends JpaRepository<AccountBalance, String> {
@@ -24,6 +28,42 @@ public interface AccountBalanceRepository extends JpaRepository<AccountBalance,
     @Query("SELECT ab FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
     Optional<AccountBalance> findByIdWithLock(@Param("accountNumber") String accountNumber);
     
+    /**
+     * 원자적 잔액 변경 (조건부 UPDATE)
+     * 변경 후 잔액이 음수가 되면 갱신하지 않음 - 갱신된 행 수 반환 (0이면 잔액 부족 또는 계좌 없음)
+     * 영속성 컨텍스트를 비우지 않도록 clearAutomatically는 사용하지 않음
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalance ab SET ab.balance = ab.balance + :delta, " +
+           "ab.version = COALESCE(ab.version, 0) + 1, ab.updatedAt = :now " +
+           "WHERE ab.accountNumber = :accountNumber AND ab.balance + :delta >= 0")
+    int applyDelta(@Param("accountNumber") String accountNumber,
+                   @Param("delta") BigDecimal delta,
+                   @Param("now") LocalDateTime now);
+    
+    /**
+     * 잔액 값만 조회 (엔티티 캐시를 거치지 않음)
+     */
+    @Query("SELECT ab.balance FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
+    Optional<BigDecimal> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+    
+    /**
+     * 샤드를 포함한 총 잔액 조회 (본 행 + 서브 원장 합계)
+     */
+    @Query("SELECT ab.balance + COALESCE((SELECT SUM(s.balance) FROM AccountBalanceShard s " +
+           "WHERE s.accountNumber = ab.accountNumber), 0) " +
+           "FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
+    Optional<BigDecimal> findTotalBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+    
+    /**
+     * 샤딩된 계좌 목록
+     */
+    List<AccountBalance> findByShardCountGreaterThan(Integer shardCount);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalance ab SET ab.shardCount = :shardCount WHERE ab.accountNumber = :accountNumber")
+    int updateShardCount(@Param("accountNumber") String accountNumber, @Param("shardCount") int shardCount);
+    
     /**
      * Optimistic Lock을 사용한 계좌 조회 (기본 findById 사용)
      * @Version 필드가 자동으로 처리됨
@@ -0,0 +1,55 @@
+package fintech2.easypay.account.repository;
+
+import fintech2.easypay.account.entity.AccountBalanceShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountBalanceShardRepository extends JpaRepository<AccountBalanceShard, Long> {
+
+    /**
+     * 특정 샤드에 입금 반영 - 갱신된 행 수 반환 (0이면 샤드 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceShard s SET s.balance = s.balance + :delta, s.updatedAt = :now " +
+           "WHERE s.accountNumber = :accountNumber AND s.shardNo = :shardNo")
+    int applyDelta(@Param("accountNumber") String accountNumber,
+                   @Param("shardNo") int shardNo,
+                   @Param("delta") BigDecimal delta,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 샤드 잔액 합계
+     */
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM AccountBalanceShard s WHERE s.accountNumber = :accountNumber")
+    BigDecimal sumBalance(@Param("accountNumber") String accountNumber);
+
+    /**
+     * 샤드 전체 잠금 조회 (데드락 방지를 위해 샤드 번호 순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceShard s WHERE s.accountNumber = :accountNumber ORDER BY s.shardNo")
+    List<AccountBalanceShard> findAllByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
+
+    /**
+     * 샤드 잔액 초기화 (잠금 획득 후 호출)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceShard s SET s.balance = 0, s.updatedAt = :now WHERE s.accountNumber = :accountNumber")
+    int resetBalances(@Param("accountNumber") String accountNumber, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AccountBalanceShard s WHERE s.accountNumber = :accountNumber")
+    int deleteByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    boolean existsByAccountNumberAndShardNo(String accountNumber, Integer shardNo);
+}
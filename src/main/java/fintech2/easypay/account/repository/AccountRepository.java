@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,11 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      */
     Optional<Account> findByAccountNumber(String accountNumber);
     
+    /**
+     * 계좌번호 목록으로 계좌 일괄 조회
+     */
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+    
     /**
      * 사용자 ID로 계좌 조회 (비관적 락 적용)
      * 동시성 제어가 필요한 송금/결제 시 사용
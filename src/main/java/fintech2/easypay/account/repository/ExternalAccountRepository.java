@@ -2,6 +2,7 @@ package fintech2.easypay.account.repository;
 
 import fintech2.easypay.account.entity.ExternalAccount;
 import fintech2.easypay.account.entity.ExternalAccount.ExternalAccountStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,7 +45,28 @@ public interface ExternalAccountRepository extends JpaRepository<ExternalAccount
     List<ExternalAccount> findAccountsNeedingReVerification(
             @Param("status") ExternalAccountStatus status, 
             @Param("cutoffDate") LocalDateTime cutoffDate);
-    
+
+    /**
+     * 재인증이 필요한 계좌를 id 키셋 페이지 단위로 조회 (일괄 재검증용)
+     */
+    @Query("SELECT ea FROM ExternalAccount ea WHERE ea.verificationStatus = :status " +
+           "AND ea.isActive = true AND ea.lastVerifiedAt < :cutoffDate AND ea.id > :afterId " +
+           "ORDER BY ea.id")
+    List<ExternalAccount> findReVerificationCandidates(
+            @Param("status") ExternalAccountStatus status,
+            @Param("cutoffDate") LocalDateTime cutoffDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * 재인증이 필요한 계좌 수 (진행률 계산용)
+     */
+    @Query("SELECT COUNT(ea) FROM ExternalAccount ea WHERE ea.verificationStatus = :status " +
+           "AND ea.isActive = true AND ea.lastVerifiedAt < :cutoffDate")
+    long countAccountsNeedingReVerification(
+            @Param("status") ExternalAccountStatus status,
+            @Param("cutoffDate") LocalDateTime cutoffDate);
+
     /**
      * 사용자의 특정 은행 계좌 조회
      */
@@ -0,0 +1,49 @@
+package fintech2.easypay.account.repository;
+
+import fintech2.easypay.account.entity.HotAccountCredit;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HotAccountCreditRepository extends JpaRepository<HotAccountCredit, Long> {
+
+    /**
+     * 아직 원장에 반영되지 않은 입금 저널 조회 (오래된 순)
+     * 다른 노드가 잠근 행은 건너뜀 (lock.timeout=-2 → SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM HotAccountCredit c WHERE c.accountNumber = :accountNumber AND c.flushed = false ORDER BY c.id")
+    List<HotAccountCredit> findPending(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    /**
+     * 미반영 입금 합계
+     */
+    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM HotAccountCredit c WHERE c.accountNumber = :accountNumber AND c.flushed = false")
+    BigDecimal sumPending(@Param("accountNumber") String accountNumber);
+
+    /**
+     * 원장 반영 완료 표시
+     */
+    @Modifying
+    @Query("UPDATE HotAccountCredit c SET c.flushed = true, c.flushedAt = :now WHERE c.id IN :ids")
+    int markFlushed(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 반영 완료 저널 id 조회 (정리용, 일정 건수씩)
+     */
+    @Query("SELECT c.id FROM HotAccountCredit c WHERE c.flushed = true AND c.flushedAt < :before ORDER BY c.id")
+    List<Long> findFlushedIds(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -2,13 +2,40 @@ package fintech2.easypay.account.repository;
 
 import fintech2.easypay.account.entity.TransactionHistory;
 import fintech2.easypay.common.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
     List<TransactionHistory> findByAccountNumberOrderByCreatedAtDesc(String accountNumber);
     List<TransactionHistory> findByAccountNumberAndTransactionTypeInOrderByCreatedAtDesc(String accountNumber, List<TransactionType> transactionTypes);
-} 
\ No newline at end of file
+
+    /**
+     * 계좌 거래내역 첫 페이지 (키셋, 읽기 전용 조회로 스냅샷을 만들지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT th FROM TransactionHistory th WHERE th.accountNumber = :accountNumber " +
+           "ORDER BY th.createdAt DESC, th.id DESC")
+    List<TransactionHistory> findFirstPage(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    /**
+     * 계좌 거래내역 다음 페이지 (키셋, 커서 이후 행부터)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT th FROM TransactionHistory th WHERE th.accountNumber = :accountNumber " +
+           "AND (th.createdAt < :createdAt OR (th.createdAt = :createdAt AND th.id < :id)) " +
+           "ORDER BY th.createdAt DESC, th.id DESC")
+    List<TransactionHistory> findPageAfter(@Param("accountNumber") String accountNumber,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+}
@@ -1,29 +1,39 @@
 package fintech2.easypay.account.service;
 
-import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.dto.TransactionHistoryResponse;
 import fintech2.easypay.account.entity.AccountBalance;
 import fintech2.easypay.account.entity.TransactionHistory;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.dto.CursorPage;
 import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * 계좌 관리 서비스 (리팩토링됨)
@@ -37,9 +47,11 @@ public class AccountService {
     private final AccountBalanceRepository accountBalanceRepository;
     private final AccountRepository accountRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
+    private final UserAccountRepository userAccountRepository;
     private final BalanceService balanceService; // 중앙화된 잔액 서비스
     private final AuditLogService auditLogService;
     private final AlarmService alarmService;
+    private final TransactionHistoryExporter transactionHistoryExporter;
 
     public ResponseEntity<?> getBalance(String accountNumber, String token) {
         try {
@@ -189,39 +201,61 @@ public class AccountService {
             throw new RuntimeException("거래내역 조회 중 오류가 발생했습니다", e);
         }
     }
-    
+
     /**
-     * Account 엔티티와 AccountBalance 엔티티 잔액 동기화
+     * 본인 계좌인지 확인 (기본 계좌 또는 사용자 계좌 목록)
      */
-    @Transactional
-    public ResponseEntity<?> syncAccountBalance(String accountNumber) {
-        try {
-            // AccountBalance에서 현재 잔액 조회
-            BigDecimal currentBalance = balanceService.getBalance(accountNumber);
-            
-            // Account 엔티티 조회 및 잔액 업데이트
-            Optional<Account> accountOpt = accountRepository.findByAccountNumber(accountNumber);
-            if (accountOpt.isPresent()) {
-                Account account = accountOpt.get();
-                BigDecimal oldBalance = account.getBalance();
-                account.setBalance(currentBalance);
-                accountRepository.save(account);
-                
-                Map<String, Object> response = new HashMap<>();
-                response.put("accountNumber", accountNumber);
-                response.put("oldBalance", oldBalance);
-                response.put("newBalance", currentBalance);
-                response.put("message", "Account 엔티티 잔액이 동기화되었습니다");
-                
-                log.info("Account 엔티티 잔액 동기화 완료: {} -> {}", oldBalance, currentBalance);
-                return ResponseEntity.ok(response);
-            } else {
-                throw new AccountNotFoundException("Account 엔티티를 찾을 수 없습니다: " + accountNumber);
-            }
-            
-        } catch (Exception e) {
-            log.error("Account 엔티티 동기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("Account 엔티티 동기화 중 오류가 발생했습니다", e);
+    public void checkOwnership(String accountNumber, Long userId) {
+        boolean owned = accountRepository.findByAccountNumber(accountNumber)
+                .map(account -> userId.equals(account.getUserId()))
+                .orElse(false)
+                || userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber).isPresent();
+        if (!owned) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "본인 계좌의 거래내역만 조회할 수 있습니다.");
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 거래내역 키셋 페이지 조회 (cursor가 없으면 최신 거래부터)
+     */
+    public ResponseEntity<?> getTransactionHistoryPage(String accountNumber, String cursor, Integer size) {
+        int pageSize = CursorPage.sizeOf(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<TransactionHistory> rows = after == null
+                ? transactionHistoryRepository.findFirstPage(accountNumber, limit)
+                : transactionHistoryRepository.findPageAfter(accountNumber, after.createdAt(), after.id(), limit);
+
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize,
+                history -> new KeysetCursor(history.getCreatedAt(), history.getId()),
+                TransactionHistoryResponse::from));
+    }
+
+    /**
+     * 거래내역 전체 내보내기 (응답 스트림에 바로 기록)
+     */
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(String accountNumber,
+                                                                          TransactionHistoryExporter.Format format) {
+        StreamingResponseBody body = out -> {
+            try {
+                long rows = transactionHistoryExporter.export(accountNumber, format, out);
+                auditLogService.logSuccess("TRANSACTION_HISTORY_EXPORT", "ACCOUNT", accountNumber,
+                        "거래내역 내보내기 성공", Map.of("format", format.name(), "rows", rows));
+            } catch (Exception e) {
+                log.error("거래내역 내보내기 중 오류 발생: {}", e.getMessage(), e);
+                auditLogService.logError("TRANSACTION_HISTORY_EXPORT", "ACCOUNT", accountNumber,
+                        "거래내역 내보내기 실패", e);
+                throw e;
+            }
+        };
+
+        String filename = "transactions-" + accountNumber + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8).build().toString())
+                .body(body);
+    }
+}
@@ -6,12 +6,12 @@ import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.external.service.BankAccountDirectory;
+import fintech2.easypay.external.service.ExternalBankApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -21,35 +21,8 @@ public class AccountVerificationService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
-
-    // 임시 외부 은행 계좌 데이터 (테스트용)
-    private static final Map<String, Map<String, String>> TEMP_EXTERNAL_ACCOUNTS = new HashMap<>();
-    
-    static {
-        // 카카오뱅크 임시 계좌
-        Map<String, String> kakaoAccounts = new HashMap<>();
-        kakaoAccounts.put("3333-01-1234567", "김카카오");
-        kakaoAccounts.put("3333-01-7654321", "박카카오");
-        TEMP_EXTERNAL_ACCOUNTS.put("카카오뱅크", kakaoAccounts);
-        
-        // 토스뱅크 임시 계좌
-        Map<String, String> tossAccounts = new HashMap<>();
-        tossAccounts.put("100-2345-678901", "이토스");
-        tossAccounts.put("100-2345-109876", "최토스");
-        TEMP_EXTERNAL_ACCOUNTS.put("토스뱅크", tossAccounts);
-        
-        // 국민은행 임시 계좌
-        Map<String, String> kbAccounts = new HashMap<>();
-        kbAccounts.put("123456-04-123456", "정국민");
-        kbAccounts.put("654321-04-654321", "한국민");
-        TEMP_EXTERNAL_ACCOUNTS.put("국민은행", kbAccounts);
-        
-        // 신한은행 임시 계좌
-        Map<String, String> shinhanAccounts = new HashMap<>();
-        shinhanAccounts.put("110-123-456789", "송신한");
-        shinhanAccounts.put("110-987-654321", "윤신한");
-        TEMP_EXTERNAL_ACCOUNTS.put("신한은행", shinhanAccounts);
-    }
+    private final ExternalBankApiService externalBankApiService;
+    private final BankAccountDirectory bankAccountDirectory;
 
     public AccountVerificationResponse verifyAccount(AccountVerificationRequest request) {
         String accountNumber = request.getAccountNumber().trim();
@@ -62,7 +35,7 @@ public class AccountVerificationService {
             return verifyEasyPayAccount(accountNumber);
         }
         
-        // 외부 은행인 경우 임시 데이터로 검증 (향후 실제 API 연동 예정)
+        // 외부 은행인 경우 외부 은행 API 검증 (결과 캐시 공유)
         return verifyExternalBankAccount(accountNumber, bankName);
     }
     
@@ -89,18 +62,26 @@ public class AccountVerificationService {
     private AccountVerificationResponse verifyExternalBankAccount(String accountNumber, String bankName) {
         log.info("외부 은행 계좌 검증: 은행={}, 계좌번호={}", bankName, accountNumber);
         
-        Map<String, String> bankAccounts = TEMP_EXTERNAL_ACCOUNTS.get(bankName);
-        if (bankAccounts == null) {
+        Optional<String> bankCode = bankAccountDirectory.findBankCode(bankName);
+        if (bankCode.isEmpty()) {
             return AccountVerificationResponse.failure("지원하지 않는 은행입니다.");
         }
         
-        String accountHolderName = bankAccounts.get(accountNumber);
-        if (accountHolderName == null) {
-            return AccountVerificationResponse.failure("존재하지 않는 계좌번호입니다.");
+        fintech2.easypay.external.dto.AccountVerificationResponse result = externalBankApiService.verifyAccount(
+                fintech2.easypay.external.dto.AccountVerificationRequest.builder()
+                        .accountNumber(accountNumber)
+                        .bankCode(bankCode.get())
+                        .bankName(bankName)
+                        .verificationLevel("BASIC")
+                        .build());
+        
+        if (!result.isSuccess()) {
+            return AccountVerificationResponse.failure("ACCOUNT_NOT_FOUND".equals(result.getErrorCode())
+                    ? "존재하지 않는 계좌번호입니다." : result.getErrorMessage());
         }
         
-        log.info("외부 은행 계좌 검증 성공: 은행={}, 계좌소유자={}", bankName, accountHolderName);
+        log.info("외부 은행 계좌 검증 성공: 은행={}, 계좌소유자={}", bankName, result.getAccountHolderName());
         
-        return AccountVerificationResponse.success(accountHolderName, bankName);
+        return AccountVerificationResponse.success(result.getAccountHolderName(), bankName);
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,18 @@
 package fintech2.easypay.account.service;
 
-import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.entity.AccountBalance;
 import fintech2.easypay.account.entity.TransactionHistory;
-import fintech2.easypay.account.entity.UserAccount;
 import fintech2.easypay.account.repository.AccountBalanceRepository;
-import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
-import fintech2.easypay.account.repository.UserAccountRepository;
 import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -22,11 +20,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
  * 중앙화된 잔액 관리 서비스
  * 모든 잔액 변경 작업을 이 서비스를 통해 처리
+ * account_balances가 유일한 원장이며, Account/UserAccount 잔액은 원장에서 파생됨
+ * 핫 계좌로 지정된 계좌의 입금은 HotAccountBalanceEngine을 거쳐 지연 반영됨
+ * 샤딩된 계좌는 BalanceShardService를 통해 서브 원장에 분산 반영됨
  */
 @Service
 @RequiredArgsConstructor
@@ -34,26 +39,26 @@ import java.util.UUID;
 public class BalanceService {
 
     private final AccountBalanceRepository accountBalanceRepository;
-    private final AccountRepository accountRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
-    private final UserAccountRepository userAccountRepository;
     private final AlarmService alarmService;
+    private final HotAccountBalanceEngine hotAccountBalanceEngine;
+    private final BalanceShardService balanceShardService;
+    private final CacheManager cacheManager;
 
     /**
      * 계좌 잔액 조회 (캐시 적용)
      */
     @Cacheable(value = "balanceCache", key = "#accountNumber")
     public BigDecimal getBalance(String accountNumber) {
-        AccountBalance balance = accountBalanceRepository.findByAccountNumber(accountNumber)
+        // 본 행 + 서브 원장(샤드) 합계
+        return accountBalanceRepository.findTotalBalanceByAccountNumber(accountNumber)
                 .orElseGet(() -> {
                     // 계좌가 없으면 0원으로 자동 생성
                     AccountBalance newBalance = new AccountBalance();
                     newBalance.setAccountNumber(accountNumber);
                     newBalance.setBalance(BigDecimal.ZERO);
-                    return accountBalanceRepository.save(newBalance);
+                    return accountBalanceRepository.save(newBalance).getBalance();
                 });
-        
-        return balance.getBalance();
     }
 
     /**
@@ -63,66 +68,148 @@ public class BalanceService {
     @CacheEvict(value = "balanceCache", key = "#accountNumber")
     public BalanceChangeResult increase(String accountNumber, BigDecimal amount, TransactionType transactionType, 
                                      String description, String referenceId, String userId) {
+        // 핫 계좌는 원장 행을 잠그지 않고 저널 + 누산기로 처리 (주기적으로 원장 반영)
+        if (hotAccountBalanceEngine.isHotAccount(accountNumber)) {
+            return creditHotAccount(accountNumber, amount, transactionType, description, referenceId, userId);
+        }
         return changeBalance(accountNumber, amount, transactionType, description, referenceId, userId, true);
     }
 
     /**
      * 잔액 감소 (출금) - 캐시 무효화
+     * 잔액 부족은 조건부 UPDATE가 아무것도 바꾸지 않은 상태이므로 호출자 트랜잭션을 rollback-only로 만들지 않음
+     * (롤백 여부는 호출자가 결정 - 예: 단일 커밋 송금은 먼저 반영한 입금까지 명시적으로 롤백)
      */
-    @Transactional
+    @Transactional(noRollbackFor = InsufficientBalanceException.class)
     @CacheEvict(value = "balanceCache", key = "#accountNumber")
     public BalanceChangeResult decrease(String accountNumber, BigDecimal amount, TransactionType transactionType, 
                                      String description, String referenceId, String userId) {
         return changeBalance(accountNumber, amount.negate(), transactionType, description, referenceId, userId, false);
     }
 
+    /**
+     * 여러 건의 입금을 한 번에 반영 (대량 환불 등)
+     * 계좌별로 합산해 계좌번호 순으로 UPDATE 한 번씩 반영하고, 거래 내역은 건별 누적 잔액으로 일괄 저장
+     * 잔액 캐시는 커밋 이후 반영된 계좌만 무효화
+     */
+    @Transactional
+    public List<BalanceChangeResult> increaseAll(List<Credit> credits) {
+        // 계좌번호 순으로 잠가 동시 실행 간 교착 방지
+        Map<String, List<Credit>> creditsByAccount = new TreeMap<>();
+        credits.forEach(credit -> creditsByAccount
+                .computeIfAbsent(credit.accountNumber(), key -> new ArrayList<>())
+                .add(credit));
+
+        List<BalanceChangeResult> results = new ArrayList<>(credits.size());
+        List<TransactionHistory> histories = new ArrayList<>(credits.size());
+        for (Map.Entry<String, List<Credit>> entry : creditsByAccount.entrySet()) {
+            String accountNumber = entry.getKey();
+            List<Credit> accountCredits = entry.getValue();
+
+            // 핫 계좌는 건별로 저널에 기록 (원장 반영 시 거래 내역 기록)
+            if (hotAccountBalanceEngine.isHotAccount(accountNumber)) {
+                accountCredits.forEach(credit -> results.add(creditHotAccount(accountNumber, credit.amount(),
+                        credit.transactionType(), credit.description(), credit.referenceId(), credit.userId())));
+                continue;
+            }
+
+            BigDecimal total = accountCredits.stream()
+                    .map(Credit::amount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            LocalDateTime now = LocalDateTime.now();
+            if (accountBalanceRepository.applyDelta(accountNumber, total, now) == 0) {
+                AccountBalance newBalance = new AccountBalance();
+                newBalance.setAccountNumber(accountNumber);
+                newBalance.setBalance(BigDecimal.ZERO);
+                accountBalanceRepository.saveAndFlush(newBalance);
+                accountBalanceRepository.applyDelta(accountNumber, total, now);
+            }
+            BigDecimal balanceAfter = (balanceShardService.isSharded(accountNumber)
+                    ? accountBalanceRepository.findTotalBalanceByAccountNumber(accountNumber)
+                    : accountBalanceRepository.findBalanceByAccountNumber(accountNumber))
+                    .orElseThrow(() -> new AccountNotFoundException("계좌 잔액 정보를 찾을 수 없습니다: " + accountNumber));
+
+            // 건별 잔액은 반영 직전 잔액부터 누적
+            BigDecimal running = balanceAfter.subtract(total);
+            for (Credit credit : accountCredits) {
+                BigDecimal before = running;
+                running = running.add(credit.amount());
+                String referenceId = credit.referenceId() != null ? credit.referenceId() : UUID.randomUUID().toString();
+                histories.add(TransactionHistory.builder()
+                        .accountNumber(accountNumber)
+                        .transactionType(credit.transactionType())
+                        .amount(credit.amount())
+                        .balanceBefore(before)
+                        .balanceAfter(running)
+                        .description(credit.description())
+                        .referenceId(referenceId)
+                        .status(TransactionStatus.COMPLETED)
+                        .createdAt(now)
+                        .build());
+                results.add(new BalanceChangeResult(accountNumber, before, running, credit.amount(),
+                        credit.transactionType(), referenceId));
+            }
+
+            // 잔액 변동 알림은 계좌별 합계로 한 번만 발송
+            alarmService.sendBalanceChangeAlert(accountNumber, accountCredits.get(0).userId(),
+                    "증가", total.toString(), balanceAfter.toString());
+        }
+        transactionHistoryRepository.saveAll(histories);
+
+        AfterCommit.evict(cacheManager, "balanceCache", creditsByAccount.keySet());
+
+        log.info("일괄 입금 완료: 건수={}, 계좌={}", credits.size(), creditsByAccount.size());
+        return results;
+    }
+
     /**
      * 잔액 변경 공통 로직
+     * 조건부 UPDATE 한 번으로 잔액 검증과 변경을 원자적으로 처리 (read-modify-write 제거)
      */
     private BalanceChangeResult changeBalance(String accountNumber, BigDecimal changeAmount, TransactionType transactionType,
                                            String description, String referenceId, String userId, boolean isIncrease) {
         
-        // 계좌 잔액 조회 또는 생성
-        AccountBalance balance = accountBalanceRepository.findByAccountNumber(accountNumber)
-                .orElseGet(() -> {
-                    AccountBalance newBalance = new AccountBalance();
-                    newBalance.setAccountNumber(accountNumber);
-                    newBalance.setBalance(BigDecimal.ZERO);
-                    return accountBalanceRepository.save(newBalance);
-                });
-
-        BigDecimal balanceBefore = balance.getBalance();
-        BigDecimal balanceAfter = balanceBefore.add(changeAmount);
-
-        // 출금인 경우 잔액 확인
-        if (!isIncrease && balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
+        // 샤딩된 계좌의 입금은 임의의 샤드에 반영 (본 행이 선택되면 아래에서 처리)
+        boolean creditedToShard = isIncrease && balanceShardService.creditShard(accountNumber, changeAmount);
+        int updated = creditedToShard ? 1
+                : accountBalanceRepository.applyDelta(accountNumber, changeAmount, LocalDateTime.now());
+        
+        // 본 행 잔액이 부족하면 샤드 잔액을 본 행으로 모은 뒤 재시도
+        if (updated == 0 && !isIncrease && balanceShardService.isSharded(accountNumber)
+                && balanceShardService.borrowFromShards(accountNumber).signum() > 0) {
+            updated = accountBalanceRepository.applyDelta(accountNumber, changeAmount, LocalDateTime.now());
+        }
+        
+        // 원장 행이 없으면 0원으로 생성 후 재시도 (입금만 - 출금은 어차피 잔액 부족이고,
+        // noRollbackFor로 호출자 트랜잭션이 커밋되면 빈 원장 행만 남게 됨)
+        if (updated == 0 && isIncrease && !accountBalanceRepository.existsById(accountNumber)) {
+            AccountBalance newBalance = new AccountBalance();
+            newBalance.setAccountNumber(accountNumber);
+            newBalance.setBalance(BigDecimal.ZERO);
+            accountBalanceRepository.saveAndFlush(newBalance);
+            updated = accountBalanceRepository.applyDelta(accountNumber, changeAmount, LocalDateTime.now());
+        }
+        
+        // 출금인 경우 조건 불충족 = 잔액 부족
+        if (updated == 0) {
+            BigDecimal currentBalance = accountBalanceRepository.findTotalBalanceByAccountNumber(accountNumber)
+                    .orElse(BigDecimal.ZERO);
+            
             // 잔액 부족 알림 발송
-            String currentBalanceStr = balanceBefore.toString();
+            String currentBalanceStr = currentBalance.toString();
             String requiredAmountStr = changeAmount.abs().toString();
             alarmService.sendInsufficientBalanceAlert(accountNumber, userId, currentBalanceStr, requiredAmountStr);
             
-            throw new InsufficientBalanceException("잔액이 부족합니다. 현재 잔액: " + balanceBefore);
+            throw new InsufficientBalanceException("잔액이 부족합니다. 현재 잔액: " + currentBalance);
         }
-
-        // 잔액 업데이트 (AccountBalance)
-        balance.setBalance(balanceAfter);
-        accountBalanceRepository.save(balance);
-        
-        // Account 엔티티도 동일하게 업데이트 (TransferService 호환성을 위해)
-        accountRepository.findByAccountNumber(accountNumber)
-                .ifPresent(account -> {
-                    account.setBalance(balanceAfter);
-                    accountRepository.save(account);
-                    log.debug("Account 엔티티 잔액도 동기화: {} -> {}", balanceBefore, balanceAfter);
-                });
         
-        // UserAccount 엔티티도 동일하게 업데이트 (프론트엔드 호환성을 위해)
-        userAccountRepository.findByAccountNumber(accountNumber)
-                .ifPresent(userAccount -> {
-                    userAccount.setBalance(balanceAfter);
-                    userAccountRepository.save(userAccount);
-                    log.debug("UserAccount 엔티티 잔액도 동기화: {} -> {}", balanceBefore, balanceAfter);
-                });
+        // UPDATE로 행 락을 보유한 상태이므로 읽은 값은 이번 변경 직후의 잔액
+        // (샤딩된 계좌는 다른 샤드의 동시 입금이 섞일 수 있어 총액 기준 근사치)
+        BigDecimal balanceAfter = (balanceShardService.isSharded(accountNumber)
+                ? accountBalanceRepository.findTotalBalanceByAccountNumber(accountNumber)
+                : accountBalanceRepository.findBalanceByAccountNumber(accountNumber))
+                .orElseThrow(() -> new AccountNotFoundException("계좌 잔액 정보를 찾을 수 없습니다: " + accountNumber));
+        BigDecimal balanceBefore = balanceAfter.subtract(changeAmount);
 
         // 거래 내역 기록
         String finalReferenceId = referenceId != null ? referenceId : UUID.randomUUID().toString();
@@ -153,6 +240,27 @@ public class BalanceService {
                                     isIncrease ? changeAmount : changeAmount.abs(), transactionType, finalReferenceId);
     }
 
+    /**
+     * 핫 계좌 입금
+     * 반환되는 잔액은 원장 잔액 + 미반영 입금 기준의 추정치이며, 거래 내역은 원장 반영 시 기록됨
+     */
+    private BalanceChangeResult creditHotAccount(String accountNumber, BigDecimal amount, TransactionType transactionType,
+                                              String description, String referenceId, String userId) {
+        String finalReferenceId = referenceId != null ? referenceId : UUID.randomUUID().toString();
+        hotAccountBalanceEngine.credit(accountNumber, amount, transactionType, description, finalReferenceId, userId);
+        
+        BigDecimal balanceBefore = accountBalanceRepository.findTotalBalanceByAccountNumber(accountNumber)
+                .orElse(BigDecimal.ZERO)
+                .add(hotAccountBalanceEngine.getPendingCredits(accountNumber));
+        BigDecimal balanceAfter = balanceBefore.add(amount);
+        
+        alarmService.sendBalanceChangeAlert(accountNumber, userId, "증가", amount.toString(), balanceAfter.toString());
+        
+        log.debug("핫 계좌 입금 저널 기록: 계좌={}, 금액={}, 거래유형={}", accountNumber, amount, transactionType);
+        
+        return new BalanceChangeResult(accountNumber, balanceBefore, balanceAfter, amount, transactionType, finalReferenceId);
+    }
+
     /**
      * 잔액 충분 여부 확인
      */
@@ -165,6 +273,13 @@ public class BalanceService {
         }
     }
 
+    /**
+     * 일괄 입금 요청 한 건
+     */
+    public record Credit(String accountNumber, BigDecimal amount, TransactionType transactionType,
+                         String description, String referenceId, String userId) {
+    }
+
     /**
      * 잔액 변경 결과를 담는 내부 클래스
      */
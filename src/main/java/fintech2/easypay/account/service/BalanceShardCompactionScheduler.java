@@ -0,0 +1,96 @@
+package fintech2.easypay.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 잔액 샤드 압축 스케줄러
+ * 설정된 계좌는 기동 시 샤딩하고, 입금 트래픽이 줄어든 계좌의 샤드는 본 행으로 합쳐 조회/출금 비용을 되돌림
+ * 설정된 계좌는 압축된 뒤에도 입금 건수를 계속 보고, 부하가 다시 늘면 재샤딩
+ *
+ * - 샤드 수는 매 주기 account_balances.shard_count에서 다시 읽어 다른 노드의 샤딩/압축을 따라감
+ * - 입금 건수는 노드 로컬 집계이므로 기준값은 노드 한 대가 받는 양 기준으로 설정
+ * - 재샤딩 기준은 압축 기준보다 높게 두어 경계 부근에서 샤딩/압축이 반복되지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceShardCompactionScheduler {
+
+    private final BalanceShardService balanceShardService;
+
+    @Value("${easypay.balance-shard.accounts:}")
+    private Set<String> shardedAccounts = Collections.emptySet();
+
+    @Value("${easypay.balance-shard.default-shards:8}")
+    private int defaultShards = 8;
+
+    // 압축 주기 동안 입금 건수가 이 값보다 적으면 샤드를 본 행으로 합침
+    @Value("${easypay.balance-shard.compaction-threshold:100}")
+    private long compactionThreshold = 100;
+
+    // 압축된 설정 계좌의 입금 건수가 이 값 이상이면 다시 샤딩
+    @Value("${easypay.balance-shard.reshard-threshold:300}")
+    private long reshardThreshold = 300;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableConfiguredShards() {
+        List<String> accountNumbers = shardedAccounts.stream()
+                .map(String::trim)
+                .filter(accountNumber -> !accountNumber.isEmpty())
+                .toList();
+        balanceShardService.watch(accountNumbers);
+        accountNumbers.forEach(this::enableSharding);
+    }
+
+    @Scheduled(fixedDelayString = "${easypay.balance-shard.compaction-interval-ms:60000}")
+    public void compactIdleShards() {
+        try {
+            balanceShardService.refreshShardCounts();
+        } catch (Exception e) {
+            log.warn("샤드 수 갱신 실패: {}", e.getMessage());
+        }
+
+        for (Map.Entry<String, Long> entry : balanceShardService.drainCreditCounts().entrySet()) {
+            String accountNumber = entry.getKey();
+            long credits = entry.getValue();
+            if (balanceShardService.isSharded(accountNumber)) {
+                if (credits < compactionThreshold) {
+                    compact(accountNumber);
+                }
+            } else if (credits >= reshardThreshold) {
+                log.info("입금 부하 증가로 재샤딩: 계좌={}, 직전 주기 입금={}건", accountNumber, credits);
+                enableSharding(accountNumber);
+            }
+        }
+    }
+
+    private void enableSharding(String accountNumber) {
+        if (balanceShardService.isSharded(accountNumber)) {
+            return;
+        }
+        try {
+            balanceShardService.enableSharding(accountNumber, defaultShards);
+        } catch (Exception e) {
+            log.warn("샤딩 활성화 실패: 계좌={}, 사유={}", accountNumber, e.getMessage());
+        }
+    }
+
+    private void compact(String accountNumber) {
+        try {
+            balanceShardService.compact(accountNumber);
+        } catch (Exception e) {
+            log.error("샤드 압축 실패: 계좌={}", accountNumber, e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalanceShard;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.AccountBalanceShardRepository;
+import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잔액 서브 원장(샤드) 관리 서비스
+ * 입금은 임의의 샤드로 분산하고, 출금 시 본 행 잔액이 모자라면 샤드 잔액을 본 행으로 모아서 사용
+ * 락 순서는 항상 본 행 → 샤드(번호 순)로 고정해 데드락을 방지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceShardService {
+
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final AccountBalanceShardRepository accountBalanceShardRepository;
+
+    @Value("${easypay.balance-shard.max-shards:32}")
+    private int maxShards = 32;
+
+    // 계좌별 샤드 수 - account_balances.shard_count의 노드 로컬 사본
+    // 주기적으로 다시 읽어 다른 노드의 샤딩/압축을 따라감 (샤드 행이 없으면 본 행으로 대체되므로 다소 늦게 갱신돼도 안전)
+    private final Map<String, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    // 샤딩 여부 판단용 계좌별 입금 건수 (샤딩된 계좌 + 재샤딩 후보 계좌만 집계)
+    private final Map<String, LongAdder> creditCounters = new ConcurrentHashMap<>();
+
+    // 부하가 다시 늘면 재샤딩할 후보 계좌 (설정된 핫 계좌)
+    private final Set<String> watchedAccounts = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void loadShardedAccounts() {
+        try {
+            refreshShardCounts();
+            if (!shardCounts.isEmpty()) {
+                log.info("샤딩된 계좌 로드: {}개", shardCounts.size());
+            }
+        } catch (Exception e) {
+            log.warn("샤딩된 계좌 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 shard_count로 노드 로컬 샤드 수를 다시 맞춤
+     */
+    public void refreshShardCounts() {
+        Map<String, Integer> persisted = new HashMap<>();
+        accountBalanceRepository.findByShardCountGreaterThan(1)
+                .forEach(balance -> persisted.put(balance.getAccountNumber(), balance.getShardCount()));
+        shardCounts.keySet().retainAll(persisted.keySet());
+        shardCounts.putAll(persisted);
+    }
+
+    /**
+     * 재샤딩 후보로 등록 - 샤딩되지 않은 동안에도 입금 건수를 집계
+     */
+    public void watch(Collection<String> accountNumbers) {
+        watchedAccounts.addAll(accountNumbers);
+    }
+
+    public int getShardCount(String accountNumber) {
+        return shardCounts.getOrDefault(accountNumber, 1);
+    }
+
+    public boolean isSharded(String accountNumber) {
+        return getShardCount(accountNumber) > 1;
+    }
+
+    /**
+     * 계좌 샤딩 활성화 - 1 ~ (shardCount - 1)번 샤드 행 생성
+     */
+    @Transactional
+    public void enableSharding(String accountNumber, int shardCount) {
+        if (shardCount < 2 || shardCount > maxShards) {
+            throw new IllegalArgumentException("샤드 수는 2 이상 " + maxShards + " 이하여야 합니다: " + shardCount);
+        }
+
+        accountBalanceRepository.findByIdWithLock(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌 잔액 정보를 찾을 수 없습니다: " + accountNumber));
+
+        for (int shardNo = 1; shardNo < shardCount; shardNo++) {
+            if (!accountBalanceShardRepository.existsByAccountNumberAndShardNo(accountNumber, shardNo)) {
+                accountBalanceShardRepository.save(AccountBalanceShard.builder()
+                        .accountNumber(accountNumber)
+                        .shardNo(shardNo)
+                        .build());
+            }
+        }
+        accountBalanceRepository.updateShardCount(accountNumber, shardCount);
+
+        AfterCommit.run(() -> shardCounts.put(accountNumber, shardCount));
+        log.info("계좌 샤딩 활성화: 계좌={}, 샤드 수={}", accountNumber, shardCount);
+    }
+
+    /**
+     * 임의의 샤드에 입금
+     * 0번 샤드가 선택되거나 샤드 행이 없으면 false를 반환하며, 호출자가 본 행에 반영해야 함
+     */
+    public boolean creditShard(String accountNumber, BigDecimal amount) {
+        int shardCount = getShardCount(accountNumber);
+        if (shardCount > 1 || watchedAccounts.contains(accountNumber)) {
+            creditCounters.computeIfAbsent(accountNumber, key -> new LongAdder()).increment();
+        }
+        if (shardCount <= 1) {
+            return false;
+        }
+
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        if (shardNo == 0) {
+            return false;
+        }
+        return accountBalanceShardRepository.applyDelta(accountNumber, shardNo, amount, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 샤드 잔액을 본 행으로 모음 (출금 시 본 행 잔액이 부족할 때 사용)
+     * 호출자 트랜잭션에 참여하며, 본 행 → 샤드 순으로 잠금
+     *
+     * @return 본 행으로 옮긴 금액
+     */
+    @Transactional
+    public BigDecimal borrowFromShards(String accountNumber) {
+        if (accountBalanceRepository.findByIdWithLock(accountNumber).isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        List<AccountBalanceShard> shards = accountBalanceShardRepository.findAllByAccountNumberWithLock(accountNumber);
+        BigDecimal total = shards.stream()
+                .map(AccountBalanceShard::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        accountBalanceShardRepository.resetBalances(accountNumber, now);
+        accountBalanceRepository.applyDelta(accountNumber, total, now);
+
+        log.debug("샤드 잔액 이동: 계좌={}, 샤드 {}개, 금액={}", accountNumber, shards.size(), total);
+        return total;
+    }
+
+    /**
+     * 샤드 잔액 합계 (본 행 제외)
+     */
+    public BigDecimal sumShards(String accountNumber) {
+        return accountBalanceShardRepository.sumBalance(accountNumber);
+    }
+
+    /**
+     * 샤드를 본 행으로 합치고 샤딩 해제
+     */
+    @Transactional
+    @CacheEvict(value = "balanceCache", key = "#accountNumber")
+    public void compact(String accountNumber) {
+        BigDecimal moved = borrowFromShards(accountNumber);
+        accountBalanceShardRepository.deleteByAccountNumber(accountNumber);
+        accountBalanceRepository.updateShardCount(accountNumber, 1);
+
+        AfterCommit.run(() -> shardCounts.remove(accountNumber));
+        log.info("계좌 샤드 압축: 계좌={}, 이동 금액={}", accountNumber, moved);
+    }
+
+    /**
+     * 직전 주기의 계좌별 입금 건수 (샤딩된 계좌 + 재샤딩 후보 계좌, 호출 시 카운터 초기화)
+     */
+    public Map<String, Long> drainCreditCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (String accountNumber : shardCounts.keySet()) {
+            counts.put(accountNumber, drain(accountNumber));
+        }
+        for (String accountNumber : watchedAccounts) {
+            counts.putIfAbsent(accountNumber, drain(accountNumber));
+        }
+        // 후보도 샤딩 계좌도 아닌 카운터는 정리
+        creditCounters.keySet().removeIf(accountNumber ->
+                !shardCounts.containsKey(accountNumber) && !watchedAccounts.contains(accountNumber));
+        return counts;
+    }
+
+    private long drain(String accountNumber) {
+        LongAdder counter = creditCounters.get(accountNumber);
+        return counter != null ? counter.sumThenReset() : 0L;
+    }
+}
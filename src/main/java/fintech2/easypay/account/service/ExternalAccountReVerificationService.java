@@ -0,0 +1,254 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.ExternalAccount;
+import fintech2.easypay.account.entity.ExternalAccount.ExternalAccountStatus;
+import fintech2.easypay.account.repository.ExternalAccountRepository;
+import fintech2.easypay.common.resilience.RateLimiter;
+import fintech2.easypay.common.scheduling.SweepRunner;
+import fintech2.easypay.external.dto.AccountVerificationResponse;
+import fintech2.easypay.external.service.AccountVerificationCache;
+import fintech2.easypay.external.service.ExternalBankApiService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 계좌 일괄 재검증 스케줄러
+ * 마지막 검증 후 일정 기간이 지난 외부 계좌를 은행 API로 다시 확인
+ *
+ * - 대상 계좌는 id 키셋으로 페이지 단위 조회 (전체를 한 번에 올리지 않음)
+ * - 페이지 안의 계좌는 은행별로 묶어 일괄 검증 API를 호출, 은행마다 초당 호출 건수 제한
+ *   (은행끼리는 병렬, 같은 은행은 순서대로)
+ * - 결과 반영은 일괄 호출 단위로 한 트랜잭션 (외부 호출 동안에는 트랜잭션/커넥션을 잡지 않음)
+ * - 은행 API 오류나 응답에서 빠진 계좌는 상태를 바꾸지 않고 다음 실행에서 다시 확인
+ * - 진행률/처리량은 페이지마다 로그와 easypay.reverify.* 메트릭으로 보고
+ *
+ * rate-limits 예: "004=50,088=20" (은행코드=초당 계좌 수, 없으면 기본값)
+ */
+@Service
+@Slf4j
+public class ExternalAccountReVerificationService {
+
+    private final ExternalAccountRepository externalAccountRepository;
+    private final ExternalBankApiService externalBankApiService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int pageSize;
+    private final int batchSize;
+    private final Duration staleAfter;
+    private final Duration maxRunDuration;
+    private final double defaultRatePerSecond;
+    private final Map<String, Double> rateLimits = new HashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    private final SweepRunner sweepRunner;
+    private final AtomicLong remaining = new AtomicLong();
+
+    public ExternalAccountReVerificationService(ExternalAccountRepository externalAccountRepository,
+                                                ExternalBankApiService externalBankApiService,
+                                                PlatformTransactionManager transactionManager,
+                                                MeterRegistry meterRegistry,
+                                                @Value("${easypay.reverify.page-size:1000}") int pageSize,
+                                                @Value("${easypay.reverify.batch-size:50}") int batchSize,
+                                                @Value("${easypay.reverify.parallelism:4}") int parallelism,
+                                                @Value("${easypay.reverify.stale-days:30}") long staleDays,
+                                                @Value("${easypay.reverify.max-run-minutes:50}") long maxRunMinutes,
+                                                @Value("${easypay.reverify.rate-per-second:20}") double defaultRatePerSecond,
+                                                @Value("${easypay.reverify.rate-limits:}") String rateLimits,
+                                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.externalAccountRepository = externalAccountRepository;
+        this.externalBankApiService = externalBankApiService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.staleAfter = Duration.ofDays(staleDays);
+        this.maxRunDuration = Duration.ofMinutes(maxRunMinutes);
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.sweepRunner = new SweepRunner(meterRegistry, "외부 계좌 재검증", "easypay.reverify",
+                "reverify-", parallelism, virtualThreads);
+
+        for (String entry : rateLimits.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            this.rateLimits.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+        }
+
+        Gauge.builder("easypay.reverify.remaining", remaining, AtomicLong::get)
+                .description("이번 실행에서 남은 재검증 대상 계좌 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 재검증 대상 계좌를 일괄 확인
+     * 이전 실행이 아직 진행 중이면 건너뜀
+     */
+    @Scheduled(cron = "${easypay.reverify.cron:0 0 3 * * *}")
+    @Async("taskExecutor")
+    public void reVerifyStaleAccounts() {
+        sweepRunner.runExclusively(this::reVerify);
+    }
+
+    /**
+     * 대상 계좌를 페이지 단위로 조회해 은행별 일괄 검증
+     * @return 이번 실행에서 확인한 계좌 수
+     */
+    int reVerify() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoffDate = startedAt.minus(staleAfter);
+        LocalDateTime deadline = startedAt.plus(maxRunDuration);
+        long startedNanos = System.nanoTime();
+
+        long total = externalAccountRepository.countAccountsNeedingReVerification(
+                ExternalAccountStatus.VERIFIED, cutoffDate);
+        remaining.set(total);
+        log.info("외부 계좌 일괄 재검증 시작: 대상 {}건", total);
+
+        long afterId = 0L;
+        int checked = 0;
+        while (LocalDateTime.now().isBefore(deadline)) {
+            List<ExternalAccount> page = externalAccountRepository.findReVerificationCandidates(
+                    ExternalAccountStatus.VERIFIED, cutoffDate, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            // 은행별로 묶어 은행마다 하나의 작업으로 처리
+            Map<String, List<ExternalAccount>> byBank = page.stream()
+                    .collect(Collectors.groupingBy(ExternalAccount::getBankCode, LinkedHashMap::new,
+                            Collectors.toList()));
+            sweepRunner.runAll(List.copyOf(byBank.entrySet()),
+                    bank -> reVerifyBank(bank.getKey(), bank.getValue()));
+
+            checked += page.size();
+            afterId = page.get(page.size() - 1).getId();
+            remaining.set(Math.max(0, total - checked));
+            reportProgress(checked, total, startedNanos);
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        log.info("외부 계좌 일괄 재검증 완료: 확인 {}건 / 대상 {}건", checked, total);
+        return checked;
+    }
+
+    /**
+     * 한 은행의 계좌들을 일괄 호출 단위로 나눠 속도 제한 안에서 순서대로 검증
+     */
+    private void reVerifyBank(String bankCode, List<ExternalAccount> accounts) {
+        RateLimiter rateLimiter = rateLimiterFor(bankCode);
+        for (int from = 0; from < accounts.size(); from += batchSize) {
+            List<ExternalAccount> batch = accounts.subList(from, Math.min(from + batchSize, accounts.size()));
+            try {
+                Duration waited = rateLimiter.acquire(batch.size());
+                Timer.builder("easypay.reverify.throttle")
+                        .description("은행별 호출 속도 제한으로 대기한 시간")
+                        .tag("bank", bankCode)
+                        .register(meterRegistry)
+                        .record(waited);
+                reVerifyBatch(bankCode, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                count("error", accounts.size() - from);
+                return;
+            } catch (Exception e) {
+                count("error", batch.size());
+                log.error("외부 계좌 일괄 재검증 중 오류 발생: 은행코드={}, {}건 - {}",
+                        bankCode, batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 계좌 묶음을 한 번의 외부 호출로 검증하고, 결과를 한 트랜잭션으로 반영
+     */
+    private void reVerifyBatch(String bankCode, List<ExternalAccount> batch) {
+        Map<String, AccountVerificationResponse> responses = externalBankApiService.verifyAccounts(
+                bankCode, batch.stream().map(ExternalAccount::getAccountNumber).toList());
+
+        Map<String, Integer> outcomes = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = batch.stream().map(ExternalAccount::getId).toList();
+            Map<Long, ExternalAccount> current = externalAccountRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(ExternalAccount::getId, Function.identity()));
+
+            for (ExternalAccount snapshot : batch) {
+                ExternalAccount account = current.get(snapshot.getId());
+                // 그 사이 삭제/상태 변경된 계좌는 건드리지 않음
+                if (account == null || !account.getIsActive()
+                        || account.getVerificationStatus() != ExternalAccountStatus.VERIFIED) {
+                    outcomes.merge("skipped", 1, Integer::sum);
+                    continue;
+                }
+                outcomes.merge(apply(account, responses.get(account.getAccountNumber())), 1, Integer::sum);
+            }
+        });
+        outcomes.forEach(this::count);
+    }
+
+    /**
+     * 검증 결과 반영 (변경 내용은 트랜잭션 종료 시 일괄 반영)
+     * @return 처리 결과 (verified, failed, error)
+     */
+    private String apply(ExternalAccount account, AccountVerificationResponse response) {
+        if (response == null) {
+            return "error";
+        }
+        if (response.isSuccess()) {
+            account.markAsVerified();
+            account.setAccountHolderName(response.getAccountHolderName());
+            return "verified";
+        }
+        if (AccountVerificationCache.NOT_FOUND.equals(response.getErrorCode())) {
+            account.markAsVerificationFailed();
+            log.warn("외부 계좌 재검증 실패: accountId={} - {}", account.getId(), response.getErrorMessage());
+            return "failed";
+        }
+        // 일시적인 은행 API 오류는 상태를 바꾸지 않음
+        return "error";
+    }
+
+    private RateLimiter rateLimiterFor(String bankCode) {
+        return rateLimiters.computeIfAbsent(bankCode, code ->
+                new RateLimiter("reverify:" + code, rateLimits.getOrDefault(code, defaultRatePerSecond)));
+    }
+
+    private void reportProgress(int checked, long total, long startedNanos) {
+        double elapsedSeconds = Math.max(1e-3, (System.nanoTime() - startedNanos) / 1e9);
+        log.info("외부 계좌 재검증 진행: {}/{}건 ({}%), {}건/초", checked, total,
+                total == 0 ? 100 : checked * 100 / total, String.format("%.1f", checked / elapsedSeconds));
+    }
+
+    private void count(String outcome, int amount) {
+        sweepRunner.count(outcome, amount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepRunner.shutdown();
+    }
+}
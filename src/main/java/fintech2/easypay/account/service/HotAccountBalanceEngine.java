@@ -0,0 +1,249 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.HotAccountCredit;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.HotAccountCreditRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.common.enums.TransactionStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핫 계좌 잔액 엔진 (opt-in)
+ * 입금이 몰리는 계좌는 account_balances 한 행의 락에 직렬화되므로,
+ * 입금을 저널(hot_account_credits)에 INSERT만 하고 메모리의 스트라이프 누산기(LongAdder)에 합산한 뒤
+ * 짧은 주기로 모아서 원장에 한 번에 반영(write-behind)한다.
+ *
+ * 출금은 항상 원장에 반영된 잔액 기준으로만 검증하므로 미반영 입금은 가용 잔액에 포함되지 않는다 (보수적 검증).
+ * 누산기는 노드 단위 추정치이며, 정확한 값은 저널과 원장이 보장한다.
+ * 반영은 노드 구분 없이 저널 행을 가져가므로(SKIP LOCKED) 누산기는 반영 주기마다 저널의 미반영 합계로 보정한다.
+ * 반영된 저널은 거래 내역으로 옮겨졌으므로 보관 기간이 지나면 일정 건수씩 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotAccountBalanceEngine {
+
+    private static final int MINOR_UNIT_SCALE = 2;
+
+    private final HotAccountCreditRepository hotAccountCreditRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+
+    @Value("${easypay.hot-account.enabled:false}")
+    private boolean enabled;
+
+    @Value("${easypay.hot-account.accounts:}")
+    private Set<String> configuredAccounts = Collections.emptySet();
+
+    @Value("${easypay.hot-account.flush-batch-size:500}")
+    private int flushBatchSize = 500;
+
+    @Value("${easypay.hot-account.purge-batch-size:1000}")
+    private int purgeBatchSize = 1000;
+
+    private final Set<String> hotAccounts = ConcurrentHashMap.newKeySet();
+
+    // 계좌별 미반영 입금 누산기 (최소 화폐 단위, 코어 수에 비례해 셀이 분산됨)
+    private final ConcurrentHashMap<String, LongAdder> pendingCredits = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        configuredAccounts.stream()
+                .map(String::trim)
+                .filter(accountNumber -> !accountNumber.isEmpty())
+                .forEach(this::markHot);
+        log.info("핫 계좌 모드 활성화: {}개 계좌", hotAccounts.size());
+    }
+
+    /**
+     * 핫 계좌 여부
+     */
+    public boolean isHotAccount(String accountNumber) {
+        return enabled && hotAccounts.contains(accountNumber);
+    }
+
+    /**
+     * 핫 계좌로 지정 - 재시작 전 미반영 저널이 있으면 누산기에 복구
+     */
+    public void markHot(String accountNumber) {
+        if (hotAccounts.add(accountNumber)) {
+            BigDecimal pending = hotAccountCreditRepository.sumPending(accountNumber);
+            counter(accountNumber).add(toMinorUnits(pending));
+            log.info("핫 계좌 지정: {}, 미반영 입금={}", accountNumber, pending);
+        }
+    }
+
+    /**
+     * 핫 계좌 지정 해제 - 남은 저널은 다음 반영 주기까지 계속 처리됨
+     */
+    public void unmarkHot(String accountNumber) {
+        hotAccounts.remove(accountNumber);
+    }
+
+    public Set<String> getHotAccounts() {
+        return Collections.unmodifiableSet(hotAccounts);
+    }
+
+    /**
+     * 반영 대상 계좌 (지정 해제된 계좌도 남은 저널을 소진할 수 있도록 포함)
+     */
+    public Set<String> getTrackedAccounts() {
+        return Collections.unmodifiableSet(pendingCredits.keySet());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 핫 계좌 입금 - 저널 INSERT만 수행하고 원장 행은 잠그지 않음
+     * 누산기는 커밋 이후에만 증가시켜 롤백된 입금이 집계되지 않도록 함
+     */
+    @Transactional
+    public void credit(String accountNumber, BigDecimal amount, TransactionType transactionType,
+                       String description, String referenceId, String userId) {
+        HotAccountCredit credit = HotAccountCredit.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .transactionType(transactionType)
+                .description(description)
+                .referenceId(referenceId)
+                .createdBy(userId)
+                .build();
+        hotAccountCreditRepository.save(credit);
+
+        long minorUnits = toMinorUnits(amount);
+        AfterCommit.run(() -> counter(accountNumber).add(minorUnits));
+    }
+
+    /**
+     * 미반영 입금 합계 (추정치)
+     */
+    public BigDecimal getPendingCredits(String accountNumber) {
+        LongAdder adder = pendingCredits.get(accountNumber);
+        long sum = adder != null ? adder.sum() : 0L;
+        return BigDecimal.valueOf(sum, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * 누산기를 저널의 미반영 합계로 보정
+     * 다른 노드에 들어온 입금이나 다른 노드가 반영한 저널은 이 노드 누산기에 나타나지 않으므로 반영 주기마다 맞춤
+     * (차이만 더하므로 보정 중에 커밋된 입금도 유지되고, 조회와 보정 사이의 오차는 다음 주기에 맞춰짐)
+     */
+    public void syncPending(String accountNumber) {
+        long journal = toMinorUnits(hotAccountCreditRepository.sumPending(accountNumber));
+        LongAdder adder = counter(accountNumber);
+        adder.add(journal - adder.sum());
+    }
+
+    /**
+     * 미반영 저널을 모아 원장에 한 번의 UPDATE로 반영
+     * 다른 노드가 처리 중인 저널 행은 건너뜀 (SKIP LOCKED)
+     *
+     * @return 반영한 저널 건수
+     */
+    @Transactional
+    @CacheEvict(value = "balanceCache", key = "#accountNumber")
+    public int flush(String accountNumber) {
+        List<HotAccountCredit> pending = hotAccountCreditRepository
+                .findPending(accountNumber, PageRequest.of(0, flushBatchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        BigDecimal total = pending.stream()
+                .map(HotAccountCredit::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (accountBalanceRepository.applyDelta(accountNumber, total, now) == 0) {
+            AccountBalance newBalance = new AccountBalance();
+            newBalance.setAccountNumber(accountNumber);
+            newBalance.setBalance(BigDecimal.ZERO);
+            accountBalanceRepository.saveAndFlush(newBalance);
+            accountBalanceRepository.applyDelta(accountNumber, total, now);
+        }
+        BigDecimal balanceAfter = accountBalanceRepository.findBalanceByAccountNumber(accountNumber)
+                .orElse(total);
+
+        // 저널 순서대로 거래 내역 기록 (건별 잔액은 반영 직전 잔액부터 누적)
+        BigDecimal running = balanceAfter.subtract(total);
+        List<TransactionHistory> histories = new ArrayList<>(pending.size());
+        List<Long> ids = new ArrayList<>(pending.size());
+        for (HotAccountCredit credit : pending) {
+            BigDecimal before = running;
+            running = running.add(credit.getAmount());
+            histories.add(TransactionHistory.builder()
+                    .accountNumber(accountNumber)
+                    .transactionType(credit.getTransactionType())
+                    .amount(credit.getAmount())
+                    .balanceBefore(before)
+                    .balanceAfter(running)
+                    .description(credit.getDescription())
+                    .referenceId(credit.getReferenceId())
+                    .createdBy(credit.getCreatedBy())
+                    .status(TransactionStatus.COMPLETED)
+                    .build());
+            ids.add(credit.getId());
+        }
+        transactionHistoryRepository.saveAll(histories);
+        hotAccountCreditRepository.markFlushed(ids, now);
+
+        // 누산기는 이 노드에 들어온 입금만 더하므로 반영분을 여기서 빼지 않고 syncPending에서 저널 기준으로 보정
+        log.debug("핫 계좌 반영: 계좌={}, 건수={}, 합계={}, 잔액={}",
+                accountNumber, pending.size(), total, balanceAfter);
+        return pending.size();
+    }
+
+    /**
+     * 보관 기간이 지난 반영 완료 저널 삭제 (한 번에 purge-batch-size건)
+     * @return 삭제한 건수
+     */
+    @Transactional
+    public int purgeFlushed(LocalDateTime flushedBefore) {
+        List<Long> ids = hotAccountCreditRepository.findFlushedIds(flushedBefore, PageRequest.of(0, purgeBatchSize));
+        if (!ids.isEmpty()) {
+            hotAccountCreditRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    private LongAdder counter(String accountNumber) {
+        return pendingCredits.computeIfAbsent(accountNumber, key -> new LongAdder());
+    }
+
+    private long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(MINOR_UNIT_SCALE).longValue();
+    }
+}
@@ -0,0 +1,70 @@
+package fintech2.easypay.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핫 계좌 입금 저널 반영 스케줄러
+ * 트랜잭션 프록시가 적용되도록 엔진과 별도 빈으로 분리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotAccountFlushScheduler {
+
+    private final HotAccountBalanceEngine hotAccountBalanceEngine;
+
+    @Value("${easypay.hot-account.purge-retention-hours:24}")
+    private long purgeRetentionHours = 24;
+
+    @Scheduled(fixedDelayString = "${easypay.hot-account.flush-interval-ms:200}")
+    public void flushHotAccounts() {
+        if (!hotAccountBalanceEngine.isEnabled()) {
+            return;
+        }
+
+        for (String accountNumber : hotAccountBalanceEngine.getTrackedAccounts()) {
+            try {
+                // 한 번에 배치 크기만큼 반영되므로 밀린 저널은 소진될 때까지 반복
+                int flushed;
+                do {
+                    flushed = hotAccountBalanceEngine.flush(accountNumber);
+                } while (flushed >= hotAccountBalanceEngine.getFlushBatchSize());
+                hotAccountBalanceEngine.syncPending(accountNumber);
+            } catch (Exception e) {
+                log.error("핫 계좌 반영 실패: 계좌={}", accountNumber, e);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 반영 완료 저널을 배치 단위로 삭제 (배치마다 별도 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${easypay.hot-account.purge-interval-ms:600000}")
+    public void purgeFlushedCredits() {
+        if (!hotAccountBalanceEngine.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusHours(purgeRetentionHours);
+        int purged = 0;
+        try {
+            int deleted;
+            do {
+                deleted = hotAccountBalanceEngine.purgeFlushed(before);
+                purged += deleted;
+            } while (deleted >= hotAccountBalanceEngine.getPurgeBatchSize());
+        } catch (Exception e) {
+            log.error("반영 완료 저널 정리 실패", e);
+        }
+
+        if (purged > 0) {
+            log.info("반영 완료 저널 정리: {}건", purged);
+        }
+    }
+}
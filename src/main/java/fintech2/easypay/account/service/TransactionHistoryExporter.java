@@ -0,0 +1,135 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.dto.TransactionHistoryResponse;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 거래내역 내보내기 (NDJSON / CSV)
+ * 키셋 페이지 단위로 읽어 바로 응답 스트림에 쓰므로 거래 건수와 관계없이 메모리 사용량이 일정
+ *
+ * - 페이지마다 짧은 읽기 전용 조회로 가져오고, 응답을 쓰는 동안에는 트랜잭션/커넥션을 잡지 않음
+ *   (느린 클라이언트가 내려받는 동안 커넥션 풀을 점유하지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionHistoryExporter {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final String CSV_HEADER =
+            "id,transactionType,amount,balanceBefore,balanceAfter,description,referenceId,transactionId,status,createdAt";
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 계좌 거래내역을 최신순으로 출력 스트림에 기록
+     * @return 기록한 행 수
+     */
+    public long export(String accountNumber, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE);
+        List<TransactionHistory> page = transactionHistoryRepository.findFirstPage(accountNumber, limit);
+        while (!page.isEmpty()) {
+            for (TransactionHistory history : page) {
+                TransactionHistoryResponse row = TransactionHistoryResponse.from(history);
+                writer.write(format == Format.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            rows += page.size();
+            writer.flush();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+
+            TransactionHistory last = page.get(page.size() - 1);
+            page = transactionHistoryRepository.findPageAfter(accountNumber, last.getCreatedAt(), last.getId(), limit);
+        }
+        writer.flush();
+
+        log.info("거래내역 내보내기 완료: 계좌={}, 형식={}, {}건", accountNumber, format, rows);
+        return rows;
+    }
+
+    private static String toCsv(TransactionHistoryResponse row) {
+        return String.join(",",
+                csv(row.getId()),
+                csv(row.getTransactionType()),
+                csv(row.getAmount()),
+                csv(row.getBalanceBefore()),
+                csv(row.getBalanceAfter()),
+                csv(row.getDescription()),
+                csv(row.getReferenceId()),
+                csv(row.getTransactionId()),
+                csv(row.getStatus()),
+                csv(row.getCreatedAt()));
+    }
+
+    /**
+     * CSV 필드 이스케이프 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 ' 추가)
+     * 스프레드시트는 앞의 탭/캐리지 리턴을 건너뛰고 수식을 해석하므로 이 문자로 시작하는 값도 막음
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
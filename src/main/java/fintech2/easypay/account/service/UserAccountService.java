@@ -2,12 +2,10 @@ package fintech2.easypay.account.service;
 
 import fintech2.easypay.account.entity.UserAccount;
 import fintech2.easypay.account.repository.UserAccountRepository;
-import fintech2.easypay.account.entity.TransactionHistory;
-import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.common.enums.AccountStatus;
-import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.audit.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +16,6 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * 사용자 다중 계좌 관리 서비스
@@ -29,8 +26,9 @@ import java.util.UUID;
 public class UserAccountService {
     
     private final UserAccountRepository userAccountRepository;
-    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final BalanceService balanceService;
     private final AuditLogService auditLogService;
+    private final TransactionIdGenerator transactionIdGenerator;
     
     private static final int MAX_ACCOUNTS_PER_USER = 5; // 사용자당 최대 계좌 수
     private static final String ACCOUNT_PREFIX = "EP"; // EasyPay 계좌 접두어
@@ -205,38 +203,10 @@ public class UserAccountService {
     public UserAccount depositToPrimaryAccount(Long userId, BigDecimal amount, String memo) {
         log.info("기본 계좌 입금: userId={}, amount={}", userId, amount);
         
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다");
-        }
-        
         UserAccount primaryAccount = getPrimaryAccount(userId)
                 .orElseThrow(() -> new AccountNotFoundException("기본 계좌를 찾을 수 없습니다"));
         
-        BigDecimal oldBalance = primaryAccount.getBalance();
-        BigDecimal newBalance = oldBalance.add(amount);
-        
-        primaryAccount.setBalance(newBalance);
-        primaryAccount.setUpdatedAt(LocalDateTime.now());
-        
-        UserAccount updatedAccount = userAccountRepository.save(primaryAccount);
-        
-        // 거래 내역 저장
-        createTransactionHistory(
-                updatedAccount.getAccountNumber(), 
-                amount, 
-                TransactionType.DEPOSIT, 
-                memo != null ? memo : "입금", 
-                userId.toString(),
-                newBalance
-        );
-        
-        log.info("기본 계좌 입금 완료: accountNumber={}, {} -> {}", 
-                 primaryAccount.getAccountNumber(), oldBalance, newBalance);
-        
-        auditLogService.logSuccess("DEPOSIT", "ACCOUNT", primaryAccount.getAccountNumber(), 
-                memo != null ? memo : "입금", null);
-        
-        return updatedAccount;
+        return deposit(userId, primaryAccount, amount, memo);
     }
     
     /**
@@ -246,43 +216,10 @@ public class UserAccountService {
     public UserAccount withdrawFromPrimaryAccount(Long userId, BigDecimal amount, String memo) {
         log.info("기본 계좌 출금: userId={}, amount={}", userId, amount);
         
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다");
-        }
-        
         UserAccount primaryAccount = getPrimaryAccount(userId)
                 .orElseThrow(() -> new AccountNotFoundException("기본 계좌를 찾을 수 없습니다"));
         
-        BigDecimal oldBalance = primaryAccount.getBalance();
-        
-        if (oldBalance.compareTo(amount) < 0) {
-            throw new IllegalArgumentException("잔액이 부족합니다");
-        }
-        
-        BigDecimal newBalance = oldBalance.subtract(amount);
-        
-        primaryAccount.setBalance(newBalance);
-        primaryAccount.setUpdatedAt(LocalDateTime.now());
-        
-        UserAccount updatedAccount = userAccountRepository.save(primaryAccount);
-        
-        // 거래 내역 저장
-        createTransactionHistory(
-                updatedAccount.getAccountNumber(), 
-                amount, 
-                TransactionType.WITHDRAWAL, 
-                memo != null ? memo : "출금", 
-                userId.toString(),
-                newBalance
-        );
-        
-        log.info("기본 계좌 출금 완료: accountNumber={}, {} -> {}", 
-                 primaryAccount.getAccountNumber(), oldBalance, newBalance);
-        
-        auditLogService.logSuccess("WITHDRAW", "ACCOUNT", primaryAccount.getAccountNumber(), 
-                memo != null ? memo : "출금", null);
-        
-        return updatedAccount;
+        return withdraw(userId, primaryAccount, amount, memo);
     }
     
     /**
@@ -292,64 +229,75 @@ public class UserAccountService {
     public UserAccount depositToAccount(Long userId, String accountNumber, BigDecimal amount, String memo) {
         log.info("계좌 입금: userId={}, accountNumber={}, amount={}", userId, accountNumber, amount);
         
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다");
-        }
+        UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        
+        return deposit(userId, account, amount, memo);
+    }
+    
+    /**
+     * 특정 계좌 출금
+     */
+    @Transactional
+    public UserAccount withdrawFromAccount(Long userId, String accountNumber, BigDecimal amount, String memo) {
+        log.info("계좌 출금: userId={}, accountNumber={}, amount={}", userId, accountNumber, amount);
         
         UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
         
-        BigDecimal oldBalance = account.getBalance();
-        BigDecimal newBalance = oldBalance.add(amount);
+        return withdraw(userId, account, amount, memo);
+    }
+    
+    /**
+     * 입금 공통 로직 - 잔액 원장(BalanceService)에 위임
+     */
+    private UserAccount deposit(Long userId, UserAccount account, BigDecimal amount, String memo) {
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다");
+        }
         
-        account.setBalance(newBalance);
-        account.setUpdatedAt(LocalDateTime.now());
+        String description = memo != null ? memo : "입금";
+        BalanceService.BalanceChangeResult result = balanceService.increase(
+                account.getAccountNumber(), amount, TransactionType.DEPOSIT,
+                description, transactionIdGenerator.next(TransactionIdGenerator.USER_ACCOUNT_PREFIX), userId.toString());
         
-        UserAccount updatedAccount = userAccountRepository.save(account);
+        // 응답용 잔액만 반영 (balance는 원장에서 파생되는 읽기 전용 값)
+        account.setBalance(result.getBalanceAfter());
         
         log.info("계좌 입금 완료: accountNumber={}, {} -> {}", 
-                 accountNumber, oldBalance, newBalance);
+                 account.getAccountNumber(), result.getBalanceBefore(), result.getBalanceAfter());
         
-        auditLogService.logSuccess("DEPOSIT", "ACCOUNT", accountNumber, 
-                memo != null ? memo : "입금", null);
+        auditLogService.logSuccess("DEPOSIT", "ACCOUNT", account.getAccountNumber(), description, null);
         
-        return updatedAccount;
+        return account;
     }
     
     /**
-     * 특정 계좌 출금
+     * 출금 공통 로직 - 잔액 원장(BalanceService)에 위임
      */
-    @Transactional
-    public UserAccount withdrawFromAccount(Long userId, String accountNumber, BigDecimal amount, String memo) {
-        log.info("계좌 출금: userId={}, accountNumber={}, amount={}", userId, accountNumber, amount);
-        
+    private UserAccount withdraw(Long userId, UserAccount account, BigDecimal amount, String memo) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다");
         }
         
-        UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
-        
-        BigDecimal oldBalance = account.getBalance();
-        
-        if (oldBalance.compareTo(amount) < 0) {
+        if (!account.hasEnoughBalance(amount)) {
             throw new IllegalArgumentException("잔액이 부족합니다");
         }
         
-        BigDecimal newBalance = oldBalance.subtract(amount);
+        String description = memo != null ? memo : "출금";
+        BalanceService.BalanceChangeResult result = balanceService.decrease(
+                account.getAccountNumber(), amount, TransactionType.WITHDRAWAL,
+                description, transactionIdGenerator.next(TransactionIdGenerator.USER_ACCOUNT_PREFIX), userId.toString());
         
-        account.setBalance(newBalance);
-        account.setUpdatedAt(LocalDateTime.now());
-        
-        UserAccount updatedAccount = userAccountRepository.save(account);
+        // 응답용 잔액만 반영 (balance는 원장에서 파생되는 읽기 전용 값)
+        account.setBalance(result.getBalanceAfter());
         
         log.info("계좌 출금 완료: accountNumber={}, {} -> {}", 
-                 accountNumber, oldBalance, newBalance);
+                 account.getAccountNumber(), result.getBalanceBefore(), result.getBalanceAfter());
         
-        auditLogService.logSuccess("WITHDRAW", "ACCOUNT", accountNumber, 
-                memo != null ? memo : "출금", null);
+        auditLogService.logSuccess("WITHDRAW", "ACCOUNT", account.getAccountNumber(), description, null);
         
-        return updatedAccount;
+        return account;
     }
     
     /**
@@ -409,41 +357,6 @@ public class UserAccountService {
                 .build();
     }
     
-    /**
-     * 거래 내역 생성
-     */
-    private void createTransactionHistory(String accountNumber, BigDecimal amount, 
-                                        TransactionType transactionType, String description, 
-                                        String userId, BigDecimal balanceAfter) {
-        try {
-            TransactionHistory transaction = TransactionHistory.builder()
-                    .accountNumber(accountNumber)
-                    .amount(amount)
-                    .transactionType(transactionType)
-                    .description(description)
-                    .balanceAfter(balanceAfter)
-                    .status(TransactionStatus.COMPLETED)
-                    .transactionId(generateTransactionId())
-                    .createdBy(userId)
-                    .build();
-            
-            transactionHistoryRepository.save(transaction);
-            log.debug("거래 내역 저장 완료: accountNumber={}, type={}, amount={}", 
-                     accountNumber, transactionType, amount);
-        } catch (Exception e) {
-            log.error("거래 내역 저장 실패: accountNumber={}, type={}, amount={}", 
-                     accountNumber, transactionType, amount, e);
-            // 거래 내역 저장 실패가 메인 로직에 영향을 주지 않도록 예외를 삼킨다
-        }
-    }
-    
-    /**
-     * 거래 ID 생성
-     */
-    private String generateTransactionId() {
-        return "USR" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-    }
-    
     /**
      * 계좌 통계 정보 DTO
      */
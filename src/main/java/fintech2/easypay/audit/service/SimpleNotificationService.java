@@ -1,29 +1,35 @@
 package fintech2.easypay.audit.service;
 
+import fintech2.easypay.config.AsyncConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
  * 간단한 알림 서비스 구현체
  * 실제 알림 발송 대신 로그로 처리
+ * 알림 실행기에서 비동기로 발송해 송금/결제 요청 경로에서 분리
  */
 @Service
 @Slf4j
 public class SimpleNotificationService implements NotificationService {
     
     @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendPaymentActivityNotification(Long userId, String phoneNumber, String message) {
         log.info("결제 알림 - 사용자ID: {}, 전화번호: {}, 메시지: {}", userId, phoneNumber, message);
         // 실제 구현에서는 SMS, 푸시 알림 등을 전송
     }
     
     @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendTransferActivityNotification(Long userId, String phoneNumber, String message) {
         log.info("송금 알림 - 사용자ID: {}, 전화번호: {}, 메시지: {}", userId, phoneNumber, message);
         // 실제 구현에서는 SMS, 푸시 알림 등을 전송
     }
     
     @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendSecurityAlert(Long userId, String phoneNumber, String message) {
         log.warn("보안 알림 - 사용자ID: {}, 전화번호: {}, 메시지: {}", userId, phoneNumber, message);
         // 실제 구현에서는 긴급 SMS, 이메일 등을 전송
@@ -30,6 +30,7 @@ public enum ErrorCode {
     INVALID_AMOUNT("T002", "유효하지 않은 금액입니다."),
     SAME_ACCOUNT_TRANSFER("T003", "같은 계좌로는 송금할 수 없습니다."),
     TRANSACTION_NOT_FOUND("T004", "거래 내역을 찾을 수 없습니다."),
+    TRANSFER_QUEUE_FULL("T005", "송금 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     
     // 결제 관련 오류
     PAYMENT_FAILED("P001", "결제에 실패했습니다."),
@@ -51,6 +52,10 @@ public enum ErrorCode {
     INVALID_PIN_SESSION("PIN006", "PIN 인증 세션이 유효하지 않습니다."),
     PIN_SESSION_EXPIRED("PIN007", "PIN 인증 세션이 만료되었습니다."),
     
+    // 멱등 키 관련 오류
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("I001", "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED("I002", "다른 요청에 이미 사용된 Idempotency-Key입니다."),
+    
     // 시스템 오류
     INTERNAL_SERVER_ERROR("S001", "내부 서버 오류가 발생했습니다."),
     DATABASE_ERROR("S002", "데이터베이스 오류가 발생했습니다."),
@@ -0,0 +1,41 @@
+package fintech2.easypay.common.dto;
+
+import fintech2.easypay.common.util.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ * 전체 건수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회
+ *
+ * @param items 이번 페이지 항목
+ * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청한 페이지 크기를 [1, MAX_SIZE] 범위로 맞춤 (없으면 기본값)
+     */
+    public static int sizeOf(Integer requested) {
+        return requested == null ? DEFAULT_SIZE : Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 구성 (남는 1건은 다음 페이지 존재 여부 확인용)
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -2,6 +2,7 @@ package fintech2.easypay.common.exception;
 
 import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
 import fintech2.easypay.payment.exception.PaymentException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -150,7 +151,16 @@ public class GlobalExceptionHandler {
         response.put("error", "BUSINESS_ERROR");
         response.put("message", e.getMessage());
         
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        // 처리 큐 포화는 재시도 가능한 일시적 상태, 같은 멱등 키 요청이 처리 중이면 충돌
+        HttpStatus status = switch (e.getErrorCode()) {
+            case FORBIDDEN -> HttpStatus.FORBIDDEN;
+            case TRANSFER_QUEUE_FULL -> HttpStatus.SERVICE_UNAVAILABLE;
+            case IDEMPOTENCY_REQUEST_IN_PROGRESS -> HttpStatus.CONFLICT;
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+        
+        return ResponseEntity.status(status).body(response);
     }
 
     // 일반적인 예외
@@ -0,0 +1,48 @@
+package fintech2.easypay.common.idempotency;
+
+import fintech2.easypay.common.util.AfterCommit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 멱등 키로 처리 중인 요청의 부수 효과 표시
+ * 결제 PROCESSING 저장, 외부 송금 요청처럼 되돌릴 수 없는 상태를 커밋한 뒤 실패하면
+ * 같은 키의 재시도가 결제/송금을 다시 실행하지 않도록 멱등 기록을 남기는 데 사용
+ *
+ * - 트랜잭션 안에서 표시하면 커밋된 뒤에 반영 (롤백되면 부수 효과 없음)
+ * - 멱등 처리 밖(키 없는 요청, 워커 스레드 등)에서 호출하면 아무 일도 하지 않음
+ */
+public final class IdempotencyContext {
+
+    private static final ThreadLocal<AtomicBoolean> CURRENT = new ThreadLocal<>();
+
+    private IdempotencyContext() {
+    }
+
+    /**
+     * 현재 요청이 되돌릴 수 없는 상태를 커밋했음을 표시
+     */
+    public static void markSideEffect() {
+        AtomicBoolean current = CURRENT.get();
+        if (current != null) {
+            AfterCommit.run(() -> current.set(true));
+        }
+    }
+
+    /**
+     * 요청 처리 시작 - 이전 값을 돌려주므로 끝날 때 restore로 되돌림
+     */
+    static AtomicBoolean open(AtomicBoolean sideEffect) {
+        AtomicBoolean previous = CURRENT.get();
+        CURRENT.set(sideEffect);
+        return previous;
+    }
+
+    static void restore(AtomicBoolean previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
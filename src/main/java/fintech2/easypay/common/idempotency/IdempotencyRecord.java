@@ -0,0 +1,106 @@
+package fintech2.easypay.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키 처리 기록
+ * 같은 (scope, owner, key)로 다시 들어온 요청에는 저장된 응답을 그대로 돌려줌
+ * 처리 중 기록은 임대 시간(leaseExpiresAt)이 지나면 같은 요청의 재시도가 이어받을 수 있음
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys",
+                columnNames = {"scope", "owner_key", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String scope; // 요청 종류 (PAYMENT, TRANSFER 등)
+
+    @Column(name = "owner_key", nullable = false, length = 100)
+    private String owner; // 요청한 사용자 (다른 사용자의 키와 섞이지 않도록)
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // 요청 본문 SHA-256 (같은 키로 다른 요청을 보내면 거절)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody; // 완료된 응답 (JSON)
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt; // 처리 중 기록의 임대 만료 시각 (없으면 보관 기간 동안 유지)
+
+    public enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 처리 중인데 임대 시간이 지났는지 (원 요청을 처리하던 서버가 멈춘 것으로 봄)
+     */
+    public boolean isLeaseExpired(LocalDateTime now) {
+        return status == Status.IN_PROGRESS && leaseExpiresAt != null && !leaseExpiresAt.isAfter(now);
+    }
+
+    /**
+     * 임대가 끝난 처리 중 기록을 이어받음
+     */
+    public void renewLease(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * 정리되지 않은 만료 기록을 새 요청으로 덮어씀
+     */
+    public void reset(String requestHash, LocalDateTime expiresAt, LocalDateTime leaseExpiresAt) {
+        this.requestHash = requestHash;
+        this.status = Status.IN_PROGRESS;
+        this.responseBody = null;
+        this.completedAt = null;
+        this.expiresAt = expiresAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * 부수 효과를 커밋한 뒤 실패한 기록 - 임대 없이 처리 중으로 유지해 보관 기간 동안 재시도가 이어받지 못하게 함
+     */
+    public void hold() {
+        this.status = Status.IN_PROGRESS;
+        this.leaseExpiresAt = null;
+    }
+
+    public void markCompleted(String responseBody) {
+        this.status = Status.COMPLETED;
+        this.responseBody = responseBody;
+        this.completedAt = LocalDateTime.now();
+    }
+}
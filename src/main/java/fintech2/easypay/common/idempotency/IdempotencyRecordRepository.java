@@ -0,0 +1,35 @@
+package fintech2.easypay.common.idempotency;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByScopeAndOwnerAndIdempotencyKey(String scope, String owner, String idempotencyKey);
+
+    /**
+     * 키 기록 잠금 조회 (만료 기록 덮어쓰기, 임대 만료 기록 이어받기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM IdempotencyRecord r " +
+           "WHERE r.scope = :scope AND r.owner = :owner AND r.idempotencyKey = :idempotencyKey")
+    Optional<IdempotencyRecord> findForUpdate(@Param("scope") String scope,
+                                              @Param("owner") String owner,
+                                              @Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * 만료된 기록 id 조회 (정리용, 일정 건수씩)
+     */
+    @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt < :now ORDER BY r.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,359 @@
+package fintech2.easypay.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.idempotency.IdempotencyRecord.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 원래 요청의 응답을 그대로 돌려줌 (결제/송금 재실행 없음)
+ *
+ * - 메모리 인덱스(크기/만료 제한)에서 먼저 찾고, 없으면 idempotency_keys 테이블 확인
+ * - 처리 중인 원 요청이 같은 서버에 있으면 끝날 때까지 기다렸다가 같은 응답 반환 (wait-timeout 초과 시 409)
+ * - 다른 서버에서 처리 중이면 409, 같은 키로 본문이 다른 요청은 거절
+ * - 처리 중 기록의 임대 시간이 지나면 원 요청을 처리하던 서버가 멈춘 것으로 보고 같은 요청의 재시도가 이어받음
+ *   (임대 시간은 요청 처리 최대 시간보다 길게 설정)
+ * - 보관 기간이 지났지만 아직 정리되지 않은 기록은 새 요청으로 덮어씀
+ * - 원 요청이 부수 효과 없이 실패하면 기록을 지워 같은 키로 다시 시도할 수 있게 함
+ *   (결제 PROCESSING 저장 등 되돌릴 수 없는 상태를 커밋한 뒤 실패하면 기록을 남겨 보관 기간 동안 409 - IdempotencyContext)
+ * - 결과는 easypay.idempotency.requests{scope, outcome} 메트릭으로 집계
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String METRIC_REQUESTS = "easypay.idempotency.requests";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final int cleanupBatchSize;
+    private final Cache<String, Entry> index;
+
+    /**
+     * 메모리 인덱스 항목 - 요청 본문 해시와 응답(JSON)이 채워질 Future
+     */
+    private record Entry(String requestHash, CompletableFuture<String> response) {
+    }
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${easypay.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${easypay.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                              @Value("${easypay.idempotency.index-size:100000}") long indexSize,
+                              @Value("${easypay.idempotency.cleanup-batch-size:1000}") int cleanupBatchSize,
+                              @Value("${easypay.idempotency.lease-seconds:120}") long leaseSeconds) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.index = Caffeine.newBuilder()
+                .maximumSize(indexSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 멱등 키 단위로 요청을 한 번만 실행
+     * @param scope 요청 종류 (PAYMENT, TRANSFER 등)
+     * @param owner 요청한 사용자
+     * @param key Idempotency-Key 헤더 값 (없으면 그냥 실행)
+     * @param request 요청 본문 (같은 키의 다른 요청인지 비교)
+     * @param responseType 저장된 응답을 되살릴 타입
+     * @param action 실제 처리
+     * @return 처리 결과 또는 원 요청의 응답
+     */
+    public <T> T execute(String scope, String owner, String key, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    HEADER + "는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String indexKey = scope + ":" + owner + ":" + key;
+        String requestHash = hash(request);
+
+        Entry mine = new Entry(requestHash, new CompletableFuture<>());
+        Entry existing = index.asMap().putIfAbsent(indexKey, mine);
+        if (existing != null) {
+            return awaitExisting(scope, existing, requestHash, responseType);
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyRecord> stored = idempotencyRecordRepository
+                    .findByScopeAndOwnerAndIdempotencyKey(scope, owner, key)
+                    .filter(record -> !record.isExpired(now));
+            if (stored.isPresent() && !canTakeOver(stored.get(), requestHash, now)) {
+                return replayStored(scope, indexKey, mine, stored.get(), requestHash, responseType);
+            }
+
+            IdempotencyRecord record = reserve(scope, owner, key, requestHash);
+            T result = runAction(scope, indexKey, record, action);
+            String body = toJson(result);
+            mine.response().complete(body);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    IdempotencyRecord saved = idempotencyRecordRepository.findById(record.getId()).orElse(record);
+                    saved.markCompleted(body);
+                    idempotencyRecordRepository.save(saved);
+                });
+            } catch (RuntimeException e) {
+                // 처리 자체는 끝났으므로 응답은 그대로 반환 (다른 서버의 재시도는 처리 중으로 보고 409)
+                log.error("멱등 응답 저장 실패: {} - {}", indexKey, e.getMessage());
+            }
+            count(scope, "executed");
+            return result;
+        } catch (RuntimeException e) {
+            if (!mine.response().isDone()) {
+                index.asMap().remove(indexKey, mine);
+                mine.response().completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 기록을 일정 건수씩 정리
+     */
+    @Scheduled(fixedDelayString = "${easypay.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = idempotencyRecordRepository.findExpiredIds(now, PageRequest.of(0, cleanupBatchSize));
+            if (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteAllByIdInBatch(batch));
+                purged += ids.size();
+            }
+        } while (ids.size() == cleanupBatchSize);
+
+        if (purged > 0) {
+            log.info("만료된 멱등 키 정리: {}건", purged);
+        }
+    }
+
+    /**
+     * 같은 서버에 이미 있는 요청 - 끝났으면 바로, 처리 중이면 기다렸다가 같은 응답 반환
+     */
+    private <T> T awaitExisting(String scope, Entry existing, String requestHash, Class<T> responseType) {
+        if (!existing.requestHash().equals(requestHash)) {
+            count(scope, "mismatch");
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        boolean done = existing.response().isDone();
+        try {
+            String body = existing.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            count(scope, done ? "replayed_memory" : "waited");
+            return fromJson(body, responseType);
+        } catch (TimeoutException e) {
+            count(scope, "in_progress");
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 원 요청이 실패하면 같은 예외로 응답 (부수 효과 없이 실패했으면 기록이 지워져 다음 재시도는 새로 실행)
+            count(scope, "waited_failed");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 테이블에 남아 있는 요청 - 완료됐으면 저장된 응답, 처리 중이면 409
+     */
+    private <T> T replayStored(String scope, String indexKey, Entry mine, IdempotencyRecord stored,
+                               String requestHash, Class<T> responseType) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            count(scope, "mismatch");
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (stored.getStatus() != Status.COMPLETED) {
+            count(scope, "in_progress");
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        mine.response().complete(stored.getResponseBody());
+        count(scope, "replayed_store");
+        log.debug("저장된 멱등 응답 반환: {}", indexKey);
+        return fromJson(stored.getResponseBody(), responseType);
+    }
+
+    /**
+     * 처리 중 기록을 먼저 남김 (다른 서버가 같은 키를 먼저 잡았으면 409)
+     * 이미 기록이 있으면 잠근 뒤 만료 기록은 덮어쓰고, 임대가 끝난 같은 요청의 기록은 이어받음
+     */
+    private IdempotencyRecord reserve(String scope, String owner, String key, String requestHash) {
+        try {
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<IdempotencyRecord> current = idempotencyRecordRepository.findForUpdate(scope, owner, key);
+                if (current.isEmpty()) {
+                    return idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                            .scope(scope)
+                            .owner(owner)
+                            .idempotencyKey(key)
+                            .requestHash(requestHash)
+                            .status(Status.IN_PROGRESS)
+                            .expiresAt(now.plus(ttl))
+                            .leaseExpiresAt(now.plus(lease))
+                            .build());
+                }
+
+                IdempotencyRecord record = current.get();
+                if (record.isExpired(now)) {
+                    record.reset(requestHash, now.plus(ttl), now.plus(lease));
+                    count(scope, "expired_reused");
+                } else if (canTakeOver(record, requestHash, now)) {
+                    record.renewLease(now.plus(lease));
+                    count(scope, "taken_over");
+                    log.warn("임대가 끝난 멱등 키 처리 이어받음: {}:{}:{}", scope, owner, key);
+                } else if (!record.getRequestHash().equals(requestHash)) {
+                    count(scope, "mismatch");
+                    throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                } else {
+                    // 그사이 다른 서버가 잡았거나 끝낸 경우 (완료됐으면 다음 재시도에서 저장된 응답 반환)
+                    count(scope, "in_progress");
+                    throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                }
+                return idempotencyRecordRepository.saveAndFlush(record);
+            });
+        } catch (DataIntegrityViolationException e) {
+            count(scope, "in_progress");
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private static boolean canTakeOver(IdempotencyRecord record, String requestHash, LocalDateTime now) {
+        return record.isLeaseExpired(now) && record.getRequestHash().equals(requestHash);
+    }
+
+    private <T> T runAction(String scope, String indexKey, IdempotencyRecord record, Supplier<T> action) {
+        AtomicBoolean sideEffect = new AtomicBoolean();
+        AtomicBoolean previous = IdempotencyContext.open(sideEffect);
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            if (sideEffect.get()) {
+                hold(scope, indexKey, record);
+            } else {
+                release(indexKey, record);
+            }
+            throw e;
+        } finally {
+            IdempotencyContext.restore(previous);
+        }
+    }
+
+    /**
+     * 부수 효과 없이 실패한 요청 - 같은 키로 다시 시도할 수 있도록 기록 삭제
+     */
+    private void release(String indexKey, IdempotencyRecord record) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(record.getId()));
+        } catch (RuntimeException deleteFailure) {
+            log.warn("멱등 키 기록 삭제 실패: {} - {}", indexKey, deleteFailure.getMessage());
+        }
+    }
+
+    /**
+     * 부수 효과를 커밋한 뒤 실패한 요청 - 재시도가 다시 실행하지 않도록 임대 없이 처리 중으로 유지
+     * (보관 기간 동안 409, 결제/송금 결과는 복구 스케줄러가 확정)
+     */
+    private void hold(String scope, String indexKey, IdempotencyRecord record) {
+        count(scope, "held");
+        log.warn("부수 효과 커밋 후 실패한 요청의 멱등 키 유지: {}", indexKey);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                IdempotencyRecord saved = idempotencyRecordRepository.findById(record.getId()).orElse(record);
+                saved.hold();
+                idempotencyRecordRepository.saveAndFlush(saved);
+            });
+        } catch (RuntimeException holdFailure) {
+            // 기록은 남아 있으므로 임대가 끝나기 전까지는 409 (이후 재시도는 이어받아 다시 실행될 수 있음)
+            log.error("멱등 키 유지 실패: {} - {}", indexKey, holdFailure.getMessage());
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T fromJson(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 역직렬화 실패", e);
+        }
+    }
+
+    private void count(String scope, String outcome) {
+        meterRegistry.counter(METRIC_REQUESTS, "scope", scope, "outcome", outcome).increment();
+    }
+}
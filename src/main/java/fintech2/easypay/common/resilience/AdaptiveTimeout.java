@@ -0,0 +1,73 @@
+package fintech2.easypay.common.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 응답 시간 분위수 기반 적응형 타임아웃
+ * 타임아웃 = 최근 N건의 p(분위수) 응답 시간 × 배수, [최소, 최대] 범위로 제한
+ * 표본이 충분히 쌓이기 전에는 최대값을 사용
+ * 기록은 ReentrantLock으로 보호 (가상 스레드에서 호출돼도 캐리어 스레드를 고정하지 않음)
+ */
+public class AdaptiveTimeout {
+
+    private static final int RECOMPUTE_EVERY = 10;
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private final double percentile;
+    private final double multiplier;
+    private final long minMillis;
+    private final long maxMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int index;
+    private int count;
+    private long recorded;
+    private volatile long currentMillis;
+
+    public AdaptiveTimeout(int windowSize, int minimumSamples, double percentile, double multiplier,
+                           Duration min, Duration max) {
+        this.samples = new long[windowSize];
+        this.minimumSamples = minimumSamples;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minMillis = min.toMillis();
+        this.maxMillis = max.toMillis();
+        this.currentMillis = maxMillis;
+    }
+
+    /**
+     * 응답 시간 기록 (타임아웃된 호출은 적용된 타임아웃 값으로 기록해 지연이 길어지면 함께 늘어나도록 함)
+     */
+    public void record(long elapsedMillis) {
+        lock.lock();
+        try {
+            samples[index] = elapsedMillis;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++recorded % RECOMPUTE_EVERY == 0 || count == minimumSamples) {
+                recompute();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration current() {
+        return Duration.ofMillis(currentMillis);
+    }
+
+    private void recompute() {
+        if (count < minimumSamples) {
+            currentMillis = maxMillis;
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * count) - 1;
+        long observed = sorted[Math.max(0, Math.min(rank, count - 1))];
+        currentMillis = Math.max(minMillis, Math.min(maxMillis, (long) (observed * multiplier)));
+    }
+}
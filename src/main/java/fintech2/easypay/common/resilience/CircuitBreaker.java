@@ -0,0 +1,197 @@
+package fintech2.easypay.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 횟수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * - CLOSED: 최근 N건 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: 정해진 시간 동안 호출을 즉시 거절, 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 제한된 수의 시험 호출만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 상태는 synchronized 대신 ReentrantLock으로 보호 (가상 스레드가 모니터를 잡은 채 캐리어 스레드를 고정하지 않도록)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0), HALF_OPEN(1), OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final BiConsumer<State, State> transitionListener;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls, LongSupplier nanoClock,
+                          BiConsumer<State, State> transitionListener) {
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN에서는 시험 호출 자리를 차지함)
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitted >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermitted++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+            if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                transitionTo(State.OPEN);
+                return;
+            }
+            if (state == State.CLOSED) {
+                record(true);
+                if (windowCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+                    transitionTo(State.OPEN);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 성공/실패를 알 수 없이 끝난 호출의 자리 반납 (호출자가 인터럽트되어 결과를 기다리지 않은 경우 등)
+     * HALF_OPEN에서 차지한 시험 호출 자리를 돌려주어 다른 시험 호출이 들어올 수 있게 함
+     */
+    public void release() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenSucceeded) {
+                halfOpenPermitted--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 윈도우의 실패율 (%)
+     */
+    public double failureRate() {
+        lock.lock();
+        try {
+            return windowCount == 0 ? 0.0 : windowFailures * 100.0 / windowCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermitted = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+            }
+        }
+        transitionListener.accept(previous, next);
+    }
+}
@@ -0,0 +1,61 @@
+package fintech2.easypay.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 호출 수 제한 (고정 간격 예약 방식)
+ *
+ * 요청한 허용량만큼 다음 허용 시각을 뒤로 미루고, 호출한 쪽은 자기 차례가 올 때까지 대기
+ * 묶음 호출(N건)은 N건만큼 자리를 예약하므로 건수 기준으로 속도가 유지됨
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+
+    private long nextFreeNanos;
+
+    public RateLimiter(String name, double permitsPerSecond) {
+        this(name, permitsPerSecond, System::nanoTime);
+    }
+
+    RateLimiter(String name, double permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다: " + name);
+        }
+        this.name = name;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 허용량을 얻을 때까지 대기
+     * @return 대기한 시간
+     */
+    public Duration acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    /**
+     * 허용량을 예약하고 차례가 올 때까지 남은 시간(ns) 반환
+     */
+    synchronized long reserve(int permits) {
+        long now = nanoClock.getAsLong();
+        // 한동안 호출이 없었으면 지금부터 다시 시작 (쉬는 동안 쌓인 허용량으로 몰아서 호출하지 않음)
+        long startAt = Math.max(now, nextFreeNanos);
+        nextFreeNanos = startAt + permits * intervalNanos;
+        return startAt - now;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,124 @@
+package fintech2.easypay.common.resilience;
+
+import fintech2.easypay.config.ContextCopyingTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멱등 조회용 헤지 요청
+ * 첫 요청이 최근 응답 시간의 분위수(예: p95)까지 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용
+ * 늦은 쪽은 취소
+ *
+ * 헤지 요청 비율은 토큰 버킷으로 제한 (요청마다 maxHedgeRatio만큼 적립, 헤지 1건에 1개 사용)
+ * 외부 시스템 전체가 느려진 경우 요청이 두 배로 늘어나지 않도록 함
+ */
+public class RequestHedger {
+
+    private final String name;
+    private final AdaptiveTimeout hedgeDelay;
+    private final double maxHedgeRatio;
+    private final double maxTokens;
+    private final Executor executor;
+    private final ContextCopyingTaskDecorator taskDecorator = new ContextCopyingTaskDecorator();
+    private final MeterRegistry meterRegistry;
+
+    private double tokens;
+
+    public RequestHedger(String name, AdaptiveTimeout hedgeDelay, double maxHedgeRatio, double maxTokens,
+                         Executor executor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.hedgeDelay = hedgeDelay;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.maxTokens = maxTokens;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 헤지를 적용해 조회 실행 (요청은 멱등이어야 함)
+     * 먼저 끝난 요청이 실패하면 남은 요청의 결과를 기다림
+     */
+    public <T> T call(Callable<T> request) {
+        CompletionService<T> completion = new ExecutorCompletionService<>(
+                runnable -> executor.execute(taskDecorator.decorate(runnable)));
+        List<Future<T>> attempts = new ArrayList<>(2);
+        long startedAt = System.nanoTime();
+        deposit();
+
+        attempts.add(completion.submit(request));
+        try {
+            Future<T> done = completion.poll(hedgeDelay.current().toMillis(), TimeUnit.MILLISECONDS);
+            if (done == null) {
+                if (tryWithdraw()) {
+                    attempts.add(completion.submit(request));
+                } else {
+                    count("skipped");
+                }
+                done = completion.take();
+            }
+
+            int remaining = attempts.size() - 1;
+            while (true) {
+                try {
+                    T result = done.get();
+                    hedgeDelay.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                    count(done == attempts.get(0) ? "primary" : "hedge");
+                    return result;
+                } catch (ExecutionException e) {
+                    if (remaining-- > 0) {
+                        done = completion.take();
+                        continue;
+                    }
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException("외부 조회 실패: " + name, cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResilienceException(name, ResilienceException.Reason.TIMEOUT);
+        } finally {
+            // 진 쪽은 인터럽트로 취소해 외부 호출과 벌크헤드 자리를 바로 정리
+            // (ResilienceGuard는 인터럽트된 호출을 서킷에 집계하지 않고 시험 호출 자리만 반납)
+            attempts.stream()
+                    .filter(attempt -> !attempt.isDone())
+                    .forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + maxHedgeRatio);
+    }
+
+    private synchronized boolean tryWithdraw() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    /**
+     * outcome: primary(첫 요청 응답), hedge(헤지 요청 응답), skipped(한도 초과로 헤지 생략)
+     */
+    private void count(String outcome) {
+        Counter.builder("easypay.resilience.hedge")
+                .description("헤지 요청 결과")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,35 @@
+package fintech2.easypay.common.resilience;
+
+import lombok.Getter;
+
+/**
+ * 외부 호출 보호 장치에 의해 호출이 거절되거나 중단된 경우
+ */
+@Getter
+public class ResilienceException extends RuntimeException {
+
+    public enum Reason {
+        /** 서킷 OPEN - 외부로 요청을 보내지 않음 */
+        CIRCUIT_OPEN,
+        /** 동시 호출 한도 초과 - 외부로 요청을 보내지 않음 */
+        BULKHEAD_FULL,
+        /** 응답 대기 시간 초과 - 외부 처리 여부를 알 수 없음 */
+        TIMEOUT
+    }
+
+    private final String guardName;
+    private final Reason reason;
+
+    public ResilienceException(String guardName, Reason reason) {
+        super(String.format("외부 호출 차단: %s (%s)", guardName, reason));
+        this.guardName = guardName;
+        this.reason = reason;
+    }
+
+    /**
+     * 요청이 외부로 전송되지 않았음이 확실한 경우
+     */
+    public boolean isNotSent() {
+        return reason != Reason.TIMEOUT;
+    }
+}
@@ -0,0 +1,183 @@
+package fintech2.easypay.common.resilience;
+
+import fintech2.easypay.config.ContextCopyingTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 외부 호출 하나의 대상(은행 코드, PG 등)에 대한 보호 장치 묶음
+ * 벌크헤드(동시 호출 제한) → 서킷 브레이커 → 적응형 타임아웃 순서로 적용
+ *
+ * 벌크헤드 자리는 실제 호출이 끝날 때 반납하므로, 타임아웃으로 포기한 호출도 끝날 때까지 자리를 차지함
+ * (느려진 외부 시스템으로 가는 요청 수가 한도를 넘지 않도록)
+ */
+@Slf4j
+public class ResilienceGuard {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadMaxWait;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveTimeout adaptiveTimeout;
+    private final Executor callExecutor;
+    private final ContextCopyingTaskDecorator taskDecorator = new ContextCopyingTaskDecorator();
+    private final MeterRegistry meterRegistry;
+
+    ResilienceGuard(String name, int maxConcurrentCalls, Duration bulkheadMaxWait,
+                    CircuitBreaker circuitBreaker, AdaptiveTimeout adaptiveTimeout,
+                    Executor callExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadMaxWait = bulkheadMaxWait;
+        this.circuitBreaker = circuitBreaker;
+        this.adaptiveTimeout = adaptiveTimeout;
+        this.callExecutor = callExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 보호 장치를 거쳐 외부 호출 실행
+     * @param call 외부 호출
+     * @param failureResult 정상 응답이지만 외부 시스템 장애로 볼 결과 (서킷 실패로 집계)
+     * @throws ResilienceException 거절되었거나 타임아웃된 경우
+     */
+    public <T> T execute(Callable<T> call, Predicate<T> failureResult) {
+        if (!acquireBulkhead()) {
+            countRejected(ResilienceException.Reason.BULKHEAD_FULL);
+            throw new ResilienceException(name, ResilienceException.Reason.BULKHEAD_FULL);
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            countRejected(ResilienceException.Reason.CIRCUIT_OPEN);
+            throw new ResilienceException(name, ResilienceException.Reason.CIRCUIT_OPEN);
+        }
+        FutureTask<T> task = new FutureTask<>(call);
+        Runnable decorated = taskDecorator.decorate(task);
+        try {
+            // 취소된 작업도 실행기에서 꺼내질 때 자리를 반납
+            callExecutor.execute(() -> {
+                try {
+                    decorated.run();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+
+        Duration timeout = adaptiveTimeout.current();
+        long startedAt = System.nanoTime();
+        // 서킷에 결과를 남겼는지 여부 (남기지 못하고 끝나면 HALF_OPEN 시험 호출 자리를 반납)
+        boolean outcomeRecorded = false;
+        try {
+            T result = task.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            long elapsed = System.nanoTime() - startedAt;
+            adaptiveTimeout.record(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            outcomeRecorded = true;
+            if (failureResult.test(result)) {
+                circuitBreaker.onFailure();
+                record("failure", elapsed);
+            } else {
+                circuitBreaker.onSuccess();
+                record("success", elapsed);
+            }
+            return result;
+
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            adaptiveTimeout.record(timeout.toMillis());
+            outcomeRecorded = true;
+            circuitBreaker.onFailure();
+            record("timeout", System.nanoTime() - startedAt);
+            log.warn("외부 호출 타임아웃: {} ({}ms)", name, timeout.toMillis());
+            throw new ResilienceException(name, ResilienceException.Reason.TIMEOUT);
+
+        } catch (ExecutionException e) {
+            outcomeRecorded = true;
+            circuitBreaker.onFailure();
+            record("error", System.nanoTime() - startedAt);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("외부 호출 실패: " + name, cause);
+
+        } catch (InterruptedException e) {
+            // 호출자가 결과를 포기한 경우 (헤지 요청에서 진 쪽 등) - 외부 시스템 상태와 무관하므로 서킷에 집계하지 않음
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResilienceException(name, ResilienceException.Reason.TIMEOUT);
+
+        } finally {
+            if (!outcomeRecorded) {
+                circuitBreaker.release();
+            }
+        }
+    }
+
+    public <T> T execute(Callable<T> call) {
+        return execute(call, result -> false);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Duration currentTimeout() {
+        return adaptiveTimeout.current();
+    }
+
+    public int activeCalls() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        Timer.builder("easypay.resilience.calls")
+                .description("보호 장치를 거친 외부 호출 시간")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void countRejected(ResilienceException.Reason reason) {
+        Counter.builder("easypay.resilience.rejected")
+                .description("보호 장치가 외부로 보내지 않고 거절한 호출 수")
+                .tag("name", name)
+                .tag("reason", reason.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,159 @@
+package fintech2.easypay.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 호출 보호 장치 저장소
+ * 대상 이름(예: bank:088, pg)별로 벌크헤드, 서킷 브레이커, 적응형 타임아웃을 만들어 재사용
+ *
+ * 외부 호출은 요청 스레드가 아닌 가상 스레드에서 실행하고, 요청 스레드는 타임아웃까지만 기다림
+ * (동시 호출 수는 벌크헤드가 제한)
+ *
+ * 메트릭
+ * - easypay.resilience.circuit.state: 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ * - easypay.resilience.circuit.transitions: 상태 전이 횟수 (from, to)
+ * - easypay.resilience.timeout: 현재 적용 중인 타임아웃(ms)
+ * - easypay.resilience.bulkhead.active: 진행 중인 외부 호출 수
+ * - easypay.resilience.calls / easypay.resilience.rejected: 호출 결과별 시간, 거절 수
+ * - easypay.resilience.hedge: 헤지 요청 결과 (primary, hedge, skipped)
+ */
+@Component
+@Slf4j
+public class ResilienceRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ResilienceGuard> guards = new ConcurrentHashMap<>();
+    private final Map<String, RequestHedger> hedgers = new ConcurrentHashMap<>();
+    private final ExecutorService callExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("external-call-", 0).factory());
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final int maxConcurrentCalls;
+    private final Duration bulkheadMaxWait;
+    private final int latencyWindow;
+    private final double timeoutPercentile;
+    private final double timeoutMultiplier;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+    private final double hedgePercentile;
+    private final double maxHedgeRatio;
+    private final Duration minHedgeDelay;
+    private final Duration maxHedgeDelay;
+
+    public ResilienceRegistry(MeterRegistry meterRegistry,
+                              @Value("${easypay.resilience.circuit.window-size:20}") int windowSize,
+                              @Value("${easypay.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                              @Value("${easypay.resilience.circuit.failure-rate-threshold:50}") double failureRateThreshold,
+                              @Value("${easypay.resilience.circuit.open-duration-ms:10000}") long openDurationMs,
+                              @Value("${easypay.resilience.circuit.half-open-calls:3}") int halfOpenCalls,
+                              @Value("${easypay.resilience.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                              @Value("${easypay.resilience.bulkhead.max-wait-ms:100}") long bulkheadMaxWaitMs,
+                              @Value("${easypay.resilience.timeout.latency-window:200}") int latencyWindow,
+                              @Value("${easypay.resilience.timeout.percentile:0.99}") double timeoutPercentile,
+                              @Value("${easypay.resilience.timeout.multiplier:2.0}") double timeoutMultiplier,
+                              @Value("${easypay.resilience.timeout.min-ms:1000}") long minTimeoutMs,
+                              @Value("${easypay.resilience.timeout.max-ms:5000}") long maxTimeoutMs,
+                              @Value("${easypay.resilience.hedge.percentile:0.95}") double hedgePercentile,
+                              @Value("${easypay.resilience.hedge.max-ratio:0.05}") double maxHedgeRatio,
+                              @Value("${easypay.resilience.hedge.min-delay-ms:10}") long minHedgeDelayMs,
+                              @Value("${easypay.resilience.hedge.max-delay-ms:2000}") long maxHedgeDelayMs) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = Duration.ofMillis(openDurationMs);
+        this.halfOpenCalls = halfOpenCalls;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkheadMaxWait = Duration.ofMillis(bulkheadMaxWaitMs);
+        this.latencyWindow = latencyWindow;
+        this.timeoutPercentile = timeoutPercentile;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.minTimeout = Duration.ofMillis(minTimeoutMs);
+        this.maxTimeout = Duration.ofMillis(maxTimeoutMs);
+        this.hedgePercentile = hedgePercentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.minHedgeDelay = Duration.ofMillis(minHedgeDelayMs);
+        this.maxHedgeDelay = Duration.ofMillis(maxHedgeDelayMs);
+    }
+
+    /**
+     * 대상 이름별 보호 장치 조회 (없으면 생성)
+     */
+    public ResilienceGuard guard(String name) {
+        return guards.computeIfAbsent(name, this::createGuard);
+    }
+
+    /**
+     * 대상 이름별 헤지 요청기 조회 (없으면 생성)
+     * 헤지 지연은 최근 응답 시간의 분위수를 따르며, 표본이 쌓이기 전에는 최대 지연을 사용
+     */
+    public RequestHedger hedger(String name) {
+        return hedgers.computeIfAbsent(name, key -> new RequestHedger(key,
+                new AdaptiveTimeout(latencyWindow, Math.min(latencyWindow, minimumCalls),
+                        hedgePercentile, 1.0, minHedgeDelay, maxHedgeDelay),
+                maxHedgeRatio, 10, callExecutor, meterRegistry));
+    }
+
+    private ResilienceGuard createGuard(String name) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, windowSize, minimumCalls, failureRateThreshold,
+                openDuration, halfOpenCalls, System::nanoTime, (from, to) -> onTransition(name, from, to));
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(latencyWindow, Math.min(latencyWindow, minimumCalls),
+                timeoutPercentile, timeoutMultiplier, minTimeout, maxTimeout);
+        ResilienceGuard guard = new ResilienceGuard(name, maxConcurrentCalls, bulkheadMaxWait,
+                circuitBreaker, adaptiveTimeout, callExecutor, meterRegistry);
+
+        Gauge.builder("easypay.resilience.circuit.state", circuitBreaker, breaker -> breaker.getState().getCode())
+                .description("서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("easypay.resilience.timeout", guard, g -> g.currentTimeout().toMillis())
+                .description("현재 적용 중인 외부 호출 타임아웃")
+                .baseUnit("milliseconds")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("easypay.resilience.bulkhead.active", guard, ResilienceGuard::activeCalls)
+                .description("진행 중인 외부 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        log.info("외부 호출 보호 장치 생성: name={}, maxConcurrent={}, timeout={}~{}ms",
+                name, maxConcurrentCalls, minTimeout.toMillis(), maxTimeout.toMillis());
+        return guard;
+    }
+
+    private void onTransition(String name, CircuitBreaker.State from, CircuitBreaker.State to) {
+        if (to == CircuitBreaker.State.OPEN) {
+            log.warn("서킷 OPEN: {} ({} -> {})", name, from, to);
+        } else {
+            log.info("서킷 상태 변경: {} ({} -> {})", name, from, to);
+        }
+        Counter.builder("easypay.resilience.circuit.transitions")
+                .description("서킷 상태 전이 횟수")
+                .tag("name", name)
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,25 @@
+package fintech2.easypay.common.scheduling;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재확인 간격 계산 - 기본 간격 × 2^시도횟수 (최대 간격 제한, ±20% 지터로 몰림 방지)
+ *
+ * @param base 첫 재확인 간격
+ * @param max 최대 재확인 간격
+ */
+public record Backoff(Duration base, Duration max) {
+
+    public static Backoff ofSeconds(long baseSeconds, long maxSeconds) {
+        return new Backoff(Duration.ofSeconds(baseSeconds), Duration.ofSeconds(maxSeconds));
+    }
+
+    public Duration after(int attempts) {
+        long baseMillis = base.toMillis();
+        long maxMillis = max.toMillis();
+        long delay = attempts >= 30 ? maxMillis : Math.min(maxMillis, baseMillis << attempts);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+}
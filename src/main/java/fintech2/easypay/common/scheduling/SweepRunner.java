@@ -0,0 +1,119 @@
+package fintech2.easypay.common.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 주기 작업(스위퍼) 공통 실행기
+ * 대사/재검증/복구 스케줄러가 같이 쓰는 실행 골격
+ *
+ * - 이전 실행이 아직 진행 중이면 이번 실행을 건너뜀
+ * - 1회 실행 시간은 {metricPrefix}.run 타이머, 처리 건수는 {metricPrefix}.processed{outcome} 카운터로 기록
+ * - 묶음 작업은 고정 크기 작업 스레드(가상/플랫폼)에서 병렬로 실행하고 모두 끝날 때까지 대기
+ */
+@Slf4j
+public class SweepRunner {
+
+    private final String label;
+    private final String processedMetric;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Timer runTimer;
+
+    /**
+     * @param label 로그/메트릭 설명에 쓰는 작업 이름 (예: "처리 중 결제 복구")
+     * @param metricPrefix 메트릭 이름 앞부분 (예: "easypay.payment.recovery")
+     * @param threadPrefix 작업 스레드 이름 앞부분
+     * @param parallelism 동시에 실행하는 묶음 작업 수
+     * @param virtualThreads 가상 스레드 사용 여부
+     */
+    public SweepRunner(MeterRegistry meterRegistry, String label, String metricPrefix,
+                       String threadPrefix, int parallelism, boolean virtualThreads) {
+        this.label = label;
+        this.processedMetric = metricPrefix + ".processed";
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newFixedThreadPool(parallelism, virtualThreads
+                ? Thread.ofVirtual().name(threadPrefix, 0).factory()
+                : Thread.ofPlatform().name(threadPrefix, 0).daemon(true).factory());
+        this.runTimer = Timer.builder(metricPrefix + ".run")
+                .description(label + " 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 실행이 없을 때만 실행하고 실행 시간을 기록
+     * @return 실행했으면 true, 이전 실행이 진행 중이어서 건너뛰었으면 false
+     */
+    public boolean runExclusively(Runnable sweep) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 실행이 진행 중이어서 이번 실행을 건너뜁니다: {}", label);
+            return false;
+        }
+        try {
+            runTimer.record(sweep);
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 묶음마다 작업을 병렬로 실행하고 모두 끝날 때까지 대기
+     */
+    public <T> void runAll(List<T> batches, Consumer<T> task) {
+        CompletableFuture<?>[] futures = batches.stream()
+                .map(batch -> CompletableFuture.runAsync(() -> task.accept(batch), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * 목록을 최대 size 건씩 나눔 (원본 목록의 구간 뷰)
+     */
+    public static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            batches.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return batches;
+    }
+
+    public void count(String outcome) {
+        count(outcome, 1);
+    }
+
+    public void count(String outcome, int amount) {
+        Counter.builder(processedMetric)
+                .description(label + " 처리 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    /**
+     * 작업 스레드 종료 - 진행 중인 묶음은 잠시 기다린 뒤 중단
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package fintech2.easypay.common.util;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ * 롤백된 변경이 캐시/메모리 상태에 먼저 반영되지 않도록 커밋 이후로 미룸
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 커밋 후 캐시에서 키 목록 제거 (키 목록은 호출 시점 사본을 사용)
+     */
+    public static void evict(CacheManager cacheManager, String cacheName, Collection<?> keys) {
+        List<?> snapshot = List.copyOf(keys);
+        run(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                snapshot.forEach(cache::evict);
+            }
+        });
+    }
+}
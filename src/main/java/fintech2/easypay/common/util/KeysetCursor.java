@@ -0,0 +1,42 @@
+package fintech2.easypay.common.util;
+
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 위치 (createdAt DESC, id DESC 정렬의 마지막 행)
+ * 클라이언트에는 내부 구조를 드러내지 않는 불투명 토큰으로 전달
+ *
+ * @param createdAt 마지막 행의 생성 시각
+ * @param id 마지막 행의 id (같은 시각의 행 구분)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석 (비어 있으면 첫 페이지로 보고 null 반환)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 페이지 토큰입니다.");
+        }
+    }
+}
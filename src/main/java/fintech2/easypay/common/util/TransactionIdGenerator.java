@@ -0,0 +1,121 @@
+package fintech2.easypay.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 거래 ID 생성기 (Snowflake 방식)
+ * 64비트 = 타임스탬프(41, 2024-01-01 기준 ms) + 노드(10) + 시퀀스(12)
+ * 고정 길이 13자리 Crockford Base32로 인코딩하므로 문자열 정렬 순서가 생성 순서와 같음
+ * → transaction_id 인덱스의 오른쪽 끝에만 삽입되고, 중복 확인용 DB 조회가 필요 없음
+ *
+ * 같은 ms에 시퀀스가 소진되거나 시계가 뒤로 가면 마지막 타임스탬프를 이어서 증가시켜 단조 증가를 유지
+ */
+@Component
+@Slf4j
+public class TransactionIdGenerator {
+
+    public static final String TRANSFER_PREFIX = "TXN";
+    public static final String PAYMENT_PREFIX = "PAY";
+    public static final String BATCH_PREFIX = "BAT";
+    public static final String USER_ACCOUNT_PREFIX = "USR";
+
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    private final Clock clock;
+
+    // (타임스탬프 << SEQUENCE_BITS) | 시퀀스 - CAS로 갱신
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public TransactionIdGenerator(@Value("${easypay.id.node-id:-1}") long nodeId) {
+        this(nodeId >= 0 ? nodeId : deriveNodeId(), Clock.systemUTC());
+    }
+
+    public TransactionIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("거래 ID 생성기 초기화: nodeId={}", nodeId);
+    }
+
+    /**
+     * 송금 거래 ID (TXN + 13자리)
+     */
+    public String nextTransactionId() {
+        return next(TRANSFER_PREFIX);
+    }
+
+    /**
+     * 결제 ID (PAY + 13자리)
+     */
+    public String nextPaymentId() {
+        return next(PAYMENT_PREFIX);
+    }
+
+    /**
+     * 접두어 + 13자리 시간순 ID
+     */
+    public String next(String prefix) {
+        long id = nextId();
+        int prefixLength = prefix.length();
+        char[] chars = new char[prefixLength + ENCODED_LENGTH];
+        prefix.getChars(0, prefixLength, chars, 0);
+        for (int i = chars.length - 1; i >= prefixLength; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 64비트 시간순 ID
+     */
+    public long nextId() {
+        long now = clock.millis() - EPOCH;
+        while (true) {
+            long last = lastState.get();
+            // 새 ms면 시퀀스 0부터, 아니면 +1 (시퀀스가 넘치면 타임스탬프 비트로 올림)
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 ID 미설정 시 호스트 이름으로 결정 (다중 인스턴스 운영 시 easypay.id.node-id 지정 권장)
+     */
+    private static long deriveNodeId() {
+        String host = System.getenv("HOSTNAME");
+        try {
+            if (host == null || host.isBlank()) {
+                host = InetAddress.getLocalHost().getHostName();
+            }
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        return (host.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+    }
+}
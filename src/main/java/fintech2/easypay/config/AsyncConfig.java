@@ -0,0 +1,147 @@
+package fintech2.easypay.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 실행 설정
+ * 용도별로 이름 붙은 실행기를 두고, 모두 큐 크기를 제한해 과부하가 메모리로 쌓이지 않도록 함
+ *
+ * - taskExecutor: 거래 상태 확인 등 백그라운드 작업. 포화 시 버림 (다음 스케줄에서 다시 처리됨)
+ * - notificationExecutor: 알림 발송. 포화 시 호출 스레드에서 실행 (알림 유실 방지, 호출자 속도 조절)
+ *
+ * 실행기마다 큐 대기 수, 활성 스레드 수, 거절 수를 easypay.async.* 메트릭으로 노출
+ * 가상 스레드 모드에서는 풀 대신 작업마다 가상 스레드를 만드는 SimpleAsyncTaskExecutor를 사용하고,
+ * 동시 실행 수를 max-size + queue-capacity(플랫폼 모드에서 한 번에 받아들이던 작업 수)로 제한
+ * 상한에 도달하면 제출한 스레드가 자리가 날 때까지 대기 (요청/스케줄 스레드도 가상 스레드이므로 대기 비용이 낮음)
+ * 실행기 이름 없이 @Async만 붙은 메서드는 taskExecutor 빈을 사용
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String TASK_EXECUTOR = "taskExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = TASK_EXECUTOR)
+    public AsyncTaskExecutor taskExecutor(
+            @Value("${easypay.async.task.core-size:2}") int coreSize,
+            @Value("${easypay.async.task.max-size:4}") int maxSize,
+            @Value("${easypay.async.task.queue-capacity:100}") int queueCapacity) {
+        if (virtualThreads) {
+            return createVirtualExecutor(TASK_EXECUTOR, "task-", maxSize + queueCapacity);
+        }
+        return createExecutor(TASK_EXECUTOR, "task-", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor notificationExecutor(
+            @Value("${easypay.async.notification.core-size:4}") int coreSize,
+            @Value("${easypay.async.notification.max-size:8}") int maxSize,
+            @Value("${easypay.async.notification.queue-capacity:1000}") int queueCapacity) {
+        if (virtualThreads) {
+            return createVirtualExecutor(NOTIFICATION_EXECUTOR, "notification-", maxSize + queueCapacity);
+        }
+        return createExecutor(NOTIFICATION_EXECUTOR, "notification-", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("비동기 작업 실패: {}.{}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    /**
+     * 실행기 생성 (초기화는 빈 생명주기에서 수행)
+     */
+    ThreadPoolTaskExecutor createExecutor(String name, String threadPrefix, int coreSize, int maxSize,
+                                          int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadPrefix);
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Counter rejected = Counter.builder("easypay.async.rejected")
+                .description("큐 포화로 거절된 비동기 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("비동기 작업 거절: executor={}, queued={}", name, pool.getQueue().size());
+            rejectionPolicy.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("easypay.async.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("비동기 실행기 큐 대기 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("easypay.async.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("비동기 실행기 활성 스레드 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        log.info("비동기 실행기 생성: name={}, core={}, max={}, queue={}", name, coreSize, maxSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 실행기 생성 - 작업마다 가상 스레드를 만들고 동시 실행 수만 제한 (큐 없음)
+     */
+    SimpleAsyncTaskExecutor createVirtualExecutor(String name, String threadPrefix, int concurrencyLimit) {
+        AtomicInteger active = new AtomicInteger();
+        ContextCopyingTaskDecorator contextCopying = new ContextCopyingTaskDecorator();
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(10_000);
+        executor.setTaskDecorator(runnable -> {
+            Runnable decorated = contextCopying.decorate(runnable);
+            return () -> {
+                active.incrementAndGet();
+                try {
+                    decorated.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            };
+        });
+
+        Gauge.builder("easypay.async.active", active, AtomicInteger::get)
+                .description("비동기 실행기 활성 스레드 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        log.info("비동기 실행기 생성: name={}, virtualThreads=true, concurrencyLimit={}", name, concurrencyLimit);
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package fintech2.easypay.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.IdleConnectionEvictor;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+
+/**
+ * 외부 은행 API용 HTTP 클라이언트 설정
+ * 커넥션 풀(호스트별 연결 수 제한)과 keep-alive로 은행 API 호출마다 TCP/TLS 연결을 새로 맺지 않도록 함
+ *
+ * - 호스트별 최대 연결 수는 max-per-route, 특정 호스트만 다르게 하려면 route-limits ("https://host=50,...")
+ * - keep-alive는 서버가 알려준 값과 keep-alive-seconds 중 짧은 쪽, 유휴 연결은 주기적으로 정리
+ * - 풀 상태는 httpcomponents.httpclient.pool.*, 임대 대기 시간/재사용률은 easypay.http.pool.* 메트릭
+ *
+ * RestTemplate은 동기(classic) 클라이언트를 사용하므로 HTTP/1.1 keep-alive로 연결을 재사용
+ */
+@Configuration
+@Slf4j
+public class BankHttpClientConfig {
+
+    static final String CLIENT_NAME = "bank";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager bankConnectionPool(
+            MeterRegistry meterRegistry,
+            @Value("${external.banking.api.pool.max-total:200}") int maxTotal,
+            @Value("${external.banking.api.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${external.banking.api.pool.route-limits:}") String routeLimits,
+            @Value("${external.banking.api.pool.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${external.banking.api.pool.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs,
+            @Value("${external.banking.api.pool.time-to-live-seconds:300}") long timeToLiveSeconds) {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .build())
+                .build();
+
+        for (String entry : routeLimits.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            String host = entry.substring(0, separator).trim();
+            int limit = Integer.parseInt(entry.substring(separator + 1).trim());
+            pool.setMaxPerRoute(routeOf(host), limit);
+            log.info("은행 API 호스트별 연결 수 제한: {} = {}", host, limit);
+        }
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, CLIENT_NAME).bindTo(meterRegistry);
+        return pool;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient bankHttpClient(
+            PoolingHttpClientConnectionManager bankConnectionPool,
+            MeterRegistry meterRegistry,
+            @Value("${external.banking.api.pool.keep-alive-seconds:30}") long keepAliveSeconds) {
+        TimeValue maxKeepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return HttpClients.custom()
+                .setConnectionManager(new MeteredConnectionManager(bankConnectionPool, CLIENT_NAME, meterRegistry))
+                // 풀 수명 주기는 빈으로 관리 (클라이언트를 닫아도 풀은 빈 종료 시 닫힘)
+                .setConnectionManagerShared(true)
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(serverHint) && serverHint.compareTo(maxKeepAlive) < 0
+                            ? serverHint : maxKeepAlive;
+                })
+                .build();
+    }
+
+    /**
+     * 유휴/만료 연결 정리 (서버가 먼저 끊은 연결을 재사용하다 실패하지 않도록)
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public IdleConnectionEvictor bankIdleConnectionEvictor(
+            PoolingHttpClientConnectionManager bankConnectionPool,
+            @Value("${external.banking.api.pool.keep-alive-seconds:30}") long keepAliveSeconds) {
+        return new IdleConnectionEvictor(bankConnectionPool, TimeValue.ofSeconds(5),
+                TimeValue.ofSeconds(keepAliveSeconds));
+    }
+
+    static HttpRoute routeOf(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+}
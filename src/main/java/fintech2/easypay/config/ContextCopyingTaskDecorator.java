@@ -0,0 +1,42 @@
+package fintech2.easypay.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * 비동기 작업에 호출 스레드의 MDC와 SecurityContext를 복사
+ * 작업이 끝나면 워커 스레드의 이전 상태로 되돌려 풀 스레드 재사용 시 값이 섞이지 않도록 함
+ */
+public class ContextCopyingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        SecurityContext callerSecurity = SecurityContextHolder.getContext();
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            try {
+                setMdc(callerMdc);
+                SecurityContextHolder.setContext(callerSecurity);
+                runnable.run();
+            } finally {
+                setMdc(previousMdc);
+                SecurityContextHolder.setContext(previousSecurity);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.account.repository.UserAccountRepository;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
@@ -19,7 +20,6 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -32,6 +32,7 @@ public class DataInitializer implements CommandLineRunner {
     private final UserAccountRepository userAccountRepository;
     private final TransferRepository transferRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionIdGenerator transactionIdGenerator;
 
     @Override
     public void run(String... args) throws Exception {
@@ -300,7 +301,7 @@ public class DataInitializer implements CommandLineRunner {
             
             // 테스트 송금 1: 사용자1 -> 사용자2 (메모 있음)
             Transfer transfer1 = Transfer.builder()
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .sender(user1)
                     .senderAccountNumber(user1Account)
                     .receiver(user2)
@@ -314,7 +315,7 @@ public class DataInitializer implements CommandLineRunner {
             
             // 테스트 송금 2: 사용자1 -> 임시사용자 (메모 있음)
             Transfer transfer2 = Transfer.builder()
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .sender(user1)
                     .senderAccountNumber(user1Account)
                     .receiver(tempUser)
@@ -328,7 +329,7 @@ public class DataInitializer implements CommandLineRunner {
             
             // 테스트 송금 3: 사용자1 -> 사용자2 (메모 없음)
             Transfer transfer3 = Transfer.builder()
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .sender(user1)
                     .senderAccountNumber(user1Account)
                     .receiver(user2)
@@ -342,7 +343,7 @@ public class DataInitializer implements CommandLineRunner {
             
             // 테스트 송금 4: 사용자1 -> 임시사용자 (긴 메모)
             Transfer transfer4 = Transfer.builder()
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .sender(user1)
                     .senderAccountNumber(user1Account)
                     .receiver(tempUser)
@@ -360,8 +361,4 @@ public class DataInitializer implements CommandLineRunner {
             log.error("테스트 송금 데이터 생성 실패: {}", e.getMessage(), e);
         }
     }
-    
-    private String generateTransactionId() {
-        return "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package fintech2.easypay.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 커넥션 풀 계측 래퍼
+ *
+ * - easypay.http.pool.lease: 풀에서 커넥션을 받기까지 기다린 시간 (route별)
+ * - easypay.http.pool.connections: 커넥션 임대 수 (reused=true: keep-alive 커넥션 재사용, false: 새 연결)
+ *
+ * 임대 시점에 이미 연결된 커넥션이면 재사용으로 판단
+ */
+public class MeteredConnectionManager implements HttpClientConnectionManager {
+
+    private final HttpClientConnectionManager delegate;
+    private final String clientName;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredConnectionManager(HttpClientConnectionManager delegate, String clientName,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.clientName = clientName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = delegate.lease(id, route, requestTimeout, state);
+        String routeTag = route.getTargetHost().toURI();
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long startedAt = System.nanoTime();
+                ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                leaseTimer(routeTag).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                connectionCounter(routeTag, endpoint.isConnected()).increment();
+                return endpoint;
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+        delegate.release(endpoint, newState, validDuration);
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context)
+            throws IOException {
+        delegate.connect(endpoint, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+        delegate.upgrade(endpoint, context);
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Timer leaseTimer(String route) {
+        return Timer.builder("easypay.http.pool.lease")
+                .description("커넥션 풀 임대 대기 시간")
+                .tag("client", clientName)
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    private Counter connectionCounter(String route, boolean reused) {
+        return Counter.builder("easypay.http.pool.connections")
+                .description("커넥션 임대 수 (reused=true: keep-alive 재사용)")
+                .tag("client", clientName)
+                .tag("route", route)
+                .tag("reused", Boolean.toString(reused))
+                .register(meterRegistry);
+    }
+}
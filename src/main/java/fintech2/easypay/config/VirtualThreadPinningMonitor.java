@@ -0,0 +1,89 @@
+package fintech2.easypay.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못함
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 횟수/시간을 메트릭으로 남기고 발생 위치를 로깅
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 활성화
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${easypay.virtual-threads.pinned-threshold-ms:20}") long thresholdMs,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedCounter = Counter.builder("easypay.virtual-threads.pinned")
+                .description("캐리어 스레드를 고정한 가상 스레드 블로킹 횟수")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("easypay.virtual-threads.pinned.duration")
+                .description("가상 스레드 고정 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+
+        if (log.isWarnEnabled()) {
+            StringBuilder frames = new StringBuilder();
+            if (event.getStackTrace() != null) {
+                List<RecordedFrame> stack = event.getStackTrace().getFrames();
+                for (int i = 0; i < Math.min(LOGGED_FRAMES, stack.size()); i++) {
+                    RecordedFrame frame = stack.get(i);
+                    frames.append("\n    at ")
+                            .append(frame.getMethod().getType().getName())
+                            .append('.')
+                            .append(frame.getMethod().getName())
+                            .append(':')
+                            .append(frame.getLineNumber());
+                }
+            }
+            log.warn("가상 스레드 고정 감지: duration={}ms{}", event.getDuration().toMillis(), frames);
+        }
+    }
+}
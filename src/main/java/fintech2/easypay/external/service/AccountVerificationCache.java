@@ -0,0 +1,104 @@
+package fintech2.easypay.external.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import fintech2.easypay.external.dto.AccountVerificationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 검증 결과 캐시 (은행코드, 계좌번호 기준)
+ *
+ * - 검증 성공은 hit-ttl, 계좌 없음(ACCOUNT_NOT_FOUND)은 miss-ttl 동안 보관 (없는 계좌로 반복 요청해도 은행 API를 다시 부르지 않음)
+ * - API 오류 등 일시적인 실패는 저장하지 않음
+ * - skipCache 요청은 캐시를 건너뛰고 새 결과로 갱신 (재검증)
+ * - 메트릭: cache.* {cache=accountVerification}
+ */
+@Component
+@Slf4j
+public class AccountVerificationCache {
+
+    static final String NOT_FOUND = "ACCOUNT_NOT_FOUND";
+
+    public record Key(String bankCode, String accountNumber) {
+    }
+
+    private final Cache<Key, AccountVerificationResponse> cache;
+
+    @Autowired
+    public AccountVerificationCache(MeterRegistry meterRegistry,
+                                    @Value("${easypay.verification-cache.hit-ttl-minutes:10}") long hitTtlMinutes,
+                                    @Value("${easypay.verification-cache.miss-ttl-seconds:60}") long missTtlSeconds,
+                                    @Value("${easypay.verification-cache.max-size:10000}") long maxSize) {
+        this(meterRegistry, Duration.ofMinutes(hitTtlMinutes), Duration.ofSeconds(missTtlSeconds), maxSize,
+                Ticker.systemTicker());
+    }
+
+    AccountVerificationCache(MeterRegistry meterRegistry, Duration hitTtl, Duration missTtl, long maxSize,
+                             Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Key, AccountVerificationResponse>() {
+                    @Override
+                    public long expireAfterCreate(Key key, AccountVerificationResponse value, long currentTime) {
+                        return (value.isSuccess() ? hitTtl : missTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, AccountVerificationResponse value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, AccountVerificationResponse value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accountVerification");
+    }
+
+    /**
+     * 캐시된 검증 결과 반환, 없거나 skipCache면 loader로 검증 후 저장
+     */
+    public AccountVerificationResponse get(String bankCode, String accountNumber, boolean skipCache,
+                                           Supplier<AccountVerificationResponse> loader) {
+        Key key = new Key(bankCode, accountNumber.trim());
+        if (!skipCache) {
+            AccountVerificationResponse cached = cache.getIfPresent(key);
+            if (cached != null) {
+                log.debug("계좌 검증 캐시 사용: 은행코드={}", bankCode);
+                return cached;
+            }
+        }
+
+        AccountVerificationResponse response = loader.get();
+        if (isCacheable(response)) {
+            cache.put(key, response);
+        } else {
+            cache.invalidate(key);
+        }
+        return response;
+    }
+
+    public void invalidate(String bankCode, String accountNumber) {
+        cache.invalidate(new Key(bankCode, accountNumber.trim()));
+    }
+
+    private static boolean isCacheable(AccountVerificationResponse response) {
+        return response.isSuccess() || NOT_FOUND.equals(response.getErrorCode());
+    }
+}
@@ -0,0 +1,91 @@
+package fintech2.easypay.external.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 외부 은행 계좌/은행 정보 조회 테이블 (Mock)
+ * 애플리케이션 시작 시 한 번 만들어 두고 계좌 검증 서비스들이 함께 사용
+ */
+@Component
+public class BankAccountDirectory {
+
+    private static final Map<String, String> BANK_NAMES = Map.of(
+        "004", "KB국민은행",
+        "088", "신한은행",
+        "020", "우리은행",
+        "081", "하나은행",
+        "090", "카카오뱅크",
+        "092", "토스뱅크",
+        "003", "IBK기업은행",
+        "011", "NH농협은행",
+        "023", "SC제일은행",
+        "027", "한국씨티은행"
+    );
+
+    // 은행코드 -> (계좌번호 -> 예금주)
+    private static final Map<String, Map<String, String>> ACCOUNTS = Map.of(
+        // KB국민은행
+        "004", Map.of(
+            "123456-04-123456", "김국민",
+            "654321-04-654321", "박국민",
+            "111111-04-222222", "이국민"
+        ),
+        // 신한은행
+        "088", Map.of(
+            "110-123-456789", "송신한",
+            "110-987-654321", "윤신한",
+            "110-555-123456", "최신한"
+        ),
+        // 카카오뱅크
+        "090", Map.of(
+            "3333-01-1234567", "김카카오",
+            "3333-01-7654321", "박카카오",
+            "3333-01-9999999", "이카카오"
+        ),
+        // 토스뱅크
+        "092", Map.of(
+            "100-2345-678901", "이토스",
+            "100-2345-109876", "최토스",
+            "100-1111-222222", "김토스"
+        )
+    );
+
+    // 은행명(약칭 포함) -> 은행코드
+    private static final Map<String, String> BANK_CODES_BY_NAME;
+
+    static {
+        Map<String, String> codes = new HashMap<>();
+        BANK_NAMES.forEach((code, name) -> codes.put(name, code));
+        codes.put("국민은행", "004");
+        codes.put("기업은행", "003");
+        codes.put("농협은행", "011");
+        codes.put("씨티은행", "027");
+        BANK_CODES_BY_NAME = Map.copyOf(codes);
+    }
+
+    /**
+     * 예금주 조회
+     */
+    public Optional<String> findAccountHolder(String bankCode, String accountNumber) {
+        return Optional.ofNullable(ACCOUNTS.getOrDefault(bankCode, Map.of()).get(accountNumber));
+    }
+
+    /**
+     * 취급 은행 코드 여부
+     */
+    public boolean isKnownBank(String bankCode) {
+        return bankCode != null && BANK_NAMES.containsKey(bankCode);
+    }
+
+    public String getBankName(String bankCode) {
+        return BANK_NAMES.getOrDefault(bankCode, "알 수 없는 은행");
+    }
+
+    public Optional<String> findBankCode(String bankName) {
+        return Optional.ofNullable(BANK_CODES_BY_NAME.get(bankName));
+    }
+}
@@ -0,0 +1,71 @@
+package fintech2.easypay.external.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 은행별 RestTemplate
+ * 모든 은행이 하나의 커넥션 풀(bankHttpClient)을 공유하고, 응답 대기 시간만 은행별로 다르게 적용
+ *
+ * read-timeouts 예: "004=3000,088=5000" (은행코드=밀리초, 없으면 기본값)
+ */
+@Component
+@Slf4j
+public class BankApiClients {
+
+    private final CloseableHttpClient bankHttpClient;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final Duration defaultReadTimeout;
+    private final Duration connectionRequestTimeout;
+    private final Map<String, Duration> readTimeouts = new HashMap<>();
+    private final Map<String, RestTemplate> clients = new ConcurrentHashMap<>();
+
+    public BankApiClients(CloseableHttpClient bankHttpClient,
+                          RestTemplateBuilder restTemplateBuilder,
+                          @Value("${external.banking.api.timeout:30000}") long defaultReadTimeoutMs,
+                          @Value("${external.banking.api.pool.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs,
+                          @Value("${external.banking.api.read-timeouts:}") String readTimeouts) {
+        this.bankHttpClient = bankHttpClient;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.defaultReadTimeout = Duration.ofMillis(defaultReadTimeoutMs);
+        this.connectionRequestTimeout = Duration.ofMillis(connectionRequestTimeoutMs);
+
+        for (String entry : readTimeouts.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            this.readTimeouts.put(parts[0].trim(), Duration.ofMillis(Long.parseLong(parts[1].trim())));
+        }
+    }
+
+    /**
+     * 은행코드별 RestTemplate (최초 요청 시 생성 후 재사용)
+     */
+    public RestTemplate forBank(String bankCode) {
+        return clients.computeIfAbsent(bankCode, this::create);
+    }
+
+    Duration readTimeoutOf(String bankCode) {
+        return readTimeouts.getOrDefault(bankCode, defaultReadTimeout);
+    }
+
+    private RestTemplate create(String bankCode) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(bankHttpClient);
+        requestFactory.setReadTimeout(readTimeoutOf(bankCode));
+        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+        requestFactory.setConnectionRequestTimeout(connectionRequestTimeout);
+        log.info("은행 API 클라이언트 생성: bankCode={}, readTimeout={}ms", bankCode, readTimeoutOf(bankCode).toMillis());
+        return restTemplateBuilder.requestFactory(() -> requestFactory).build();
+    }
+}
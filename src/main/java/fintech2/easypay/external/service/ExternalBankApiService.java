@@ -9,11 +9,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.ResourceAccessException;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 외부 은행 API 연동 서비스
@@ -24,14 +25,13 @@ import java.util.Map;
 @Slf4j
 public class ExternalBankApiService {
     
-    private final RestTemplate restTemplate;
+    private final BankApiClients bankApiClients;
+    private final BankAccountDirectory bankAccountDirectory;
+    private final AccountVerificationCache verificationCache;
     
     @Value("${external.banking.api.base-url:https://api.banking.example.com}")
     private String bankingApiBaseUrl;
     
-    @Value("${external.banking.api.timeout:30000}")
-    private int apiTimeout;
-    
     @Value("${external.banking.api.key:}")
     private String apiKey;
     
@@ -47,6 +47,7 @@ public class ExternalBankApiService {
     
     /**
      * 계좌 정보 검증
+     * 같은 계좌의 반복 검증은 캐시 결과를 사용 (skipCache면 은행에 다시 확인)
      */
     public AccountVerificationResponse verifyAccount(AccountVerificationRequest request) {
         log.info("외부 계좌 검증 요청: 은행코드={}, 계좌번호={}", request.getBankCode(), 
@@ -54,7 +55,8 @@ public class ExternalBankApiService {
         
         try {
             // 현재는 Mock 데이터로 응답 (실제로는 각 은행 API 호출)
-            return verifyAccountMock(request);
+            return verificationCache.get(request.getBankCode(), request.getAccountNumber(),
+                    request.isSkipCache(), () -> verifyAccountMock(request));
             
             // 실제 API 호출 코드 (주석 처리)
             // return callBankApi(request);
@@ -69,52 +71,40 @@ public class ExternalBankApiService {
         }
     }
     
+    /**
+     * 같은 은행 계좌 여러 건을 한 번에 재검증 (캐시를 건너뛰고 결과로 캐시 갱신)
+     * 응답에서 빠진 계좌는 결과 맵에 포함되지 않음, 호출 자체가 실패하면 예외
+     * @return 계좌번호 -> 검증 결과
+     */
+    public Map<String, AccountVerificationResponse> verifyAccounts(String bankCode, Collection<String> accountNumbers) {
+        log.info("외부 계좌 일괄 검증 요청: 은행코드={}, {}건", bankCode, accountNumbers.size());
+
+        // 현재는 Mock 데이터로 응답 (실제로는 은행별 일괄 조회 API 1회 호출)
+        Map<String, AccountVerificationResponse> responses = new HashMap<>();
+        for (String accountNumber : accountNumbers) {
+            AccountVerificationRequest request = AccountVerificationRequest.builder()
+                    .bankCode(bankCode)
+                    .accountNumber(accountNumber)
+                    .verificationLevel("BASIC")
+                    .skipCache(true)
+                    .build();
+            responses.put(accountNumber, verificationCache.get(bankCode, accountNumber, true,
+                    () -> verifyAccountMock(request)));
+        }
+        return responses;
+    }
+
     /**
      * Mock 계좌 검증 (테스트용)
      */
     private AccountVerificationResponse verifyAccountMock(AccountVerificationRequest request) {
-        // 각 은행별 테스트 계좌 데이터
-        Map<String, Map<String, String>> mockAccounts = new HashMap<>();
-        
-        // KB국민은행 (004)
-        Map<String, String> kbAccounts = Map.of(
-            "123456-04-123456", "김국민",
-            "654321-04-654321", "박국민",
-            "111111-04-222222", "이국민"
-        );
-        mockAccounts.put("004", kbAccounts);
-        
-        // 신한은행 (088)
-        Map<String, String> shinhanAccounts = Map.of(
-            "110-123-456789", "송신한",
-            "110-987-654321", "윤신한",
-            "110-555-123456", "최신한"
-        );
-        mockAccounts.put("088", shinhanAccounts);
-        
-        // 카카오뱅크 (090)
-        Map<String, String> kakaoAccounts = Map.of(
-            "3333-01-1234567", "김카카오",
-            "3333-01-7654321", "박카카오",
-            "3333-01-9999999", "이카카오"
-        );
-        mockAccounts.put("090", kakaoAccounts);
-        
-        // 토스뱅크 (092)
-        Map<String, String> tossAccounts = Map.of(
-            "100-2345-678901", "이토스",
-            "100-2345-109876", "최토스",
-            "100-1111-222222", "김토스"
-        );
-        mockAccounts.put("092", tossAccounts);
-        
         // Mock 검증 로직
         String bankCode = request.getBankCode();
-        String accountNumber = request.getAccountNumber();
+        String accountNumber = request.getAccountNumber().trim();
         
-        Map<String, String> bankAccounts = mockAccounts.get(bankCode);
-        if (bankAccounts != null && bankAccounts.containsKey(accountNumber)) {
-            String accountHolderName = bankAccounts.get(accountNumber);
+        Optional<String> holder = bankAccountDirectory.findAccountHolder(bankCode, accountNumber);
+        if (holder.isPresent()) {
+            String accountHolderName = holder.get();
             
             log.info("외부 계좌 검증 성공: {}은행 {} ({})", getBankName(bankCode), 
                      maskAccountNumber(accountNumber), accountHolderName);
@@ -132,7 +122,7 @@ public class ExternalBankApiService {
             
             return AccountVerificationResponse.builder()
                     .success(false)
-                    .errorCode("ACCOUNT_NOT_FOUND")
+                    .errorCode(AccountVerificationCache.NOT_FOUND)
                     .errorMessage("해당 계좌를 찾을 수 없습니다")
                     .build();
         }
@@ -167,7 +157,7 @@ public class ExternalBankApiService {
         HttpEntity<BankApiRequest> entity = new HttpEntity<>(apiRequest, headers);
         
         try {
-            ResponseEntity<BankApiResponse> response = restTemplate.exchange(
+            ResponseEntity<BankApiResponse> response = bankApiClients.forBank(bankCode).exchange(
                 url, HttpMethod.POST, entity, BankApiResponse.class);
             
             BankApiResponse apiResponse = response.getBody();
@@ -200,20 +190,7 @@ public class ExternalBankApiService {
      * 은행코드로 은행명 조회
      */
     private String getBankName(String bankCode) {
-        Map<String, String> bankNames = Map.of(
-            "004", "KB국민은행",
-            "088", "신한은행", 
-            "020", "우리은행",
-            "081", "하나은행",
-            "090", "카카오뱅크",
-            "092", "토스뱅크",
-            "003", "IBK기업은행",
-            "011", "NH농협은행",
-            "023", "SC제일은행",
-            "027", "한국씨티은행"
-        );
-        
-        return bankNames.getOrDefault(bankCode, "알 수 없는 은행");
+        return bankAccountDirectory.getBankName(bankCode);
     }
     
     /**
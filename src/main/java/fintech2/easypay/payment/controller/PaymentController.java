@@ -2,19 +2,26 @@ package fintech2.easypay.payment.controller;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.common.ApiResponse;
+import fintech2.easypay.common.dto.CursorPage;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.payment.dto.PaymentDailySummaryResponse;
 import fintech2.easypay.payment.dto.PaymentRequest;
 import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.service.PaymentAggregateService;
 import fintech2.easypay.payment.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -23,19 +30,25 @@ import java.math.BigDecimal;
 public class PaymentController {
     
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
+    private final PaymentAggregateService paymentAggregateService;
     
     /**
      * 결제 처리
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에는 처음 결제 결과를 그대로 반환
      */
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(
             @AuthenticationPrincipal UserPrincipal user,
-            @Valid @RequestBody PaymentRequest request) {
+            @Valid @RequestBody PaymentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         
         log.info("결제 요청: 사용자={}, 가맹점={}, 금액={}", 
                 user.getUsername(), request.getMerchantName(), request.getAmount());
         
-        PaymentResponse response = paymentService.processPayment(user.getUsername(), request); // getMember().getPhoneNumber() -> getUsername()
+        PaymentResponse response = idempotencyService.execute("PAYMENT", user.getUsername(), idempotencyKey,
+                request, PaymentResponse.class,
+                () -> paymentService.processPayment(user.getUsername(), request)); // getMember().getPhoneNumber() -> getUsername()
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -92,6 +105,39 @@ public class PaymentController {
         
         return ResponseEntity.ok(ApiResponse.success(payments));
     }
+
+    /**
+     * 결제 내역 키셋 조회 (cursor가 없으면 최신 결제부터)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<PaymentResponse>>> getPaymentHistoryByCursor(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        
+        log.info("결제 내역 키셋 조회: 사용자={}", user.getUsername());
+        
+        CursorPage<PaymentResponse> payments = paymentService.getPaymentHistory(
+                user.getUsername(), cursor, size);
+        
+        return ResponseEntity.ok(ApiResponse.success(payments));
+    }
+    
+    /**
+     * 일별 결제 요약 조회 (승인/취소/환불 건수와 금액, 날짜 버킷 범위 조회)
+     */
+    @GetMapping("/summary/daily")
+    public ResponseEntity<ApiResponse<List<PaymentDailySummaryResponse>>> getDailySummary(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        log.info("일별 결제 요약 조회: 사용자={}, 기간={}~{}", user.getUsername(), from, to);
+        
+        List<PaymentDailySummaryResponse> summary = paymentAggregateService.getUserDailySummary(user.getId(), from, to);
+        
+        return ResponseEntity.ok(ApiResponse.success(summary));
+    }
     
     /**
      * 결제 상세 조회
@@ -0,0 +1,38 @@
+package fintech2.easypay.payment.dto;
+
+import fintech2.easypay.payment.entity.PaymentDailyAggregate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentDailySummaryResponse {
+    private LocalDate date;
+    private long approvedCount;
+    private BigDecimal approvedAmount;
+    private long cancelledCount;
+    private BigDecimal cancelledAmount;
+    private long refundedCount;
+    private BigDecimal refundedAmount;
+    private BigDecimal netAmount;
+
+    public static PaymentDailySummaryResponse from(PaymentDailyAggregate aggregate) {
+        return PaymentDailySummaryResponse.builder()
+                .date(aggregate.getBucketDate())
+                .approvedCount(aggregate.getApprovedCount())
+                .approvedAmount(aggregate.getApprovedAmount())
+                .cancelledCount(aggregate.getCancelledCount())
+                .cancelledAmount(aggregate.getCancelledAmount())
+                .refundedCount(aggregate.getRefundedCount())
+                .refundedAmount(aggregate.getRefundedAmount())
+                .netAmount(aggregate.getNetAmount())
+                .build();
+    }
+}
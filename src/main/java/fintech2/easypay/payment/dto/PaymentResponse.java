@@ -23,6 +23,7 @@ public class PaymentResponse {
     private String merchantId;
     private String merchantName;
     private BigDecimal amount;
+    private BigDecimal refundedAmount;
     private String memo;
     private PaymentMethod paymentMethod;
     private PaymentStatus status;
@@ -42,6 +43,7 @@ public class PaymentResponse {
                 .merchantId(payment.getMerchantId())
                 .merchantName(payment.getMerchantName())
                 .amount(payment.getAmount())
+                .refundedAmount(payment.getRefundedAmount())
                 .memo(payment.getMemo())
                 .paymentMethod(payment.getPaymentMethod())
                 .status(payment.getStatus())
@@ -63,6 +63,25 @@ public class Payment extends BaseEntity {
     @Column(name = "refunded_at")
     private LocalDateTime refundedAt;
     
+    @Column(name = "refunded_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal refundedAmount = BigDecimal.ZERO;
+    
+    // PG 환불 결과를 기다리는 금액과 요청 시각 (REFUND_PENDING 동안에만 값이 있음)
+    @Column(name = "pending_refund_amount", precision = 19, scale = 2)
+    private BigDecimal pendingRefundAmount;
+    
+    @Column(name = "refund_requested_at")
+    private LocalDateTime refundRequestedAt;
+    
+    // 복구 스케줄러 확인 시도 횟수와 다음 확인 시각 (PROCESSING/REFUND_PENDING 동안 사용)
+    @Column(name = "recovery_attempts", nullable = false)
+    @Builder.Default
+    private int recoveryAttempts = 0;
+    
+    @Column(name = "next_recovery_at")
+    private LocalDateTime nextRecoveryAt;
+    
     @Column(name = "failed_reason")
     private String failedReason;
     
@@ -93,17 +112,114 @@ public class Payment extends BaseEntity {
         this.cancelledAt = LocalDateTime.now();
     }
     
+    /**
+     * 남은 금액 전체 환불
+     */
     public void markAsRefunded() {
-        this.status = PaymentStatus.REFUNDED;
+        markAsRefunded(getRefundableAmount());
+    }
+    
+    /**
+     * 환불 반영 - 누적 환불액이 결제 금액에 도달하면 REFUNDED, 그 전까지는 APPROVED 유지 (부분 환불)
+     */
+    public void markAsRefunded(BigDecimal amount) {
+        this.refundedAmount = this.refundedAmount.add(amount);
         this.refundedAt = LocalDateTime.now();
+        if (this.refundedAmount.compareTo(this.amount) >= 0) {
+            this.status = PaymentStatus.REFUNDED;
+        }
+    }
+    
+    /**
+     * PG 취소/환불 요청 전 환불 확인 중으로 표시 - 결과가 반영될 때까지 다른 취소/환불을 막음
+     */
+    public void markAsRefundPending(BigDecimal amount) {
+        this.status = PaymentStatus.REFUND_PENDING;
+        this.pendingRefundAmount = amount;
+        this.refundRequestedAt = LocalDateTime.now();
+        resetRecovery();
+    }
+    
+    /**
+     * 확인 중이던 환불을 반영하고 반영한 금액을 반환
+     */
+    public BigDecimal completePendingRefund() {
+        BigDecimal amount = this.pendingRefundAmount;
+        clearPendingRefund();
+        markAsRefunded(amount);
+        return amount;
+    }
+    
+    /**
+     * 확인 중이던 전체 취소를 반영
+     */
+    public void completePendingCancel() {
+        clearPendingRefund();
+        markAsCancelled();
+    }
+    
+    /**
+     * PG가 환불을 거절한 경우 환불 전 상태(APPROVED)로 되돌림
+     */
+    public void revertPendingRefund() {
+        clearPendingRefund();
+    }
+    
+    private void clearPendingRefund() {
+        this.status = PaymentStatus.APPROVED;
+        this.pendingRefundAmount = null;
+        this.refundRequestedAt = null;
+        resetRecovery();
+    }
+    
+    public boolean isRefundPending() {
+        return this.status == PaymentStatus.REFUND_PENDING;
+    }
+    
+    /**
+     * PG 결과를 기다리는 중 (복구 스케줄러 대상)
+     */
+    public boolean isAwaitingRecovery() {
+        return this.status == PaymentStatus.PROCESSING || this.status == PaymentStatus.REFUND_PENDING;
+    }
+    
+    /**
+     * 복구 확인 시도 기록 후 다음 확인 시각 예약
+     */
+    public void scheduleRecovery(LocalDateTime nextRecoveryAt) {
+        this.recoveryAttempts++;
+        this.nextRecoveryAt = nextRecoveryAt;
+    }
+    
+    /**
+     * 자동 복구 포기 - 운영자가 PG와 대조해 확정할 때까지 다른 취소/환불을 막음
+     * 확인 중이던 환불 금액/요청 시각은 대조용으로 남겨 둠
+     */
+    public void markAsUnresolved(String reason) {
+        this.status = PaymentStatus.UNRESOLVED;
+        this.failedReason = reason;
+        this.nextRecoveryAt = null;
+    }
+    
+    private void resetRecovery() {
+        this.recoveryAttempts = 0;
+        this.nextRecoveryAt = null;
+    }
+    
+    /**
+     * 남은 환불 가능 금액
+     */
+    public BigDecimal getRefundableAmount() {
+        return this.amount.subtract(this.refundedAmount);
     }
     
     public boolean canBeCancelled() {
-        return this.status == PaymentStatus.APPROVED;
+        // 부분 환불된 결제는 전체 취소 대신 남은 금액을 환불
+        return this.status == PaymentStatus.APPROVED && this.refundedAmount.signum() == 0;
     }
     
     public boolean canBeRefunded() {
-        return this.status == PaymentStatus.APPROVED;
+        return this.status == PaymentStatus.APPROVED && getRefundableAmount().signum() > 0;
     }
     
     public boolean isApproved() {
@@ -0,0 +1,79 @@
+package fintech2.easypay.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 일별 집계 (가맹점별 / 사용자별)
+ * 결제 상태가 바뀌는 트랜잭션 안에서 해당 날짜 버킷에 건수와 금액을 더해 유지
+ * 정산 대시보드는 payments 전체를 읽지 않고 기간 범위의 버킷만 조회
+ */
+@Entity
+@Table(name = "payment_daily_aggregates",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_daily_aggregates",
+                columnNames = {"dimension", "dimension_key", "bucket_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentDailyAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 100)
+    private String dimensionKey; // 가맹점 ID 또는 사용자 ID
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "approved_count", nullable = false)
+    @Builder.Default
+    private long approvedCount = 0L;
+
+    @Column(name = "approved_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal approvedAmount = BigDecimal.ZERO;
+
+    @Column(name = "cancelled_count", nullable = false)
+    @Builder.Default
+    private long cancelledCount = 0L;
+
+    @Column(name = "cancelled_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal cancelledAmount = BigDecimal.ZERO;
+
+    @Column(name = "refunded_count", nullable = false)
+    @Builder.Default
+    private long refundedCount = 0L;
+
+    @Column(name = "refunded_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal refundedAmount = BigDecimal.ZERO;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public enum Dimension {
+        MERCHANT, USER
+    }
+
+    /**
+     * 순 결제 금액 (승인 - 취소 - 환불)
+     */
+    public BigDecimal getNetAmount() {
+        return approvedAmount.subtract(cancelledAmount).subtract(refundedAmount);
+    }
+}
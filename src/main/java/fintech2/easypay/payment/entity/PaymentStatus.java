@@ -6,5 +6,7 @@ public enum PaymentStatus {
     APPROVED,    // 승인됨
     FAILED,      // 실패
     CANCELLED,   // 취소됨
-    REFUNDED     // 환불됨
+    REFUNDED,    // 환불됨
+    REFUND_PENDING, // 환불 확인 중 (PG 환불 결과 반영 전)
+    UNRESOLVED   // 확인 불가 (자동 복구 포기, 운영자 확인 필요)
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,8 +18,13 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class MockPaymentGatewayService implements PaymentGatewayService {
     
+    public static final int MAX_STATUS_BATCH_SIZE = 500;
+    private static final long PER_ITEM_COST_NANOS = 200_000L;
+    
     // 결제 정보를 메모리에 저장 (실제로는 PG사 DB에 저장됨)
     private final ConcurrentHashMap<String, PgApiResponse> paymentStore = new ConcurrentHashMap<>();
+    // 결제별 누적 환불 기록 (상태 조회 시 승인 기록 대신 반환, approvedAmount는 누적 환불액의 음수)
+    private final ConcurrentHashMap<String, PgApiResponse> refundStore = new ConcurrentHashMap<>();
     private final Random random = new Random();
     private final ObjectMapper objectMapper = new ObjectMapper();
     
@@ -127,8 +133,10 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
                     .build();
         }
         
-        // 환불 가능 금액 확인
-        if (amount.compareTo(originalPayment.getApprovedAmount()) > 0) {
+        // 환불 가능 금액 확인 (이전 환불액 제외)
+        PgApiResponse previousRefund = refundStore.get(paymentId);
+        BigDecimal refundedTotal = previousRefund == null ? BigDecimal.ZERO : previousRefund.getApprovedAmount().negate();
+        if (amount.compareTo(originalPayment.getApprovedAmount().subtract(refundedTotal)) > 0) {
             return PgApiResponse.builder()
                     .paymentId(paymentId)
                     .status(PgApiStatus.FAILED)
@@ -148,6 +156,14 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
                 .approvedAmount(amount.negate())
                 .build();
         
+        refundStore.put(paymentId, PgApiResponse.builder()
+                .paymentId(paymentId)
+                .pgTransactionId(refundResponse.getPgTransactionId())
+                .status(PgApiStatus.REFUNDED)
+                .message(refundResponse.getMessage())
+                .processedAt(refundResponse.getProcessedAt())
+                .approvedAmount(refundedTotal.add(amount).negate())
+                .build());
         return refundResponse;
     }
     
@@ -155,7 +171,35 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
     public PgApiResponse getPaymentStatus(String paymentId) {
         log.info("Mock PG API 호출 - 결제 상태 조회: {}", paymentId);
         
-        PgApiResponse response = paymentStore.get(paymentId);
+        return lookupStatus(paymentId);
+    }
+    
+    /**
+     * 일괄 상태 조회
+     * 호출 1회의 왕복 지연에 건당 처리 비용만 더해지도록 시뮬레이션
+     */
+    @Override
+    public Map<String, PgApiResponse> getPaymentStatuses(Collection<String> paymentIds) {
+        if (paymentIds.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "일괄 조회는 최대 " + MAX_STATUS_BATCH_SIZE + "건까지 가능합니다: " + paymentIds.size());
+        }
+        log.info("Mock PG API 호출 - 결제 상태 일괄 조회: {}건", paymentIds.size());
+        
+        simulateInquiryDelay(paymentIds.size());
+        
+        Map<String, PgApiResponse> responses = new LinkedHashMap<>();
+        for (String paymentId : paymentIds) {
+            responses.put(paymentId, lookupStatus(paymentId));
+        }
+        return responses;
+    }
+    
+    /**
+     * 저장된 결제 정보 반환 - 환불된 결제는 누적 환불 기록 (없으면 실패 응답)
+     */
+    private PgApiResponse lookupStatus(String paymentId) {
+        PgApiResponse response = refundStore.getOrDefault(paymentId, paymentStore.get(paymentId));
         if (response == null) {
             return PgApiResponse.builder()
                     .paymentId(paymentId)
@@ -230,6 +274,17 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
         }
     }
     
+    /**
+     * 일괄 조회 지연 시뮬레이션 (왕복 20-60ms + 건당 0.2ms)
+     */
+    private void simulateInquiryDelay(int count) {
+        try {
+            Thread.sleep(Duration.ofMillis(20 + random.nextInt(40)).plusNanos(count * PER_ITEM_COST_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     /**
      * 승인번호 생성
      */
@@ -1,5 +1,9 @@
 package fintech2.easypay.payment.external;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 외부 PG(Payment Gateway) API 서비스 인터페이스
  * 실제 결제 처리를 위한 외부 PG사와의 통신을 담당
@@ -36,4 +40,19 @@ public interface PaymentGatewayService {
      * @return 결제 상태 정보
      */
     PgApiResponse getPaymentStatus(String paymentId);
-}
\ No newline at end of file
+    
+    /**
+     * 결제 상태 일괄 조회
+     * 여러 결제를 한 번의 호출로 조회해 왕복 횟수를 줄임 (기본 구현은 건별 조회를 반복)
+     * 조회되지 않은 결제는 결과에 포함되지 않을 수 있음
+     * @param paymentIds 결제 ID 목록
+     * @return 결제 ID별 상태 정보
+     */
+    default Map<String, PgApiResponse> getPaymentStatuses(Collection<String> paymentIds) {
+        Map<String, PgApiResponse> responses = new LinkedHashMap<>();
+        for (String paymentId : paymentIds) {
+            responses.put(paymentId, getPaymentStatus(paymentId));
+        }
+        return responses;
+    }
+}
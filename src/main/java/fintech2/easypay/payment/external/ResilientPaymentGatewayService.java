@@ -0,0 +1,107 @@
+package fintech2.easypay.payment.external;
+
+import fintech2.easypay.common.resilience.ResilienceException;
+import fintech2.easypay.common.resilience.ResilienceGuard;
+import fintech2.easypay.common.resilience.ResilienceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 외부 PG API 보호 장치 적용 구현체
+ *
+ * 호출이 차단되면 NETWORK_ERROR, 타임아웃되면 승인 여부를 알 수 없으므로 PENDING 응답으로 바꿈
+ * PENDING을 받은 호출 측은 실패로 확정하지 않고 결제는 PROCESSING, 취소/환불은 REFUND_PENDING으로 남겨
+ * 복구 스케줄러(PaymentRecoveryService)가 PG 상태 조회로 확정
+ * 상태 조회(단건/일괄)는 차단 시 예외를 그대로 전달
+ */
+@Service
+@Primary
+@Slf4j
+public class ResilientPaymentGatewayService implements PaymentGatewayService {
+
+    static final String GUARD = "pg";
+
+    private final PaymentGatewayService delegate;
+    private final ResilienceRegistry resilienceRegistry;
+
+    public ResilientPaymentGatewayService(@Qualifier("mockPaymentGatewayService") PaymentGatewayService delegate,
+                                          ResilienceRegistry resilienceRegistry) {
+        this.delegate = delegate;
+        this.resilienceRegistry = resilienceRegistry;
+    }
+
+    @Override
+    public PgApiResponse processPayment(PgApiRequest request) {
+        try {
+            return guard().execute(() -> delegate.processPayment(request), ResilientPaymentGatewayService::isPgFailure);
+        } catch (ResilienceException e) {
+            log.warn("PG 결제 호출 차단: {} - {}", request.getPaymentId(), e.getMessage());
+            return blockedResponse(request.getPaymentId(), e);
+        }
+    }
+
+    @Override
+    public PgApiResponse cancelPayment(String paymentId, String reason) {
+        try {
+            return guard().execute(() -> delegate.cancelPayment(paymentId, reason), ResilientPaymentGatewayService::isPgFailure);
+        } catch (ResilienceException e) {
+            log.warn("PG 취소 호출 차단: {} - {}", paymentId, e.getMessage());
+            return blockedResponse(paymentId, e);
+        }
+    }
+
+    @Override
+    public PgApiResponse refundPayment(String paymentId, BigDecimal amount, String reason) {
+        try {
+            return guard().execute(() -> delegate.refundPayment(paymentId, amount, reason), ResilientPaymentGatewayService::isPgFailure);
+        } catch (ResilienceException e) {
+            log.warn("PG 환불 호출 차단: {} - {}", paymentId, e.getMessage());
+            return blockedResponse(paymentId, e);
+        }
+    }
+
+    @Override
+    public PgApiResponse getPaymentStatus(String paymentId) {
+        return guard().execute(() -> delegate.getPaymentStatus(paymentId));
+    }
+
+    @Override
+    public Map<String, PgApiResponse> getPaymentStatuses(Collection<String> paymentIds) {
+        return guard().execute(() -> delegate.getPaymentStatuses(paymentIds));
+    }
+
+    private ResilienceGuard guard() {
+        return resilienceRegistry.guard(GUARD);
+    }
+
+    private static boolean isPgFailure(PgApiResponse response) {
+        return response.getStatus() == PgApiStatus.SYSTEM_ERROR
+                || response.getStatus() == PgApiStatus.NETWORK_ERROR;
+    }
+
+    private static PgApiResponse blockedResponse(String paymentId, ResilienceException e) {
+        if (e.getReason() == ResilienceException.Reason.TIMEOUT) {
+            return PgApiResponse.builder()
+                    .paymentId(paymentId)
+                    .status(PgApiStatus.PENDING)
+                    .errorCode("E_TIMEOUT")
+                    .errorMessage("PG 응답 대기 시간이 초과되었습니다. 결제 상태를 확인해주세요.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        }
+        return PgApiResponse.builder()
+                .paymentId(paymentId)
+                .status(PgApiStatus.NETWORK_ERROR)
+                .errorCode(e.getReason() == ResilienceException.Reason.CIRCUIT_OPEN ? "E_CIRCUIT_OPEN" : "E_BULKHEAD_FULL")
+                .errorMessage("PG 시스템이 일시적으로 불안정하여 요청을 보내지 않았습니다.")
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package fintech2.easypay.payment.repository;
+
+import fintech2.easypay.payment.entity.PaymentDailyAggregate;
+import fintech2.easypay.payment.entity.PaymentDailyAggregate.Dimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PaymentDailyAggregateRepository extends JpaRepository<PaymentDailyAggregate, Long> {
+
+    /**
+     * 날짜 버킷에 건수/금액 증감 반영 - 갱신된 행 수 반환 (0이면 버킷 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PaymentDailyAggregate a SET " +
+           "a.approvedCount = a.approvedCount + :approvedCount, a.approvedAmount = a.approvedAmount + :approvedAmount, " +
+           "a.cancelledCount = a.cancelledCount + :cancelledCount, a.cancelledAmount = a.cancelledAmount + :cancelledAmount, " +
+           "a.refundedCount = a.refundedCount + :refundedCount, a.refundedAmount = a.refundedAmount + :refundedAmount, " +
+           "a.updatedAt = :now " +
+           "WHERE a.dimension = :dimension AND a.dimensionKey = :dimensionKey AND a.bucketDate = :bucketDate")
+    int applyDelta(@Param("dimension") Dimension dimension,
+                   @Param("dimensionKey") String dimensionKey,
+                   @Param("bucketDate") LocalDate bucketDate,
+                   @Param("approvedCount") long approvedCount,
+                   @Param("approvedAmount") BigDecimal approvedAmount,
+                   @Param("cancelledCount") long cancelledCount,
+                   @Param("cancelledAmount") BigDecimal cancelledAmount,
+                   @Param("refundedCount") long refundedCount,
+                   @Param("refundedAmount") BigDecimal refundedAmount,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 기간 내 날짜 버킷 조회 (날짜 순)
+     */
+    List<PaymentDailyAggregate> findByDimensionAndDimensionKeyAndBucketDateBetweenOrderByBucketDate(
+            Dimension dimension, String dimensionKey, LocalDate from, LocalDate to);
+}
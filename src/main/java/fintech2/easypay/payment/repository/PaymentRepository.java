@@ -4,13 +4,16 @@ import fintech2.easypay.payment.entity.Payment;
 import fintech2.easypay.payment.entity.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +26,75 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
     Optional<Payment> findByPaymentId(String paymentId);
     
+    /**
+     * 결제 ID로 조회 (비관적 락 적용)
+     * PG 결과 반영처럼 같은 결제를 여러 경로에서 확정할 수 있을 때 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<Payment> findByPaymentIdForUpdate(@Param("paymentId") String paymentId);
+    
+    /**
+     * 사용자 결제 조회 (비관적 락 적용) - 취소/환불이 동시에 들어와 중복 반영되지 않도록 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId AND p.user.id = :userId")
+    Optional<Payment> findByPaymentIdAndUserIdForUpdate(@Param("paymentId") String paymentId,
+                                                        @Param("userId") Long userId);
+    
+    /**
+     * 가맹점 결제 일괄 조회 (비관적 락, id 순으로 잠금)
+     * 대량 환불에서 사용 - 사용자 정보는 감사 로그/알림용으로 함께 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.user " +
+           "WHERE p.merchantId = :merchantId AND p.paymentId IN :paymentIds ORDER BY p.id")
+    List<Payment> findByMerchantIdAndPaymentIdInForUpdate(@Param("merchantId") String merchantId,
+                                                          @Param("paymentIds") Collection<String> paymentIds);
+    
+    /**
+     * 복구 대상 결제 키셋 조회 (id 순)
+     * 일정 시간 이상 처리 중 상태로 남아 있고 다음 확인 시각이 된 결제
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt < :cutoff " +
+           "AND (p.nextRecoveryAt IS NULL OR p.nextRecoveryAt <= :now) " +
+           "AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findRecoveryCandidates(@Param("status") PaymentStatus status,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+    
+    /**
+     * 환불 확인 중 결제 키셋 조회 (id 순)
+     * PG 환불 요청 후 일정 시간이 지나도 결과가 반영되지 않았고 다음 확인 시각이 된 결제
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = fintech2.easypay.payment.entity.PaymentStatus.REFUND_PENDING " +
+           "AND p.refundRequestedAt < :cutoff " +
+           "AND (p.nextRecoveryAt IS NULL OR p.nextRecoveryAt <= :now) " +
+           "AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findRefundRecoveryCandidates(@Param("cutoff") LocalDateTime cutoff,
+                                               @Param("now") LocalDateTime now,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+    
+    long countByStatus(PaymentStatus status);
+    
     Page<Payment> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    /**
+     * 사용자 결제 키셋 조회 - 첫 페이지 / 커서 이후 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.user.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<Payment> findUserFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p FROM Payment p WHERE p.user.id = :userId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Payment> findUserPageAfter(@Param("userId") Long userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
     
     @Query("SELECT p FROM Payment p WHERE p.user.phoneNumber = :phoneNumber ORDER BY p.createdAt DESC")
     Page<Payment> findByPhoneNumberOrderByCreatedAtDesc(@Param("phoneNumber") String phoneNumber, Pageable pageable);
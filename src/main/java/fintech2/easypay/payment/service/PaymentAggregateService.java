@@ -0,0 +1,154 @@
+package fintech2.easypay.payment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.payment.dto.PaymentDailySummaryResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentDailyAggregate;
+import fintech2.easypay.payment.entity.PaymentDailyAggregate.Dimension;
+import fintech2.easypay.payment.repository.PaymentDailyAggregateRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 결제 일별 집계 관리
+ * 결제 승인/취소/환불을 가맹점별, 사용자별 날짜 버킷에 더함
+ *
+ * - 반영은 결제 상태를 바꾸는 트랜잭션 안에서만 호출 (상태 변경과 집계가 함께 커밋/롤백)
+ * - 버킷 행은 UPDATE로 증감하고, 그날 첫 반영이라 행이 없으면 별도 트랜잭션으로 만든 뒤 다시 반영
+ *   (동시에 만들려다 유니크 제약에 걸리면 이미 생긴 행을 사용)
+ * - 날짜는 이벤트가 일어난 날 기준 (승인일, 취소일, 환불일)
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class PaymentAggregateService {
+
+    static final long MAX_RANGE_DAYS = 366;
+
+    private final PaymentDailyAggregateRepository aggregateRepository;
+    private final TransactionTemplate bucketTemplate;
+
+    public PaymentAggregateService(PaymentDailyAggregateRepository aggregateRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.aggregateRepository = aggregateRepository;
+        this.bucketTemplate = new TransactionTemplate(transactionManager);
+        this.bucketTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 결제 승인 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApproved(Payment payment) {
+        LocalDate date = payment.getApprovedAt() != null ? payment.getApprovedAt().toLocalDate() : LocalDate.now();
+        apply(payment, date, 1, payment.getAmount(), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * 결제 취소 반영 (결제 금액 전체)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCancelled(Payment payment) {
+        LocalDate date = payment.getCancelledAt() != null ? payment.getCancelledAt().toLocalDate() : LocalDate.now();
+        apply(payment, date, 0, BigDecimal.ZERO, 1, payment.getAmount(), 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * 결제 환불 반영
+     * @param amount 이번에 환불한 금액 (부분 환불 가능)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRefunded(Payment payment, BigDecimal amount) {
+        LocalDate date = payment.getRefundedAt() != null ? payment.getRefundedAt().toLocalDate() : LocalDate.now();
+        apply(payment, date, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 1, amount);
+    }
+
+    /**
+     * 가맹점 일별 정산 조회 (기간 범위의 버킷만 읽음)
+     */
+    public List<PaymentDailySummaryResponse> getMerchantDailySummary(String merchantId, LocalDate from, LocalDate to) {
+        return getDailySummary(Dimension.MERCHANT, merchantId, from, to);
+    }
+
+    /**
+     * 사용자 일별 결제 요약 조회
+     */
+    public List<PaymentDailySummaryResponse> getUserDailySummary(Long userId, LocalDate from, LocalDate to) {
+        return getDailySummary(Dimension.USER, userId.toString(), from, to);
+    }
+
+    private List<PaymentDailySummaryResponse> getDailySummary(Dimension dimension, String key, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "조회 기간은 시작일부터 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        return aggregateRepository
+                .findByDimensionAndDimensionKeyAndBucketDateBetweenOrderByBucketDate(dimension, key, from, to)
+                .stream()
+                .map(PaymentDailySummaryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 가맹점 버킷과 사용자 버킷에 같은 증감을 반영 (잠금 순서를 고정해 교착 방지)
+     */
+    private void apply(Payment payment, LocalDate date,
+                       long approvedCount, BigDecimal approvedAmount,
+                       long cancelledCount, BigDecimal cancelledAmount,
+                       long refundedCount, BigDecimal refundedAmount) {
+        applyTo(Dimension.MERCHANT, payment.getMerchantId(), date,
+                approvedCount, approvedAmount, cancelledCount, cancelledAmount, refundedCount, refundedAmount);
+        applyTo(Dimension.USER, payment.getUser().getId().toString(), date,
+                approvedCount, approvedAmount, cancelledCount, cancelledAmount, refundedCount, refundedAmount);
+    }
+
+    private void applyTo(Dimension dimension, String key, LocalDate date,
+                         long approvedCount, BigDecimal approvedAmount,
+                         long cancelledCount, BigDecimal cancelledAmount,
+                         long refundedCount, BigDecimal refundedAmount) {
+        int updated = aggregateRepository.applyDelta(dimension, key, date,
+                approvedCount, approvedAmount, cancelledCount, cancelledAmount, refundedCount, refundedAmount,
+                LocalDateTime.now());
+        if (updated > 0) {
+            return;
+        }
+
+        createBucket(dimension, key, date);
+        updated = aggregateRepository.applyDelta(dimension, key, date,
+                approvedCount, approvedAmount, cancelledCount, cancelledAmount, refundedCount, refundedAmount,
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("결제 집계 버킷을 찾을 수 없습니다: " + dimension + "/" + key + "/" + date);
+        }
+    }
+
+    /**
+     * 빈 날짜 버킷 생성 - 결제 트랜잭션과 분리해 유니크 충돌이 결제를 롤백시키지 않도록 함
+     */
+    private void createBucket(Dimension dimension, String key, LocalDate date) {
+        try {
+            bucketTemplate.executeWithoutResult(status -> aggregateRepository.saveAndFlush(
+                    PaymentDailyAggregate.builder()
+                            .dimension(dimension)
+                            .dimensionKey(key)
+                            .bucketDate(date)
+                            .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("결제 집계 버킷이 이미 생성됨: {}/{}/{}", dimension, key, date);
+        }
+    }
+}
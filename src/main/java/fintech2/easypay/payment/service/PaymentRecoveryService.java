@@ -0,0 +1,305 @@
+package fintech2.easypay.payment.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import fintech2.easypay.common.scheduling.Backoff;
+import fintech2.easypay.common.scheduling.SweepRunner;
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.external.PaymentGatewayService;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 처리 중 결제 복구 스케줄러
+ * PG 타임아웃이나 서버 재시작으로 PROCESSING에 남은 결제를 PG 상태 조회로 확정
+ *
+ * - 대상 결제는 id 키셋으로 페이지 단위 조회 (전체를 한 번에 올리지 않음)
+ * - 페이지 안의 결제는 일괄 조회 단위(최대 N건)로 묶어 제한된 병렬도로 PG 상태를 조회하고,
+ *   결과 반영은 결제마다 PaymentSettlementService의 짧은 트랜잭션으로 처리
+ *   (PG 호출 동안에는 트랜잭션/커넥션을 잡지 않음)
+ * - PG에서도 아직 처리 중이거나 조회에 실패한 결제는 시도 횟수에 따라 간격을 늘려 다시 확인하고,
+ *   제한 시간이 지나도 확정되지 않으면 확인 불가(UNRESOLVED)로 바꿔 운영자 확인으로 넘김
+ * - 한 번의 실행은 제한 시간 안에서만 진행하고, 남은 결제는 다음 실행에서 이어서 처리
+ * - 환불 확인 중(REFUND_PENDING)으로 남은 결제도 같은 방식으로 PG 상태를 조회해 취소/환불 확정 또는 환불 전 상태로 복원
+ */
+@Service
+@Slf4j
+public class PaymentRecoveryService {
+
+    private static final String RECOVERY_REASON = "환불 결과 복구";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayService paymentGatewayService;
+    private final PaymentSettlementService paymentSettlementService;
+
+    private final int pageSize;
+    private final int statusBatchSize;
+    private final Duration minAge;
+    private final Duration maxRunDuration;
+    private final Backoff backoff;
+    private final Duration giveUpAfter;
+
+    private final SweepRunner sweepRunner;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong unresolvedSize = new AtomicLong();
+
+    public PaymentRecoveryService(PaymentRepository paymentRepository,
+                                  PaymentGatewayService paymentGatewayService,
+                                  PaymentSettlementService paymentSettlementService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${easypay.payment-recovery.page-size:500}") int pageSize,
+                                  @Value("${easypay.payment-recovery.status-batch-size:100}") int statusBatchSize,
+                                  @Value("${easypay.payment-recovery.parallelism:4}") int parallelism,
+                                  @Value("${easypay.payment-recovery.min-age-seconds:120}") long minAgeSeconds,
+                                  @Value("${easypay.payment-recovery.max-run-seconds:50}") long maxRunSeconds,
+                                  @Value("${easypay.payment-recovery.base-backoff-seconds:60}") long baseBackoffSeconds,
+                                  @Value("${easypay.payment-recovery.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                  @Value("${easypay.payment-recovery.give-up-hours:24}") long giveUpHours,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGatewayService = paymentGatewayService;
+        this.paymentSettlementService = paymentSettlementService;
+        this.pageSize = pageSize;
+        this.statusBatchSize = statusBatchSize;
+        this.minAge = Duration.ofSeconds(minAgeSeconds);
+        this.maxRunDuration = Duration.ofSeconds(maxRunSeconds);
+        this.backoff = Backoff.ofSeconds(baseBackoffSeconds, maxBackoffSeconds);
+        this.giveUpAfter = Duration.ofHours(giveUpHours);
+        this.sweepRunner = new SweepRunner(meterRegistry, "처리 중 결제 복구", "easypay.payment.recovery",
+                "payment-recovery-", parallelism, virtualThreads);
+
+        Gauge.builder("easypay.payment.recovery.backlog", backlogSize, AtomicLong::get)
+                .description("처리 중/환불 확인 중 상태로 남아 있는 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("easypay.payment.recovery.unresolved", unresolvedSize, AtomicLong::get)
+                .description("자동 복구를 포기해 운영자 확인이 필요한 결제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 처리 중 결제를 확인
+     * 이전 실행이 아직 진행 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${easypay.payment-recovery.interval-ms:60000}")
+    @Async("taskExecutor")
+    public void recoverStuckPayments() {
+        sweepRunner.runExclusively(this::recover);
+    }
+
+    /**
+     * 처리 중 결제와 환불 확인 중 결제를 차례로 페이지 단위로 조회해 일괄 조회 단위로 병렬 확인
+     * @return 이번 실행에서 확인한 결제 수
+     */
+    int recover() {
+        refreshBacklogMetrics();
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoff = startedAt.minus(minAge);
+        LocalDateTime deadline = startedAt.plus(maxRunDuration);
+        PageRequest page = PageRequest.of(0, pageSize);
+
+        int checked = sweep(afterId -> paymentRepository.findRecoveryCandidates(
+                        PaymentStatus.PROCESSING, cutoff, startedAt, afterId, page), this::recoverBatch, deadline)
+                + sweep(afterId -> paymentRepository.findRefundRecoveryCandidates(cutoff, startedAt, afterId, page),
+                        this::recoverRefundBatch, deadline);
+
+        if (checked > 0) {
+            log.info("결제 복구 완료: 확인 {}건", checked);
+        }
+        refreshBacklogMetrics();
+        return checked;
+    }
+
+    private void refreshBacklogMetrics() {
+        backlogSize.set(paymentRepository.countByStatus(PaymentStatus.PROCESSING)
+                + paymentRepository.countByStatus(PaymentStatus.REFUND_PENDING));
+        unresolvedSize.set(paymentRepository.countByStatus(PaymentStatus.UNRESOLVED));
+    }
+
+    /**
+     * 대상 결제를 id 키셋 페이지로 따라가며 일괄 조회 단위로 나눠 병렬 처리
+     */
+    private int sweep(Function<Long, List<Payment>> pageLoader, Consumer<List<Payment>> batchHandler,
+                      LocalDateTime deadline) {
+        long afterId = 0L;
+        int checked = 0;
+        while (LocalDateTime.now().isBefore(deadline)) {
+            List<Payment> candidates = pageLoader.apply(afterId);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            sweepRunner.runAll(SweepRunner.partition(candidates, statusBatchSize), batchHandler);
+
+            checked += candidates.size();
+            afterId = candidates.get(candidates.size() - 1).getId();
+            if (candidates.size() < pageSize) {
+                break;
+            }
+        }
+        return checked;
+    }
+
+    /**
+     * 결제 묶음의 상태를 한 번의 PG 호출로 조회하고 건별로 반영
+     */
+    private void recoverBatch(List<Payment> payments) {
+        Map<String, PgApiResponse> responses = lookupStatuses(payments);
+        if (responses == null) {
+            payments.forEach(this::scheduleNextCheckOrGiveUp);
+            return;
+        }
+
+        for (Payment payment : payments) {
+            String paymentId = payment.getPaymentId();
+            PgApiResponse response = responses.get(paymentId);
+            if (response == null) {
+                // 응답에서 누락된 결제는 다음 확인 시각에 다시 확인
+                count("pending");
+                scheduleNextCheckOrGiveUp(payment);
+                continue;
+            }
+            try {
+                PaymentStatus status = paymentSettlementService.settle(paymentId, response).getStatus();
+                count(switch (status) {
+                    case PROCESSING -> "pending";
+                    case APPROVED -> "approved";
+                    case FAILED -> "failed";
+                    default -> "skipped";
+                });
+                if (status == PaymentStatus.PROCESSING) {
+                    scheduleNextCheckOrGiveUp(payment);
+                }
+            } catch (Exception e) {
+                count("error");
+                log.error("결제 상태 반영 중 오류 발생: {} - {}", paymentId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 환불 확인 중 결제 묶음의 PG 상태를 조회해 건별로 취소/환불 확정 또는 복원
+     */
+    private void recoverRefundBatch(List<Payment> payments) {
+        Map<String, PgApiResponse> responses = lookupStatuses(payments);
+        if (responses == null) {
+            payments.forEach(this::scheduleNextCheckOrGiveUp);
+            return;
+        }
+
+        for (Payment payment : payments) {
+            String paymentId = payment.getPaymentId();
+            PgApiResponse response = responses.get(paymentId);
+            if (response == null) {
+                count("refund_pending");
+                scheduleNextCheckOrGiveUp(payment);
+                continue;
+            }
+            if (response.getStatus() == PgApiStatus.REFUNDED && !coversPendingRefund(payment, response)) {
+                // PG 누적 환불액에 이번 환불이 없으면 이전 부분 환불 기록이므로 환불되지 않은 것으로 봄
+                response = PgApiResponse.builder()
+                        .paymentId(paymentId)
+                        .status(PgApiStatus.FAILED)
+                        .errorMessage("PG 누적 환불액에 환불 요청이 반영되지 않음")
+                        .build();
+            }
+            BigDecimal refundedBefore = payment.getRefundedAmount();
+            try {
+                PaymentResponse settled = paymentSettlementService.settleRefund(paymentId, response, RECOVERY_REASON);
+                if (settled.getStatus() == PaymentStatus.REFUND_PENDING) {
+                    count("refund_pending");
+                    scheduleNextCheckOrGiveUp(payment);
+                } else if (settled.getStatus() == PaymentStatus.CANCELLED) {
+                    count("cancelled");
+                } else if (settled.getRefundedAmount().compareTo(refundedBefore) > 0) {
+                    count("refunded");
+                } else {
+                    count("refund_reverted");
+                }
+            } catch (Exception e) {
+                count("error");
+                log.error("환불 상태 반영 중 오류 발생: {} - {}", paymentId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다음 확인 시각을 시도 횟수에 따른 간격(Backoff)으로 예약
+     * 확인 대상이 된 지(결제 생성, 환불은 환불 요청) 제한 시간이 지난 결제는 확인 불가로 처리
+     */
+    private void scheduleNextCheckOrGiveUp(Payment payment) {
+        String paymentId = payment.getPaymentId();
+        LocalDateTime since = payment.isRefundPending() ? payment.getRefundRequestedAt() : payment.getCreatedAt();
+        try {
+            if (since != null && since.isBefore(LocalDateTime.now().minus(giveUpAfter))) {
+                paymentSettlementService.giveUpRecovery(paymentId,
+                        String.format("%d시간 이상 PG 결과 확인 불가", giveUpAfter.toHours()));
+                count("gave_up");
+                return;
+            }
+            paymentSettlementService.scheduleRecovery(paymentId,
+                    LocalDateTime.now().plus(backoff.after(payment.getRecoveryAttempts())));
+        } catch (Exception e) {
+            count("error");
+            log.error("결제 복구 재확인 예약 중 오류 발생: {} - {}", paymentId, e.getMessage());
+        }
+    }
+
+    /**
+     * PG 누적 환불액이 기존 환불액과 확인 중인 환불액의 합 이상인지 (금액을 주지 않는 PG는 상태만 신뢰)
+     */
+    private static boolean coversPendingRefund(Payment payment, PgApiResponse response) {
+        if (response.getApprovedAmount() == null || payment.getPendingRefundAmount() == null) {
+            return true;
+        }
+        BigDecimal expected = payment.getRefundedAmount().add(payment.getPendingRefundAmount());
+        return response.getApprovedAmount().negate().compareTo(expected) >= 0;
+    }
+
+    /**
+     * 결제 묶음 PG 상태 일괄 조회 (실패 시 null - 묶음 전체를 다음 확인 시각으로 넘김)
+     */
+    private Map<String, PgApiResponse> lookupStatuses(List<Payment> payments) {
+        List<String> paymentIds = payments.stream().map(Payment::getPaymentId).toList();
+        try {
+            return paymentGatewayService.getPaymentStatuses(paymentIds);
+        } catch (Exception e) {
+            log.error("PG 결제 상태 일괄 조회 실패: {}건 - {}", paymentIds.size(), e.getMessage());
+            count("error", paymentIds.size());
+            return null;
+        }
+    }
+
+    private void count(String outcome) {
+        sweepRunner.count(outcome);
+    }
+
+    private void count(String outcome, int amount) {
+        sweepRunner.count(outcome, amount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepRunner.shutdown();
+    }
+}
@@ -1,22 +1,38 @@
 package fintech2.easypay.payment.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.dto.CursorPage;
 import fintech2.easypay.common.enums.AuditEventType;
 import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.idempotency.IdempotencyContext;
+import fintech2.easypay.common.util.AfterCommit;
+import fintech2.easypay.common.util.KeysetCursor;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
 import fintech2.easypay.payment.exception.PaymentException;
@@ -44,6 +60,8 @@ import fintech2.easypay.payment.repository.PaymentRepository;
 @Transactional(readOnly = true)
 public class PaymentService {
     
+    static final int MAX_BULK_REFUND_SIZE = 1000;
+    
     private final PaymentRepository paymentRepository;
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
@@ -51,15 +69,22 @@ public class PaymentService {
     private final AuditLogService auditLogService;
     private final NotificationService notificationService;
     private final PaymentGatewayService paymentGatewayService;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final PaymentSettlementService paymentSettlementService;
+    private final PaymentAggregateService paymentAggregateService;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
     
     /**
      * 결제 처리
      * 1. 결제 가능 여부 확인
-     * 2. 결제 요청 DB 저장 (PENDING)
-     * 3. 외부 PG API 호출
-     * 4. 결제 결과에 따른 상태 업데이트
+     * 2. 결제 요청을 PROCESSING 상태로 저장 (짧은 트랜잭션)
+     * 3. 외부 PG API 호출 (트랜잭션/커넥션 없이)
+     * 4. 결제 결과 반영 (짧은 트랜잭션)
+     * PG 응답이 PENDING(타임아웃 등)이면 PROCESSING으로 응답하고, 최종 결과는 복구 스케줄러가 확정
+     * BALANCE 결제는 외부 호출이 없으므로 저장부터 잔액 차감까지 한 트랜잭션으로 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse processPayment(String phoneNumber, PaymentRequest request) {
         // 회원 조회 - phoneNumber로 통일
         User user = userRepository.findByPhoneNumber(phoneNumber)
@@ -77,61 +102,65 @@ public class PaymentService {
         }
         
         // 결제 ID 생성
-        String paymentId = generatePaymentId();
+        String paymentId = transactionIdGenerator.nextPaymentId();
         
-        // 1. 결제 요청을 REQUESTED 상태로 DB 저장
-        Payment payment = Payment.builder()
-                .paymentId(paymentId)
-                .user(user) // member -> user
-                .accountNumber(account.getAccountNumber())
-                .merchantId(request.getMerchantId())
-                .merchantName(request.getMerchantName())
-                .amount(request.getAmount())
-                .memo(request.getMemo())
-                .paymentMethod(request.getPaymentMethod())
-                .build();
+        if (request.getPaymentMethod() == PaymentMethod.BALANCE) {
+            return processBalancePayment(user, account, paymentId, request);
+        }
         
-        Payment savedPayment = paymentRepository.save(payment);
+        // 1. 결제 요청을 PROCESSING 상태로 저장
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Payment payment = newPayment(paymentId, user, account, request);
+                payment.markAsProcessing();
+                paymentRepository.save(payment);
+                // 커밋 이후 실패해도 같은 멱등 키로 다시 결제하지 않도록 (결과는 복구 스케줄러가 확정)
+                IdempotencyContext.markSideEffect();
+            });
+        } catch (Exception e) {
+            throw handlePaymentFailure(user, paymentId, request, e);
+        }
         
+        // 2. 외부 PG API 호출 - 트랜잭션 밖에서 호출
+        PgApiRequest pgRequest = buildPgApiRequest(paymentId, user, request);
+        log.info("외부 PG API 호출 시작: {}", paymentId);
+        PgApiResponse pgResponse;
         try {
-            // 2. 결제 처리 중 상태로 변경
-            payment.markAsProcessing();
-            paymentRepository.save(payment);
-            
-            // 3. 외부 PG API 호출 (BALANCE가 아닌 경우에만)
-            if (request.getPaymentMethod() != PaymentMethod.BALANCE) {
-                PgApiRequest pgRequest = buildPgApiRequest(paymentId, user, request);
-                
-                log.info("외부 PG API 호출 시작: {}", paymentId);
-                PgApiResponse pgResponse = paymentGatewayService.processPayment(pgRequest);
+            pgResponse = paymentGatewayService.processPayment(pgRequest);
+        } catch (Exception e) {
+            // 요청이 PG에 도달했는지 알 수 없으므로 실패로 확정하지 않고 복구 대상으로 남김
+            log.error("PG 응답 확인 불가: {} - {}", paymentId, e.getMessage());
+            pgResponse = PgApiResponse.builder()
+                    .paymentId(paymentId)
+                    .status(PgApiStatus.PENDING)
+                    .errorMessage(e.getMessage())
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        }
+        
+        // 3. PG API 응답에 따른 처리
+        PaymentResponse response = paymentSettlementService.settle(paymentId, pgResponse);
+        if (response.getStatus() == PaymentStatus.FAILED) {
+            throw new PaymentException(PaymentErrorCode.PAYMENT_FAILED, response.getFailedReason());
+        }
+        return response;
+    }
+    
+    /**
+     * BALANCE 결제 - 저장, 잔액 차감, 승인을 한 트랜잭션으로 처리
+     */
+    private PaymentResponse processBalancePayment(User user, Account account, String paymentId, PaymentRequest request) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Payment payment = newPayment(paymentId, user, account, request);
+                payment.markAsProcessing();
+                paymentRepository.save(payment);
                 
-                // 4. PG API 응답에 따른 처리
-                if (pgResponse.getStatus() == PgApiStatus.SUCCESS) {
-                    payment.markAsApproved(pgResponse.getPgTransactionId(), pgResponse.getRawResponse());
-                    
-                    // 감사 로그 기록
-                    auditLogService.logSuccess(
-                        user.getId(), // member -> user
-                        phoneNumber,
-                        AuditEventType.PAYMENT_SUCCESS,
-                        String.format("결제 승인: %s (%s원)", request.getMerchantName(), request.getAmount()),
-                        null, null,
-                        String.format("paymentId: %s, method: %s", paymentId, request.getPaymentMethod()),
-                        null
-                    );
-                } else {
-                    String failureReason = String.format("PG 오류: %s - %s", 
-                        pgResponse.getStatus().getDescription(), 
-                        pgResponse.getErrorMessage());
-                    payment.markAsFailed(failureReason);
-                    
-                    throw new PaymentException(PaymentErrorCode.PAYMENT_FAILED, failureReason);
-                }
-            } else {
-                // BALANCE 결제인 경우 즉시 승인 및 잔액 차감 (BalanceService 사용)
+                // 즉시 승인 및 잔액 차감 (BalanceService 사용)
                 balanceService.decrease(account.getAccountNumber(), request.getAmount(), 
                     TransactionType.PAYMENT, "결제: " + request.getMerchantName(), paymentId, user.getId().toString());
                 payment.markAsApproved("BALANCE-" + paymentId, "잔액 결제");
+                paymentAggregateService.recordApproved(payment);
                 
                 // 현재 잔액 조회 (로그용)
                 BigDecimal currentBalance = balanceService.getBalance(account.getAccountNumber());
@@ -139,108 +168,142 @@ public class PaymentService {
                 // 감사 로그 기록
                 auditLogService.logSuccess(
                     user.getId(),
-                    phoneNumber,
+                    user.getPhoneNumber(),
                     AuditEventType.PAYMENT_SUCCESS,
                     String.format("잔액 결제 승인: %s (%s원)", request.getMerchantName(), request.getAmount()),
                     null, null,
                     String.format("paymentId: %s, balance: %s", paymentId, currentBalance),
                     null
                 );
-            }
-            
-            // 알림 전송
-            notificationService.sendPaymentActivityNotification(
-                user.getId(), // member -> user
-                phoneNumber,
-                String.format("%s에서 %s원이 결제되었습니다.", request.getMerchantName(), request.getAmount())
-            );
-            
-            log.info("결제 완료: {} - {} ({}원)", paymentId, request.getMerchantName(), request.getAmount());
-            
-            return PaymentResponse.from(savedPayment);
-            
+                
+                // 알림 전송
+                notificationService.sendPaymentActivityNotification(
+                    user.getId(),
+                    user.getPhoneNumber(),
+                    String.format("%s에서 %s원이 결제되었습니다.", request.getMerchantName(), request.getAmount())
+                );
+                
+                log.info("결제 완료: {} - {} ({}원)", paymentId, request.getMerchantName(), request.getAmount());
+                
+                return PaymentResponse.from(payment);
+            });
         } catch (Exception e) {
-            // 결제 실패 처리
-            payment.markAsFailed(e.getMessage());
-            
-            // 감사 로그 기록
-            auditLogService.logFailure(
-                user.getId(),
-                phoneNumber,
-                AuditEventType.PAYMENT_FAILED,
-                "결제 실패: " + e.getMessage(),
-                null, null,
-                String.format("paymentId: %s, amount: %s", paymentId, request.getAmount()),
-                e.getMessage()
-            );
-            
-            log.error("결제 실패: {} - {} ({}원) - {}", 
-                    paymentId, request.getMerchantName(), request.getAmount(), e.getMessage());
-            
-            if (e instanceof PaymentException) {
-                throw e;
-            }
-            throw new PaymentException(PaymentErrorCode.PAYMENT_FAILED, e.getMessage());
+            throw handlePaymentFailure(user, paymentId, request, e);
+        }
+    }
+    
+    private Payment newPayment(String paymentId, User user, Account account, PaymentRequest request) {
+        return Payment.builder()
+                .paymentId(paymentId)
+                .user(user) // member -> user
+                .accountNumber(account.getAccountNumber())
+                .merchantId(request.getMerchantId())
+                .merchantName(request.getMerchantName())
+                .amount(request.getAmount())
+                .memo(request.getMemo())
+                .paymentMethod(request.getPaymentMethod())
+                .build();
+    }
+    
+    /**
+     * 결제 실패 처리 - 롤백된 결제의 감사 로그를 별도 트랜잭션으로 기록
+     */
+    private PaymentException handlePaymentFailure(User user, String paymentId, PaymentRequest request, Exception e) {
+        // 감사 로그 기록
+        auditLogService.logFailure(
+            user.getId(),
+            user.getPhoneNumber(),
+            AuditEventType.PAYMENT_FAILED,
+            "결제 실패: " + e.getMessage(),
+            null, null,
+            String.format("paymentId: %s, amount: %s", paymentId, request.getAmount()),
+            e.getMessage()
+        );
+        
+        log.error("결제 실패: {} - {} ({}원) - {}", 
+                paymentId, request.getMerchantName(), request.getAmount(), e.getMessage());
+        
+        if (e instanceof PaymentException paymentException) {
+            return paymentException;
         }
+        return new PaymentException(PaymentErrorCode.PAYMENT_FAILED, e.getMessage());
     }
     
     /**
      * 결제 취소
+     * 잔액 결제는 BalanceService로 잔액을 복원하고 한 트랜잭션으로 확정 (원장/거래 내역/잔액 캐시 함께 반영)
+     * PG 결제는 환불 확인 중으로 표시(짧은 트랜잭션) → PG 취소 호출(트랜잭션 밖) → 결과 반영(짧은 트랜잭션) 순서로 처리하고,
+     * PG 응답을 받지 못하면 환불 확인 중(REFUND_PENDING)으로 응답해 복구 스케줄러가 확정
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "paymentCache", key = "#paymentId")
     public PaymentResponse cancelPayment(String phoneNumber, String paymentId, String reason) {
         // 회원 조회
         User user = userRepository.findByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.MEMBER_NOT_FOUND));
         
-        // 결제 정보 조회
-        Payment payment = paymentRepository.findByPaymentIdAndUserId(paymentId, user.getId())
-                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
-        
-        // 취소 가능 여부 확인
-        if (!payment.canBeCancelled()) {
-            throw new PaymentException(PaymentErrorCode.PAYMENT_CANNOT_BE_CANCELLED);
-        }
-        
         try {
-            // 외부 PG API 호출 (BALANCE가 아닌 경우)
-            if (payment.getPaymentMethod() != PaymentMethod.BALANCE) {
-                log.info("결제 취소 API 호출: {}", paymentId);
-                PgApiResponse pgResponse = paymentGatewayService.cancelPayment(paymentId, reason);
+            PaymentResponse response = transactionTemplate.execute(status -> {
+                // 결제 정보 조회 (취소/환불 동시 요청 방지를 위해 잠금)
+                Payment payment = paymentRepository.findByPaymentIdAndUserIdForUpdate(paymentId, user.getId())
+                        .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+                
+                // 취소 가능 여부 확인
+                if (!payment.canBeCancelled()) {
+                    throw new PaymentException(PaymentErrorCode.PAYMENT_CANNOT_BE_CANCELLED);
+                }
                 
-                if (pgResponse.getStatus() != PgApiStatus.CANCELLED) {
+                // PG 결제는 PG 취소 결과를 받을 때까지 환불 확인 중으로 표시
+                if (payment.getPaymentMethod() != PaymentMethod.BALANCE) {
+                    payment.markAsRefundPending(payment.getAmount());
+                    return PaymentResponse.from(payment);
+                }
+                
+                // BALANCE 결제인 경우 결제한 계좌로 잔액 복원
+                balanceService.increase(payment.getAccountNumber(), payment.getAmount(),
+                    TransactionType.REFUND, "결제 취소: " + payment.getMerchantName(), paymentId, user.getId().toString());
+                
+                // 결제 상태 변경
+                payment.markAsCancelled();
+                paymentAggregateService.recordCancelled(payment);
+                
+                // 감사 로그 기록
+                auditLogService.logSuccess(
+                    user.getId(), // member -> user
+                    phoneNumber,
+                    AuditEventType.PAYMENT_CANCEL,
+                    String.format("결제 취소: %s (%s원)", payment.getMerchantName(), payment.getAmount()),
+                    null, null,
+                    String.format("paymentId: %s, reason: %s", paymentId, reason),
+                    null
+                );
+                return PaymentResponse.from(payment);
+            });
+            
+            // 외부 PG API 호출 (BALANCE가 아닌 경우) - 트랜잭션 밖에서 호출
+            if (response.getStatus() == PaymentStatus.REFUND_PENDING) {
+                log.info("결제 취소 API 호출: {}", paymentId);
+                PgApiResponse pgResponse = requestPg(paymentId, () -> paymentGatewayService.cancelPayment(paymentId, reason));
+                response = paymentSettlementService.settleRefund(paymentId, pgResponse, reason);
+                if (response.getStatus() == PaymentStatus.APPROVED) {
                     throw new PaymentException(PaymentErrorCode.PAYMENT_CANCEL_FAILED, pgResponse.getErrorMessage());
                 }
-            } else {
-                // BALANCE 결제인 경우 잔액 복원
-                Account account = accountRepository.findByUserId(user.getId())
-                        .orElseThrow(() -> new PaymentException(PaymentErrorCode.ACCOUNT_NOT_FOUND));
-                account.deposit(payment.getAmount());
             }
             
-            // 결제 상태 변경
-            payment.markAsCancelled();
-            
-            // 감사 로그 기록
-            auditLogService.logSuccess(
-                user.getId(), // member -> user
-                phoneNumber,
-                AuditEventType.PAYMENT_CANCEL,
-                String.format("결제 취소: %s (%s원)", payment.getMerchantName(), payment.getAmount()),
-                null, null,
-                String.format("paymentId: %s, reason: %s", paymentId, reason),
-                null
-            );
-            
             // 알림 전송
-            notificationService.sendPaymentActivityNotification(
-                user.getId(), // member -> user
-                phoneNumber,
-                String.format("%s 결제가 취소되었습니다. (%s원)", payment.getMerchantName(), payment.getAmount())
-            );
+            if (response.getStatus() == PaymentStatus.CANCELLED) {
+                notificationService.sendPaymentActivityNotification(
+                    user.getId(), // member -> user
+                    phoneNumber,
+                    String.format("%s 결제가 취소되었습니다. (%s원)", response.getMerchantName(), response.getAmount())
+                );
+            }
             
-            return PaymentResponse.from(payment);
+            return response;
             
+        } catch (PaymentException e) {
+            log.error("결제 취소 실패: {} - {}", paymentId, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("결제 취소 실패: {} - {}", paymentId, e.getMessage());
             throw new PaymentException(PaymentErrorCode.PAYMENT_CANCEL_FAILED, e.getMessage());
@@ -248,73 +311,193 @@ public class PaymentService {
     }
     
     /**
-     * 결제 환불
+     * 결제 환불 (부분 환불 가능, 누적 환불액이 결제 금액에 도달하면 환불 완료)
+     * 잔액 결제는 BalanceService로 잔액을 복원하고 한 트랜잭션으로 확정 (원장/거래 내역/잔액 캐시 함께 반영)
+     * PG 결제는 취소와 같이 환불 확인 중 표시 → PG 환불 호출(트랜잭션 밖) → 결과 반영 순서로 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "paymentCache", key = "#paymentId")
     public PaymentResponse refundPayment(String phoneNumber, String paymentId, BigDecimal amount, String reason) {
         // 회원 조회
         User user = userRepository.findByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.MEMBER_NOT_FOUND));
         
-        // 결제 정보 조회
-        Payment payment = paymentRepository.findByPaymentIdAndUserId(paymentId, user.getId())
-                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
-        
-        // 환불 가능 여부 확인
-        if (!payment.canBeRefunded()) {
-            throw new PaymentException(PaymentErrorCode.PAYMENT_CANNOT_BE_REFUNDED);
-        }
-        
-        // 환불 금액 검증
-        if (amount.compareTo(payment.getAmount()) > 0) {
-            throw new PaymentException(PaymentErrorCode.INVALID_REFUND_AMOUNT);
-        }
-        
         try {
-            // 외부 PG API 호출 (BALANCE가 아닌 경우)
-            if (payment.getPaymentMethod() != PaymentMethod.BALANCE) {
-                log.info("결제 환불 API 호출: {} - {}원", paymentId, amount);
-                PgApiResponse pgResponse = paymentGatewayService.refundPayment(paymentId, amount, reason);
+            PaymentResponse response = transactionTemplate.execute(status -> {
+                // 결제 정보 조회 (취소/환불 동시 요청 방지를 위해 잠금)
+                Payment payment = paymentRepository.findByPaymentIdAndUserIdForUpdate(paymentId, user.getId())
+                        .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+                
+                // 환불 가능 여부 확인
+                if (!payment.canBeRefunded()) {
+                    throw new PaymentException(PaymentErrorCode.PAYMENT_CANNOT_BE_REFUNDED);
+                }
+                
+                // 환불 금액 검증 (남은 환불 가능 금액 이내)
+                if (amount.signum() <= 0 || amount.compareTo(payment.getRefundableAmount()) > 0) {
+                    throw new PaymentException(PaymentErrorCode.INVALID_REFUND_AMOUNT);
+                }
+                
+                // PG 결제는 PG 환불 결과를 받을 때까지 환불 확인 중으로 표시
+                if (payment.getPaymentMethod() != PaymentMethod.BALANCE) {
+                    payment.markAsRefundPending(amount);
+                    return PaymentResponse.from(payment);
+                }
+                
+                // BALANCE 결제인 경우 결제한 계좌로 잔액 복원
+                balanceService.increase(payment.getAccountNumber(), amount,
+                    TransactionType.REFUND, "결제 환불: " + payment.getMerchantName(), paymentId, user.getId().toString());
+                
+                // 결제 상태 변경 (누적 환불액 반영)
+                payment.markAsRefunded(amount);
+                paymentAggregateService.recordRefunded(payment, amount);
                 
-                if (pgResponse.getStatus() != PgApiStatus.REFUNDED) {
+                // 감사 로그 기록
+                auditLogService.logSuccess(
+                    user.getId(),
+                    phoneNumber,
+                    AuditEventType.PAYMENT_REFUND,
+                    String.format("결제 환불: %s (%s원)", payment.getMerchantName(), amount),
+                    null, null,
+                    String.format("paymentId: %s, reason: %s", paymentId, reason),
+                    null
+                );
+                return PaymentResponse.from(payment);
+            });
+            
+            // 외부 PG API 호출 (BALANCE가 아닌 경우) - 트랜잭션 밖에서 호출
+            if (response.getStatus() == PaymentStatus.REFUND_PENDING) {
+                log.info("결제 환불 API 호출: {} - {}원", paymentId, amount);
+                BigDecimal refundedBefore = response.getRefundedAmount();
+                PgApiResponse pgResponse = requestPg(paymentId, () -> paymentGatewayService.refundPayment(paymentId, amount, reason));
+                response = paymentSettlementService.settleRefund(paymentId, pgResponse, reason);
+                if (response.getStatus() == PaymentStatus.APPROVED
+                        && response.getRefundedAmount().compareTo(refundedBefore) == 0) {
                     throw new PaymentException(PaymentErrorCode.PAYMENT_REFUND_FAILED, pgResponse.getErrorMessage());
                 }
-            } else {
-                // BALANCE 결제인 경우 잔액 복원
-                Account account = accountRepository.findByUserId(user.getId())
-                        .orElseThrow(() -> new PaymentException(PaymentErrorCode.ACCOUNT_NOT_FOUND));
-                account.deposit(amount);
             }
             
-            // 결제 상태 변경
-            payment.markAsRefunded();
-            
-            // 감사 로그 기록
-            auditLogService.logSuccess(
-                user.getId(),
-                phoneNumber,
-                AuditEventType.PAYMENT_REFUND,
-                String.format("결제 환불: %s (%s원)", payment.getMerchantName(), amount),
-                null, null,
-                String.format("paymentId: %s, reason: %s", paymentId, reason),
-                null
-            );
-            
             // 알림 전송
-            notificationService.sendPaymentActivityNotification(
-                user.getId(), // member -> user
-                phoneNumber,
-                String.format("%s 결제가 환불되었습니다. (%s원)", payment.getMerchantName(), amount)
-            );
+            if (response.getStatus() != PaymentStatus.REFUND_PENDING) {
+                notificationService.sendPaymentActivityNotification(
+                    user.getId(), // member -> user
+                    phoneNumber,
+                    String.format("%s 결제가 환불되었습니다. (%s원)", response.getMerchantName(), amount)
+                );
+            }
             
-            return PaymentResponse.from(payment);
+            return response;
             
+        } catch (PaymentException e) {
+            log.error("결제 환불 실패: {} - {}", paymentId, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("결제 환불 실패: {} - {}", paymentId, e.getMessage());
             throw new PaymentException(PaymentErrorCode.PAYMENT_REFUND_FAILED, e.getMessage());
         }
     }
     
+    /**
+     * 가맹점 대량 환불 (결제별 남은 금액 전체)
+     * 1. 결제를 id 순으로 잠그는 짧은 트랜잭션에서 잔액 결제는 BalanceService.increaseAll 한 번으로 환불을 확정하고,
+     *    PG 결제는 환불 확인 중(REFUND_PENDING)으로 표시
+     * 2. PG 환불 호출 (트랜잭션/커넥션 없이)
+     * 3. 결과 반영은 결제마다 PaymentSettlementService의 짧은 트랜잭션으로 처리
+     * 응답을 받지 못했거나 PG가 PENDING으로 답한 환불은 확인 중으로 남고 복구 스케줄러가 확정
+     * 환불할 수 없는 결제나 PG 환불이 거절된 결제는 건너뜀
+     * @return 환불되었거나 환불 확인 중인 결제 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PaymentResponse> refundMerchantPayments(String merchantId, List<String> paymentIds, String reason) {
+        if (paymentIds.isEmpty() || paymentIds.size() > MAX_BULK_REFUND_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "대량 환불은 1건 이상 " + MAX_BULK_REFUND_SIZE + "건 이하로 요청해야 합니다.");
+        }
+        
+        Map<String, PaymentResponse> results = new LinkedHashMap<>();
+        Map<String, BigDecimal> pgRefunds = new LinkedHashMap<>();
+        
+        // 1. 잠금 → 잔액 결제 환불 확정 / PG 결제 환불 확인 중 표시
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Payment> payments = paymentRepository.findByMerchantIdAndPaymentIdInForUpdate(merchantId, paymentIds);
+            List<BalanceService.Credit> credits = new ArrayList<>();
+            for (Payment payment : payments) {
+                if (!payment.canBeRefunded()) {
+                    log.warn("대량 환불 제외 (환불 불가 상태): {} - {}", payment.getPaymentId(), payment.getStatus());
+                    continue;
+                }
+                BigDecimal amount = payment.getRefundableAmount();
+                
+                if (payment.getPaymentMethod() == PaymentMethod.BALANCE) {
+                    credits.add(new BalanceService.Credit(payment.getAccountNumber(), amount, TransactionType.REFUND,
+                            "결제 환불: " + payment.getMerchantName(), payment.getPaymentId(),
+                            payment.getUser().getId().toString()));
+                    payment.markAsRefunded(amount);
+                    paymentAggregateService.recordRefunded(payment, amount);
+                    auditLogService.logSuccess(
+                        payment.getUser().getId(),
+                        payment.getUser().getPhoneNumber(),
+                        AuditEventType.PAYMENT_REFUND,
+                        String.format("결제 환불: %s (%s원)", payment.getMerchantName(), amount),
+                        null, null,
+                        String.format("paymentId: %s, reason: %s, bulk: true", payment.getPaymentId(), reason),
+                        null
+                    );
+                } else {
+                    payment.markAsRefundPending(amount);
+                    pgRefunds.put(payment.getPaymentId(), amount);
+                }
+                results.put(payment.getPaymentId(), PaymentResponse.from(payment));
+            }
+            
+            // 잔액 결제 환불을 한 번의 원장 반영으로 처리
+            if (!credits.isEmpty()) {
+                balanceService.increaseAll(credits);
+            }
+            
+            AfterCommit.evict(cacheManager, "paymentCache", results.keySet());
+        });
+        
+        // 2~3. PG 환불 호출 후 결제별 반영
+        pgRefunds.forEach((paymentId, amount) -> {
+            PgApiResponse pgResponse = requestPg(paymentId,
+                    () -> paymentGatewayService.refundPayment(paymentId, amount, reason));
+            try {
+                results.put(paymentId, paymentSettlementService.settleRefund(paymentId, pgResponse, reason));
+            } catch (Exception e) {
+                // 반영하지 못한 환불은 확인 중으로 남아 복구 스케줄러가 확정
+                log.error("대량 환불 결과 반영 실패: {} - {}", paymentId, e.getMessage());
+            }
+        });
+        
+        // PG가 거절해 환불 전 상태(APPROVED)로 되돌아간 결제는 제외
+        List<PaymentResponse> refunded = results.values().stream()
+                .filter(response -> response.getStatus() != PaymentStatus.APPROVED)
+                .toList();
+        
+        log.info("가맹점 대량 환불 완료: 가맹점={}, 요청={}건, 환불/확인 중={}건 (PG 환불 {}건)",
+                merchantId, paymentIds.size(), refunded.size(), pgRefunds.size());
+        
+        return refunded;
+    }
+    
+    /**
+     * PG 취소/환불 호출 - 요청이 PG에 도달했는지 알 수 없는 오류는 PENDING으로 보고 복구 대상으로 남김
+     */
+    private PgApiResponse requestPg(String paymentId, Supplier<PgApiResponse> call) {
+        try {
+            return call.get();
+        } catch (Exception e) {
+            log.error("PG 응답 확인 불가: {} - {}", paymentId, e.getMessage());
+            return PgApiResponse.builder()
+                    .paymentId(paymentId)
+                    .status(PgApiStatus.PENDING)
+                    .errorMessage(e.getMessage())
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+
     /**
      * 결제 내역 조회
      */
@@ -325,11 +508,31 @@ public class PaymentService {
         Page<Payment> payments = paymentRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable);
         return payments.map(PaymentResponse::from);
     }
+
+    /**
+     * 결제 내역 키셋 조회 (최신순, 건수 조회 없음)
+     */
+    public CursorPage<PaymentResponse> getPaymentHistory(String phoneNumber, String cursor, Integer size) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.MEMBER_NOT_FOUND));
+        int pageSize = CursorPage.sizeOf(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Payment> payments = after == null
+                ? paymentRepository.findUserFirstPage(user.getId(), limit)
+                : paymentRepository.findUserPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+        return CursorPage.of(payments, pageSize,
+                payment -> new KeysetCursor(payment.getCreatedAt(), payment.getId()), PaymentResponse::from);
+    }
     
     /**
      * 결제 상세 조회 (캐시 적용)
      */
-    @Cacheable(value = "paymentCache", key = "#paymentId")
+    @Cacheable(value = "paymentCache", key = "#paymentId",
+            unless = "#result.status == T(fintech2.easypay.payment.entity.PaymentStatus).PROCESSING"
+                    + " or #result.status == T(fintech2.easypay.payment.entity.PaymentStatus).REFUND_PENDING"
+                    + " or #result.status == T(fintech2.easypay.payment.entity.PaymentStatus).UNRESOLVED")
     public PaymentResponse getPayment(String phoneNumber, String paymentId) {
         User user = userRepository.findByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.MEMBER_NOT_FOUND));
@@ -339,19 +542,7 @@ public class PaymentService {
         
         return PaymentResponse.from(payment);
     }
-    
-    /**
-     * 결제 ID 생성
-     */
-    private String generatePaymentId() {
-        String paymentId;
-        do {
-            paymentId = "PAY" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (paymentRepository.existsByPaymentId(paymentId));
-        
-        return paymentId;
-    }
-    
+
     /**
      * PG API 요청 생성
      */
@@ -0,0 +1,238 @@
+package fintech2.easypay.payment.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.exception.PaymentErrorCode;
+import fintech2.easypay.payment.exception.PaymentException;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+
+/**
+ * PG 결과 반영
+ * 결제 요청 직후와 복구 스케줄러가 같은 경로로 PROCESSING 결제를 확정
+ *
+ * - 결과 반영은 결제 한 건을 잠그고 짧은 트랜잭션으로 처리 (PG 호출 동안에는 커넥션을 잡지 않음)
+ * - PROCESSING이 아닌 결제는 다른 경로에서 이미 확정된 것으로 보고 건드리지 않음
+ * - PENDING(타임아웃 등 승인 여부 불명)은 PROCESSING으로 남겨 복구 스케줄러가 다시 확인
+ * - 취소/환불도 같은 방식으로 REFUND_PENDING 결제에만 PG 취소/환불 결과를 반영
+ * - 복구 스케줄러의 다음 확인 예약과 자동 복구 포기(UNRESOLVED)도 같은 잠금으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentSettlementService {
+
+    private final PaymentRepository paymentRepository;
+    private final AuditLogService auditLogService;
+    private final NotificationService notificationService;
+    private final PaymentAggregateService paymentAggregateService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * PG 응답을 결제에 반영
+     * @param paymentId 결제 ID
+     * @param pgResponse PG 승인/상태 조회 응답
+     * @return 반영 후 결제 정보
+     */
+    @CacheEvict(value = "paymentCache", key = "#paymentId")
+    public PaymentResponse settle(String paymentId, PgApiResponse pgResponse) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByPaymentIdForUpdate(paymentId)
+                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+            if (payment.getStatus() != PaymentStatus.PROCESSING) {
+                log.info("이미 확정된 결제: {} - {}", paymentId, payment.getStatus());
+            } else if (pgResponse.getStatus() == PgApiStatus.SUCCESS) {
+                approve(payment, pgResponse);
+            } else if (pgResponse.getStatus() == PgApiStatus.PENDING) {
+                log.warn("PG 승인 여부 확인 불가, 처리 중으로 유지: {} - {}", paymentId, pgResponse.getErrorMessage());
+            } else {
+                fail(payment, pgResponse);
+            }
+            return PaymentResponse.from(payment);
+        });
+    }
+
+    /**
+     * PG 취소/환불 응답을 환불 확인 중 결제에 반영
+     * CANCELLED면 취소 확정, REFUNDED면 환불 확정, PENDING이면 확인 중으로 유지, 그 밖의 응답은 환불 전 상태로 되돌림
+     * @param paymentId 결제 ID
+     * @param pgResponse PG 취소/환불/상태 조회 응답
+     * @param reason 환불 사유 (감사 로그용)
+     * @return 반영 후 결제 정보
+     */
+    @CacheEvict(value = "paymentCache", key = "#paymentId")
+    public PaymentResponse settleRefund(String paymentId, PgApiResponse pgResponse, String reason) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByPaymentIdForUpdate(paymentId)
+                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+            if (!payment.isRefundPending()) {
+                log.info("이미 확정된 환불: {} - {}", paymentId, payment.getStatus());
+            } else if (pgResponse.getStatus() == PgApiStatus.CANCELLED) {
+                cancel(payment, reason);
+            } else if (pgResponse.getStatus() == PgApiStatus.REFUNDED) {
+                refund(payment, reason);
+            } else if (pgResponse.getStatus() == PgApiStatus.PENDING) {
+                log.warn("PG 환불 여부 확인 불가, 환불 확인 중으로 유지: {} - {}", paymentId, pgResponse.getErrorMessage());
+            } else {
+                payment.revertPendingRefund();
+                log.warn("PG 환불 거절, 환불 전 상태로 복원: {} - {} {}",
+                        paymentId, pgResponse.getStatus(), pgResponse.getErrorMessage());
+            }
+            return PaymentResponse.from(payment);
+        });
+    }
+
+    /**
+     * 아직 확정되지 않은 결제의 다음 복구 확인 시각 예약
+     * @param paymentId 결제 ID
+     * @param nextRecoveryAt 다음 확인 시각
+     */
+    public void scheduleRecovery(String paymentId, LocalDateTime nextRecoveryAt) {
+        transactionTemplate.executeWithoutResult(status -> paymentRepository.findByPaymentIdForUpdate(paymentId)
+                .filter(Payment::isAwaitingRecovery)
+                .ifPresent(payment -> payment.scheduleRecovery(nextRecoveryAt)));
+    }
+
+    /**
+     * 제한 시간 안에 확정되지 않은 결제를 확인 불가(UNRESOLVED)로 바꾸고 운영팀에 알림
+     * 승인/환불 여부를 모르는 상태이므로 실패나 환불 전 상태로 단정하지 않음
+     * @param paymentId 결제 ID
+     * @param reason 포기 사유
+     * @return 반영 후 결제 정보
+     */
+    @CacheEvict(value = "paymentCache", key = "#paymentId")
+    public PaymentResponse giveUpRecovery(String paymentId, String reason) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByPaymentIdForUpdate(paymentId)
+                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+
+            if (!payment.isAwaitingRecovery()) {
+                log.info("이미 확정된 결제: {} - {}", paymentId, payment.getStatus());
+                return PaymentResponse.from(payment);
+            }
+
+            boolean refund = payment.isRefundPending();
+            payment.markAsUnresolved(reason);
+
+            // 감사 로그 기록
+            auditLogService.logError(
+                payment.getUser().getId(),
+                payment.getUser().getPhoneNumber(),
+                refund ? AuditEventType.PAYMENT_REFUND : AuditEventType.PAYMENT_FAILED,
+                String.format("결제 확인 불가 처리: %s", paymentId),
+                null, null,
+                String.format("amount: %s, pendingRefundAmount: %s, attempts: %d",
+                        payment.getAmount(), payment.getPendingRefundAmount(), payment.getRecoveryAttempts()),
+                reason
+            );
+
+            // 보안 알림 전송 (운영팀)
+            notificationService.sendSecurityAlert(
+                payment.getUser().getId(),
+                payment.getUser().getPhoneNumber(),
+                String.format("%s 결과 확인 불가: %s (%s)", refund ? "결제 환불" : "결제 승인", paymentId, reason)
+            );
+
+            log.error("결제 자동 복구 포기: {} - {} (시도 {}회)", paymentId, reason, payment.getRecoveryAttempts());
+            return PaymentResponse.from(payment);
+        });
+    }
+
+    private void cancel(Payment payment, String reason) {
+        payment.completePendingCancel();
+        paymentAggregateService.recordCancelled(payment);
+
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            payment.getUser().getId(),
+            payment.getUser().getPhoneNumber(),
+            AuditEventType.PAYMENT_CANCEL,
+            String.format("결제 취소: %s (%s원)", payment.getMerchantName(), payment.getAmount()),
+            null, null,
+            String.format("paymentId: %s, reason: %s", payment.getPaymentId(), reason),
+            null
+        );
+
+        log.info("취소 완료: {} - {} ({}원)", payment.getPaymentId(), payment.getMerchantName(), payment.getAmount());
+    }
+
+    private void refund(Payment payment, String reason) {
+        BigDecimal amount = payment.completePendingRefund();
+        paymentAggregateService.recordRefunded(payment, amount);
+
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            payment.getUser().getId(),
+            payment.getUser().getPhoneNumber(),
+            AuditEventType.PAYMENT_REFUND,
+            String.format("결제 환불: %s (%s원)", payment.getMerchantName(), amount),
+            null, null,
+            String.format("paymentId: %s, reason: %s", payment.getPaymentId(), reason),
+            null
+        );
+
+        log.info("환불 완료: {} - {} ({}원)", payment.getPaymentId(), payment.getMerchantName(), amount);
+    }
+
+    private void approve(Payment payment, PgApiResponse pgResponse) {
+        payment.markAsApproved(pgResponse.getPgTransactionId(), pgResponse.getRawResponse());
+        paymentAggregateService.recordApproved(payment);
+
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            payment.getUser().getId(),
+            payment.getUser().getPhoneNumber(),
+            AuditEventType.PAYMENT_SUCCESS,
+            String.format("결제 승인: %s (%s원)", payment.getMerchantName(), payment.getAmount()),
+            null, null,
+            String.format("paymentId: %s, method: %s", payment.getPaymentId(), payment.getPaymentMethod()),
+            null
+        );
+
+        // 알림 전송
+        notificationService.sendPaymentActivityNotification(
+            payment.getUser().getId(),
+            payment.getUser().getPhoneNumber(),
+            String.format("%s에서 %s원이 결제되었습니다.", payment.getMerchantName(), payment.getAmount())
+        );
+
+        log.info("결제 완료: {} - {} ({}원)", payment.getPaymentId(), payment.getMerchantName(), payment.getAmount());
+    }
+
+    private void fail(Payment payment, PgApiResponse pgResponse) {
+        String failureReason = String.format("PG 오류: %s - %s",
+            pgResponse.getStatus().getDescription(),
+            pgResponse.getErrorMessage());
+        payment.markAsFailed(failureReason);
+
+        // 감사 로그 기록
+        auditLogService.logFailure(
+            payment.getUser().getId(),
+            payment.getUser().getPhoneNumber(),
+            AuditEventType.PAYMENT_FAILED,
+            "결제 실패: " + failureReason,
+            null, null,
+            String.format("paymentId: %s, amount: %s", payment.getPaymentId(), payment.getAmount()),
+            failureReason
+        );
+
+        log.error("결제 실패: {} - {} ({}원) - {}",
+                payment.getPaymentId(), payment.getMerchantName(), payment.getAmount(), failureReason);
+    }
+}
@@ -2,6 +2,8 @@ package fintech2.easypay.payment.service.impl;
 
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.payment.service.PaymentAccountService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.Optional;
 public class AccountServiceImpl implements PaymentAccountService {
     
     private final AccountRepository accountRepository;
+    private final BalanceService balanceService;
     
     @Override
     public Optional<Account> findByUserId(Long userId) {
@@ -34,15 +37,21 @@ public class AccountServiceImpl implements PaymentAccountService {
     @Override
     @Transactional
     public void withdraw(Account account, BigDecimal amount) {
-        account.withdraw(amount); // Account 엔티티의 withdraw 메소드 사용
-        accountRepository.save(account);
+        // 잔액 원장(BalanceService)을 통해 차감
+        BalanceService.BalanceChangeResult result = balanceService.decrease(
+                account.getAccountNumber(), amount, TransactionType.PAYMENT,
+                "결제 출금", null, String.valueOf(account.getUserId()));
+        account.setBalance(result.getBalanceAfter());
     }
     
     @Override
     @Transactional
     public void deposit(Account account, BigDecimal amount) {
-        account.deposit(amount); // Account 엔티티의 deposit 메소드 사용
-        accountRepository.save(account);
+        // 잔액 원장(BalanceService)을 통해 입금
+        BalanceService.BalanceChangeResult result = balanceService.increase(
+                account.getAccountNumber(), amount, TransactionType.REFUND,
+                "결제 환불 입금", null, String.valueOf(account.getUserId()));
+        account.setBalance(result.getBalanceAfter());
     }
     
     @Override
@@ -0,0 +1,22 @@
+package fintech2.easypay.transfer.action;
+
+/**
+ * 송금 액션 트랜잭션 전략
+ * TransferActionProcessor가 액션 단계별 트랜잭션 경계를 정하는 기준
+ */
+public enum TransactionStrategy {
+    
+    /**
+     * 단일 커밋 (내부 송금용)
+     * 대기 저장 → 원장 이동 → 결과 반영을 하나의 트랜잭션으로 처리
+     * 실패 시 전체가 함께 롤백되므로 중간 상태가 남지 않음
+     */
+    SINGLE_COMMIT,
+    
+    /**
+     * 단계별 커밋 (외부 송금용)
+     * 대기 저장과 결과 반영을 각각 별도 트랜잭션으로 커밋하고, 실행은 트랜잭션 없이 수행
+     * 외부 호출 도중 장애가 나도 요청 기록이 남아 상태 조회/대사로 복구 가능
+     */
+    SEPARATE_COMMITS
+}
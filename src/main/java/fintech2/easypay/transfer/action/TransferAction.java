@@ -18,6 +18,17 @@ public interface TransferAction<C extends TransferActionCommand> {
      */
     Class<C> commandType();
     
+    /**
+     * 트랜잭션 전략
+     * 기본값은 단일 커밋이며, 외부 호출을 포함하는 액션은 단계별 커밋으로 재정의
+     * 
+     * @param command 처리할 명령
+     * @return 적용할 트랜잭션 전략
+     */
+    default TransactionStrategy transactionStrategy(C command) {
+        return TransactionStrategy.SINGLE_COMMIT;
+    }
+    
     /**
      * 사전 검증 단계
      * 잔액, 한도, 계좌 상태, 입력값 등을 검증
@@ -36,6 +47,18 @@ public interface TransferAction<C extends TransferActionCommand> {
      */
     void savePending(C command);
     
+    /**
+     * 접수된 송금의 실행 권한 확보 단계
+     * 비동기 접수처럼 대기 저장이 먼저 커밋된 경우, 실행 트랜잭션 안에서 거래 ID로 거래를 잠그고
+     * 아직 접수 상태인지 확인 (같은 거래를 다른 워커나 재처리가 이미 처리했으면 false)
+     * 
+     * @param command 실행할 명령
+     * @return 이 트랜잭션에서 실행해도 되면 true
+     */
+    default boolean claimPending(C command) {
+        return true;
+    }
+    
     /**
      * 실제 수행 단계
      * 외부 API 호출 또는 내부 DB 처리
@@ -1,24 +1,59 @@
 package fintech2.easypay.transfer.action;
 
+import fintech2.easypay.common.idempotency.IdempotencyContext;
 import fintech2.easypay.transfer.action.command.TransferActionCommand;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 송금 액션 프로세서
  * Action Pattern의 중앙 오케스트레이터
  * 표준 흐름(validate → savePending → execute → updateFromResult)을 관리하고
  * 트랜잭션 경계와 공통 오류 처리를 제공
+ *
+ * 트랜잭션 경계는 액션이 선택한 TransactionStrategy에 따라 TransactionTemplate으로 직접 지정
+ * (자기 호출로는 @Transactional 프록시가 적용되지 않으므로 어노테이션 대신 명시적으로 처리)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TransferActionProcessor {
     
+    private static final String METRIC_PROCESS = "easypay.transfer.action";
+    private static final String METRIC_COMMITS = "easypay.transfer.action.commits";
+    
     private final TransferActionResolver resolver;
+    private final TransferWorkQueue workQueue;
+    private final MeterRegistry meterRegistry;
+    
+    // 호출자 트랜잭션에 참여하거나 새로 시작 (단일 커밋 경로)
+    private final TransactionTemplate requiredTemplate;
+    
+    // 항상 새 트랜잭션으로 커밋 (단계별 커밋 경로, 실패 기록)
+    private final TransactionTemplate requiresNewTemplate;
+    
+    // 트랜잭션 없이 실행 (외부 호출 중 커넥션을 점유하지 않도록)
+    private final TransactionTemplate notSupportedTemplate;
+    
+    public TransferActionProcessor(TransferActionResolver resolver,
+                                   TransferWorkQueue workQueue,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.resolver = resolver;
+        this.workQueue = workQueue;
+        this.meterRegistry = meterRegistry;
+        this.requiredTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.notSupportedTemplate = new TransactionTemplate(transactionManager);
+        this.notSupportedTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
     
     /**
      * 송금 명령을 처리하는 메인 메서드
@@ -34,43 +69,51 @@ public class TransferActionProcessor {
             return ActionResult.failure("INVALID_COMMAND", "송금 명령이 유효하지 않습니다", null);
         }
         
-        long startTime = System.currentTimeMillis();
-        log.info("Starting transfer action processing: commandType={}", command.getClass().getSimpleName());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String commandType = command.getClass().getSimpleName();
+        TransactionStrategy strategy = null;
+        ActionResult result = null;
+        log.info("Starting transfer action processing: commandType={}", commandType);
         
         try {
             // 1. Action 해결 (Resolve)
             TransferAction<C> action = resolver.resolve(command);
-            log.debug("Resolved action: {} for command: {}", 
-                    action.getClass().getSimpleName(), command.getClass().getSimpleName());
+            strategy = action.transactionStrategy(command);
+            log.debug("Resolved action: {} for command: {}, strategy={}", 
+                    action.getClass().getSimpleName(), commandType, strategy);
             
             // 2. 검증 (Validate)
-            ActionResult result = validateCommand(action, command);
+            result = validateCommand(action, command);
             if (!result.isSuccess()) {
                 return result;
             }
             
-            // 3. 대기 상태 저장 (Save Pending) - 별도 트랜잭션
-            savePendingWithTransaction(action, command);
-            
-            // 4. 실행 (Execute) - 별도 트랜잭션
-            result = executeWithTransaction(action, command);
-            
-            // 5. 결과 업데이트 (Update From Result) - 별도 트랜잭션
-            updateResultWithTransaction(action, command, result);
+            // 3. 대기 저장 → 실행 → 결과 반영
+            result = strategy == TransactionStrategy.SINGLE_COMMIT
+                    ? processInSingleCommit(action, command, false)
+                    : processInSeparateCommits(action, command, false);
             
-            long processingTime = System.currentTimeMillis() - startTime;
-            log.info("Transfer action processing completed: commandType={}, status={}, duration={}ms",
-                    command.getClass().getSimpleName(), result.getStatus(), processingTime);
+            log.info("Transfer action processing completed: commandType={}, strategy={}, status={}",
+                    commandType, strategy, result.getStatus());
             
             return result;
             
         } catch (Exception e) {
-            long processingTime = System.currentTimeMillis() - startTime;
-            log.error("Unexpected error during transfer action processing: commandType={}, duration={}ms", 
-                    command.getClass().getSimpleName(), processingTime, e);
+            log.error("Unexpected error during transfer action processing: commandType={}", commandType, e);
             
-            return ActionResult.failure("PROCESSING_ERROR", 
+            result = ActionResult.failure("PROCESSING_ERROR", 
                     "송금 처리 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(), null);
+            return result;
+            
+        } finally {
+            long nanos = sample.stop(Timer.builder(METRIC_PROCESS)
+                    .description("송금 액션 처리 시간")
+                    .tag("command", commandType)
+                    .tag("strategy", strategy != null ? strategy.name() : "NONE")
+                    .tag("status", result != null ? result.getStatus().name() : "ERROR")
+                    .register(meterRegistry));
+            log.debug("Transfer action processing duration: commandType={}, duration={}ms",
+                    commandType, nanos / 1_000_000);
         }
     }
     
@@ -98,27 +141,106 @@ public class TransferActionProcessor {
     }
     
     /**
-     * 대기 상태 저장 - 별도 트랜잭션으로 처리
-     * 실행 실패 시에도 요청 기록이 남도록 보장
+     * 단일 커밋 경로 (내부 송금)
+     * 대기 저장, 원장 이동, 완료 처리를 하나의 트랜잭션으로 커밋
+     * 실행이 실패하면 원장 변경까지 모두 롤백한 뒤, 실패 기록만 별도 트랜잭션으로 남김
+     * (비동기 접수로 대기 저장이 이미 커밋된 경우 pendingSaved=true - 같은 트랜잭션에서 거래를 잠그고
+     *  아직 접수 상태일 때만 실행하므로, 원래 워커와 재처리가 겹쳐도 한 번만 실행됨)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public <C extends TransferActionCommand> void savePendingWithTransaction(TransferAction<C> action, C command) {
+    private <C extends TransferActionCommand> ActionResult processInSingleCommit(TransferAction<C> action, C command,
+                                                                              boolean pendingSaved) {
+        ActionResult result;
         try {
-            log.debug("Saving pending state: {}", command.getClass().getSimpleName());
-            action.savePending(command);
-            log.debug("Pending state saved successfully: {}", command.getClass().getSimpleName());
+            result = requiredTemplate.execute(status -> {
+                if (!pendingSaved) {
+                    action.savePending(command);
+                } else if (!action.claimPending(command)) {
+                    return null;
+                }
+                
+                ActionResult executed = executeCommand(action, command);
+                if (!executed.isSuccess()) {
+                    // 내부 호출에서 rollback-only가 표시됐더라도 여기서 명시적으로 롤백 (UnexpectedRollbackException 방지)
+                    status.setRollbackOnly();
+                    return executed;
+                }
+                
+                updateResult(action, command, executed);
+                return executed;
+            });
+        } catch (TransactionException e) {
+            // 결과 반영 중 하위 호출이 트랜잭션을 rollback-only로 만든 경우 - 원장 이동도 함께 롤백됨
+            log.error("Single-commit transaction rolled back: {}", command.getClass().getSimpleName(), e);
+            result = ActionResult.failure("TRANSACTION_ROLLED_BACK", 
+                    "송금 처리 트랜잭션이 롤백되었습니다", null);
+        }
+        
+        if (result == null) {
+            log.info("Transfer already processed elsewhere: commandType={}", command.getClass().getSimpleName());
+            return ActionResult.pending("이미 처리 중이거나 처리된 송금입니다", null);
+        }
+        
+        if (result.isSuccess()) {
+            countCommits(TransactionStrategy.SINGLE_COMMIT, 1);
+            return result;
+        }
+        
+        recordFailure(action, command, result, pendingSaved);
+        return result;
+    }
+    
+    /**
+     * 단계별 커밋 경로 (외부 송금)
+     * 대기 저장을 먼저 커밋해 외부 호출 도중 장애가 나도 요청 기록이 남도록 보장
+     * 실행 단계는 트랜잭션 없이 수행해 외부 호출 동안 커넥션을 점유하지 않음 (액션 내부 원장 변경은 자체 트랜잭션)
+     */
+    private <C extends TransferActionCommand> ActionResult processInSeparateCommits(TransferAction<C> action, C command,
+                                                                                 boolean pendingSaved) {
+        if (!pendingSaved) {
+            requiresNewTemplate.executeWithoutResult(status -> action.savePending(command));
+            // 외부 호출 이후 실패해도 같은 멱등 키로 다시 송금하지 않도록 (결과는 상태 조회 스케줄러가 확정)
+            IdempotencyContext.markSideEffect();
+        }
+        
+        ActionResult result = notSupportedTemplate.execute(status -> executeCommand(action, command));
+        
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> updateResult(action, command, result));
+        } catch (TransactionException e) {
+            // 결과 반영 실패는 전체 프로세스를 실패시키지 않음 (상태 조회 스케줄러가 후속 처리)
+            log.error("Failed to commit result update: {}", command.getClass().getSimpleName(), e);
+        }
+        
+        countCommits(TransactionStrategy.SEPARATE_COMMITS, pendingSaved ? 1 : 2);
+        return result;
+    }
+    
+    /**
+     * 단일 커밋 경로의 실패 기록 - 롤백된 대기 저장과 실패 결과를 별도 트랜잭션으로 남김
+     */
+    private <C extends TransferActionCommand> void recordFailure(TransferAction<C> action, C command, ActionResult result,
+                                                              boolean pendingSaved) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                if (!pendingSaved) {
+                    action.savePending(command);
+                } else if (!action.claimPending(command)) {
+                    // 실패 기록 전에 다른 워커가 처리를 끝낸 경우 결과를 덮어쓰지 않음
+                    return;
+                }
+                updateResult(action, command, result);
+            });
+            countCommits(TransactionStrategy.SINGLE_COMMIT, 1);
         } catch (Exception e) {
-            log.error("Failed to save pending state: {}", command.getClass().getSimpleName(), e);
-            throw new RuntimeException("대기 상태 저장 실패: " + e.getMessage(), e);
+            log.error("Failed to record transfer failure: commandType={}, code={}", 
+                    command.getClass().getSimpleName(), result.getCode(), e);
         }
     }
     
     /**
-     * 명령 실행 - 별도 트랜잭션으로 처리
-     * 실제 비즈니스 로직 수행
+     * 명령 실행 단계
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public <C extends TransferActionCommand> ActionResult executeWithTransaction(TransferAction<C> action, C command) {
+    private <C extends TransferActionCommand> ActionResult executeCommand(TransferAction<C> action, C command) {
         try {
             log.info("Executing command: {}", command.getClass().getSimpleName());
             
@@ -137,11 +259,10 @@ public class TransferActionProcessor {
     }
     
     /**
-     * 결과 업데이트 - 별도 트랜잭션으로 처리
+     * 결과 반영 단계
      * 감사 로그, 알림 등 후처리 작업 수행
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public <C extends TransferActionCommand> void updateResultWithTransaction(TransferAction<C> action, C command, ActionResult result) {
+    private <C extends TransferActionCommand> void updateResult(TransferAction<C> action, C command, ActionResult result) {
         try {
             log.debug("Updating result: commandType={}, status={}", 
                     command.getClass().getSimpleName(), result.getStatus());
@@ -159,21 +280,127 @@ public class TransferActionProcessor {
         }
     }
     
+    private void countCommits(TransactionStrategy strategy, int commits) {
+        Counter.builder(METRIC_COMMITS)
+                .description("송금 액션 처리 중 커밋된 트랜잭션 수")
+                .tag("strategy", strategy.name())
+                .register(meterRegistry)
+                .increment(commits);
+    }
+    
     /**
-     * 비동기 처리용 메서드 (향후 확장 가능성)
-     * 큐 기반 처리나 스케줄러 연동 시 사용 가능
+     * 비동기 접수
+     * 검증과 대기 저장까지만 요청 스레드에서 커밋하고, 실행과 결과 반영은 송금 계좌 파티션의 워커가 처리
+     * 같은 송금 계좌의 요청은 같은 워커에서 접수 순서대로 실행됨
+     *
+     * @param command 처리할 송금 명령
+     * @return 접수되면 PENDING, 검증 실패나 큐 포화 시 FAILURE
      */
-    public <C extends TransferActionCommand> void processAsync(C command) {
-        log.info("Starting async transfer processing: {}", command.getClass().getSimpleName());
+    public <C extends TransferActionCommand> ActionResult processAsync(C command) {
+        if (command == null) {
+            log.error("Transfer command cannot be null");
+            return ActionResult.failure("INVALID_COMMAND", "송금 명령이 유효하지 않습니다", null);
+        }
+        
+        String commandType = command.getClass().getSimpleName();
+        log.info("Accepting async transfer: commandType={}", commandType);
         
-        // 현재는 동기 처리와 동일하지만, 향후 메시지 큐나 별도 스레드풀로 확장 가능
         try {
-            ActionResult result = process(command);
-            log.info("Async transfer processing completed: commandType={}, status={}", 
-                    command.getClass().getSimpleName(), result.getStatus());
+            TransferAction<C> action = resolver.resolve(command);
+            TransactionStrategy strategy = action.transactionStrategy(command);
+            
+            ActionResult validated = validateCommand(action, command);
+            if (!validated.isSuccess()) {
+                return validated;
+            }
+            
+            // 대기 저장을 먼저 커밋해야 접수 직후 조회에서 보임
+            requiresNewTemplate.executeWithoutResult(status -> action.savePending(command));
+            
+            boolean accepted = workQueue.submit(partitionKey(command),
+                    () -> completeAsync(action, command, strategy));
+            if (!accepted) {
+                ActionResult rejected = ActionResult.failure("QUEUE_FULL",
+                        "송금 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", null);
+                requiresNewTemplate.executeWithoutResult(status -> updateResult(action, command, rejected));
+                return rejected;
+            }
+            
+            return ActionResult.pending("송금 요청이 접수되었습니다", null);
+            
+        } catch (Exception e) {
+            log.error("Failed to accept async transfer: commandType={}", commandType, e);
+            return ActionResult.failure("PROCESSING_ERROR",
+                    "송금 접수 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+    
+    /**
+     * 접수 상태로 남은 송금 재처리
+     * 비동기 접수 후 노드 종료/장애로 큐에서 사라진 송금을 다시 검증해 파티션 큐에 넣음 (대기 저장은 다시 하지 않음)
+     * 실행은 워커가 거래를 잠그고 아직 접수 상태일 때만 하므로, 원래 작업이 남아 있어도 중복 실행되지 않음
+     * 다시 검증에 실패하면 실패로 확정하고, 큐가 가득 차면 그대로 두어 다음 재처리에서 다시 시도
+     *
+     * @param command 저장된 송금으로 다시 만든 명령 (거래 ID 포함)
+     * @return 큐에 넣으면 PENDING, 검증 실패나 큐 포화 시 FAILURE
+     */
+    public <C extends TransferActionCommand> ActionResult resumeAsync(C command) {
+        String commandType = command.getClass().getSimpleName();
+        try {
+            TransferAction<C> action = resolver.resolve(command);
+            TransactionStrategy strategy = action.transactionStrategy(command);
+            
+            ActionResult validated = validateCommand(action, command);
+            if (!validated.isSuccess()) {
+                recordFailure(action, command, validated, true);
+                return validated;
+            }
+            
+            if (!workQueue.submit(partitionKey(command), () -> completeAsync(action, command, strategy))) {
+                return ActionResult.failure("QUEUE_FULL", "송금 처리 큐가 가득 차 다음 재처리로 미룹니다", null);
+            }
+            return ActionResult.pending("송금 재처리가 접수되었습니다", null);
+            
         } catch (Exception e) {
-            log.error("Async transfer processing failed: {}", command.getClass().getSimpleName(), e);
+            log.error("Failed to resume async transfer: commandType={}", commandType, e);
+            return ActionResult.failure("PROCESSING_ERROR",
+                    "송금 재처리 접수 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+    
+    /**
+     * 워커에서 실행 → 결과 반영 (대기 저장은 접수 시 커밋됨)
+     */
+    private <C extends TransferActionCommand> void completeAsync(TransferAction<C> action, C command,
+                                                              TransactionStrategy strategy) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String commandType = command.getClass().getSimpleName();
+        ActionResult result = null;
+        try {
+            result = strategy == TransactionStrategy.SINGLE_COMMIT
+                    ? processInSingleCommit(action, command, true)
+                    : processInSeparateCommits(action, command, true);
+            log.info("Async transfer processing completed: commandType={}, status={}",
+                    commandType, result.getStatus());
+        } finally {
+            sample.stop(Timer.builder(METRIC_PROCESS)
+                    .description("송금 액션 처리 시간")
+                    .tag("command", commandType)
+                    .tag("strategy", strategy.name())
+                    .tag("status", result != null ? result.getStatus().name() : "ERROR")
+                    .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * 파티션 키 - 검증 단계에서 결정된 송금 계좌번호 (없으면 송금자 휴대폰 번호)
+     */
+    private String partitionKey(TransferActionCommand command) {
+        TransferContext context = command.getContext();
+        if (context != null && context.getSenderAccountNumber() != null) {
+            return context.getSenderAccountNumber();
         }
+        return command.getSenderPhoneNumber();
     }
     
     /**
@@ -0,0 +1,44 @@
+package fintech2.easypay.transfer.action;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.auth.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 송금 요청 컨텍스트
+ * 검증 단계에서 한 번 조회한 송금자/수신자와 계좌를 이후 단계(저장, 실행, 결과 반영)에서 재사용
+ * 잔액은 원장(account_balances)의 조건부 UPDATE로 검증하므로 여기 담긴 엔티티를 다시 잠글 필요는 없음
+ */
+@Getter
+@Builder
+public class TransferContext {
+    
+    /**
+     * 송금자
+     */
+    private final User sender;
+    
+    /**
+     * 송금자 계좌 (지정 계좌 또는 기본 계좌)
+     */
+    private final Account senderAccount;
+    
+    /**
+     * 수신자 (외부 송금인 경우 null)
+     */
+    private final User receiver;
+    
+    /**
+     * 수신자 계좌 (외부 송금인 경우 null)
+     */
+    private final Account receiverAccount;
+    
+    public String getSenderAccountNumber() {
+        return senderAccount != null ? senderAccount.getAccountNumber() : null;
+    }
+    
+    public String getReceiverAccountNumber() {
+        return receiverAccount != null ? receiverAccount.getAccountNumber() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package fintech2.easypay.transfer.action;
+
+/**
+ * 송금 거래 내역 설명 문구
+ * 메모가 없는 송금에 "null"이 그대로 기록되지 않도록 메모가 있을 때만 붙임
+ */
+public final class TransferDescriptions {
+
+    private TransferDescriptions() {
+    }
+
+    /**
+     * @param label 거래 종류 (예: "내부 송금 출금")
+     * @param memo 송금 메모 (없으면 종류만 기록)
+     */
+    public static String of(String label, String memo) {
+        if (memo == null || memo.isBlank()) {
+            return label;
+        }
+        return label + ": " + memo.trim();
+    }
+}
@@ -0,0 +1,167 @@
+package fintech2.easypay.transfer.action;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 송금 작업 큐
+ * 파티션마다 크기가 제한된 큐와 전용 워커 스레드 하나를 두고, 송금 계좌 기준으로 파티션을 고정
+ * → 같은 송금 계좌의 요청은 접수 순서대로 하나씩 처리되고, 다른 계좌끼리는 병렬 처리됨
+ *
+ * 큐가 가득 차면 대기하지 않고 즉시 거절 (요청 스레드가 막히지 않도록)
+ * 가상 스레드 모드에서는 워커도 가상 스레드로 생성 (외부 호출 대기 중 캐리어 스레드를 반환)
+ */
+@Component
+@Slf4j
+public class TransferWorkQueue {
+
+    private static final String METRIC_DEPTH = "easypay.transfer.queue.depth";
+    private static final String METRIC_WAIT = "easypay.transfer.queue.wait";
+    private static final String METRIC_REJECTED = "easypay.transfer.queue.rejected";
+
+    private final int partitions;
+    private final long drainTimeoutMs;
+    private final boolean virtualThreads;
+    private final List<BlockingQueue<Task>> queues;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+
+    public TransferWorkQueue(@Value("${easypay.transfer.async.partitions:8}") int partitions,
+                             @Value("${easypay.transfer.async.queue-capacity:1000}") int queueCapacity,
+                             @Value("${easypay.transfer.async.drain-timeout-ms:10000}") long drainTimeoutMs,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             MeterRegistry meterRegistry) {
+        if (partitions <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("파티션 수와 큐 크기는 1 이상이어야 합니다");
+        }
+        this.partitions = partitions;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.virtualThreads = virtualThreads;
+        this.queues = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+
+        Gauge.builder(METRIC_DEPTH, this, TransferWorkQueue::size)
+                .description("비동기 송금 큐에 대기 중인 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_WAIT)
+                .description("비동기 송금 작업의 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_REJECTED)
+                .description("큐가 가득 차 거절된 비동기 송금 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<Task> queue = queues.get(i);
+            Thread.Builder builder = virtualThreads
+                    ? Thread.ofVirtual()
+                    : Thread.ofPlatform().daemon(true);
+            workers.add(builder.name("transfer-worker-" + i).start(() -> runWorker(queue)));
+        }
+        log.info("비동기 송금 큐 시작: partitions={}, virtualThreads={}", partitions, virtualThreads);
+    }
+
+    /**
+     * 작업 등록
+     * @param partitionKey 파티션 키 (송금 계좌번호)
+     * @param task 실행할 작업
+     * @return 큐가 가득 찼거나 종료 중이면 false
+     */
+    public boolean submit(String partitionKey, Runnable task) {
+        if (!running) {
+            rejectedCounter.increment();
+            return false;
+        }
+        boolean accepted = queues.get(partitionOf(partitionKey)).offer(new Task(task, System.nanoTime()));
+        if (!accepted) {
+            rejectedCounter.increment();
+            log.warn("비동기 송금 큐 포화로 거절: partitionKey={}", partitionKey);
+        }
+        return accepted;
+    }
+
+    /**
+     * 대기 중인 전체 작업 수
+     */
+    public int size() {
+        int size = 0;
+        for (BlockingQueue<Task> queue : queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    int partitionOf(String partitionKey) {
+        return partitionKey == null ? 0 : Math.floorMod(partitionKey.hashCode(), partitions);
+    }
+
+    /**
+     * 종료 시 새 작업은 거절하고 이미 접수된 작업은 제한 시간 안에서 모두 처리
+     * 시간 안에 처리하지 못한 송금은 접수(REQUESTED) 상태로 남고, RequestedTransferRecoveryService가 다시 큐에 넣음
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + drainTimeoutMs;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = size();
+        if (remaining > 0) {
+            log.warn("비동기 송금 큐 종료 시 미처리 작업 {}건이 남았습니다", remaining);
+        }
+        log.info("비동기 송금 큐 종료");
+    }
+
+    private void runWorker(BlockingQueue<Task> queue) {
+        while (running || !queue.isEmpty()) {
+            Task task;
+            try {
+                task = queue.poll(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+
+            waitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+            try {
+                task.runnable().run();
+            } catch (Throwable t) {
+                // 한 작업의 실패가 같은 파티션의 뒤 작업을 막지 않도록 로깅만 수행
+                log.error("비동기 송금 작업 실패: worker={}", Thread.currentThread().getName(), t);
+            }
+        }
+    }
+
+    private record Task(Runnable runnable, long enqueuedAt) {
+    }
+}
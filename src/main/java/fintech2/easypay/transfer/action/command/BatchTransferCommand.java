@@ -0,0 +1,98 @@
+package fintech2.easypay.transfer.action.command;
+
+import fintech2.easypay.transfer.action.TransferContext;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일괄 송금 명령
+ * 한 송금자 계좌에서 여러 수신 계좌로의 내부 송금(급여 지급 등)을 하나의 트랜잭션으로 처리
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public final class BatchTransferCommand implements TransferActionCommand {
+    
+    /**
+     * 송금자 휴대폰 번호
+     */
+    private String senderPhoneNumber;
+    
+    /**
+     * 송금자 계좌번호 (지정된 경우만, null이면 기본 계좌 사용)
+     */
+    private String senderAccountNumber;
+    
+    /**
+     * 일괄 송금 ID
+     */
+    private String batchId;
+    
+    /**
+     * 개별 송금 건
+     */
+    @Builder.Default
+    private List<Leg> legs = new ArrayList<>();
+    
+    /**
+     * 요청 컨텍스트 (검증 단계에서 설정, equals/hashCode 대상 아님)
+     */
+    private TransferContext context;
+    
+    /**
+     * 총 송금 금액
+     */
+    public BigDecimal getTotalAmount() {
+        return legs.stream()
+                .map(Leg::getAmount)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    /**
+     * 일괄 송금의 개별 건
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Leg {
+        private String receiverAccountNumber;
+        private BigDecimal amount;
+        private String memo;
+        private String transactionId;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchTransferCommand that)) return false;
+        return Objects.equals(senderPhoneNumber, that.senderPhoneNumber) &&
+               Objects.equals(senderAccountNumber, that.senderAccountNumber) &&
+               Objects.equals(batchId, that.batchId) &&
+               Objects.equals(legs, that.legs);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(senderPhoneNumber, senderAccountNumber, batchId, legs);
+    }
+    
+    @Override
+    public String toString() {
+        return "BatchTransferCommand{" +
+               "senderPhone=" + senderPhoneNumber +
+               ", senderAccount=" + senderAccountNumber +
+               ", batchId='" + batchId + '\'' +
+               ", legs=" + (legs != null ? legs.size() : 0) +
+               '}';
+    }
+}
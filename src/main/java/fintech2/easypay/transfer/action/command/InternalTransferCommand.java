@@ -1,5 +1,6 @@
 package fintech2.easypay.transfer.action.command;
 
+import fintech2.easypay.transfer.action.TransferContext;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -48,6 +49,11 @@ public final class InternalTransferCommand implements TransferActionCommand {
      */
     private String transactionId;
     
+    /**
+     * 요청 컨텍스트 (검증 단계에서 설정, equals/hashCode 대상 아님)
+     */
+    private TransferContext context;
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
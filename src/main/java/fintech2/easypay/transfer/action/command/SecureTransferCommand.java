@@ -1,5 +1,6 @@
 package fintech2.easypay.transfer.action.command;
 
+import fintech2.easypay.transfer.action.TransferContext;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -71,6 +72,11 @@ public final class SecureTransferCommand implements TransferActionCommand {
      */
     private String bankTransactionId;
     
+    /**
+     * 요청 컨텍스트 (검증 단계에서 설정, equals/hashCode 대상 아님)
+     */
+    private TransferContext context;
+    
     /**
      * 내부 송금 여부 판단
      * @return EASYPAY 은행 코드인 경우 true
@@ -91,6 +97,7 @@ public final class SecureTransferCommand implements TransferActionCommand {
                 .amount(amount)
                 .memo(memo)
                 .transactionId(transactionId)
+                .context(context)
                 .build();
     }
     
@@ -109,6 +116,7 @@ public final class SecureTransferCommand implements TransferActionCommand {
                 .currency(currency)
                 .transactionId(transactionId)
                 .bankTransactionId(bankTransactionId)
+                .context(context)
                 .build();
     }
     
@@ -1,10 +1,23 @@
 package fintech2.easypay.transfer.action.command;
 
+import fintech2.easypay.transfer.action.TransferContext;
+
 /**
- * 송금 액션 명령 마커 인터페이스
+ * 송금 액션 명령 인터페이스
  * 모든 송금 관련 명령 객체가 구현해야 하는 기본 인터페이스
- * 타입 안전성과 명확한 의도 표현을 위한 마커 인터페이스
+ * 검증 단계에서 조회한 엔티티를 이후 단계에서 재사용할 수 있도록 컨텍스트를 함께 전달
  */
 public interface TransferActionCommand {
-    // 마커 인터페이스 - 추가 메서드 없음
-}
\ No newline at end of file
+    
+    /**
+     * 송금자 휴대폰 번호
+     */
+    String getSenderPhoneNumber();
+    
+    /**
+     * 검증 단계에서 만든 요청 컨텍스트 (검증 전에는 null)
+     */
+    TransferContext getContext();
+    
+    void setContext(TransferContext context);
+}
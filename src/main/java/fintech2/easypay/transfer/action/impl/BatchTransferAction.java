@@ -0,0 +1,389 @@
+package fintech2.easypay.transfer.action.impl;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.account.service.BalanceShardService;
+import fintech2.easypay.account.service.HotAccountBalanceEngine;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.AccountStatus;
+import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.common.enums.TransactionStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.AfterCommit;
+import fintech2.easypay.common.util.TransactionIdGenerator;
+import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.TransferAction;
+import fintech2.easypay.transfer.action.TransferContext;
+import fintech2.easypay.transfer.action.TransferDescriptions;
+import fintech2.easypay.transfer.action.command.BatchTransferCommand;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.repository.TransferBatchJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 송금 액션
+ * 한 송금자 계좌에서 여러 내부 계좌로의 송금을 한 트랜잭션에서 처리
+ * 관련 잔액 행을 계좌번호 순으로 한 번에 잠그고, 송금자 잔액은 총액으로 한 번만 검증(전부 성공 또는 전부 실패)
+ * 잔액/거래 내역/송금 상태는 JDBC 배치로 반영
+ * 샤딩된 계좌나 핫 계좌로의 입금은 본 행만으로 잔액을 알 수 없으므로 BalanceService로 반영 (샤드/저널 경유)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BatchTransferAction implements TransferAction<BatchTransferCommand> {
+
+    private final TransferBatchJdbcRepository transferBatchJdbcRepository;
+    private final AccountRepository accountRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final UserRepository userRepository;
+    private final BalanceShardService balanceShardService;
+    private final HotAccountBalanceEngine hotAccountBalanceEngine;
+    private final BalanceService balanceService;
+    private final AuditLogService auditLogService;
+    private final NotificationService notificationService;
+    private final CacheManager cacheManager;
+    private final TransactionIdGenerator transactionIdGenerator;
+
+    @Override
+    public Class<BatchTransferCommand> commandType() {
+        return BatchTransferCommand.class;
+    }
+
+    @Override
+    public boolean validate(BatchTransferCommand command) {
+        try {
+            if (command.getLegs() == null || command.getLegs().isEmpty()) {
+                log.warn("Batch transfer has no legs: {}", command.getBatchId());
+                return false;
+            }
+
+            for (BatchTransferCommand.Leg leg : command.getLegs()) {
+                if (leg.getAmount() == null || leg.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                    log.warn("Invalid amount in batch {}: {}", command.getBatchId(), leg.getAmount());
+                    return false;
+                }
+                if (leg.getReceiverAccountNumber() == null || leg.getReceiverAccountNumber().trim().isEmpty()) {
+                    log.warn("Receiver account number is required in batch {}", command.getBatchId());
+                    return false;
+                }
+            }
+
+            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber()).orElse(null);
+            if (sender == null) {
+                log.warn("Sender not found: {}", command.getSenderPhoneNumber());
+                return false;
+            }
+
+            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+            if (senderAccount == null) {
+                log.warn("Sender account not found or invalid");
+                return false;
+            }
+            String senderAccountNumber = senderAccount.getAccountNumber();
+            command.setSenderAccountNumber(senderAccountNumber);
+
+            // 수신 계좌 일괄 조회 (건별 조회 대신 IN 조회 한 번)
+            Set<String> receiverAccountNumbers = command.getLegs().stream()
+                    .map(BatchTransferCommand.Leg::getReceiverAccountNumber)
+                    .collect(Collectors.toSet());
+            if (receiverAccountNumbers.contains(senderAccountNumber)) {
+                log.warn("Same account transfer attempted in batch {}", command.getBatchId());
+                return false;
+            }
+
+            Map<String, Account> receivers = findAccounts(receiverAccountNumbers);
+            for (String accountNumber : receiverAccountNumbers) {
+                Account account = receivers.get(accountNumber);
+                if (account == null || account.getStatus() != AccountStatus.ACTIVE) {
+                    log.warn("Receiver account not found or inactive: {}", accountNumber);
+                    return false;
+                }
+            }
+
+            command.setContext(TransferContext.builder()
+                    .sender(sender)
+                    .senderAccount(senderAccount)
+                    .build());
+            return true;
+
+        } catch (Exception e) {
+            log.error("Validation error for command: {}", command, e);
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void savePending(BatchTransferCommand command) {
+        try {
+            User sender = contextOf(command).getSender();
+
+            Set<String> receiverAccountNumbers = command.getLegs().stream()
+                    .map(BatchTransferCommand.Leg::getReceiverAccountNumber)
+                    .collect(Collectors.toSet());
+            Map<String, Long> receiverUserIds = new HashMap<>();
+            findAccounts(receiverAccountNumbers)
+                    .forEach((accountNumber, account) -> receiverUserIds.put(accountNumber, account.getUserId()));
+
+            for (BatchTransferCommand.Leg leg : command.getLegs()) {
+                if (leg.getTransactionId() == null || leg.getTransactionId().trim().isEmpty()) {
+                    leg.setTransactionId(transactionIdGenerator.nextTransactionId());
+                }
+            }
+
+            transferBatchJdbcRepository.insertPendingTransfers(sender.getId(), command.getSenderAccountNumber(),
+                    command.getLegs(), receiverUserIds);
+
+            log.info("Batch transfer saved as pending: batchId={}, count={}",
+                    command.getBatchId(), command.getLegs().size());
+
+        } catch (Exception e) {
+            log.error("Failed to save pending batch transfer: {}", command, e);
+            throw new BusinessException(ErrorCode.TRANSACTION_FAILED,
+                    "일괄 송금 요청 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    public ActionResult execute(BatchTransferCommand command) {
+        log.info("Executing batch transfer: batchId={}, count={}", command.getBatchId(), command.getLegs().size());
+
+        User sender = contextOf(command).getSender();
+        String senderAccountNumber = command.getSenderAccountNumber();
+        BigDecimal totalAmount = command.getTotalAmount();
+
+        // 샤딩/핫 수신 계좌는 본 행을 잠그지 않고 BalanceService로 입금 (거래 내역도 샤드/저널 포함 잔액으로 기록됨)
+        List<BatchTransferCommand.Leg> ledgerLegs = new ArrayList<>(command.getLegs().size());
+        SortedMap<String, List<BatchTransferCommand.Leg>> routedLegs = new TreeMap<>();
+        for (BatchTransferCommand.Leg leg : command.getLegs()) {
+            if (isRoutedReceiver(leg.getReceiverAccountNumber())) {
+                routedLegs.computeIfAbsent(leg.getReceiverAccountNumber(), key -> new ArrayList<>()).add(leg);
+            } else {
+                ledgerLegs.add(leg);
+            }
+        }
+
+        // 1. 관련 잔액 행을 계좌번호 순으로 일괄 잠금
+        SortedMap<String, BigDecimal> balances = lockBalances(senderAccountNumber, ledgerLegs);
+
+        // 샤딩된 송금자 계좌는 본 행을 모두 잠근 뒤 샤드 잔액을 본 행으로 모음
+        // (본 행을 계좌번호 순으로 먼저 잡고 샤드는 그 뒤에 잠가 단건 송금/다른 일괄 송금과 잠금 순서를 맞춤)
+        if (balanceShardService.isSharded(senderAccountNumber)) {
+            BigDecimal borrowed = balanceShardService.borrowFromShards(senderAccountNumber);
+            balances.merge(senderAccountNumber, borrowed, BigDecimal::add);
+        }
+
+        // 2. 송금자 잔액은 총액 기준으로 한 번만 검증 (쓰기 전에 실패 처리)
+        BigDecimal senderBalance = balances.get(senderAccountNumber);
+        if (senderBalance.compareTo(totalAmount) < 0) {
+            log.warn("Insufficient balance for batch transfer: account={}, balance={}, total={}",
+                    senderAccountNumber, senderBalance, totalAmount);
+            return ActionResult.failure("INSUFFICIENT_BALANCE", "잔액이 부족합니다", createResultData(command));
+        }
+
+        // 3. 건별 누적 잔액 계산 및 거래 내역 생성
+        List<TransactionHistory> histories = new ArrayList<>(command.getLegs().size() * 2);
+        String senderUserId = sender.getId().toString();
+        for (BatchTransferCommand.Leg leg : command.getLegs()) {
+            BigDecimal senderBefore = balances.get(senderAccountNumber);
+            BigDecimal senderAfter = senderBefore.subtract(leg.getAmount());
+            balances.put(senderAccountNumber, senderAfter);
+            histories.add(createHistory(senderAccountNumber, TransactionType.TRANSFER_OUT, leg,
+                    senderBefore, senderAfter, TransferDescriptions.of("일괄 송금 출금", leg.getMemo()), senderUserId));
+
+            String receiverAccountNumber = leg.getReceiverAccountNumber();
+            if (routedLegs.containsKey(receiverAccountNumber)) {
+                continue;
+            }
+            BigDecimal receiverBefore = balances.get(receiverAccountNumber);
+            BigDecimal receiverAfter = receiverBefore.add(leg.getAmount());
+            balances.put(receiverAccountNumber, receiverAfter);
+            histories.add(createHistory(receiverAccountNumber, TransactionType.TRANSFER_IN, leg,
+                    receiverBefore, receiverAfter, TransferDescriptions.of("일괄 송금 입금", leg.getMemo()), senderUserId));
+        }
+
+        // 4. 잔액/거래 내역/송금 상태 일괄 반영 (샤딩/핫 수신 계좌는 계좌번호 순으로 BalanceService 입금)
+        transferBatchJdbcRepository.updateBalances(balances);
+        transferBatchJdbcRepository.insertHistories(histories);
+        routedLegs.forEach((receiverAccountNumber, legs) -> legs.forEach(leg ->
+                balanceService.increase(receiverAccountNumber, leg.getAmount(), TransactionType.TRANSFER_IN,
+                        TransferDescriptions.of("일괄 송금 입금", leg.getMemo()), leg.getTransactionId(),
+                        senderUserId)));
+        transferBatchJdbcRepository.updateTransferStatus(transactionIds(command), TransferStatus.COMPLETED, null);
+
+        AfterCommit.evict(cacheManager, "balanceCache", balances.keySet());
+
+        log.info("Batch transfer executed successfully: batchId={}, accounts={}, total={}",
+                command.getBatchId(), balances.size(), totalAmount);
+
+        return ActionResult.success("일괄 송금이 완료되었습니다", createResultData(command));
+    }
+
+    @Override
+    @Transactional
+    public void updateFromResult(BatchTransferCommand command, ActionResult result) {
+        try {
+            User sender = contextOf(command).getSender();
+
+            if (result.isSuccess()) {
+                // 송금 상태는 execute에서 잔액과 함께 반영됨
+                auditLogService.logSuccess(
+                        sender.getId(),
+                        command.getSenderPhoneNumber(),
+                        AuditEventType.TRANSFER_SUCCESS,
+                        String.format("일괄 송금 완료: %s -> %d건 (%s원)",
+                                command.getSenderAccountNumber(),
+                                command.getLegs().size(),
+                                command.getTotalAmount()),
+                        null, null,
+                        String.format("count: %d, totalAmount: %s", command.getLegs().size(), command.getTotalAmount()),
+                        String.format("batchId: %s", command.getBatchId())
+                );
+
+                notificationService.sendTransferActivityNotification(
+                        sender.getId(),
+                        command.getSenderPhoneNumber(),
+                        String.format("%d건, 총 %s원이 일괄 송금되었습니다.",
+                                command.getLegs().size(), command.getTotalAmount())
+                );
+
+            } else {
+                transferBatchJdbcRepository.updateTransferStatus(transactionIds(command),
+                        TransferStatus.FAILED, result.getMessage());
+
+                auditLogService.logFailure(
+                        sender.getId(),
+                        command.getSenderPhoneNumber(),
+                        AuditEventType.TRANSFER_FAILED,
+                        "일괄 송금 실패: " + result.getMessage(),
+                        null, null,
+                        String.format("count: %d, totalAmount: %s", command.getLegs().size(), command.getTotalAmount()),
+                        result.getMessage()
+                );
+            }
+
+            log.info("Batch transfer result updated: batchId={}, status={}",
+                    command.getBatchId(), result.getStatus());
+
+        } catch (Exception e) {
+            log.error("Failed to update batch transfer result: {}", command.getBatchId(), e);
+        }
+    }
+
+    /**
+     * 송금자와 수신 계좌의 잔액 행을 계좌번호 순으로 잠금
+     * 잔액 행이 없는 계좌는 0원 행을 만든 뒤 다시 잠금
+     */
+    private SortedMap<String, BigDecimal> lockBalances(String senderAccountNumber, List<BatchTransferCommand.Leg> legs) {
+        TreeSet<String> accountNumbers = new TreeSet<>();
+        accountNumbers.add(senderAccountNumber);
+        legs.forEach(leg -> accountNumbers.add(leg.getReceiverAccountNumber()));
+
+        Map<String, BigDecimal> locked = transferBatchJdbcRepository.lockBalances(accountNumbers);
+        if (locked.size() < accountNumbers.size()) {
+            List<String> missing = accountNumbers.stream()
+                    .filter(accountNumber -> !locked.containsKey(accountNumber))
+                    .toList();
+            transferBatchJdbcRepository.insertZeroBalances(missing);
+            locked.putAll(transferBatchJdbcRepository.lockBalances(new TreeSet<>(missing)));
+        }
+        return new TreeMap<>(locked);
+    }
+
+    private boolean isRoutedReceiver(String accountNumber) {
+        return balanceShardService.isSharded(accountNumber) || hotAccountBalanceEngine.isHotAccount(accountNumber);
+    }
+
+    private TransactionHistory createHistory(String accountNumber, TransactionType type, BatchTransferCommand.Leg leg,
+                                             BigDecimal before, BigDecimal after, String description, String userId) {
+        return TransactionHistory.builder()
+                .accountNumber(accountNumber)
+                .transactionType(type)
+                .amount(leg.getAmount())
+                .balanceBefore(before)
+                .balanceAfter(after)
+                .description(description)
+                .referenceId(leg.getTransactionId())
+                .createdBy(userId)
+                .status(TransactionStatus.COMPLETED)
+                .build();
+    }
+
+    private Map<String, Account> findAccounts(Set<String> accountNumbers) {
+        return accountRepository.findByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+    }
+
+    /**
+     * 검증 단계에서 만든 컨텍스트 반환 (검증을 거치지 않고 호출된 경우에만 송금자를 새로 조회)
+     */
+    private TransferContext contextOf(BatchTransferCommand command) {
+        if (command.getContext() == null) {
+            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+            command.setContext(TransferContext.builder()
+                    .sender(sender)
+                    .build());
+        }
+        return command.getContext();
+    }
+
+    /**
+     * 송금자 계좌 결정
+     * 지정된 계좌가 있으면 본인 계좌인지 확인, 없으면 기본 계좌 사용
+     */
+    private Account resolveSenderAccount(User sender, String senderAccountNumber) {
+        if (senderAccountNumber != null && !senderAccountNumber.trim().isEmpty()) {
+            return accountRepository.findByAccountNumber(senderAccountNumber)
+                    .filter(account -> account.getUserId().equals(sender.getId()))
+                    .orElse(null);
+        }
+        return userAccountRepository.findByUserIdAndIsPrimaryTrue(sender.getId())
+                .flatMap(primary -> accountRepository.findByAccountNumber(primary.getAccountNumber()))
+                .orElse(null);
+    }
+
+    private List<String> transactionIds(BatchTransferCommand command) {
+        return command.getLegs().stream()
+                .map(BatchTransferCommand.Leg::getTransactionId)
+                .toList();
+    }
+
+    /**
+     * 결과 데이터 생성
+     */
+    private Map<String, Object> createResultData(BatchTransferCommand command) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("batchId", command.getBatchId());
+        data.put("senderAccountNumber", command.getSenderAccountNumber());
+        data.put("totalCount", command.getLegs().size());
+        data.put("totalAmount", command.getTotalAmount());
+        data.put("transferType", "BATCH");
+        return data;
+    }
+}
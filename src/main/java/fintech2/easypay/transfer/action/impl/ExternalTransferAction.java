@@ -11,8 +11,12 @@ import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
 import fintech2.easypay.common.enums.AuditEventType;
 import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.TransactionStrategy;
 import fintech2.easypay.transfer.action.TransferAction;
+import fintech2.easypay.transfer.action.TransferContext;
+import fintech2.easypay.transfer.action.TransferDescriptions;
 import fintech2.easypay.transfer.action.command.ExternalTransferCommand;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.external.BankingApiRequest;
@@ -28,7 +32,6 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 외부 은행 송금 액션
@@ -48,12 +51,19 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
     private final NotificationService notificationService;
     private final BankingApiService bankingApiService;
     private final ApplicationContext applicationContext;
+    private final TransactionIdGenerator transactionIdGenerator;
     
     @Override
     public Class<ExternalTransferCommand> commandType() {
         return ExternalTransferCommand.class;
     }
     
+    @Override
+    public TransactionStrategy transactionStrategy(ExternalTransferCommand command) {
+        // 은행 호출 도중 장애가 나도 처리중 기록이 남아 상태 조회로 복구할 수 있도록 단계별 커밋
+        return TransactionStrategy.SEPARATE_COMMITS;
+    }
+    
     @Override
     public boolean validate(ExternalTransferCommand command) {
         try {
@@ -100,6 +110,11 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
                 return false;
             }
             
+            // 이후 단계에서 재사용할 컨텍스트 (외부 수신자는 조회 대상 아님)
+            command.setContext(TransferContext.builder()
+                    .sender(sender)
+                    .senderAccount(senderAccount)
+                    .build());
             return true;
             
         } catch (Exception e) {
@@ -113,14 +128,12 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
         try {
             // 거래 ID가 없으면 생성
             if (command.getTransactionId() == null || command.getTransactionId().trim().isEmpty()) {
-                command.setTransactionId(generateTransactionId());
+                command.setTransactionId(transactionIdGenerator.nextTransactionId());
             }
             
-            // 송금자 정보 조회
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+            TransferContext context = contextOf(command);
+            User sender = context.getSender();
+            Account senderAccount = context.getSenderAccount();
             
             // 외부 송금의 경우 수신자 정보가 외부 시스템에 있으므로 Transfer 엔티티에서는 null 사용
             Transfer transfer = Transfer.builder()
@@ -152,11 +165,9 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
         try {
             log.info("Executing external transfer: {}", command.getTransactionId());
             
-            // 사용자 및 계좌 정보 조회
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+            TransferContext context = contextOf(command);
+            User sender = context.getSender();
+            Account senderAccount = context.getSenderAccount();
             
             // 잔액 최종 확인
             if (!balanceService.hasSufficientBalance(senderAccount.getAccountNumber(), command.getAmount())) {
@@ -199,8 +210,7 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
             Transfer transfer = transferRepository.findByTransactionId(command.getTransactionId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
             
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+            User sender = contextOf(command).getSender();
             
             if (result.isSuccess()) {
                 // 성공 시 상태 업데이트
@@ -291,7 +301,7 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
             case SUCCESS -> {
                 // 성공 시 잔액 차감
                 balanceService.decrease(senderAccount.getAccountNumber(), command.getAmount(),
-                        TransactionType.TRANSFER_OUT, "외부 송금 출금: " + command.getMemo(),
+                        TransactionType.TRANSFER_OUT, TransferDescriptions.of("외부 송금 출금", command.getMemo()),
                         command.getTransactionId(), sender.getId().toString());
                 
                 log.info("External transfer successful: {}", command.getTransactionId());
@@ -328,6 +338,25 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
         }
     }
     
+    /**
+     * 검증 단계에서 만든 컨텍스트 반환 (검증을 거치지 않고 호출된 경우에만 새로 조회)
+     */
+    private TransferContext contextOf(ExternalTransferCommand command) {
+        if (command.getContext() == null) {
+            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+            if (senderAccount == null) {
+                throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+            command.setContext(TransferContext.builder()
+                    .sender(sender)
+                    .senderAccount(senderAccount)
+                    .build());
+        }
+        return command.getContext();
+    }
+    
     /**
      * 송금자 계좌 결정
      */
@@ -364,17 +393,6 @@ public class ExternalTransferAction implements TransferAction<ExternalTransferCo
         }
     }
     
-    /**
-     * 고유한 거래 ID 생성
-     */
-    private String generateTransactionId() {
-        String transactionId;
-        do {
-            transactionId = "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (transferRepository.existsByTransactionId(transactionId));
-        return transactionId;
-    }
-    
     /**
      * 결과 데이터 생성
      */
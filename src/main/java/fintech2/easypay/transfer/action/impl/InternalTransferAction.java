@@ -11,10 +11,15 @@ import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
 import fintech2.easypay.common.enums.AuditEventType;
 import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.TransactionIdGenerator;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
 import fintech2.easypay.transfer.action.ActionResult;
 import fintech2.easypay.transfer.action.TransferAction;
+import fintech2.easypay.transfer.action.TransferContext;
+import fintech2.easypay.transfer.action.TransferDescriptions;
 import fintech2.easypay.transfer.action.command.InternalTransferCommand;
 import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.entity.TransferStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,12 +29,11 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 내부 계좌 간 송금 액션
  * EasyPay 시스템 내부 계좌 간의 송금을 처리
- * 데드락 방지 로직과 동시성 제어를 포함한 즉시 잔액 이동
+ * 원자적 조건부 잔액 변경을 통한 즉시 잔액 이동
  */
 @Component
 @RequiredArgsConstructor
@@ -43,6 +47,7 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
     private final AuditLogService auditLogService;
     private final NotificationService notificationService;
     private final ApplicationContext applicationContext;
+    private final TransactionIdGenerator transactionIdGenerator;
     
     @Override
     public Class<InternalTransferCommand> commandType() {
@@ -68,37 +73,19 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
                 return false;
             }
             
-            // 송금자 존재 확인
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElse(null);
-            if (sender == null) {
-                log.warn("Sender not found: {}", command.getSenderPhoneNumber());
-                return false;
-            }
-            
-            // 수신자 계좌 존재 확인
-            Account receiverAccount = accountRepository
-                    .findByAccountNumber(command.getReceiverAccountNumber())
-                    .orElse(null);
-            if (receiverAccount == null) {
-                log.warn("Receiver account not found: {}", command.getReceiverAccountNumber());
+            // 송금자/수신자/계좌 조회 (이후 단계에서 재사용)
+            TransferContext context = resolveContext(command);
+            if (context == null) {
                 return false;
             }
             
             // 자기 자신에게 송금 방지
-            User receiver = userRepository.findById(receiverAccount.getUserId())
-                    .orElse(null);
-            if (receiver != null && sender.getId().equals(receiver.getId())) {
-                log.warn("Same account transfer attempted: {}", sender.getId());
+            if (context.getSender().getId().equals(context.getReceiver().getId())) {
+                log.warn("Same account transfer attempted: {}", context.getSender().getId());
                 return false;
             }
             
-            // 송금자 계좌 확인 및 잔액 검증
-            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
-            if (senderAccount == null) {
-                log.warn("Sender account not found or invalid");
-                return false;
-            }
+            Account senderAccount = context.getSenderAccount();
             
             // 잔액 충분성 검증
             if (!balanceService.hasSufficientBalance(senderAccount.getAccountNumber(), command.getAmount())) {
@@ -107,6 +94,7 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
                 return false;
             }
             
+            command.setContext(context);
             return true;
             
         } catch (Exception e) {
@@ -120,29 +108,18 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
         try {
             // 거래 ID가 없으면 생성
             if (command.getTransactionId() == null || command.getTransactionId().trim().isEmpty()) {
-                command.setTransactionId(generateTransactionId());
+                command.setTransactionId(transactionIdGenerator.nextTransactionId());
             }
             
-            // 송금자 및 수신자 정보 조회
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account receiverAccount = accountRepository
-                    .findByAccountNumber(command.getReceiverAccountNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ACCOUNT_NUMBER));
-            
-            User receiver = userRepository.findById(receiverAccount.getUserId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+            TransferContext context = contextOf(command);
             
             // Transfer 엔티티 생성 및 저장
             Transfer transfer = Transfer.builder()
                     .transactionId(command.getTransactionId())
-                    .sender(sender)
-                    .senderAccountNumber(senderAccount.getAccountNumber())
-                    .receiver(receiver)
-                    .receiverAccountNumber(receiverAccount.getAccountNumber())
+                    .sender(context.getSender())
+                    .senderAccountNumber(context.getSenderAccountNumber())
+                    .receiver(context.getReceiver())
+                    .receiverAccountNumber(context.getReceiverAccountNumber())
                     .amount(command.getAmount())
                     .memo(command.getMemo())
                     .build();
@@ -158,59 +135,43 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
         }
     }
     
+    @Override
+    public boolean claimPending(InternalTransferCommand command) {
+        return transferRepository.findByTransactionIdForUpdate(command.getTransactionId())
+                .map(transfer -> transfer.getStatus() == TransferStatus.REQUESTED)
+                .orElse(false);
+    }
+    
     @Override
     public ActionResult execute(InternalTransferCommand command) {
         try {
             log.info("Executing internal transfer: {}", command.getTransactionId());
             
-            // 사용자 및 계좌 정보 조회
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account receiverAccount = accountRepository
-                    .findByAccountNumber(command.getReceiverAccountNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ACCOUNT_NUMBER));
-            
-            User receiver = userRepository.findById(receiverAccount.getUserId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
-            
-            // 데드락 방지를 위한 순서대로 락 획득
-            Account senderAccountLocked;
-            Account receiverAccountLocked;
-            
-            if (senderAccount.getId().compareTo(receiverAccount.getId()) < 0) {
-                senderAccountLocked = accountRepository.findByIdWithLock(senderAccount.getId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-                receiverAccountLocked = accountRepository.findByIdWithLock(receiverAccount.getId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ACCOUNT_NUMBER));
+            TransferContext context = contextOf(command);
+            User sender = context.getSender();
+            User receiver = context.getReceiver();
+            Account senderAccount = context.getSenderAccount();
+            Account receiverAccount = context.getReceiverAccount();
+            
+            // 조건부 UPDATE로 잔액 검증과 차감을 원자적으로 처리 (별도 행 락 불필요)
+            // 단일 트랜잭션에서 두 원장 행을 잠그므로, 역방향 동시 송금과의 데드락을 막기 위해 계좌번호 순으로 갱신
+            // 입금을 먼저 반영한 뒤 출금이 실패하면 프로세서가 트랜잭션 전체를 롤백함 (단일 커밋 전략)
+            if (senderAccount.getAccountNumber().compareTo(receiverAccount.getAccountNumber()) < 0) {
+                debitSender(command, senderAccount, sender);
+                creditReceiver(command, receiverAccount, receiver);
             } else {
-                receiverAccountLocked = accountRepository.findByIdWithLock(receiverAccount.getId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ACCOUNT_NUMBER));
-                senderAccountLocked = accountRepository.findByIdWithLock(senderAccount.getId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-            }
-            
-            // 잔액 최종 확인
-            if (!balanceService.hasSufficientBalance(senderAccountLocked.getAccountNumber(), command.getAmount())) {
-                return ActionResult.failure("INSUFFICIENT_BALANCE", 
-                        "잔액이 부족합니다", createResultData(command));
+                creditReceiver(command, receiverAccount, receiver);
+                debitSender(command, senderAccount, sender);
             }
             
-            // 잔액 이동 (출금 -> 입금)
-            balanceService.decrease(senderAccountLocked.getAccountNumber(), command.getAmount(),
-                    TransactionType.TRANSFER_OUT, "내부 송금 출금: " + command.getMemo(),
-                    command.getTransactionId(), sender.getId().toString());
-            
-            balanceService.increase(receiverAccountLocked.getAccountNumber(), command.getAmount(),
-                    TransactionType.TRANSFER_IN, "내부 송금 입금: " + command.getMemo(),
-                    command.getTransactionId(), receiver.getId().toString());
-            
             log.info("Internal transfer executed successfully: {}", command.getTransactionId());
             
             return ActionResult.success("내부 송금이 완료되었습니다", createResultData(command));
             
+        } catch (InsufficientBalanceException e) {
+            log.warn("Insufficient balance in internal transfer execution: {}", command.getTransactionId());
+            return ActionResult.failure("INSUFFICIENT_BALANCE", 
+                    "잔액이 부족합니다", createResultData(command));
         } catch (BusinessException e) {
             log.error("Business error in internal transfer execution: {}", command.getTransactionId(), e);
             return ActionResult.failure(e.getErrorCode().name(), e.getMessage(), createResultData(command));
@@ -228,15 +189,9 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
             Transfer transfer = transferRepository.findByTransactionId(command.getTransactionId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
             
-            User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            
-            Account receiverAccount = accountRepository
-                    .findByAccountNumber(command.getReceiverAccountNumber())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_ACCOUNT_NUMBER));
-            
-            User receiver = userRepository.findById(receiverAccount.getUserId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+            TransferContext context = contextOf(command);
+            User sender = context.getSender();
+            User receiver = context.getReceiver();
             
             if (result.isSuccess()) {
                 // 성공 시 상태 업데이트
@@ -298,6 +253,73 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
         }
     }
     
+    /**
+     * 송금자/수신자와 계좌를 한 번에 조회해 컨텍스트 생성
+     * 조회에 실패하면 null 반환
+     */
+    private TransferContext resolveContext(InternalTransferCommand command) {
+        User sender = userRepository.findByPhoneNumber(command.getSenderPhoneNumber())
+                .orElse(null);
+        if (sender == null) {
+            log.warn("Sender not found: {}", command.getSenderPhoneNumber());
+            return null;
+        }
+        
+        Account receiverAccount = accountRepository
+                .findByAccountNumber(command.getReceiverAccountNumber())
+                .orElse(null);
+        if (receiverAccount == null) {
+            log.warn("Receiver account not found: {}", command.getReceiverAccountNumber());
+            return null;
+        }
+        
+        User receiver = userRepository.findById(receiverAccount.getUserId())
+                .orElse(null);
+        if (receiver == null) {
+            log.warn("Receiver not found: userId={}", receiverAccount.getUserId());
+            return null;
+        }
+        
+        Account senderAccount = resolveSenderAccount(sender, command.getSenderAccountNumber());
+        if (senderAccount == null) {
+            log.warn("Sender account not found or invalid");
+            return null;
+        }
+        
+        return TransferContext.builder()
+                .sender(sender)
+                .senderAccount(senderAccount)
+                .receiver(receiver)
+                .receiverAccount(receiverAccount)
+                .build();
+    }
+    
+    /**
+     * 검증 단계에서 만든 컨텍스트 반환 (검증을 거치지 않고 호출된 경우에만 새로 조회)
+     */
+    private TransferContext contextOf(InternalTransferCommand command) {
+        if (command.getContext() == null) {
+            TransferContext context = resolveContext(command);
+            if (context == null) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "송금 당사자 정보를 확인할 수 없습니다");
+            }
+            command.setContext(context);
+        }
+        return command.getContext();
+    }
+    
+    private void debitSender(InternalTransferCommand command, Account senderAccount, User sender) {
+        balanceService.decrease(senderAccount.getAccountNumber(), command.getAmount(),
+                TransactionType.TRANSFER_OUT, TransferDescriptions.of("내부 송금 출금", command.getMemo()),
+                command.getTransactionId(), sender.getId().toString());
+    }
+    
+    private void creditReceiver(InternalTransferCommand command, Account receiverAccount, User receiver) {
+        balanceService.increase(receiverAccount.getAccountNumber(), command.getAmount(),
+                TransactionType.TRANSFER_IN, TransferDescriptions.of("내부 송금 입금", command.getMemo()),
+                command.getTransactionId(), receiver.getId().toString());
+    }
+    
     /**
      * 송금자 계좌 결정
      * 지정된 계좌가 있으면 해당 계좌, 없으면 기본 계좌 사용
@@ -335,17 +357,6 @@ public class InternalTransferAction implements TransferAction<InternalTransferCo
         }
     }
     
-    /**
-     * 고유한 거래 ID 생성
-     */
-    private String generateTransactionId() {
-        String transactionId;
-        do {
-            transactionId = "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (transferRepository.existsByTransactionId(transactionId));
-        return transactionId;
-    }
-    
     /**
      * 결과 데이터 생성
      */
@@ -4,6 +4,7 @@ import fintech2.easypay.auth.service.PinService;
 import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
 import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.TransactionStrategy;
 import fintech2.easypay.transfer.action.TransferAction;
 import fintech2.easypay.transfer.action.impl.InternalTransferAction;
 import fintech2.easypay.transfer.action.impl.ExternalTransferAction;
@@ -70,6 +71,20 @@ public class SecureTransferAction implements TransferAction<SecureTransferComman
                 command.setReceiverBankCode("EASYPAY"); // 기본값으로 내부 송금 처리
             }
             
+            // 실제 송금 액션의 검증에 위임하고, 조회된 컨텍스트는 이후 단계의 위임 명령에 전달
+            if (command.isInternalTransfer()) {
+                var internalCommand = command.toInternalTransferCommand();
+                if (!internalTransferAction.validate(internalCommand)) {
+                    return false;
+                }
+                command.setContext(internalCommand.getContext());
+            } else {
+                var externalCommand = command.toExternalTransferCommand();
+                if (!externalTransferAction.validate(externalCommand)) {
+                    return false;
+                }
+                command.setContext(externalCommand.getContext());
+            }
             return true;
             
         } catch (Exception e) {
@@ -78,12 +93,28 @@ public class SecureTransferAction implements TransferAction<SecureTransferComman
         }
     }
     
+    @Override
+    public TransactionStrategy transactionStrategy(SecureTransferCommand command) {
+        // 내부 송금은 단일 커밋, 외부 송금은 은행 호출 전 요청 기록이 남도록 단계별 커밋
+        return command.isInternalTransfer()
+                ? TransactionStrategy.SINGLE_COMMIT
+                : TransactionStrategy.SEPARATE_COMMITS;
+    }
+    
     @Override
     public void savePending(SecureTransferCommand command) {
-        // PIN 검증이 완료되었으므로 실제 송금 액션에 위임하기 전에는 별도 저장하지 않음
-        // 실제 위임받은 액션이 저장을 담당
-        log.info("Secure transfer PIN validation completed, delegating to actual transfer action: {}", 
-                command.getTransactionId());
+        // PIN 검증이 완료되었으므로 실제 송금 액션의 저장 단계에 위임
+        if (command.isInternalTransfer()) {
+            var internalCommand = command.toInternalTransferCommand();
+            internalTransferAction.savePending(internalCommand);
+            command.setTransactionId(internalCommand.getTransactionId());
+        } else {
+            var externalCommand = command.toExternalTransferCommand();
+            externalTransferAction.savePending(externalCommand);
+            command.setTransactionId(externalCommand.getTransactionId());
+        }
+        log.info("Secure transfer saved as pending: transactionId={}, internal={}", 
+                command.getTransactionId(), command.isInternalTransfer());
     }
     
     @Override
@@ -98,15 +129,16 @@ public class SecureTransferAction implements TransferAction<SecureTransferComman
                         "PIN 인증이 유효하지 않습니다", createResultData(command));
             }
             
-            // 내부/외부 송금 여부에 따라 적절한 Command로 변환하여 위임
+            // 내부/외부 송금 여부에 따라 적절한 Command로 변환하여 실행 단계에 위임
             if (command.isInternalTransfer()) {
-                // 내부 송금으로 위임
-                return delegateToInternalTransfer(command);
-            } else {
-                // 외부 송금으로 위임
-                return delegateToExternalTransfer(command);
+                return internalTransferAction.execute(command.toInternalTransferCommand());
             }
             
+            var externalCommand = command.toExternalTransferCommand();
+            ActionResult result = externalTransferAction.execute(externalCommand);
+            command.setBankTransactionId(externalCommand.getBankTransactionId());
+            return result;
+            
         } catch (Exception e) {
             log.error("Unexpected error in secure transfer execution: {}", command.getTransactionId(), e);
             return ActionResult.failure("SECURE_TRANSFER_ERROR", 
@@ -116,77 +148,16 @@ public class SecureTransferAction implements TransferAction<SecureTransferComman
     
     @Override
     public void updateFromResult(SecureTransferCommand command, ActionResult result) {
-        // 실제 송금 처리는 위임받은 액션에서 수행하므로 별도 업데이트 불필요
-        // PIN 세션 토큰 무효화만 수행
-        try {
-            // PIN 세션 토큰 무효화는 현재 PinService에서 지원하지 않음
-            // 향후 필요 시 구현 예정
-            // pinService.invalidatePinSessionToken(command.getPinSessionToken());
-            
-            log.info("Secure transfer completed: transactionId={}, status={}", 
-                    command.getTransactionId(), result.getStatus());
-            
-        } catch (Exception e) {
-            log.error("Error in secure transfer post-processing: {}", command.getTransactionId(), e);
-            // 후처리 실패는 크리티컬하지 않으므로 예외를 던지지 않음
-        }
-    }
-    
-    /**
-     * 내부 송금으로 위임
-     */
-    private ActionResult delegateToInternalTransfer(SecureTransferCommand command) {
-        try {
-            // SecureTransferCommand를 InternalTransferCommand로 변환
-            var internalCommand = command.toInternalTransferCommand();
-            
-            log.info("Delegating to internal transfer: {}", command.getTransactionId());
-            
-            // 직접 InternalTransferAction 호출하여 처리
-            if (!internalTransferAction.validate(internalCommand)) {
-                return ActionResult.failure("VALIDATION_FAILED", "내부 송금 검증에 실패했습니다", createResultData(command));
-            }
-            
-            internalTransferAction.savePending(internalCommand);
-            ActionResult result = internalTransferAction.execute(internalCommand);
-            internalTransferAction.updateFromResult(internalCommand, result);
-            
-            return result;
-            
-        } catch (Exception e) {
-            log.error("Failed to delegate to internal transfer: {}", command.getTransactionId(), e);
-            return ActionResult.failure("INTERNAL_DELEGATION_FAILED", 
-                    "내부 송금 처리 위임 중 오류가 발생했습니다: " + e.getMessage(), createResultData(command));
-        }
-    }
-    
-    /**
-     * 외부 송금으로 위임
-     */
-    private ActionResult delegateToExternalTransfer(SecureTransferCommand command) {
-        try {
-            // SecureTransferCommand를 ExternalTransferCommand로 변환
-            var externalCommand = command.toExternalTransferCommand();
-            
-            log.info("Delegating to external transfer: transactionId={}, bankCode={}", 
-                    command.getTransactionId(), command.getReceiverBankCode());
-            
-            // 직접 ExternalTransferAction 호출하여 처리
-            if (!externalTransferAction.validate(externalCommand)) {
-                return ActionResult.failure("VALIDATION_FAILED", "외부 송금 검증에 실패했습니다", createResultData(command));
-            }
-            
-            externalTransferAction.savePending(externalCommand);
-            ActionResult result = externalTransferAction.execute(externalCommand);
-            externalTransferAction.updateFromResult(externalCommand, result);
-            
-            return result;
-            
-        } catch (Exception e) {
-            log.error("Failed to delegate to external transfer: {}", command.getTransactionId(), e);
-            return ActionResult.failure("EXTERNAL_DELEGATION_FAILED", 
-                    "외부 송금 처리 위임 중 오류가 발생했습니다: " + e.getMessage(), createResultData(command));
+        // 송금 상태 전이, 감사 로그, 알림은 실제 송금 액션의 결과 반영 단계에 위임
+        // PIN 세션 토큰 무효화는 현재 PinService에서 지원하지 않음
+        if (command.isInternalTransfer()) {
+            internalTransferAction.updateFromResult(command.toInternalTransferCommand(), result);
+        } else {
+            externalTransferAction.updateFromResult(command.toExternalTransferCommand(), result);
         }
+        
+        log.info("Secure transfer completed: transactionId={}, status={}", 
+                command.getTransactionId(), result.getStatus());
     }
     
     /**
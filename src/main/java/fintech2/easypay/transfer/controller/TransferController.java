@@ -6,12 +6,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
@@ -19,6 +23,10 @@ import fintech2.easypay.auth.service.PinService;
 import fintech2.easypay.common.ApiResponse;
 import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.dto.CursorPage;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.dto.BatchTransferResponse;
 import fintech2.easypay.transfer.dto.RecentTransferResponse;
 import fintech2.easypay.transfer.dto.SecureTransferRequest;
 import fintech2.easypay.transfer.dto.TransferRequest;
@@ -36,46 +44,98 @@ import fintech2.easypay.transfer.service.TransferService;
 @Tag(name = "송금 관리", description = "송금 및 거래 내역 관리 API")
 public class TransferController {
     
+    // 동기/비동기/보안 송금은 한 멱등 범위를 공유하되 요청 비교에 처리 방식을 포함
+    // (같은 키를 다른 방식에 다시 쓰면 IDEMPOTENCY_KEY_REUSED - 방식마다 응답 형태와 상태 코드가 다름)
+    static final String TRANSFER_SCOPE = "TRANSFER";
+    static final String BATCH_TRANSFER_SCOPE = "TRANSFER_BATCH";
+    
+    /**
+     * 멱등 요청 비교 대상 - 처리 방식(sync, async, secure)과 송금 요청
+     */
+    record ModeRequest(String mode, TransferRequest request) {
+    }
+    
     private final TransferService transferService;
     private final PinService pinService;
+    private final IdempotencyService idempotencyService;
     
     /**
      * 송금 처리 API (기존 - PIN 검증 없음)
      * 인증된 사용자가 다른 사용자에게 송금
+     * mode=async이면 접수 후 202로 즉시 응답하고, 처리 결과는 거래 조회 API로 확인
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에는 처음 응답을 그대로 반환 (다른 처리 방식에 쓴 키는 거절)
      * @param userDetails 인증된 사용자 정보
      * @param request 송금 요청 정보
-     * @return 송금 처리 결과
+     * @param mode 처리 방식 (sync 기본, async)
+     * @param idempotencyKey 재시도 식별 키 (선택)
+     * @return 송금 처리 결과 (비동기면 접수 정보)
      */
     @PostMapping
-    public ApiResponse<TransferResponse> transfer(
+    public ResponseEntity<ApiResponse<TransferResponse>> transfer(
         @AuthenticationPrincipal UserPrincipal userDetails,
-        @Valid @RequestBody TransferRequest request) {
-        TransferResponse response = transferService.transfer(userDetails.getUsername(), request);
-        return ApiResponse.success("송금이 완료되었습니다.", response);
+        @Valid @RequestBody TransferRequest request,
+        @RequestParam(defaultValue = "sync") String mode,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        String phoneNumber = userDetails.getUsername();
+        if ("async".equalsIgnoreCase(mode)) {
+            TransferResponse response = idempotencyService.execute(TRANSFER_SCOPE, phoneNumber, idempotencyKey,
+                    new ModeRequest("async", request), TransferResponse.class,
+                    () -> transferService.submitTransfer(phoneNumber, request));
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("송금 요청이 접수되었습니다.", response));
+        }
+        TransferResponse response = idempotencyService.execute(TRANSFER_SCOPE, phoneNumber, idempotencyKey,
+                new ModeRequest("sync", request), TransferResponse.class,
+                () -> transferService.transfer(phoneNumber, request));
+        return ResponseEntity.ok(ApiResponse.success("송금이 완료되었습니다.", response));
     }
 
     /**
      * 보안 송금 처리 API (PIN 검증 포함)
      * Action Pattern을 사용한 PIN 인증 및 송금 처리
+     * Idempotency-Key는 일반 송금과 같은 범위를 쓰고, 요청 비교에서 PIN 세션 토큰은 제외 (일반 송금에 쓴 키는 거절)
      * @param userDetails 인증된 사용자 정보
      * @param request PIN 세션 토큰이 포함된 보안 송금 요청
+     * @param idempotencyKey 재시도 식별 키 (선택)
      * @return 송금 처리 결과
      */
     @PostMapping("/secure")
     @Operation(summary = "보안 송금", description = "PIN 인증을 통한 보안 송금 처리")
     public ApiResponse<TransferResponse> secureTransfer(
         @AuthenticationPrincipal UserPrincipal userDetails,
-        @Valid @RequestBody SecureTransferRequest request) {
+        @Valid @RequestBody SecureTransferRequest request,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        String phoneNumber = userDetails.getUsername();
         
         // Action Pattern을 통한 PIN 검증 및 송금 처리 (PIN 검증은 SecureTransferAction에서 수행)
-        TransferResponse response = transferService.secureTransfer(
-            userDetails.getUsername(), 
-            request
-        );
+        TransferResponse response = idempotencyService.execute(TRANSFER_SCOPE, phoneNumber, idempotencyKey,
+                new ModeRequest("secure", request.toTransferRequest()), TransferResponse.class,
+                () -> transferService.secureTransfer(phoneNumber, request));
         
         return ApiResponse.success("PIN 인증을 통한 송금이 완료되었습니다.", response);
     }
     
+    /**
+     * 일괄 송금 API
+     * 한 계좌에서 여러 내부 계좌로 한 번에 송금 (전부 성공 또는 전부 실패)
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에는 처음 응답을 그대로 반환
+     * @param userDetails 인증된 사용자 정보
+     * @param request 일괄 송금 요청 정보
+     * @param idempotencyKey 재시도 식별 키 (선택)
+     * @return 일괄 송금 처리 결과
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "일괄 송금", description = "여러 계좌로의 송금을 한 번에 처리")
+    public ApiResponse<BatchTransferResponse> batchTransfer(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @Valid @RequestBody BatchTransferRequest request,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        String phoneNumber = userDetails.getUsername();
+        BatchTransferResponse response = idempotencyService.execute(BATCH_TRANSFER_SCOPE, phoneNumber, idempotencyKey,
+                request, BatchTransferResponse.class, () -> transferService.batchTransfer(phoneNumber, request));
+        return ApiResponse.success("일괄 송금이 완료되었습니다.", response);
+    }
+    
     /**
      * 거래 조회 API
      * 거래 ID로 특정 거래의 상세 정보를 조회
@@ -118,6 +178,39 @@ public class TransferController {
         return ApiResponse.success(response);
     }
     
+    @GetMapping("/history/cursor")
+    @Operation(summary = "거래 내역 키셋 조회", description = "보낸/받은 거래 내역을 최신순으로 조회 (cursor가 없으면 첫 페이지)")
+    public ApiResponse<CursorPage<TransferResponse>> getTransferHistoryByCursor(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<TransferResponse> response = 
+            transferService.getTransferHistory(userDetails.getUsername(), cursor, size);
+        return ApiResponse.success(response);
+    }
+    
+    @GetMapping("/sent/cursor")
+    @Operation(summary = "송금 내역 키셋 조회", description = "내가 송금한 내역을 최신순으로 조회")
+    public ApiResponse<CursorPage<TransferResponse>> getSentTransfersByCursor(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<TransferResponse> response = 
+            transferService.getSentTransfers(userDetails.getUsername(), cursor, size);
+        return ApiResponse.success(response);
+    }
+    
+    @GetMapping("/received/cursor")
+    @Operation(summary = "입금 내역 키셋 조회", description = "내가 받은 입금 내역을 최신순으로 조회")
+    public ApiResponse<CursorPage<TransferResponse>> getReceivedTransfersByCursor(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<TransferResponse> response = 
+            transferService.getReceivedTransfers(userDetails.getUsername(), cursor, size);
+        return ApiResponse.success(response);
+    }
+    
     @GetMapping("/recent")
     @Operation(summary = "최근 송금 대상 조회", description = "최근 송금한 사람들의 목록 조회 (중복 제거)")
     public ApiResponse<Page<RecentTransferResponse>> getRecentTransfers(
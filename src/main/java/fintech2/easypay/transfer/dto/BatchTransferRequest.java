@@ -0,0 +1,43 @@
+package fintech2.easypay.transfer.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferRequest {
+    
+    // 송금자 계좌번호 (없으면 기본 계좌 사용)
+    private String senderAccountNumber;
+    
+    @NotEmpty(message = "송금 목록은 필수입니다.")
+    @Size(max = 10000, message = "일괄 송금은 최대 10,000건까지 가능합니다.")
+    @Valid
+    private List<Item> transfers;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        @NotBlank(message = "수신자 계좌번호는 필수입니다.")
+        private String receiverAccountNumber;
+        
+        @NotNull(message = "송금 금액은 필수입니다.")
+        @DecimalMin(value = "0.01", message = "송금 금액은 0보다 커야 합니다.")
+        private BigDecimal amount;
+        
+        @Size(max = 100, message = "메모는 100자 이하여야 합니다.")
+        private String memo;
+    }
+}
@@ -0,0 +1,23 @@
+package fintech2.easypay.transfer.dto;
+
+import fintech2.easypay.transfer.entity.TransferStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferResponse {
+    private String batchId;
+    private String senderAccountNumber;
+    private int totalCount;
+    private BigDecimal totalAmount;
+    private TransferStatus status;
+    private List<String> transactionIds;
+}
@@ -35,7 +35,7 @@ public class TransferResponse {
                 .transactionId(transfer.getTransactionId())
                 .senderPhoneNumber(transfer.getSender().getPhoneNumber())
                 .senderAccountNumber(transfer.getSenderAccountNumber())
-                .receiverPhoneNumber(transfer.getReceiver().getPhoneNumber())
+                .receiverPhoneNumber(transfer.getReceiver() != null ? transfer.getReceiver().getPhoneNumber() : null) // 외부 송금은 수신 사용자 없음
                 .receiverAccountNumber(transfer.getReceiverAccountNumber())
                 .amount(transfer.getAmount())
                 .memo(transfer.getMemo())
@@ -37,8 +37,8 @@ public class Transfer extends BaseEntity {
     private String senderAccountNumber;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "receiver_user_id", nullable = false)
-    private User receiver; // Member -> User
+    @JoinColumn(name = "receiver_user_id")
+    private User receiver; // Member -> User (외부 송금은 null)
     
     @Column(name = "receiver_account_number", nullable = false)
     private String receiverAccountNumber;
@@ -60,6 +60,14 @@ public class Transfer extends BaseEntity {
     @Column(name = "failed_reason")
     private String failedReason;
     
+    // 상태 확인(대사) 시도 횟수와 다음 확인 시각 - 시도할수록 확인 간격을 늘림
+    @Column(name = "reconcile_attempts", nullable = false)
+    @Builder.Default
+    private int reconcileAttempts = 0;
+    
+    @Column(name = "next_reconcile_at")
+    private LocalDateTime nextReconcileAt;
+    
     public void markAsProcessing() {
         this.status = TransferStatus.PROCESSING;
     }
@@ -96,6 +104,14 @@ public class Transfer extends BaseEntity {
         this.processedAt = LocalDateTime.now();
     }
     
+    /**
+     * 상태 확인 결과가 아직 확정되지 않아 다음 확인 시각을 예약
+     */
+    public void scheduleReconcile(LocalDateTime nextReconcileAt) {
+        this.reconcileAttempts++;
+        this.nextReconcileAt = nextReconcileAt;
+    }
+    
     public boolean isCompleted() {
         return this.status == TransferStatus.COMPLETED;
     }
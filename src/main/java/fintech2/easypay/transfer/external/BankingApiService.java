@@ -1,6 +1,9 @@
 package fintech2.easypay.transfer.external;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * 외부 뱅킹 API 서비스 인터페이스
@@ -21,4 +24,19 @@ public interface BankingApiService {
      * @return 송금 상태 정보
      */
     BankingApiResponse getTransferStatus(String transactionId);
-}
\ No newline at end of file
+    
+    /**
+     * 송금 상태 일괄 조회
+     * 여러 거래를 한 번의 호출로 조회해 왕복 횟수를 줄임 (기본 구현은 건별 조회를 반복)
+     * 조회되지 않은 거래는 결과에 포함되지 않을 수 있음
+     * @param transactionIds 거래 ID 목록
+     * @return 거래 ID별 송금 상태 정보
+     */
+    default Map<String, BankingApiResponse> getTransferStatuses(Collection<String> transactionIds) {
+        Map<String, BankingApiResponse> responses = new LinkedHashMap<>();
+        for (String transactionId : transactionIds) {
+            responses.put(transactionId, getTransferStatus(transactionId));
+        }
+        return responses;
+    }
+}
@@ -4,12 +4,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -21,6 +26,10 @@ import java.util.concurrent.TimeoutException;
 @Slf4j
 public class MockBankingApiService implements BankingApiService {
     
+    /** 일괄 상태 조회 1회당 최대 거래 수 */
+    public static final int MAX_STATUS_BATCH_SIZE = 500;
+    private static final long PER_ITEM_COST_NANOS = 200_000L;
+    
     // 거래 상태를 메모리에 저장 (실제로는 DB나 캐시 사용)
     private final ConcurrentHashMap<String, BankingApiResponse> transactionStore = new ConcurrentHashMap<>();
     private final Random random = new Random();
@@ -108,7 +117,36 @@ public class MockBankingApiService implements BankingApiService {
     public BankingApiResponse getTransferStatus(String transactionId) {
         log.info("Mock 뱅킹 API 호출 - 송금 상태 조회: {}", transactionId);
         
-        // 저장된 거래 정보 반환
+        simulateInquiryDelay();
+        return lookupStatus(transactionId);
+    }
+    
+    /**
+     * 일괄 상태 조회
+     * 호출 1회의 왕복 지연에 건당 처리 비용만 더해지도록 시뮬레이션
+     */
+    @Override
+    public Map<String, BankingApiResponse> getTransferStatuses(Collection<String> transactionIds) {
+        if (transactionIds.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "일괄 조회는 최대 " + MAX_STATUS_BATCH_SIZE + "건까지 가능합니다: " + transactionIds.size());
+        }
+        log.info("Mock 뱅킹 API 호출 - 송금 상태 일괄 조회: {}건", transactionIds.size());
+        
+        simulateInquiryDelay();
+        simulatePerItemCost(transactionIds.size());
+        
+        Map<String, BankingApiResponse> responses = new LinkedHashMap<>();
+        for (String transactionId : transactionIds) {
+            responses.put(transactionId, lookupStatus(transactionId));
+        }
+        return responses;
+    }
+    
+    /**
+     * 저장된 거래 정보 반환 (없으면 실패 응답)
+     */
+    private BankingApiResponse lookupStatus(String transactionId) {
         BankingApiResponse response = transactionStore.get(transactionId);
         if (response == null) {
             return BankingApiResponse.builder()
@@ -134,6 +172,33 @@ public class MockBankingApiService implements BankingApiService {
         }
     }
     
+    /**
+     * 상태 조회 지연 시뮬레이션 - 대부분 20-60ms, 5%는 500-1500ms (긴 꼬리 지연)
+     */
+    private void simulateInquiryDelay() {
+        try {
+            ThreadLocalRandom current = ThreadLocalRandom.current();
+            if (current.nextDouble() < 0.05) {
+                Thread.sleep(500 + current.nextInt(1000));
+            } else {
+                Thread.sleep(20 + current.nextInt(40));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 일괄 조회의 건당 처리 비용 시뮬레이션 (건당 약 0.2ms)
+     */
+    private void simulatePerItemCost(int count) {
+        try {
+            Thread.sleep(Duration.ofNanos(count * PER_ITEM_COST_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     /**
      * 타임아웃 시뮬레이션 (3초 대기)
      */
@@ -0,0 +1,113 @@
+package fintech2.easypay.transfer.external;
+
+import fintech2.easypay.common.resilience.ResilienceException;
+import fintech2.easypay.common.resilience.ResilienceGuard;
+import fintech2.easypay.common.resilience.ResilienceRegistry;
+import fintech2.easypay.external.service.BankAccountDirectory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 외부 뱅킹 API 보호 장치 적용 구현체
+ * 송금은 수신 은행 코드별로, 상태 조회는 별도의 보호 장치로 격리
+ * 은행 코드는 요청 값이므로 취급 은행이 아니면 공용 보호 장치 하나로 모음 (보호 장치/메트릭이 무한히 늘지 않도록)
+ *
+ * 송금 호출이 차단되거나 타임아웃되면 예외 대신 TIMEOUT/UNKNOWN 응답으로 바꿔
+ * 거래가 처리중 상태로 남고 상태 확인 스케줄러가 최종 결과를 확정하도록 함
+ */
+@Service
+@Primary
+@Slf4j
+public class ResilientBankingApiService implements BankingApiService {
+
+    static final String STATUS_GUARD = "bank:status";
+    static final String STATUS_BATCH_HEDGER = "bank:status-batch";
+    static final String UNKNOWN_BANK_GUARD = "bank:unknown";
+
+    private final BankingApiService delegate;
+    private final ResilienceRegistry resilienceRegistry;
+    private final BankAccountDirectory bankAccountDirectory;
+    private final boolean hedgeStatusInquiries;
+
+    public ResilientBankingApiService(@Qualifier("mockBankingApiService") BankingApiService delegate,
+                                      ResilienceRegistry resilienceRegistry,
+                                      BankAccountDirectory bankAccountDirectory,
+                                      @Value("${easypay.resilience.hedge.enabled:false}") boolean hedgeStatusInquiries) {
+        this.delegate = delegate;
+        this.resilienceRegistry = resilienceRegistry;
+        this.bankAccountDirectory = bankAccountDirectory;
+        this.hedgeStatusInquiries = hedgeStatusInquiries;
+    }
+
+    @Override
+    public BankingApiResponse processTransfer(BankingApiRequest request) {
+        ResilienceGuard guard = resilienceRegistry.guard(transferGuardName(request.getReceiverBankCode()));
+        try {
+            return guard.execute(() -> delegate.processTransfer(request), ResilientBankingApiService::isBankFailure);
+        } catch (ResilienceException e) {
+            log.warn("외부 송금 호출 차단: {} - {}", request.getTransactionId(), e.getMessage());
+            return blockedResponse(request.getTransactionId(), e);
+        }
+    }
+
+    /**
+     * 상태 조회는 차단 시 예외를 그대로 전달 (스케줄러가 다음 확인 시각을 늦춤)
+     * 헤지 모드에서는 응답이 p95를 넘기면 같은 조회를 한 번 더 보내고 먼저 온 응답을 사용
+     * (헤지 요청도 벌크헤드와 서킷을 거침)
+     */
+    @Override
+    public BankingApiResponse getTransferStatus(String transactionId) {
+        return inquire(STATUS_GUARD, () -> delegate.getTransferStatus(transactionId));
+    }
+
+    @Override
+    public Map<String, BankingApiResponse> getTransferStatuses(Collection<String> transactionIds) {
+        return inquire(STATUS_BATCH_HEDGER, () -> delegate.getTransferStatuses(transactionIds));
+    }
+
+    private <T> T inquire(String hedgerName, Callable<T> inquiry) {
+        ResilienceGuard guard = resilienceRegistry.guard(STATUS_GUARD);
+        if (!hedgeStatusInquiries) {
+            return guard.execute(inquiry);
+        }
+        // 단건/일괄 조회는 응답 시간 분포가 달라 헤지 지연을 따로 관리
+        return resilienceRegistry.hedger(hedgerName).call(() -> guard.execute(inquiry));
+    }
+
+    String transferGuardName(String bankCode) {
+        return bankAccountDirectory.isKnownBank(bankCode) ? "bank:" + bankCode : UNKNOWN_BANK_GUARD;
+    }
+
+    private static boolean isBankFailure(BankingApiResponse response) {
+        return response.getStatus() == BankingApiStatus.SYSTEM_ERROR
+                || response.getStatus() == BankingApiStatus.TIMEOUT;
+    }
+
+    private static BankingApiResponse blockedResponse(String transactionId, ResilienceException e) {
+        if (e.getReason() == ResilienceException.Reason.TIMEOUT) {
+            return BankingApiResponse.builder()
+                    .transactionId(transactionId)
+                    .status(BankingApiStatus.TIMEOUT)
+                    .errorCode("E_TIMEOUT")
+                    .errorMessage("응답 대기 시간이 초과되었습니다. 거래 상태를 확인해주세요.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        }
+        // 요청을 보내지 않았으므로 상태 확인 시 은행에 거래가 없으면 실패로 확정됨
+        return BankingApiResponse.builder()
+                .transactionId(transactionId)
+                .status(BankingApiStatus.UNKNOWN)
+                .errorCode(e.getReason() == ResilienceException.Reason.CIRCUIT_OPEN ? "E_CIRCUIT_OPEN" : "E_BULKHEAD_FULL")
+                .errorMessage("은행 시스템이 일시적으로 불안정하여 요청이 보류되었습니다.")
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.transfer.action.command.BatchTransferCommand;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * 일괄 송금 전용 JDBC 저장소
+ * 건수가 많은 일괄 송금에서 JPA 건별 처리(IDENTITY 키로 인한 배치 비활성화) 대신 JDBC 배치를 사용
+ * 호출자 트랜잭션(JPA)의 커넥션을 그대로 사용함
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransferBatchJdbcRepository {
+
+    // IN 절 파라미터 수 제한을 피하기 위한 청크 크기
+    private static final int LOCK_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 송금 요청 일괄 저장 (REQUESTED)
+     */
+    public void insertPendingTransfers(Long senderUserId, String senderAccountNumber,
+                                       List<BatchTransferCommand.Leg> legs, Map<String, Long> receiverUserIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+                "INSERT INTO transfers (transaction_id, sender_user_id, sender_account_number, " +
+                "receiver_user_id, receiver_account_number, amount, memo, status, reconcile_attempts, " +
+                "created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)",
+                legs, legs.size(), (ps, leg) -> {
+                    ps.setString(1, leg.getTransactionId());
+                    ps.setLong(2, senderUserId);
+                    ps.setString(3, senderAccountNumber);
+                    ps.setLong(4, receiverUserIds.get(leg.getReceiverAccountNumber()));
+                    ps.setString(5, leg.getReceiverAccountNumber());
+                    ps.setBigDecimal(6, leg.getAmount());
+                    ps.setString(7, leg.getMemo());
+                    ps.setString(8, TransferStatus.REQUESTED.name());
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                });
+    }
+
+    /**
+     * 잔액 행 일괄 잠금 조회
+     * 계좌번호 정렬 순서대로 청크 단위 SELECT ... FOR UPDATE → 모든 일괄 송금이 같은 순서로 락을 획득
+     */
+    public Map<String, BigDecimal> lockBalances(SortedSet<String> accountNumbers) {
+        Map<String, BigDecimal> balances = new HashMap<>();
+        List<String> ordered = new ArrayList<>(accountNumbers);
+        for (int from = 0; from < ordered.size(); from += LOCK_CHUNK_SIZE) {
+            List<String> chunk = ordered.subList(from, Math.min(from + LOCK_CHUNK_SIZE, ordered.size()));
+            jdbcTemplate.query(
+                    "SELECT account_number, balance FROM account_balances " +
+                    "WHERE account_number IN (:accountNumbers) ORDER BY account_number FOR UPDATE",
+                    new MapSqlParameterSource("accountNumbers", chunk),
+                    rs -> {
+                        balances.put(rs.getString("account_number"), rs.getBigDecimal("balance"));
+                    });
+        }
+        return balances;
+    }
+
+    /**
+     * 잔액 행이 없는 계좌의 0원 행 일괄 생성
+     */
+    public void insertZeroBalances(List<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+                "INSERT INTO account_balances (account_number, balance, shard_count, version, updated_at) " +
+                "VALUES (?, 0, 1, 0, ?)",
+                accountNumbers, accountNumbers.size(), (ps, accountNumber) -> {
+                    ps.setString(1, accountNumber);
+                    ps.setTimestamp(2, now);
+                });
+    }
+
+    /**
+     * 잠금된 잔액 행 일괄 갱신 (계좌번호 정렬 순)
+     */
+    public void updateBalances(SortedMap<String, BigDecimal> balances) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(balances.entrySet());
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+                "UPDATE account_balances SET balance = ?, version = COALESCE(version, 0) + 1, updated_at = ? " +
+                "WHERE account_number = ?",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, entry.getKey());
+                });
+    }
+
+    /**
+     * 거래 내역 일괄 저장
+     */
+    public void insertHistories(List<TransactionHistory> histories) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+                "INSERT INTO transaction_history (account_number, transaction_type, amount, balance_before, " +
+                "balance_after, description, reference_id, transaction_id, created_by, status, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                histories, histories.size(), (ps, history) -> {
+                    ps.setString(1, history.getAccountNumber());
+                    ps.setString(2, history.getTransactionType().name());
+                    ps.setBigDecimal(3, history.getAmount());
+                    ps.setBigDecimal(4, history.getBalanceBefore());
+                    ps.setBigDecimal(5, history.getBalanceAfter());
+                    ps.setString(6, history.getDescription());
+                    ps.setString(7, history.getReferenceId());
+                    ps.setString(8, history.getTransactionId());
+                    ps.setString(9, history.getCreatedBy());
+                    ps.setString(10, history.getStatus().name());
+                    ps.setTimestamp(11, now);
+                });
+    }
+
+    /**
+     * 송금 상태 일괄 변경
+     */
+    public void updateTransferStatus(List<String> transactionIds, TransferStatus status, String failedReason) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+                "UPDATE transfers SET status = ?, failed_reason = ?, processed_at = ?, updated_at = ? " +
+                "WHERE transaction_id = ?",
+                transactionIds, transactionIds.size(), (ps, transactionId) -> {
+                    ps.setString(1, status.name());
+                    ps.setString(2, failedReason);
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                    ps.setString(5, transactionId);
+                });
+    }
+}
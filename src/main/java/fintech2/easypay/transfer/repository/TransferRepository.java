@@ -2,9 +2,11 @@ package fintech2.easypay.transfer.repository;
 
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,14 @@ import java.util.Optional;
 public interface TransferRepository extends JpaRepository<Transfer, Long> {
     
     Optional<Transfer> findByTransactionId(String transactionId);
+
+    /**
+     * 송금 응답용 조회 - 송/수신 사용자를 함께 로딩
+     * 송금 처리는 트랜잭션 밖에서 응답을 만들므로 지연 로딩 대신 fetch join 사용
+     * (외부 계좌로 보낸 송금은 수신 사용자가 없으므로 수신자는 LEFT JOIN)
+     */
+    @Query("SELECT t FROM Transfer t JOIN FETCH t.sender LEFT JOIN FETCH t.receiver WHERE t.transactionId = :transactionId")
+    Optional<Transfer> findWithPartiesByTransactionId(@Param("transactionId") String transactionId);
     
     @Query("SELECT t FROM Transfer t WHERE t.sender.id = :memberId OR t.receiver.id = :memberId ORDER BY t.createdAt DESC")
     Page<Transfer> findByMemberIdOrderByCreatedAtDesc(@Param("memberId") Long memberId, Pageable pageable);
@@ -27,6 +37,34 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
     Page<Transfer> findBySenderIdOrderByCreatedAtDesc(Long senderId, Pageable pageable);
     
     Page<Transfer> findByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
+
+    /**
+     * 보낸 송금 키셋 조회 - 첫 페이지 / 커서 이후 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT t FROM Transfer t WHERE t.sender.id = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transfer> findSentFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Transfer t WHERE t.sender.id = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transfer> findSentPageAfter(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * 받은 송금 키셋 조회 - 첫 페이지 / 커서 이후 페이지 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT t FROM Transfer t WHERE t.receiver.id = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transfer> findReceivedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Transfer t WHERE t.receiver.id = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transfer> findReceivedPageAfter(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
     
     Page<Transfer> findByStatusOrderByCreatedAtDesc(TransferStatus status, Pageable pageable);
     
@@ -45,6 +83,29 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
     List<Transfer> findByStatusInAndCreatedAtBefore(List<TransferStatus> statuses, 
                                                    LocalDateTime createdAt);
     
+    /**
+     * 상태 확인 대상 거래 ID를 키셋 방식으로 조회 (id 오름차순, afterId 다음부터)
+     * 확인 예약 시각이 지나지 않은 거래는 제외
+     */
+    @Query("SELECT t.id FROM Transfer t " +
+           "WHERE t.status IN :statuses AND t.createdAt < :cutoff " +
+           "AND (t.nextReconcileAt IS NULL OR t.nextReconcileAt <= :now) " +
+           "AND t.id > :afterId " +
+           "ORDER BY t.id")
+    List<Long> findReconcileCandidateIds(@Param("statuses") List<TransferStatus> statuses,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+    
+    /**
+     * 상태 확인 대상 중 가장 오래된 거래의 생성 시각 (적체 시간 측정용)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM Transfer t WHERE t.status IN :statuses")
+    Optional<LocalDateTime> findOldestCreatedAtByStatusIn(@Param("statuses") List<TransferStatus> statuses);
+    
+    long countByStatusIn(List<TransferStatus> statuses);
+    
     /**
      * 최근 송금한 수신자들을 중복 제거하여 조회
      * 각 수신자별로 가장 최근 거래만 가져옴
@@ -63,4 +124,23 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
     Page<Transfer> findRecentDistinctReceivers(@Param("senderId") Long senderId, Pageable pageable);
     
     boolean existsByTransactionId(String transactionId);
+    
+    /**
+     * 거래 ID로 조회 (비관적 락 적용)
+     * 접수된 송금을 실행하기 전에 다른 워커/재처리와 겹치지 않도록 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transfer t WHERE t.transactionId = :transactionId")
+    Optional<Transfer> findByTransactionIdForUpdate(@Param("transactionId") String transactionId);
+    
+    /**
+     * 실행되지 않고 접수(REQUESTED) 상태로 남은 송금 키셋 조회 (id 순)
+     * 비동기 접수 후 노드 종료/장애로 큐에서 사라진 송금을 재처리하는 데 사용
+     */
+    @Query("SELECT t FROM Transfer t JOIN FETCH t.sender " +
+           "WHERE t.status = fintech2.easypay.transfer.entity.TransferStatus.REQUESTED " +
+           "AND t.createdAt < :cutoff AND t.id > :afterId ORDER BY t.id")
+    List<Transfer> findStaleRequested(@Param("cutoff") LocalDateTime cutoff,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
 }
@@ -0,0 +1,123 @@
+package fintech2.easypay.transfer.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import fintech2.easypay.common.scheduling.SweepRunner;
+import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.TransferActionProcessor;
+import fintech2.easypay.transfer.action.command.InternalTransferCommand;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.repository.TransferRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 접수 상태 송금 재처리 스케줄러
+ * 비동기 송금(202)은 접수(REQUESTED)를 커밋한 뒤 메모리 큐로 넘기므로, 워커가 꺼내기 전에 노드가 종료되면
+ * 거래가 접수 상태로 남음 → 일정 시간이 지난 접수 건을 다시 검증해 파티션 큐에 넣음
+ *
+ * - 대상 송금은 id 키셋으로 페이지 단위 조회
+ * - 실행은 워커가 거래 ID로 거래를 잠그고 아직 접수 상태일 때만 하므로 원래 작업과 겹쳐도 한 번만 실행됨
+ * - 다시 검증에 실패하면(잔액 부족 등) 실패로 확정하고, 큐가 가득 차면 다음 실행에서 다시 시도
+ */
+@Service
+@Slf4j
+public class RequestedTransferRecoveryService {
+
+    private final TransferRepository transferRepository;
+    private final TransferActionProcessor transferActionProcessor;
+
+    private final int pageSize;
+    private final Duration resumeAfter;
+
+    private final SweepRunner sweepRunner;
+
+    public RequestedTransferRecoveryService(TransferRepository transferRepository,
+                                            TransferActionProcessor transferActionProcessor,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${easypay.transfer.async.resume-page-size:500}") int pageSize,
+                                            @Value("${easypay.transfer.async.resume-after-seconds:300}") long resumeAfterSeconds) {
+        this.transferRepository = transferRepository;
+        this.transferActionProcessor = transferActionProcessor;
+        this.pageSize = pageSize;
+        this.resumeAfter = Duration.ofSeconds(resumeAfterSeconds);
+        this.sweepRunner = new SweepRunner(meterRegistry, "접수 송금 재처리", "easypay.transfer.resume",
+                "transfer-resume-", 1, false);
+    }
+
+    /**
+     * 주기적으로 접수 상태로 남은 송금을 재처리
+     * 이전 실행이 아직 진행 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${easypay.transfer.async.resume-interval-ms:60000}")
+    @Async("taskExecutor")
+    public void resumeStaleTransfers() {
+        sweepRunner.runExclusively(this::resume);
+    }
+
+    /**
+     * 접수 후 일정 시간이 지난 송금을 페이지 단위로 조회해 재처리 큐에 넣음
+     * @return 이번 실행에서 확인한 송금 수
+     */
+    int resume() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(resumeAfter);
+        PageRequest page = PageRequest.of(0, pageSize);
+
+        long afterId = 0L;
+        int checked = 0;
+        while (true) {
+            List<Transfer> transfers = transferRepository.findStaleRequested(cutoff, afterId, page);
+            if (transfers.isEmpty()) {
+                break;
+            }
+            for (Transfer transfer : transfers) {
+                resumeOne(transfer);
+            }
+            checked += transfers.size();
+            afterId = transfers.get(transfers.size() - 1).getId();
+            if (transfers.size() < pageSize) {
+                break;
+            }
+        }
+
+        if (checked > 0) {
+            log.info("접수 송금 재처리 완료: 확인 {}건", checked);
+        }
+        return checked;
+    }
+
+    private void resumeOne(Transfer transfer) {
+        InternalTransferCommand command = InternalTransferCommand.builder()
+                .senderPhoneNumber(transfer.getSender().getPhoneNumber())
+                .senderAccountNumber(transfer.getSenderAccountNumber())
+                .receiverAccountNumber(transfer.getReceiverAccountNumber())
+                .amount(transfer.getAmount())
+                .memo(transfer.getMemo())
+                .transactionId(transfer.getTransactionId())
+                .build();
+
+        ActionResult result = transferActionProcessor.resumeAsync(command);
+        if (result.isPending()) {
+            sweepRunner.count("resubmitted");
+        } else if ("QUEUE_FULL".equals(result.getCode())) {
+            sweepRunner.count("deferred");
+        } else {
+            sweepRunner.count("failed");
+            log.warn("접수 송금 재처리 실패: {} - {}", transfer.getTransactionId(), result.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepRunner.shutdown();
+    }
+}
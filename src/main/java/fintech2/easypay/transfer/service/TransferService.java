@@ -1,28 +1,42 @@
 package fintech2.easypay.transfer.service;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.dto.CursorPage;
+import fintech2.easypay.common.util.KeysetCursor;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.transfer.action.ActionResult;
 import fintech2.easypay.transfer.action.TransferActionProcessor;
+import fintech2.easypay.transfer.action.command.BatchTransferCommand;
 import fintech2.easypay.transfer.action.command.InternalTransferCommand;
 import fintech2.easypay.transfer.action.command.SecureTransferCommand;
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.dto.BatchTransferResponse;
 import fintech2.easypay.transfer.dto.RecentTransferResponse;
 import fintech2.easypay.transfer.dto.SecureTransferRequest;
 import fintech2.easypay.transfer.dto.TransferRequest;
 import fintech2.easypay.transfer.dto.TransferResponse;
 import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.entity.TransferStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
 
 /**
@@ -39,6 +53,7 @@ public class TransferService {
     private final TransferRepository transferRepository;
     private final UserRepository userRepository;
     private final TransferActionProcessor transferActionProcessor;
+    private final TransactionIdGenerator transactionIdGenerator;
     
     /**
      * 일반 송금 처리 (내부 계좌 간 송금)
@@ -48,7 +63,7 @@ public class TransferService {
      * @return 송금 처리 결과
      * @throws BusinessException 송금 처리 중 오류 발생 시
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TransferResponse transfer(String senderPhoneNumber, TransferRequest request) {
         log.info("Processing transfer request: sender={}, amount={}", senderPhoneNumber, request.getAmount());
         
@@ -60,7 +75,7 @@ public class TransferService {
                     .receiverAccountNumber(request.getReceiverAccountNumber())
                     .amount(request.getAmount())
                     .memo(request.getMemo())
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .build();
             
             // Action Pattern으로 처리
@@ -81,6 +96,52 @@ public class TransferService {
         }
     }
     
+    /**
+     * 비동기 송금 접수 (내부 계좌 간 송금)
+     * 검증과 대기 저장까지만 처리하고 즉시 반환하며, 실행 결과는 거래 조회 API로 확인
+     * @param senderPhoneNumber 송금자 휴대폰 번호
+     * @param request 송금 요청 정보
+     * @return 접수된 송금 정보 (REQUESTED 상태)
+     * @throws BusinessException 검증 실패 또는 처리 큐 포화 시
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransferResponse submitTransfer(String senderPhoneNumber, TransferRequest request) {
+        log.info("Submitting async transfer request: sender={}, amount={}", senderPhoneNumber, request.getAmount());
+        
+        InternalTransferCommand command = InternalTransferCommand.builder()
+                .senderPhoneNumber(senderPhoneNumber)
+                .senderAccountNumber(request.getSenderAccountNumber())
+                .receiverAccountNumber(request.getReceiverAccountNumber())
+                .amount(request.getAmount())
+                .memo(request.getMemo())
+                .transactionId(transactionIdGenerator.nextTransactionId())
+                .build();
+        
+        ActionResult result = transferActionProcessor.processAsync(command);
+        
+        if (!result.isPending()) {
+            log.warn("Async transfer rejected: transactionId={}, code={}", command.getTransactionId(), result.getCode());
+            if ("QUEUE_FULL".equals(result.getCode())) {
+                throw new BusinessException(ErrorCode.TRANSFER_QUEUE_FULL);
+            } else if ("VALIDATION_FAILED".equals(result.getCode())) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, result.getMessage());
+            }
+            throw new BusinessException(ErrorCode.TRANSACTION_FAILED, result.getMessage());
+        }
+        
+        // 검증 단계에서 조회한 컨텍스트로 응답 생성 (추가 조회 없음)
+        return TransferResponse.builder()
+                .transactionId(command.getTransactionId())
+                .senderPhoneNumber(senderPhoneNumber)
+                .senderAccountNumber(command.getContext().getSenderAccountNumber())
+                .receiverPhoneNumber(command.getContext().getReceiver().getPhoneNumber())
+                .receiverAccountNumber(command.getReceiverAccountNumber())
+                .amount(command.getAmount())
+                .memo(command.getMemo())
+                .status(TransferStatus.REQUESTED)
+                .build();
+    }
+    
     /**
      * 보안 송금 처리 (PIN 검증 포함)
      * SecureTransferRequest를 SecureTransferCommand로 변환하여 처리
@@ -88,7 +149,7 @@ public class TransferService {
      * @param request 보안 송금 요청 정보
      * @return 송금 처리 결과
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TransferResponse secureTransfer(String senderPhoneNumber, SecureTransferRequest request) {
         log.info("Processing secure transfer request: sender={}, amount={}", senderPhoneNumber, request.getAmount());
         
@@ -103,7 +164,7 @@ public class TransferService {
                     .memo(request.getMemo())
                     .pinSessionToken(request.getPinSessionToken())
                     .currency("KRW")
-                    .transactionId(generateTransactionId())
+                    .transactionId(transactionIdGenerator.nextTransactionId())
                     .build();
             
             // Action Pattern으로 처리
@@ -124,6 +185,54 @@ public class TransferService {
         }
     }
     
+    /**
+     * 일괄 송금 처리 (한 계좌에서 여러 내부 계좌로)
+     * 트랜잭션 경계는 TransferActionProcessor가 액션의 전략에 따라 지정하므로 외부 트랜잭션 없이 실행
+     * @param senderPhoneNumber 송금자 휴대폰 번호
+     * @param request 일괄 송금 요청 정보
+     * @return 일괄 송금 처리 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchTransferResponse batchTransfer(String senderPhoneNumber, BatchTransferRequest request) {
+        log.info("Processing batch transfer request: sender={}, count={}", senderPhoneNumber, request.getTransfers().size());
+        
+        BatchTransferCommand command = BatchTransferCommand.builder()
+                .senderPhoneNumber(senderPhoneNumber)
+                .senderAccountNumber(request.getSenderAccountNumber())
+                .batchId(transactionIdGenerator.next(TransactionIdGenerator.BATCH_PREFIX))
+                .legs(request.getTransfers().stream()
+                        .map(item -> BatchTransferCommand.Leg.builder()
+                                .receiverAccountNumber(item.getReceiverAccountNumber())
+                                .amount(item.getAmount())
+                                .memo(item.getMemo())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+        
+        ActionResult result = transferActionProcessor.process(command);
+        
+        if (!result.isSuccess()) {
+            log.warn("Batch transfer failed: batchId={}, code={}", command.getBatchId(), result.getCode());
+            if ("INSUFFICIENT_BALANCE".equals(result.getCode())) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+            } else if ("VALIDATION_FAILED".equals(result.getCode())) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, result.getMessage());
+            }
+            throw new BusinessException(ErrorCode.TRANSACTION_FAILED, result.getMessage());
+        }
+        
+        return BatchTransferResponse.builder()
+                .batchId(command.getBatchId())
+                .senderAccountNumber(command.getSenderAccountNumber())
+                .totalCount(command.getLegs().size())
+                .totalAmount(command.getTotalAmount())
+                .status(TransferStatus.COMPLETED)
+                .transactionIds(command.getLegs().stream()
+                        .map(BatchTransferCommand.Leg::getTransactionId)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
     public TransferResponse getTransfer(String transactionId) {
         Transfer transfer = transferRepository.findByTransactionId(transactionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
@@ -151,6 +260,74 @@ public class TransferService {
         Page<Transfer> transfers = transferRepository.findByReceiverIdOrderByCreatedAtDesc(user.getId(), pageable);
         return transfers.map(TransferResponse::from);
     }
+
+    /**
+     * 송금 내역 키셋 조회 (보낸 + 받은, 최신순)
+     * 보낸/받은 내역을 각각 인덱스 순서대로 size + 1건씩 읽어 병합하므로 깊은 페이지도 첫 페이지와 비용이 같음
+     */
+    public CursorPage<TransferResponse> getTransferHistory(String phoneNumber, String cursor, Integer size) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        int pageSize = CursorPage.sizeOf(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Transfer> sent = after == null
+                ? transferRepository.findSentFirstPage(user.getId(), limit)
+                : transferRepository.findSentPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+        List<Transfer> received = after == null
+                ? transferRepository.findReceivedFirstPage(user.getId(), limit)
+                : transferRepository.findReceivedPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+
+        // 자기 자신에게 보낸 송금은 양쪽에 모두 있으므로 id로 중복 제거
+        List<Transfer> merged = Stream.concat(sent.stream(), received.stream())
+                .filter(distinctById())
+                .sorted(Comparator.comparing(Transfer::getCreatedAt).thenComparing(Transfer::getId).reversed())
+                .limit(pageSize + 1)
+                .toList();
+        return CursorPage.of(merged, pageSize, TransferService::cursorOf, TransferResponse::from);
+    }
+
+    /**
+     * 보낸 송금 키셋 조회 (최신순)
+     */
+    public CursorPage<TransferResponse> getSentTransfers(String phoneNumber, String cursor, Integer size) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        int pageSize = CursorPage.sizeOf(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Transfer> transfers = after == null
+                ? transferRepository.findSentFirstPage(user.getId(), limit)
+                : transferRepository.findSentPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+        return CursorPage.of(transfers, pageSize, TransferService::cursorOf, TransferResponse::from);
+    }
+
+    /**
+     * 받은 송금 키셋 조회 (최신순)
+     */
+    public CursorPage<TransferResponse> getReceivedTransfers(String phoneNumber, String cursor, Integer size) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        int pageSize = CursorPage.sizeOf(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Transfer> transfers = after == null
+                ? transferRepository.findReceivedFirstPage(user.getId(), limit)
+                : transferRepository.findReceivedPageAfter(user.getId(), after.createdAt(), after.id(), limit);
+        return CursorPage.of(transfers, pageSize, TransferService::cursorOf, TransferResponse::from);
+    }
+
+    private static KeysetCursor cursorOf(Transfer transfer) {
+        return new KeysetCursor(transfer.getCreatedAt(), transfer.getId());
+    }
+
+    private static Predicate<Transfer> distinctById() {
+        Set<Long> seen = new HashSet<>();
+        return transfer -> seen.add(transfer.getId());
+    }
     
     /**
      * 최근 송금한 사람들의 목록 조회 (중복 제거)
@@ -176,9 +353,10 @@ public class TransferService {
      */
     private TransferResponse convertActionResultToTransferResponse(ActionResult result, String transactionId) {
         if (!result.isSuccess()) {
-            // 실패한 경우에도 트랜잭션 정보를 조회하여 응답 생성
-            Transfer transfer = transferRepository.findByTransactionId(transactionId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
+            // 실패 기록은 별도 트랜잭션으로 남으므로 조회 실패 시에도 원래 오류 코드로 응답
+            transferRepository.findByTransactionId(transactionId)
+                    .ifPresent(transfer -> log.warn("Transfer failed: transactionId={}, status={}, reason={}",
+                            transactionId, transfer.getStatus(), transfer.getFailedReason()));
             
             // 실패 상태에 따른 적절한 오류 처리
             if (result.getCode().equals("INSUFFICIENT_BALANCE")) {
@@ -192,25 +370,10 @@ public class TransferService {
             }
         }
         
-        // 성공한 경우 Transfer 엔티티 조회 후 응답 생성
-        Transfer transfer = transferRepository.findByTransactionId(transactionId)
+        // 성공한 경우 Transfer 엔티티 조회 후 응답 생성 (트랜잭션 밖이므로 송/수신 사용자까지 함께 조회)
+        Transfer transfer = transferRepository.findWithPartiesByTransactionId(transactionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
         
         return TransferResponse.from(transfer);
     }
-    
-    /**
-     * 고유한 거래 ID 생성
-     * TXN 접두어 + 12자리 랜덤 문자열
-     * 중복 방지를 위한 검증 로직 포함
-     * @return 생성된 거래 ID
-     */
-    private String generateTransactionId() {
-        String transactionId;
-        do {
-            transactionId = "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (transferRepository.existsByTransactionId(transactionId));
-        
-        return transactionId;
-    }
 }
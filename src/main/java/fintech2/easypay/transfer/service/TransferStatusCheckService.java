@@ -1,17 +1,26 @@
 package fintech2.easypay.transfer.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import fintech2.easypay.account.entity.Account;
-import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
 import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.scheduling.Backoff;
+import fintech2.easypay.common.scheduling.SweepRunner;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.transfer.action.TransferDescriptions;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
 import fintech2.easypay.transfer.external.BankingApiResponse;
@@ -19,164 +28,299 @@ import fintech2.easypay.transfer.external.BankingApiService;
 import fintech2.easypay.transfer.external.BankingApiStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
- * 거래 상태 확인 스케줄러
+ * 거래 상태 확인 스케줄러 (대사 엔진)
  * 타임아웃 또는 UNKNOWN 상태의 거래들을 주기적으로 확인하여 최종 상태를 업데이트
+ *
+ * - 대상 거래는 id 키셋으로 페이지 단위 조회 (전체를 한 번에 올리지 않음)
+ * - 페이지 안의 거래는 일괄 조회 단위(최대 N건)로 묶어 제한된 병렬도로 외부 API를 호출하고,
+ *   결과 반영은 거래마다 짧은 트랜잭션으로 처리
+ *   (외부 호출 동안에는 트랜잭션/커넥션을 잡지 않음)
+ * - 결과가 확정되지 않은 거래는 시도 횟수에 따라 지수적으로 다음 확인 시각을 늦춤
+ * - 한 번의 실행은 제한 시간 안에서만 진행하고, 남은 거래는 다음 실행에서 이어서 처리
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class TransferStatusCheckService {
-    
+
+    static final List<TransferStatus> RECONCILE_STATUSES =
+            List.of(TransferStatus.TIMEOUT, TransferStatus.UNKNOWN, TransferStatus.PROCESSING);
+
     private final TransferRepository transferRepository;
-    private final AccountRepository accountRepository;
     private final BankingApiService bankingApiService;
+    private final BalanceService balanceService;
     private final AuditLogService auditLogService;
     private final NotificationService notificationService;
-    
+    private final TransactionTemplate transactionTemplate;
+
+    private final int pageSize;
+    private final int statusBatchSize;
+    private final Duration minAge;
+    private final Duration maxRunDuration;
+    private final Backoff backoff;
+    private final Duration giveUpAfter;
+
+    private final SweepRunner sweepRunner;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong backlogAgeSeconds = new AtomicLong();
+
+    public TransferStatusCheckService(TransferRepository transferRepository,
+                                      BankingApiService bankingApiService,
+                                      BalanceService balanceService,
+                                      AuditLogService auditLogService,
+                                      NotificationService notificationService,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${easypay.reconcile.page-size:1000}") int pageSize,
+                                      @Value("${easypay.reconcile.status-batch-size:100}") int statusBatchSize,
+                                      @Value("${easypay.reconcile.parallelism:8}") int parallelism,
+                                      @Value("${easypay.reconcile.min-age-minutes:10}") long minAgeMinutes,
+                                      @Value("${easypay.reconcile.max-run-seconds:240}") long maxRunSeconds,
+                                      @Value("${easypay.reconcile.base-backoff-seconds:60}") long baseBackoffSeconds,
+                                      @Value("${easypay.reconcile.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                      @Value("${easypay.reconcile.give-up-hours:24}") long giveUpHours,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.transferRepository = transferRepository;
+        this.bankingApiService = bankingApiService;
+        this.balanceService = balanceService;
+        this.auditLogService = auditLogService;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        this.statusBatchSize = statusBatchSize;
+        this.minAge = Duration.ofMinutes(minAgeMinutes);
+        this.maxRunDuration = Duration.ofSeconds(maxRunSeconds);
+        this.backoff = Backoff.ofSeconds(baseBackoffSeconds, maxBackoffSeconds);
+        this.giveUpAfter = Duration.ofHours(giveUpHours);
+        this.sweepRunner = new SweepRunner(meterRegistry, "거래 상태 확인", "easypay.reconcile",
+                "reconcile-", parallelism, virtualThreads);
+
+        Gauge.builder("easypay.reconcile.backlog.size", backlogSize, AtomicLong::get)
+                .description("상태 확인 대기 중인 거래 수")
+                .register(meterRegistry);
+        Gauge.builder("easypay.reconcile.backlog.age", backlogAgeSeconds, AtomicLong::get)
+                .description("상태 확인 대기 중인 가장 오래된 거래의 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
     /**
      * 5분마다 확인 대상 거래들의 상태를 체크
+     * 이전 실행이 아직 진행 중이면 건너뜀
      */
     @Scheduled(fixedDelay = 300000) // 5분 = 300,000ms
     @Async("taskExecutor")
-    @Transactional
     public void checkPendingTransferStatus() {
+        sweepRunner.runExclusively(this::reconcile);
+    }
+
+    /**
+     * 대상 거래를 페이지 단위로 조회해 일괄 조회 단위로 병렬 확인
+     * @return 이번 실행에서 확인한 거래 수
+     */
+    int reconcile() {
         log.info("거래 상태 확인 스케줄러 시작");
-        
-        // 10분 이전에 생성된 TIMEOUT, UNKNOWN 상태의 거래들 조회
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(10);
-        List<Transfer> pendingTransfers = transferRepository
-            .findByStatusInAndCreatedAtBefore(
-                List.of(TransferStatus.TIMEOUT, TransferStatus.UNKNOWN, TransferStatus.PROCESSING), 
-                cutoffTime);
-        
-        if (pendingTransfers.isEmpty()) {
+        refreshBacklogMetrics();
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoffTime = startedAt.minus(minAge);
+        LocalDateTime deadline = startedAt.plus(maxRunDuration);
+
+        long afterId = 0L;
+        int checked = 0;
+        while (LocalDateTime.now().isBefore(deadline)) {
+            List<Long> ids = transferRepository.findReconcileCandidateIds(
+                    RECONCILE_STATUSES, cutoffTime, startedAt, afterId, PageRequest.of(0, pageSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Transfer> candidates = transferRepository.findAllById(ids).stream()
+                    .filter(transfer -> RECONCILE_STATUSES.contains(transfer.getStatus()))
+                    .toList();
+            if (candidates.size() < ids.size()) {
+                count("skipped", ids.size() - candidates.size());
+            }
+
+            // 페이지를 일괄 조회 단위로 나눠 외부 API 호출을 병렬로 수행
+            sweepRunner.runAll(SweepRunner.partition(candidates, statusBatchSize), this::checkBatchSafely);
+
+            checked += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < pageSize) {
+                break;
+            }
+        }
+
+        if (checked == 0) {
             log.info("확인할 대기 중인 거래가 없습니다.");
+        }
+        log.info("거래 상태 확인 스케줄러 완료: 확인 {}건", checked);
+        return checked;
+    }
+
+    private void checkBatchSafely(List<Transfer> batch) {
+        try {
+            checkAndUpdateTransferStatuses(batch);
+        } catch (Exception e) {
+            count("error", batch.size());
+            log.error("거래 상태 일괄 확인 중 오류 발생: {}건 - {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 거래 묶음의 상태를 한 번의 외부 호출로 확인하고 건별로 반영
+     * 외부 API는 트랜잭션 밖에서 호출하고, 결과 반영만 거래마다 짧은 트랜잭션으로 처리
+     */
+    private void checkAndUpdateTransferStatuses(List<Transfer> batch) {
+        List<String> transactionIds = batch.stream().map(Transfer::getTransactionId).toList();
+        log.info("거래 상태 일괄 확인 시작: {}건 ({} ~ {})",
+                batch.size(), transactionIds.get(0), transactionIds.get(transactionIds.size() - 1));
+
+        Map<String, BankingApiResponse> responses;
+        try {
+            // 외부 API로 실제 거래 상태 일괄 확인
+            responses = bankingApiService.getTransferStatuses(transactionIds);
+        } catch (Exception e) {
+            log.error("외부 API 일괄 조회 실패: {}건 - {}", batch.size(), e.getMessage());
+            for (Transfer snapshot : batch) {
+                inTransaction(snapshot.getId(), this::scheduleNextCheckOrGiveUp);
+            }
+            count("error", batch.size());
             return;
         }
-        
-        log.info("확인할 거래 수: {}", pendingTransfers.size());
-        
-        for (Transfer transfer : pendingTransfers) {
+
+        for (Transfer snapshot : batch) {
+            BankingApiResponse statusResponse = responses.get(snapshot.getTransactionId());
             try {
-                checkAndUpdateTransferStatus(transfer);
+                if (statusResponse == null) {
+                    // 응답에서 누락된 거래는 다음 확인으로 미룸
+                    inTransaction(snapshot.getId(), this::scheduleNextCheckOrGiveUp);
+                    count("pending");
+                } else {
+                    applyStatus(snapshot.getId(), statusResponse);
+                }
             } catch (Exception e) {
-                log.error("거래 상태 확인 중 오류 발생: {} - {}", transfer.getTransactionId(), e.getMessage());
+                count("error");
+                log.error("거래 상태 반영 중 오류 발생: {} - {}", snapshot.getTransactionId(), e.getMessage());
             }
         }
-        
-        log.info("거래 상태 확인 스케줄러 완료");
     }
-    
+
     /**
-     * 개별 거래 상태 확인 및 업데이트
+     * 확인 결과 반영
      */
-    private void checkAndUpdateTransferStatus(Transfer transfer) {
-        log.info("거래 상태 확인 시작: {} (현재상태: {})", 
-                transfer.getTransactionId(), transfer.getStatus());
-        
-        try {
-            // 외부 API로 실제 거래 상태 확인
-            BankingApiResponse statusResponse = bankingApiService
-                .getTransferStatus(transfer.getTransactionId());
-            
-            if (statusResponse.getStatus() == BankingApiStatus.SUCCESS) {
-                // 성공: 잔액 이동 및 상태 업데이트
-                handleSuccessfulTransfer(transfer, statusResponse);
-                
-            } else if (statusResponse.getStatus() == BankingApiStatus.FAILED ||
-                       statusResponse.getStatus() == BankingApiStatus.SYSTEM_ERROR ||
-                       statusResponse.getStatus() == BankingApiStatus.INSUFFICIENT_BALANCE ||
-                       statusResponse.getStatus() == BankingApiStatus.INVALID_ACCOUNT) {
-                // 실패: 상태만 업데이트 (잔액 이동 없음)
-                handleFailedTransfer(transfer, statusResponse);
-                
-            } else {
-                // 여전히 처리중이거나 알 수 없음: 상태 유지
-                log.info("거래 여전히 처리중: {} - {}", 
-                        transfer.getTransactionId(), statusResponse.getStatus());
-            }
-            
-        } catch (Exception e) {
-            log.error("외부 API 호출 실패: {} - {}", transfer.getTransactionId(), e.getMessage());
-            
-            // 24시간 이상 확인되지 않은 거래는 실패 처리
-            if (transfer.getCreatedAt().isBefore(LocalDateTime.now().minusHours(24))) {
-                markAsSystemFailure(transfer);
+    void applyStatus(Long transferId, BankingApiResponse statusResponse) {
+        BankingApiStatus status = statusResponse.getStatus();
+
+        if (status == BankingApiStatus.SUCCESS) {
+            // 성공: 잔액 이동 및 상태 업데이트
+            try {
+                inTransaction(transferId, transfer -> handleSuccessfulTransfer(transfer, statusResponse));
+                count("completed");
+            } catch (InsufficientBalanceException e) {
+                // 잔액 변경이 롤백된 뒤 실패 상태만 별도 트랜잭션으로 기록
+                inTransaction(transferId, transfer -> {
+                    transfer.markAsFailed("잔액 부족으로 인한 거래 실패");
+                    log.warn("지연 처리 중 잔액 부족 발견: {}", transfer.getTransactionId());
+                });
+                count("failed");
             }
+
+        } else if (status == BankingApiStatus.FAILED ||
+                   status == BankingApiStatus.SYSTEM_ERROR ||
+                   status == BankingApiStatus.INSUFFICIENT_BALANCE ||
+                   status == BankingApiStatus.INVALID_ACCOUNT) {
+            // 실패: 상태만 업데이트 (잔액 이동 없음)
+            inTransaction(transferId, transfer -> handleFailedTransfer(transfer, statusResponse));
+            count("failed");
+
+        } else {
+            // 여전히 처리중이거나 알 수 없음: 다음 확인 시각 예약
+            inTransaction(transferId, transfer -> {
+                log.info("거래 여전히 처리중: {} - {}", transfer.getTransactionId(), status);
+                scheduleNextCheckOrGiveUp(transfer);
+            });
+            count("pending");
         }
     }
-    
+
+    /**
+     * 거래 하나를 다시 조회해 짧은 트랜잭션 안에서 변경
+     * 그 사이 다른 경로에서 최종 상태가 된 거래는 건드리지 않음
+     */
+    private void inTransaction(Long transferId, Consumer<Transfer> change) {
+        transactionTemplate.executeWithoutResult(status -> transferRepository.findById(transferId)
+                .filter(transfer -> RECONCILE_STATUSES.contains(transfer.getStatus()))
+                .ifPresent(change));
+    }
+
     /**
      * 성공한 거래 처리
+     * 외부 송금은 확인 시점에 송금자 잔액을 차감 (요청 당시에는 차감하지 않음)
      */
     private void handleSuccessfulTransfer(Transfer transfer, BankingApiResponse response) {
         log.info("지연 처리 거래 성공 확인: {}", transfer.getTransactionId());
-        
-        // 계좌 락 획득하여 잔액 이동
-        Account senderAccount = accountRepository.findByIdWithLock(
-            transfer.getSender().getId()).orElse(null);
-        Account receiverAccount = accountRepository.findByIdWithLock(
-            transfer.getReceiver().getId()).orElse(null);
-        
-        if (senderAccount != null && receiverAccount != null) {
-            // 송금자 잔액이 충분한지 다시 확인
-            if (senderAccount.hasEnoughBalance(transfer.getAmount())) {
-                senderAccount.withdraw(transfer.getAmount());
-                receiverAccount.deposit(transfer.getAmount());
-                
-                transfer.markAsCompleted();
-                transfer.setBankTransactionId(response.getBankTransactionId());
-                
-                // 감사 로그 기록
-                auditLogService.logSuccess(
-                    transfer.getSender().getId(),
-                    transfer.getSender().getPhoneNumber(),
-                    AuditEventType.TRANSFER_SUCCESS,
-                    String.format("지연 처리 송금 완료: %s (%s원)", 
-                        transfer.getTransactionId(), transfer.getAmount()),
-                    null, null,
-                    String.format("amount: %s", transfer.getAmount()),
-                    response.getMessage()
-                );
-                
-                // 알림 전송
-                notificationService.sendTransferActivityNotification(
-                    transfer.getSender().getId(),
-                    transfer.getSender().getPhoneNumber(),
-                    String.format("송금이 완료되었습니다. %s원이 %s로 송금되었습니다.", 
-                        transfer.getAmount(), transfer.getReceiverAccountNumber())
-                );
-                
-                notificationService.sendTransferActivityNotification(
-                    transfer.getReceiver().getId(),
-                    transfer.getReceiver().getPhoneNumber(),
-                    String.format("입금이 완료되었습니다. %s원이 %s로부터 입금되었습니다.", 
-                        transfer.getAmount(), transfer.getSenderAccountNumber())
-                );
-                
-            } else {
-                // 잔액 부족 시 실패 처리
-                transfer.markAsFailed("잔액 부족으로 인한 거래 실패");
-                log.warn("지연 처리 중 잔액 부족 발견: {}", transfer.getTransactionId());
-            }
+
+        balanceService.decrease(transfer.getSenderAccountNumber(), transfer.getAmount(),
+                TransactionType.TRANSFER_OUT, TransferDescriptions.of("지연 처리 송금 출금", transfer.getMemo()),
+                transfer.getTransactionId(), transfer.getSender().getId().toString());
+        if (transfer.getReceiver() != null) {
+            balanceService.increase(transfer.getReceiverAccountNumber(), transfer.getAmount(),
+                    TransactionType.TRANSFER_IN, TransferDescriptions.of("지연 처리 송금 입금", transfer.getMemo()),
+                    transfer.getTransactionId(), transfer.getReceiver().getId().toString());
+        }
+
+        transfer.markAsCompleted();
+        transfer.setBankTransactionId(response.getBankTransactionId());
+
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            transfer.getSender().getId(),
+            transfer.getSender().getPhoneNumber(),
+            AuditEventType.TRANSFER_SUCCESS,
+            String.format("지연 처리 송금 완료: %s (%s원)",
+                transfer.getTransactionId(), transfer.getAmount()),
+            null, null,
+            String.format("amount: %s", transfer.getAmount()),
+            response.getMessage()
+        );
+
+        // 알림 전송
+        notificationService.sendTransferActivityNotification(
+            transfer.getSender().getId(),
+            transfer.getSender().getPhoneNumber(),
+            String.format("송금이 완료되었습니다. %s원이 %s로 송금되었습니다.",
+                transfer.getAmount(), transfer.getReceiverAccountNumber())
+        );
+
+        if (transfer.getReceiver() != null) {
+            notificationService.sendTransferActivityNotification(
+                transfer.getReceiver().getId(),
+                transfer.getReceiver().getPhoneNumber(),
+                String.format("입금이 완료되었습니다. %s원이 %s로부터 입금되었습니다.",
+                    transfer.getAmount(), transfer.getSenderAccountNumber())
+            );
         }
     }
-    
+
     /**
      * 실패한 거래 처리
      */
     private void handleFailedTransfer(Transfer transfer, BankingApiResponse response) {
         log.info("거래 실패 확인: {} - {}", transfer.getTransactionId(), response.getStatus());
-        
-        String failureReason = String.format("외부 API 확인 결과 실패: %s - %s", 
+
+        String failureReason = String.format("외부 API 확인 결과 실패: %s - %s",
             response.getStatus().getDescription(), response.getErrorMessage());
         transfer.markAsFailed(failureReason);
-        
+
         // 감사 로그 기록
         auditLogService.logFailure(
             transfer.getSender().getId(),
@@ -187,25 +331,25 @@ public class TransferStatusCheckService {
             String.format("amount: %s", transfer.getAmount()),
             failureReason
         );
-        
+
         // 알림 전송
         notificationService.sendTransferActivityNotification(
             transfer.getSender().getId(),
             transfer.getSender().getPhoneNumber(),
-            String.format("송금이 실패했습니다. %s원 송금 요청이 처리되지 않았습니다.", 
+            String.format("송금이 실패했습니다. %s원 송금 요청이 처리되지 않았습니다.",
                 transfer.getAmount())
         );
     }
-    
+
     /**
      * 시스템 실패로 처리 (24시간 이상 확인되지 않은 경우)
      */
     private void markAsSystemFailure(Transfer transfer) {
-        log.warn("24시간 이상 확인되지 않은 거래를 시스템 실패로 처리: {}", 
+        log.warn("24시간 이상 확인되지 않은 거래를 시스템 실패로 처리: {}",
                 transfer.getTransactionId());
-        
+
         transfer.markAsFailed("시스템 오류로 인한 거래 실패 (24시간 경과)");
-        
+
         // 감사 로그 기록
         auditLogService.logError(
             transfer.getSender().getId(),
@@ -216,13 +360,50 @@ public class TransferStatusCheckService {
             String.format("amount: %s", transfer.getAmount()),
             "24시간 이상 상태 확인 불가"
         );
-        
+
         // 보안 알림 전송 (운영팀)
         notificationService.sendSecurityAlert(
             transfer.getSender().getId(),
             transfer.getSender().getPhoneNumber(),
-            String.format("거래 상태 확인 불가: %s (24시간 경과)", 
+            String.format("거래 상태 확인 불가: %s (24시간 경과)",
                 transfer.getTransactionId())
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 다음 확인 시각을 시도 횟수에 따른 간격(Backoff)으로 예약
+     * 24시간 이상 확정되지 않은 거래는 실패 처리
+     */
+    private void scheduleNextCheckOrGiveUp(Transfer transfer) {
+        if (transfer.getCreatedAt() != null
+                && transfer.getCreatedAt().isBefore(LocalDateTime.now().minus(giveUpAfter))) {
+            markAsSystemFailure(transfer);
+            return;
+        }
+        transfer.scheduleReconcile(LocalDateTime.now().plus(backoffFor(transfer.getReconcileAttempts())));
+    }
+
+    Duration backoffFor(int attempts) {
+        return backoff.after(attempts);
+    }
+
+    private void refreshBacklogMetrics() {
+        backlogSize.set(transferRepository.countByStatusIn(RECONCILE_STATUSES));
+        backlogAgeSeconds.set(transferRepository.findOldestCreatedAtByStatusIn(RECONCILE_STATUSES)
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toSeconds())
+                .orElse(0L));
+    }
+
+    private void count(String outcome) {
+        sweepRunner.count(outcome);
+    }
+
+    private void count(String outcome, int amount) {
+        sweepRunner.count(outcome, amount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepRunner.shutdown();
+    }
+}
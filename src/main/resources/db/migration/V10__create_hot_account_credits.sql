@@ -0,0 +1,17 @@
+-- V10: 핫 계좌 입금 저널
+-- 핫 계좌 입금은 저널에 먼저 기록하고 주기적으로 account_balances에 합산 반영
+
+CREATE TABLE IF NOT EXISTS hot_account_credits (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    transaction_type VARCHAR(20),
+    description VARCHAR(255),
+    reference_id VARCHAR(255),
+    created_by VARCHAR(255),
+    flushed BOOLEAN NOT NULL DEFAULT FALSE,
+    flushed_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_hot_account_credits_pending ON hot_account_credits (account_number, flushed, id);
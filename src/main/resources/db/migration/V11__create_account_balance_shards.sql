@@ -0,0 +1,13 @@
+-- V11: 잔액 서브 원장 (샤드)
+-- 입금 집중 계좌의 잔액을 여러 행으로 분산, 0번 샤드는 account_balances 본 행
+
+ALTER TABLE account_balances ADD COLUMN IF NOT EXISTS shard_count INT NOT NULL DEFAULT 1;
+
+CREATE TABLE IF NOT EXISTS account_balance_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_number VARCHAR(20) NOT NULL,
+    shard_no INT NOT NULL,
+    balance DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_account_balance_shards UNIQUE (account_number, shard_no)
+);
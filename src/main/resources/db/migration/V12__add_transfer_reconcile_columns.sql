@@ -0,0 +1,7 @@
+-- V12: 송금 상태 확인(대사) 재시도 정보
+-- 시도 횟수에 따라 다음 확인 시각을 늦추고, 대상은 (status, id) 키셋으로 조회
+
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS reconcile_attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS next_reconcile_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_transfers_status_id ON transfers (status, id);
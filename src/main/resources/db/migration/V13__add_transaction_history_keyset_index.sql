@@ -0,0 +1,5 @@
+-- V13: 거래내역 키셋 조회/내보내기용 인덱스
+-- 계좌별 (created_at DESC, id DESC) 순서로 정렬 없이 인덱스만 따라가며 조회
+
+CREATE INDEX IF NOT EXISTS idx_transaction_history_account_created_id
+    ON transaction_history (account_number, created_at DESC, id DESC);
@@ -0,0 +1,9 @@
+-- V14: 송금/결제 내역 키셋 조회용 복합 인덱스
+-- 사용자별 (created_at DESC, id DESC) 순서로 인덱스만 따라가며 다음 페이지를 찾음 (OFFSET, COUNT 없음)
+
+CREATE INDEX IF NOT EXISTS idx_transfers_sender_created_id
+    ON transfers (sender_user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_transfers_receiver_created_id
+    ON transfers (receiver_user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_payments_user_created_id
+    ON payments (user_id, created_at DESC, id DESC);
@@ -0,0 +1,4 @@
+-- V16: 처리 중 결제 복구 조회용 인덱스
+-- 상태별 id 키셋으로 PROCESSING 결제만 따라가며 조회
+
+CREATE INDEX IF NOT EXISTS idx_payments_status_id ON payments (status, id);
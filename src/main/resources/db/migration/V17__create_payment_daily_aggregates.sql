@@ -0,0 +1,18 @@
+-- V17: 결제 일별 집계 (가맹점별 / 사용자별)
+-- 결제 승인/취소/환불 시 같은 트랜잭션에서 날짜 버킷을 갱신해 정산 조회가 payments 전체를 읽지 않도록 함
+
+CREATE TABLE IF NOT EXISTS payment_daily_aggregates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_key VARCHAR(100) NOT NULL,
+    bucket_date DATE NOT NULL,
+    approved_count BIGINT NOT NULL DEFAULT 0,
+    approved_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+    cancelled_count BIGINT NOT NULL DEFAULT 0,
+    cancelled_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+    refunded_count BIGINT NOT NULL DEFAULT 0,
+    refunded_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_payment_daily_aggregates UNIQUE (dimension, dimension_key, bucket_date)
+);
@@ -0,0 +1,7 @@
+-- V18: 결제 누적 환불액
+-- 부분 환불을 여러 번 받을 수 있도록 환불액을 누적하고, 결제 금액에 도달하면 REFUNDED로 확정
+
+ALTER TABLE payments ADD COLUMN refunded_amount DECIMAL(19,2) NOT NULL DEFAULT 0;
+
+-- 기존에 환불 완료된 결제는 결제 금액 전체를 환불한 것으로 간주
+UPDATE payments SET refunded_amount = amount WHERE status = 'REFUNDED';
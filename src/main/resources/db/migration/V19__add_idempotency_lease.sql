@@ -0,0 +1,7 @@
+-- V19: 멱등 키 처리 임대 시간
+-- 처리 중(IN_PROGRESS) 기록을 남긴 서버가 응답 없이 멈추면 임대 시간이 지난 뒤 같은 키의 재시도가 이어받음
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+
+-- 기존 기록은 보관 기간까지 임대된 것으로 간주 (기존 동작 유지)
+UPDATE idempotency_keys SET lease_expires_at = expires_at WHERE lease_expires_at IS NULL;
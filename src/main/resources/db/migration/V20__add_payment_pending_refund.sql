@@ -0,0 +1,6 @@
+-- V20: 환불 확인 중(REFUND_PENDING) 결제
+-- PG 환불은 트랜잭션 밖에서 호출하므로 요청한 환불 금액과 요청 시각을 남겨 두고,
+-- 결과를 반영하지 못한 결제는 복구 스케줄러가 PG 상태 조회로 확정
+
+ALTER TABLE payments ADD COLUMN pending_refund_amount DECIMAL(19,2);
+ALTER TABLE payments ADD COLUMN refund_requested_at TIMESTAMP;
@@ -0,0 +1,6 @@
+-- V21: 결제 복구 재시도 정보
+-- 확인 시도 횟수에 따라 다음 확인 시각을 늦추고, 제한 시간이 지나도 확정되지 않은 결제는
+-- UNRESOLVED(확인 불가)로 바꿔 자동 복구 대상에서 제외
+
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS recovery_attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS next_recovery_at TIMESTAMP;
@@ -0,0 +1,4 @@
+-- V22: 반영 완료된 핫 계좌 입금 저널 정리
+-- 반영된 저널은 거래 내역으로 옮겨졌으므로 보관 기간이 지나면 flushed_at 기준으로 일정 건수씩 삭제
+
+CREATE INDEX IF NOT EXISTS idx_hot_account_credits_flushed_at ON hot_account_credits (flushed_at);
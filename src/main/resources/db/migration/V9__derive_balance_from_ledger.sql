@@ -0,0 +1,18 @@
+-- V9: account_balances를 유일한 잔액 원장으로 통합
+-- accounts/user_accounts의 잔액은 원장에서 파생되므로 중복 컬럼 제거
+
+-- 원장 행이 없는 계좌는 기존 잔액으로 원장 생성
+INSERT INTO account_balances (account_number, balance)
+SELECT a.account_number, COALESCE(a.balance, 0.00)
+FROM accounts a
+WHERE NOT EXISTS (SELECT 1 FROM account_balances ab WHERE ab.account_number = a.account_number);
+
+INSERT INTO account_balances (account_number, balance)
+SELECT ua.account_number, ua.balance
+FROM user_accounts ua
+WHERE NOT EXISTS (SELECT 1 FROM account_balances ab WHERE ab.account_number = ua.account_number);
+
+-- 중복 잔액 컬럼 제거
+ALTER TABLE user_accounts DROP CONSTRAINT IF EXISTS chk_user_accounts_balance;
+ALTER TABLE user_accounts DROP COLUMN IF EXISTS balance;
+ALTER TABLE accounts DROP COLUMN IF EXISTS balance;
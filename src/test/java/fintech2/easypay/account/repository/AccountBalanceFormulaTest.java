@@ -0,0 +1,89 @@
+package fintech2.easypay.account.repository;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.AccountBalanceShard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("계좌 잔액 파생 조회 테스트")
+class AccountBalanceFormulaTest {
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private AccountBalanceRepository accountBalanceRepository;
+
+    @Test
+    @DisplayName("계좌 잔액은 원장 본 행과 샤드 잔액의 합계로 읽힌다")
+    void balanceIsDerivedFromLedgerAndShards() {
+        persistAccount("EP0000000001");
+        entityManager.persist(AccountBalance.builder()
+                .accountNumber("EP0000000001")
+                .balance(new BigDecimal("1000.00"))
+                .shardCount(3)
+                .build());
+        entityManager.persist(shard("EP0000000001", 1, "200.00"));
+        entityManager.persist(shard("EP0000000001", 2, "300.00"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Account account = accountRepository.findByAccountNumber("EP0000000001").orElseThrow();
+
+        assertThat(account.getBalance()).isEqualByComparingTo("1500.00");
+    }
+
+    @Test
+    @DisplayName("원장 변경은 다시 조회한 계좌 잔액에 반영된다")
+    void balanceFollowsLedgerUpdates() {
+        persistAccount("EP0000000002");
+        entityManager.persist(AccountBalance.builder()
+                .accountNumber("EP0000000002")
+                .balance(new BigDecimal("1000.00"))
+                .build());
+        entityManager.flush();
+
+        accountBalanceRepository.applyDelta("EP0000000002", new BigDecimal("-400.00"), LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(accountRepository.findByAccountNumber("EP0000000002").orElseThrow().getBalance())
+                .isEqualByComparingTo("600.00");
+    }
+
+    @Test
+    @DisplayName("원장 행이 없는 계좌의 잔액은 0원이다")
+    void balanceIsZeroWithoutLedgerRow() {
+        persistAccount("EP0000000003");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(accountRepository.findByAccountNumber("EP0000000003").orElseThrow().getBalance())
+                .isEqualByComparingTo("0");
+    }
+
+    private void persistAccount(String accountNumber) {
+        entityManager.persist(Account.builder()
+                .accountNumber(accountNumber)
+                .userId(1L)
+                .build());
+    }
+
+    private static AccountBalanceShard shard(String accountNumber, int shardNo, String balance) {
+        return AccountBalanceShard.builder()
+                .accountNumber(accountNumber)
+                .shardNo(shardNo)
+                .balance(new BigDecimal(balance))
+                .build();
+    }
+}
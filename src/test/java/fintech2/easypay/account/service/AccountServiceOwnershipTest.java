@@ -0,0 +1,60 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("계좌 소유자 확인 테스트")
+class AccountServiceOwnershipTest {
+
+    private static final String ACCOUNT_NUMBER = "EP1234567890";
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("기본 계좌 또는 사용자 계좌 목록에 있는 계좌는 본인 계좌로 본다")
+    void ownerPasses() {
+        when(accountRepository.findByAccountNumber(ACCOUNT_NUMBER))
+                .thenReturn(Optional.of(Account.builder().accountNumber(ACCOUNT_NUMBER).userId(1L).build()));
+        when(userAccountRepository.findByUserIdAndAccountNumber(2L, ACCOUNT_NUMBER))
+                .thenReturn(Optional.of(UserAccount.builder().accountNumber(ACCOUNT_NUMBER).userId(2L).build()));
+
+        assertThatCode(() -> accountService.checkOwnership(ACCOUNT_NUMBER, 1L)).doesNotThrowAnyException();
+        assertThatCode(() -> accountService.checkOwnership(ACCOUNT_NUMBER, 2L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 계좌는 거부한다")
+    void otherUserIsForbidden() {
+        when(accountRepository.findByAccountNumber(ACCOUNT_NUMBER))
+                .thenReturn(Optional.of(Account.builder().accountNumber(ACCOUNT_NUMBER).userId(1L).build()));
+        when(userAccountRepository.findByUserIdAndAccountNumber(3L, ACCOUNT_NUMBER)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountService.checkOwnership(ACCOUNT_NUMBER, 3L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FORBIDDEN);
+    }
+}
@@ -0,0 +1,90 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.common.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("일괄 입금 원장 반영 테스트")
+class BalanceServiceBatchTest {
+
+    private static final String ACCOUNT_A = "EP0000000001";
+    private static final String ACCOUNT_B = "EP0000000002";
+
+    @Mock private AccountBalanceRepository accountBalanceRepository;
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+    @Mock private AlarmService alarmService;
+    @Mock private HotAccountBalanceEngine hotAccountBalanceEngine;
+    @Mock private BalanceShardService balanceShardService;
+    @Mock private CacheManager cacheManager;
+    @Mock private Cache balanceCache;
+
+    private BalanceService balanceService;
+
+    @BeforeEach
+    void setUp() {
+        balanceService = new BalanceService(accountBalanceRepository, transactionHistoryRepository, alarmService,
+                hotAccountBalanceEngine, balanceShardService, cacheManager);
+        when(cacheManager.getCache("balanceCache")).thenReturn(balanceCache);
+        when(accountBalanceRepository.applyDelta(anyString(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("계좌별 합계로 계좌번호 순으로 한 번씩 반영하고 거래 내역은 건별 누적 잔액으로 남긴다")
+    void appliesOneDeltaPerAccount() {
+        when(accountBalanceRepository.findBalanceByAccountNumber(ACCOUNT_A)).thenReturn(Optional.of(new BigDecimal("1500")));
+        when(accountBalanceRepository.findBalanceByAccountNumber(ACCOUNT_B)).thenReturn(Optional.of(new BigDecimal("300")));
+
+        List<BalanceService.BalanceChangeResult> results = balanceService.increaseAll(List.of(
+                credit(ACCOUNT_B, "300", "PAY-1"),
+                credit(ACCOUNT_A, "1000", "PAY-2"),
+                credit(ACCOUNT_A, "500", "PAY-3")));
+
+        InOrder inOrder = inOrder(accountBalanceRepository);
+        inOrder.verify(accountBalanceRepository).applyDelta(eq(ACCOUNT_A), eq(new BigDecimal("1500")), any());
+        inOrder.verify(accountBalanceRepository).applyDelta(eq(ACCOUNT_B), eq(new BigDecimal("300")), any());
+        verify(accountBalanceRepository, times(2)).applyDelta(anyString(), any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(transactionHistoryRepository, times(1)).saveAll(histories.capture());
+        assertThat(histories.getValue()).hasSize(3);
+        assertThat(histories.getValue().get(0).getBalanceBefore()).isEqualByComparingTo("0");
+        assertThat(histories.getValue().get(0).getBalanceAfter()).isEqualByComparingTo("1000");
+        assertThat(histories.getValue().get(1).getBalanceAfter()).isEqualByComparingTo("1500");
+        assertThat(results).extracting(BalanceService.BalanceChangeResult::getReferenceId)
+                .containsExactly("PAY-2", "PAY-3", "PAY-1");
+
+        verify(alarmService, times(2)).sendBalanceChangeAlert(anyString(), anyString(), eq("증가"), anyString(), anyString());
+        verify(balanceCache).evict(ACCOUNT_A);
+        verify(balanceCache).evict(ACCOUNT_B);
+    }
+
+    private static BalanceService.Credit credit(String accountNumber, String amount, String referenceId) {
+        return new BalanceService.Credit(accountNumber, new BigDecimal(amount), TransactionType.REFUND,
+                "결제 환불", referenceId, "10");
+    }
+}
@@ -0,0 +1,127 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.AccountBalanceShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("잔액 샤드 압축/재샤딩 테스트")
+class BalanceShardCompactionSchedulerTest {
+
+    private static final String HOT_ACCOUNT = "EP0000000001";
+    private static final String OTHER_ACCOUNT = "EP0000000002";
+
+    @Mock private AccountBalanceRepository accountBalanceRepository;
+    @Mock private AccountBalanceShardRepository accountBalanceShardRepository;
+
+    // account_balances.shard_count 모사 (모든 노드가 공유하는 저장 값)
+    private final Map<String, Integer> persistedShardCounts = new ConcurrentHashMap<>();
+
+    private BalanceShardService balanceShardService;
+    private BalanceShardCompactionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(accountBalanceRepository.findByShardCountGreaterThan(1)).thenAnswer(invocation ->
+                persistedShardCounts.entrySet().stream()
+                        .map(entry -> AccountBalance.builder()
+                                .accountNumber(entry.getKey())
+                                .shardCount(entry.getValue())
+                                .build())
+                        .toList());
+        when(accountBalanceRepository.updateShardCount(anyString(), anyInt())).thenAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            int shardCount = invocation.getArgument(1);
+            if (shardCount > 1) {
+                persistedShardCounts.put(accountNumber, shardCount);
+            } else {
+                persistedShardCounts.remove(accountNumber);
+            }
+            return 1;
+        });
+        when(accountBalanceRepository.findByIdWithLock(anyString())).thenAnswer(invocation ->
+                Optional.of(AccountBalance.builder().accountNumber(invocation.getArgument(0)).build()));
+        when(accountBalanceShardRepository.findAllByAccountNumberWithLock(anyString())).thenReturn(List.of());
+        when(accountBalanceShardRepository.applyDelta(anyString(), anyInt(), any(), any())).thenReturn(1);
+
+        balanceShardService = new BalanceShardService(accountBalanceRepository, accountBalanceShardRepository);
+        scheduler = new BalanceShardCompactionScheduler(balanceShardService);
+        ReflectionTestUtils.setField(scheduler, "shardedAccounts", Set.of(HOT_ACCOUNT));
+        ReflectionTestUtils.setField(scheduler, "compactionThreshold", 100L);
+        ReflectionTestUtils.setField(scheduler, "reshardThreshold", 300L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 저장한 샤드 수를 다음 주기에 따라간다")
+    void followsPersistedShardCount() {
+        persistedShardCounts.put(OTHER_ACCOUNT, 4);
+        balanceShardService.refreshShardCounts();
+        assertThat(balanceShardService.getShardCount(OTHER_ACCOUNT)).isEqualTo(4);
+
+        // 다른 노드가 압축
+        persistedShardCounts.remove(OTHER_ACCOUNT);
+        balanceShardService.refreshShardCounts();
+
+        assertThat(balanceShardService.isSharded(OTHER_ACCOUNT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정 계좌는 한산하면 압축되고 부하가 다시 늘면 재샤딩된다")
+    void compactsIdleAndReshardsWhenLoadReturns() {
+        scheduler.enableConfiguredShards();
+        assertThat(persistedShardCounts).containsEntry(HOT_ACCOUNT, 8);
+        assertThat(balanceShardService.isSharded(HOT_ACCOUNT)).isTrue();
+
+        // 한산한 주기 → 압축
+        scheduler.compactIdleShards();
+        verify(accountBalanceShardRepository).deleteByAccountNumber(HOT_ACCOUNT);
+        assertThat(persistedShardCounts).doesNotContainKey(HOT_ACCOUNT);
+        assertThat(balanceShardService.isSharded(HOT_ACCOUNT)).isFalse();
+
+        // 압축된 동안에도 입금 건수는 집계됨
+        for (int i = 0; i < 300; i++) {
+            assertThat(balanceShardService.creditShard(HOT_ACCOUNT, BigDecimal.ONE)).isFalse();
+        }
+        scheduler.compactIdleShards();
+
+        assertThat(persistedShardCounts).containsEntry(HOT_ACCOUNT, 8);
+        assertThat(balanceShardService.isSharded(HOT_ACCOUNT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("입금이 기준 이상인 샤딩 계좌는 압축하지 않고, 설정되지 않은 계좌는 재샤딩하지 않는다")
+    void keepsBusyShardsAndIgnoresUnwatchedAccounts() {
+        scheduler.enableConfiguredShards();
+        for (int i = 0; i < 200; i++) {
+            balanceShardService.creditShard(HOT_ACCOUNT, BigDecimal.ONE);
+            balanceShardService.creditShard(OTHER_ACCOUNT, BigDecimal.ONE);
+        }
+
+        scheduler.compactIdleShards();
+
+        verify(accountBalanceShardRepository, never()).deleteByAccountNumber(anyString());
+        assertThat(balanceShardService.isSharded(HOT_ACCOUNT)).isTrue();
+        assertThat(persistedShardCounts).doesNotContainKey(OTHER_ACCOUNT);
+    }
+}
@@ -0,0 +1,188 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.ExternalAccount;
+import fintech2.easypay.account.entity.ExternalAccount.ExternalAccountStatus;
+import fintech2.easypay.account.repository.ExternalAccountRepository;
+import fintech2.easypay.external.dto.AccountVerificationResponse;
+import fintech2.easypay.external.service.ExternalBankApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("외부 계좌 일괄 재검증 테스트")
+class ExternalAccountReVerificationServiceTest {
+
+    @Mock private ExternalAccountRepository externalAccountRepository;
+    @Mock private ExternalBankApiService externalBankApiService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalAccountReVerificationService service;
+    private final Map<Long, ExternalAccount> accounts = new TreeMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ExternalAccountReVerificationService(externalAccountRepository, externalBankApiService,
+                transactionManager, meterRegistry, 3, 2, 2, 30, 50, 1000, "", false);
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(externalAccountRepository.countAccountsNeedingReVerification(any(), any()))
+                .thenAnswer(invocation -> (long) accounts.size());
+        when(externalAccountRepository.findReVerificationCandidates(any(), any(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(2);
+                    int limit = invocation.<Pageable>getArgument(3).getPageSize();
+                    return accounts.values().stream()
+                            .filter(account -> account.getId() > afterId)
+                            .limit(limit)
+                            .toList();
+                });
+        when(externalAccountRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<ExternalAccount> found = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> {
+                if (accounts.containsKey(id)) {
+                    found.add(accounts.get(id));
+                }
+            });
+            return found;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대상 계좌를 키셋 페이지로 조회해 은행별 일괄 호출로 재검증한다")
+    void reVerifiesPageByPageGroupedByBank() {
+        addAccount(1L, "004", "123456-04-123456");
+        addAccount(2L, "088", "110-123-456789");
+        addAccount(3L, "004", "654321-04-654321");
+        addAccount(4L, "004", "111111-04-222222");
+        addAccount(5L, "088", "110-987-654321");
+        when(externalBankApiService.verifyAccounts(anyString(), any())).thenAnswer(invocation ->
+                successFor(invocation.getArgument(1)));
+
+        int checked = service.reVerify();
+
+        assertThat(checked).isEqualTo(5);
+        // 페이지 크기 3: (1,2,3) 다음 4번 이후 (4,5)
+        verify(externalAccountRepository).findReVerificationCandidates(
+                eq(ExternalAccountStatus.VERIFIED), any(LocalDateTime.class), eq(0L), any());
+        verify(externalAccountRepository).findReVerificationCandidates(
+                eq(ExternalAccountStatus.VERIFIED), any(LocalDateTime.class), eq(3L), any());
+        // 1페이지: 004 (1,3) / 088 (2), 2페이지: 004 (4) / 088 (5)
+        verify(externalBankApiService).verifyAccounts("004", List.of("123456-04-123456", "654321-04-654321"));
+        verify(externalBankApiService).verifyAccounts("088", List.of("110-123-456789"));
+        verify(externalBankApiService).verifyAccounts("004", List.of("111111-04-222222"));
+        verify(externalBankApiService).verifyAccounts("088", List.of("110-987-654321"));
+        assertThat(accounts.values()).allSatisfy(account -> {
+            assertThat(account.getVerificationStatus()).isEqualTo(ExternalAccountStatus.VERIFIED);
+            assertThat(account.getLastVerifiedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+        });
+        assertThat(processed("verified")).isEqualTo(5);
+        assertThat(meterRegistry.get("easypay.reverify.remaining").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 인증 실패로, 은행 API 오류나 누락은 상태를 바꾸지 않는다")
+    void marksNotFoundButKeepsTransientErrors() {
+        ExternalAccount notFound = addAccount(1L, "004", "999999-04-999999");
+        ExternalAccount apiError = addAccount(2L, "004", "123456-04-123456");
+        ExternalAccount missing = addAccount(3L, "088", "110-123-456789");
+        LocalDateTime staleVerifiedAt = apiError.getLastVerifiedAt();
+
+        Map<String, AccountVerificationResponse> kbResponses = new HashMap<>();
+        kbResponses.put("999999-04-999999", AccountVerificationResponse.builder()
+                .success(false).errorCode("ACCOUNT_NOT_FOUND").errorMessage("해당 계좌를 찾을 수 없습니다").build());
+        kbResponses.put("123456-04-123456", AccountVerificationResponse.builder()
+                .success(false).errorCode("API_ERROR").build());
+        when(externalBankApiService.verifyAccounts(eq("004"), any())).thenReturn(kbResponses);
+        when(externalBankApiService.verifyAccounts(eq("088"), any())).thenReturn(Map.of());
+
+        service.reVerify();
+
+        assertThat(notFound.getVerificationStatus()).isEqualTo(ExternalAccountStatus.FAILED);
+        assertThat(notFound.getVerificationFailureCount()).isEqualTo(1);
+        assertThat(apiError.getVerificationStatus()).isEqualTo(ExternalAccountStatus.VERIFIED);
+        assertThat(apiError.getLastVerifiedAt()).isEqualTo(staleVerifiedAt);
+        assertThat(missing.getVerificationStatus()).isEqualTo(ExternalAccountStatus.VERIFIED);
+        assertThat(processed("failed")).isEqualTo(1);
+        assertThat(processed("error")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 은행의 호출이 실패해도 다른 은행 계좌는 계속 재검증한다")
+    void continuesWhenOneBankFails() {
+        ExternalAccount kb = addAccount(1L, "004", "123456-04-123456");
+        ExternalAccount shinhan = addAccount(2L, "088", "110-123-456789");
+        when(externalBankApiService.verifyAccounts(eq("004"), any())).thenThrow(new RuntimeException("연결 실패"));
+        when(externalBankApiService.verifyAccounts(eq("088"), any())).thenAnswer(invocation ->
+                successFor(invocation.getArgument(1)));
+        LocalDateTime kbVerifiedAt = kb.getLastVerifiedAt();
+
+        int checked = service.reVerify();
+
+        assertThat(checked).isEqualTo(2);
+        assertThat(kb.getLastVerifiedAt()).isEqualTo(kbVerifiedAt);
+        assertThat(shinhan.getLastVerifiedAt()).isAfter(kbVerifiedAt);
+        assertThat(processed("error")).isEqualTo(1);
+        assertThat(processed("verified")).isEqualTo(1);
+    }
+
+    private ExternalAccount addAccount(Long id, String bankCode, String accountNumber) {
+        ExternalAccount account = ExternalAccount.builder()
+                .id(id)
+                .userId(100L + id)
+                .bankCode(bankCode)
+                .bankName(bankCode)
+                .accountNumber(accountNumber)
+                .accountHolderName("예금주")
+                .verificationStatus(ExternalAccountStatus.VERIFIED)
+                .lastVerifiedAt(LocalDateTime.now().minusDays(40))
+                .build();
+        accounts.put(id, account);
+        return account;
+    }
+
+    private static Map<String, AccountVerificationResponse> successFor(Collection<String> accountNumbers) {
+        Map<String, AccountVerificationResponse> responses = new HashMap<>();
+        accountNumbers.forEach(accountNumber -> responses.put(accountNumber, AccountVerificationResponse.builder()
+                .success(true)
+                .accountNumber(accountNumber)
+                .accountHolderName("예금주")
+                .build()));
+        return responses;
+    }
+
+    private double processed(String outcome) {
+        return meterRegistry.find("easypay.reverify.processed").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+}
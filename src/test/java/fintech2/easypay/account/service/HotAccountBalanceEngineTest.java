@@ -0,0 +1,173 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.HotAccountCredit;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.HotAccountCreditRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.common.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("핫 계좌 잔액 엔진 테스트")
+class HotAccountBalanceEngineTest {
+
+    private static final String HOT_ACCOUNT = "EP0000000001";
+
+    @Mock private HotAccountCreditRepository hotAccountCreditRepository;
+    @Mock private AccountBalanceRepository accountBalanceRepository;
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+
+    private HotAccountBalanceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new HotAccountBalanceEngine(hotAccountCreditRepository, accountBalanceRepository,
+                transactionHistoryRepository);
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        when(hotAccountCreditRepository.sumPending(HOT_ACCOUNT)).thenReturn(BigDecimal.ZERO);
+        engine.markHot(HOT_ACCOUNT);
+    }
+
+    @Test
+    @DisplayName("동시 입금이 누락 없이 누산기에 합산된다")
+    void concurrentCreditsAreAccumulated() throws InterruptedException {
+        int threads = 16;
+        int creditsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < creditsPerThread; i++) {
+                        engine.credit(HOT_ACCOUNT, new BigDecimal("1000"), TransactionType.TRANSFER_IN,
+                                "팬 후원", null, "1");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(engine.getPendingCredits(HOT_ACCOUNT))
+                .isEqualByComparingTo(new BigDecimal(1000L * threads * creditsPerThread));
+        verify(hotAccountCreditRepository, times(threads * creditsPerThread)).save(any(HotAccountCredit.class));
+    }
+
+    @Test
+    @DisplayName("반영 시 원장은 한 번만 갱신되고 건별 거래 내역이 누적 잔액으로 기록된다")
+    @SuppressWarnings("unchecked")
+    void flushAppliesJournalInSingleUpdate() {
+        engine.credit(HOT_ACCOUNT, new BigDecimal("3000"), TransactionType.TRANSFER_IN, "a", "R1", "1");
+        engine.credit(HOT_ACCOUNT, new BigDecimal("7000"), TransactionType.TRANSFER_IN, "b", "R2", "1");
+
+        List<HotAccountCredit> pending = new ArrayList<>();
+        pending.add(HotAccountCredit.builder().id(1L).accountNumber(HOT_ACCOUNT)
+                .amount(new BigDecimal("3000")).transactionType(TransactionType.TRANSFER_IN).build());
+        pending.add(HotAccountCredit.builder().id(2L).accountNumber(HOT_ACCOUNT)
+                .amount(new BigDecimal("7000")).transactionType(TransactionType.TRANSFER_IN).build());
+        when(hotAccountCreditRepository.findPending(eq(HOT_ACCOUNT), any())).thenReturn(pending);
+        when(accountBalanceRepository.applyDelta(eq(HOT_ACCOUNT), eq(new BigDecimal("10000")), any())).thenReturn(1);
+        when(accountBalanceRepository.findBalanceByAccountNumber(HOT_ACCOUNT))
+                .thenReturn(Optional.of(new BigDecimal("60000")));
+
+        int flushed = engine.flush(HOT_ACCOUNT);
+
+        assertThat(flushed).isEqualTo(2);
+        verify(accountBalanceRepository, times(1)).applyDelta(eq(HOT_ACCOUNT), any(), any());
+        verify(hotAccountCreditRepository).markFlushed(eq(List.of(1L, 2L)), any());
+
+        ArgumentCaptor<List<TransactionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionHistoryRepository).saveAll(captor.capture());
+        List<TransactionHistory> histories = captor.getValue();
+        assertThat(histories.get(0).getBalanceBefore()).isEqualByComparingTo("50000");
+        assertThat(histories.get(0).getBalanceAfter()).isEqualByComparingTo("53000");
+        assertThat(histories.get(1).getBalanceAfter()).isEqualByComparingTo("60000");
+
+        engine.syncPending(HOT_ACCOUNT);
+        assertThat(engine.getPendingCredits(HOT_ACCOUNT)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영한 입금도 저널 기준으로 보정되고, 자기 입금이 없는 노드는 음수가 되지 않는다")
+    void pendingFollowsJournalAcrossNodes() {
+        HotAccountBalanceEngine otherNode = new HotAccountBalanceEngine(hotAccountCreditRepository,
+                accountBalanceRepository, transactionHistoryRepository);
+        ReflectionTestUtils.setField(otherNode, "enabled", true);
+        otherNode.markHot(HOT_ACCOUNT);
+        engine.credit(HOT_ACCOUNT, new BigDecimal("3000"), TransactionType.TRANSFER_IN, "a", "R1", "1");
+        engine.credit(HOT_ACCOUNT, new BigDecimal("7000"), TransactionType.TRANSFER_IN, "b", "R2", "1");
+
+        // 이 노드의 입금을 다른 노드가 가져가 반영
+        when(hotAccountCreditRepository.findPending(eq(HOT_ACCOUNT), any())).thenReturn(List.of(
+                HotAccountCredit.builder().id(1L).accountNumber(HOT_ACCOUNT).amount(new BigDecimal("3000")).build(),
+                HotAccountCredit.builder().id(2L).accountNumber(HOT_ACCOUNT).amount(new BigDecimal("7000")).build()));
+        when(accountBalanceRepository.applyDelta(eq(HOT_ACCOUNT), any(), any())).thenReturn(1);
+        when(accountBalanceRepository.findBalanceByAccountNumber(HOT_ACCOUNT))
+                .thenReturn(Optional.of(new BigDecimal("10000")));
+        otherNode.flush(HOT_ACCOUNT);
+        otherNode.syncPending(HOT_ACCOUNT);
+        assertThat(otherNode.getPendingCredits(HOT_ACCOUNT)).isEqualByComparingTo(BigDecimal.ZERO);
+
+        // 다른 노드에 들어온 입금 500원이 아직 저널에 남은 상태에서 두 노드 모두 보정
+        assertThat(engine.getPendingCredits(HOT_ACCOUNT)).isEqualByComparingTo("10000");
+        when(hotAccountCreditRepository.sumPending(HOT_ACCOUNT)).thenReturn(new BigDecimal("500"));
+        engine.syncPending(HOT_ACCOUNT);
+        otherNode.syncPending(HOT_ACCOUNT);
+
+        assertThat(engine.getPendingCredits(HOT_ACCOUNT)).isEqualByComparingTo("500");
+        assertThat(otherNode.getPendingCredits(HOT_ACCOUNT)).isEqualByComparingTo("500");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 반영 완료 저널은 배치 크기만큼 삭제한다")
+    void purgesFlushedCreditsInBatches() {
+        ReflectionTestUtils.setField(engine, "purgeBatchSize", 2);
+        LocalDateTime before = LocalDateTime.now().minusHours(24);
+        when(hotAccountCreditRepository.findFlushedIds(eq(before), any())).thenReturn(List.of(1L, 2L), List.of());
+
+        assertThat(engine.purgeFlushed(before)).isEqualTo(2);
+        assertThat(engine.purgeFlushed(before)).isZero();
+
+        verify(hotAccountCreditRepository, times(2)).findFlushedIds(before, PageRequest.of(0, 2));
+        verify(hotAccountCreditRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 핫 계좌로 취급하지 않는다")
+    void disabledEngineIgnoresHotAccounts() {
+        ReflectionTestUtils.setField(engine, "enabled", false);
+
+        assertThat(engine.isHotAccount(HOT_ACCOUNT)).isFalse();
+    }
+}
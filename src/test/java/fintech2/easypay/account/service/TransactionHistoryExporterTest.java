@@ -0,0 +1,128 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.common.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("거래내역 내보내기 테스트")
+class TransactionHistoryExporterTest {
+
+    private static final String ACCOUNT_NUMBER = "EP1234567890";
+
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private TransactionHistoryExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new TransactionHistoryExporter(transactionHistoryRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 한 건씩 기록하고 키셋 페이지 단위로 나눠 조회한다")
+    void writesNdjsonLinePerRow() throws Exception {
+        stubHistories(LongStream.rangeClosed(1, 2500).mapToObj(id -> history(id, "입금 " + id)).toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export(ACCOUNT_NUMBER, TransactionHistoryExporter.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2500);
+        assertThat(lines).hasSize(2500);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("transactionType").asText()).isEqualTo("DEPOSIT");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("1000");
+        assertThat(objectMapper.readTree(lines[2499]).get("id").asLong()).isEqualTo(2500);
+        verify(transactionHistoryRepository, times(1)).findFirstPage(eq(ACCOUNT_NUMBER), any());
+        verify(transactionHistoryRepository, times(2)).findPageAfter(eq(ACCOUNT_NUMBER), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더를 쓰고 쉼표/따옴표/수식 문자를 이스케이프한다")
+    void writesEscapedCsv() throws Exception {
+        stubHistories(List.of(
+                history(1L, "커피, \"라떼\""),
+                history(2L, "=HYPERLINK(\"http://evil\")")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(ACCOUNT_NUMBER, TransactionHistoryExporter.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,transactionType,amount");
+        assertThat(lines[1]).startsWith("1,DEPOSIT,1000,0,1000,\"커피, \"\"라떼\"\"\",");
+        assertThat(lines[2]).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",");
+    }
+
+    @Test
+    @DisplayName("탭/캐리지 리턴으로 시작하는 값도 수식으로 해석되지 않도록 막는다")
+    void guardsLeadingTabAndCarriageReturn() {
+        assertThat(TransactionHistoryExporter.csv("\t=1+1")).isEqualTo("'\t=1+1");
+        assertThat(TransactionHistoryExporter.csv("\r=1+1")).isEqualTo("\"'\r=1+1\"");
+        assertThat(TransactionHistoryExporter.csv("급여")).isEqualTo("급여");
+    }
+
+    /**
+     * 최신순 목록을 키셋 페이지 조회로 나눠 돌려주도록 설정 (id가 클수록 오래된 거래)
+     */
+    private void stubHistories(List<TransactionHistory> histories) {
+        when(transactionHistoryRepository.findFirstPage(eq(ACCOUNT_NUMBER), any())).thenAnswer(invocation ->
+                page(histories, 0, invocation.getArgument(1)));
+        lenient().when(transactionHistoryRepository.findPageAfter(eq(ACCOUNT_NUMBER), any(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(2);
+                    int from = (int) histories.stream().filter(history -> history.getId() <= afterId).count();
+                    return page(histories, from, invocation.getArgument(3));
+                });
+    }
+
+    private static List<TransactionHistory> page(List<TransactionHistory> histories, int from, Pageable pageable) {
+        return histories.subList(from, Math.min(from + pageable.getPageSize(), histories.size()));
+    }
+
+    private static TransactionHistory history(long id, String description) {
+        return TransactionHistory.builder()
+                .id(id)
+                .accountNumber(ACCOUNT_NUMBER)
+                .transactionType(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("1000"))
+                .balanceBefore(BigDecimal.ZERO)
+                .balanceAfter(new BigDecimal("1000"))
+                .description(description)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0).minusSeconds(id))
+                .build();
+    }
+}
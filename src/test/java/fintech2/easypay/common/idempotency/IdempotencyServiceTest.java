@@ -0,0 +1,262 @@
+package fintech2.easypay.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.idempotency.IdempotencyRecord.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("멱등 키 처리 테스트")
+class IdempotencyServiceTest {
+
+    private static final String OWNER = "01012345678";
+
+    record PayRequest(String merchantId, BigDecimal amount) {
+    }
+
+    record PayResponse(String paymentId, BigDecimal amount) {
+    }
+
+    @Mock private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService service;
+    private final Map<Long, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper(), transactionManager,
+                meterRegistry, 24, 2000, 1000, 100, 120);
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            if (record.getId() == null) {
+                record.setId(ids.incrementAndGet());
+            }
+            records.put(record.getId(), record);
+            return record;
+        });
+        when(idempotencyRecordRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(records.get(invocation.<Long>getArgument(0))));
+        when(idempotencyRecordRepository.findByScopeAndOwnerAndIdempotencyKey(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> findRecord(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        when(idempotencyRecordRepository.findForUpdate(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> findRecord(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        doAnswer(invocation -> records.remove(invocation.<Long>getArgument(0)))
+                .when(idempotencyRecordRepository).deleteById(anyLong());
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 그대로 실행한다")
+    void runsEveryTimeWithoutKey() {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+
+        service.execute("PAYMENT", OWNER, null, request, PayResponse.class, this::pay);
+        service.execute("PAYMENT", OWNER, " ", request, PayResponse.class, this::pay);
+
+        assertThat(executions).hasValue(2);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 실행하지 않고 처음 응답을 반환한다")
+    void replaysCompletedResponse() {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+
+        PayResponse first = service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+        PayResponse retry = service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry).isEqualTo(first);
+        assertThat(records.values()).singleElement().satisfies(record -> {
+            assertThat(record.getStatus()).isEqualTo(Status.COMPLETED);
+            assertThat(record.getResponseBody()).contains(first.paymentId());
+        });
+        assertThat(outcome("executed")).isEqualTo(1);
+        assertThat(outcome("replayed_memory")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 원 요청이 있으면 끝날 때까지 기다렸다가 같은 응답을 반환한다")
+    void waitsForInFlightOriginal() throws Exception {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<PayResponse> original = CompletableFuture.supplyAsync(() ->
+                service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return pay();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<PayResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(duplicate.get(1, TimeUnit.SECONDS)).isEqualTo(original.get(1, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("waited")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 완료된 요청은 저장된 응답을 반환하고, 처리 중이면 409로 거절한다")
+    void usesPersistedRecord() {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+        service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+        IdempotencyService otherNode = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper(),
+                transactionManager, meterRegistry, 24, 2000, 1000, 100, 120);
+        records.put(ids.incrementAndGet(), IdempotencyRecord.builder()
+                .id(ids.get()).scope("PAYMENT").owner(OWNER).idempotencyKey("key-2")
+                .requestHash(records.get(1L).getRequestHash())
+                .status(Status.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+
+        PayResponse replayed = otherNode.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+
+        assertThat(replayed.paymentId()).isEqualTo("PAY-1");
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("replayed_store")).isEqualTo(1);
+        assertThatThrownBy(() -> otherNode.execute("PAYMENT", OWNER, "key-2", request, PayResponse.class, this::pay))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청은 거절한다")
+    void rejectsKeyReuseWithDifferentBody() {
+        service.execute("PAYMENT", OWNER, "key-1", new PayRequest("M001", new BigDecimal("10000")),
+                PayResponse.class, this::pay);
+
+        assertThatThrownBy(() -> service.execute("PAYMENT", OWNER, "key-1",
+                new PayRequest("M001", new BigDecimal("20000")), PayResponse.class, this::pay))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원 요청이 실패하면 기록을 지워 같은 키로 다시 실행할 수 있다")
+    void allowsRetryAfterFailure() {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+
+        assertThatThrownBy(() -> service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, () -> {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        })).isInstanceOf(BusinessException.class);
+        assertThat(records).isEmpty();
+
+        PayResponse retried = service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+
+        assertThat(retried.paymentId()).isEqualTo("PAY-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지난 처리 중 기록은 같은 요청의 재시도가 이어받아 실행한다")
+    void takesOverStaleInProgressRecord() {
+        PayRequest request = new PayRequest("M001", new BigDecimal("10000"));
+        service.execute("PAYMENT", OWNER, "key-0", request, PayResponse.class, this::pay);
+        records.put(ids.incrementAndGet(), IdempotencyRecord.builder()
+                .id(ids.get()).scope("PAYMENT").owner(OWNER).idempotencyKey("key-1")
+                .requestHash(records.get(1L).getRequestHash())
+                .status(Status.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .leaseExpiresAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+
+        PayResponse response = service.execute("PAYMENT", OWNER, "key-1", request, PayResponse.class, this::pay);
+
+        assertThat(response.paymentId()).isEqualTo("PAY-2");
+        assertThat(records.get(2L).getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(records.get(2L).getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(outcome("taken_over")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지났지만 정리되지 않은 기록은 새 요청으로 덮어쓴다")
+    void overwritesExpiredUnpurgedRecord() {
+        records.put(ids.incrementAndGet(), IdempotencyRecord.builder()
+                .id(ids.get()).scope("PAYMENT").owner(OWNER).idempotencyKey("key-1")
+                .requestHash("old-hash")
+                .status(Status.COMPLETED)
+                .responseBody("{\"paymentId\":\"PAY-OLD\",\"amount\":5000}")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        PayResponse response = service.execute("PAYMENT", OWNER, "key-1",
+                new PayRequest("M001", new BigDecimal("10000")), PayResponse.class, this::pay);
+
+        assertThat(response.paymentId()).isEqualTo("PAY-1");
+        assertThat(records.values()).singleElement().satisfies(record -> {
+            assertThat(record.getStatus()).isEqualTo(Status.COMPLETED);
+            assertThat(record.getResponseBody()).contains("PAY-1");
+            assertThat(record.getExpiresAt()).isAfter(LocalDateTime.now());
+        });
+        assertThat(outcome("expired_reused")).isEqualTo(1);
+    }
+
+    private Optional<IdempotencyRecord> findRecord(String scope, String owner, String key) {
+        return records.values().stream()
+                .filter(record -> record.getScope().equals(scope)
+                        && record.getOwner().equals(owner)
+                        && record.getIdempotencyKey().equals(key))
+                .findFirst();
+    }
+
+    private PayResponse pay() {
+        return new PayResponse("PAY-" + executions.incrementAndGet(), new BigDecimal("10000"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.find("easypay.idempotency.requests").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+}
@@ -0,0 +1,113 @@
+package fintech2.easypay.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("서킷 브레이커 / 적응형 타임아웃 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker("bank:088", 10, 4, 50,
+            Duration.ofSeconds(10), 2, clock::get, (from, to) -> transitions.add(from + "->" + to));
+
+    @Test
+    @DisplayName("최소 호출 수 이후 실패율이 임계치를 넘으면 OPEN되어 호출을 거절한다")
+    void opensWhenFailureRateExceedsThreshold() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 CLOSED로 돌아간다")
+    void halfOpenProbesCloseTheCircuit() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN된다")
+    void halfOpenFailureReopens() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과 없이 끝난 시험 호출은 자리를 반납해 다음 시험 호출이 들어올 수 있다")
+    void releasedProbeFreesHalfOpenPermit() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.release();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("타임아웃은 최근 응답 시간 분위수 × 배수를 따르고 최소/최대 범위로 제한된다")
+    void adaptiveTimeoutFollowsPercentile() {
+        AdaptiveTimeout timeout = new AdaptiveTimeout(100, 10, 0.99, 2.0,
+                Duration.ofMillis(100), Duration.ofMillis(5000));
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(5000));
+
+        for (int i = 0; i < 100; i++) {
+            timeout.record(200);
+        }
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(400));
+
+        for (int i = 0; i < 100; i++) {
+            timeout.record(10);
+        }
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(100));
+
+        for (int i = 0; i < 100; i++) {
+            timeout.record(4000);
+        }
+        assertThat(timeout.current()).isEqualTo(Duration.ofMillis(5000));
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
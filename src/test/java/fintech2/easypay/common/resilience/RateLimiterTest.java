@@ -0,0 +1,45 @@
+package fintech2.easypay.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("호출 속도 제한 테스트")
+class RateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("요청한 건수만큼 다음 호출 시각을 뒤로 미룬다")
+    void reservesPermitsInOrder() {
+        RateLimiter limiter = new RateLimiter("bank:004", 10, nanos::get);
+
+        assertThat(limiter.reserve(5)).isZero();
+        assertThat(limiter.reserve(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.reserve(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 허용량을 쌓아 두지 않는다")
+    void doesNotAccumulateIdleTime() {
+        RateLimiter limiter = new RateLimiter("bank:004", 10, nanos::get);
+        limiter.reserve(1);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limiter.reserve(3)).isZero();
+        assertThat(limiter.reserve(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    @Test
+    @DisplayName("초당 허용량은 0보다 커야 한다")
+    void rejectsNonPositiveRate() {
+        assertThatThrownBy(() -> new RateLimiter("bank:004", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
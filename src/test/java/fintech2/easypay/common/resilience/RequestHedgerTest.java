@@ -0,0 +1,125 @@
+package fintech2.easypay.common.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("헤지 요청 테스트")
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤지 지연 안에 응답하지 않으면 다시 요청하고 먼저 온 응답을 사용하며 늦은 요청은 취소한다")
+    void hedgeWinsOverSlowPrimary() throws Exception {
+        RequestHedger hedger = hedger(1.0, 1);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+        long startedAt = System.nanoTime();
+        String result = hedger.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                    throw e;
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        assertThat(primaryCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("easypay.resilience.hedge").tag("outcome", "hedge").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 요청 비율은 설정한 한도를 넘지 않는다")
+    void hedgeRateIsCapped() {
+        RequestHedger hedger = hedger(0.5, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            hedger.call(() -> {
+                calls.incrementAndGet();
+                Thread.sleep(100);
+                return "slow";
+            });
+        }
+
+        // 요청 4건 × 0.5 = 헤지 2건
+        assertThat(calls.get()).isEqualTo(6);
+        assertThat(meterRegistry.get("easypay.resilience.hedge").tag("outcome", "skipped").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태에서 헤지 요청이 이기면 취소된 첫 요청의 시험 호출 자리가 반납되어 서킷이 닫힌다")
+    void hedgeWinInHalfOpenDoesNotLeakProbePermit() throws Exception {
+        // OPEN 50ms, 시험 호출 2건, 동시 호출 2건, 헤지 지연 10~50ms
+        ResilienceRegistry registry = new ResilienceRegistry(meterRegistry,
+                4, 2, 50, 50, 2, 2, 1000, 20, 0.99, 2.0, 100, 5000, 0.95, 1.0, 10, 50);
+        try {
+            ResilienceGuard guard = registry.guard("bank:088");
+            guard.getCircuitBreaker().onFailure();
+            guard.getCircuitBreaker().onFailure();
+            Thread.sleep(100);
+
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch primaryCancelled = new CountDownLatch(1);
+            String result = registry.hedger("bank:status").call(() -> guard.execute(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        primaryCancelled.countDown();
+                        throw e;
+                    }
+                    return "primary";
+                }
+                return "hedge";
+            }));
+
+            assertThat(result).isEqualTo("hedge");
+            assertThat(primaryCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+            // 취소된 첫 요청이 보호 장치를 빠져나올 때까지 대기
+            Thread.sleep(200);
+            assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+            // 첫 요청이 차지했던 시험 호출 자리로 다음 호출이 들어가 서킷을 닫음
+            assertThat(guard.execute(() -> "ok")).isEqualTo("ok");
+            assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    /**
+     * 헤지 지연 10~50ms (표본이 없으면 50ms)
+     */
+    private RequestHedger hedger(double maxHedgeRatio, double maxTokens) {
+        AdaptiveTimeout hedgeDelay = new AdaptiveTimeout(100, 100, 0.95, 1.0,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        return new RequestHedger("bank:status", hedgeDelay, maxHedgeRatio, maxTokens, executor, meterRegistry);
+    }
+}
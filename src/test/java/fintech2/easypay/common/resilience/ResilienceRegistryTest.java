@@ -0,0 +1,127 @@
+package fintech2.easypay.common.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("외부 호출 보호 장치 테스트")
+class ResilienceRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilienceRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    /**
+     * 윈도우 4, 최소 2건, 실패율 50%, OPEN 60초, 시험 호출 1건, 동시 호출 1건(대기 100ms)
+     */
+    private ResilienceRegistry registry(long maxTimeoutMs) {
+        registry = new ResilienceRegistry(meterRegistry,
+                4, 2, 50, 60000, 1, 1, 100, 20, 0.99, 2.0, 100, maxTimeoutMs, 0.95, 0.05, 10, 2000);
+        return registry;
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃을 넘으면 호출을 중단하고 연속 실패 시 서킷이 열려 즉시 거절한다")
+    void timesOutThenFailsFast() {
+        ResilienceGuard guard = registry(200).guard("bank:088");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                Thread.sleep(1000);
+                return "late";
+            }))
+                    .isInstanceOf(ResilienceException.class)
+                    .extracting("reason").isEqualTo(ResilienceException.Reason.TIMEOUT);
+        }
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> guard.execute(() -> "ok"))
+                .isInstanceOf(ResilienceException.class)
+                .extracting("reason").isEqualTo(ResilienceException.Reason.CIRCUIT_OPEN);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(150);
+
+        assertThat(meterRegistry.get("easypay.resilience.circuit.state").tag("name", "bank:088")
+                .gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("easypay.resilience.circuit.transitions")
+                .tag("name", "bank:088").tag("to", "OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 외부로 보내지 않고 거절하며, 대상별로 격리된다")
+    void bulkheadIsolatesTargets() throws Exception {
+        ResilienceGuard bank088 = registry(5000).guard("bank:088");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() -> bank088.execute(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "slow";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bank088.execute(() -> "second"))
+                .isInstanceOf(ResilienceException.class)
+                .matches(e -> ((ResilienceException) e).isNotSent());
+        assertThat(registry.guard("bank:004").execute(() -> "other bank")).isEqualTo("other bank");
+
+        release.countDown();
+        slowCall.handle((result, error) -> null).get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("easypay.resilience.rejected").tag("name", "bank:088")
+                .tag("reason", "BULKHEAD_FULL").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("장애로 분류한 응답은 정상 반환되지만 서킷 실패로 집계된다")
+    void failureResultsCountTowardsCircuit() {
+        ResilienceGuard guard = registry(5000).guard("pg");
+
+        assertThat(guard.execute(() -> "SYSTEM_ERROR", "SYSTEM_ERROR"::equals)).isEqualTo("SYSTEM_ERROR");
+        assertThat(guard.execute(() -> "SYSTEM_ERROR", "SYSTEM_ERROR"::equals)).isEqualTo("SYSTEM_ERROR");
+
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("호출자가 인터럽트되어 결과를 기다리지 않으면 HALF_OPEN 시험 호출 자리를 반납한다")
+    void interruptedCallerReleasesHalfOpenPermit() throws Exception {
+        registry = new ResilienceRegistry(meterRegistry,
+                4, 2, 50, 50, 1, 1, 1000, 20, 0.99, 2.0, 100, 5000, 0.95, 0.05, 10, 2000);
+        ResilienceGuard guard = registry.guard("bank:088");
+        guard.getCircuitBreaker().onFailure();
+        guard.getCircuitBreaker().onFailure();
+        Thread.sleep(100);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                guard.execute(() -> {
+                    started.countDown();
+                    Thread.sleep(5000);
+                    return "late";
+                });
+            } catch (ResilienceException ignored) {
+                // 인터럽트로 포기한 호출
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(5000);
+
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(guard.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,56 @@
+package fintech2.easypay.common.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("스위퍼 공통 실행기 테스트")
+class SweepRunnerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SweepRunner runner = new SweepRunner(meterRegistry, "테스트 스위퍼", "easypay.test.sweep",
+            "test-sweep-", 2, false);
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중에 다시 호출하면 건너뛰고, 끝난 뒤에는 다시 실행한다")
+    void skipsOverlappingRun() {
+        AtomicBoolean nestedRan = new AtomicBoolean();
+
+        boolean ran = runner.runExclusively(() -> nestedRan.set(runner.runExclusively(() -> { })));
+
+        assertThat(ran).isTrue();
+        assertThat(nestedRan).isFalse();
+        assertThat(runner.runExclusively(() -> { })).isTrue();
+        assertThat(meterRegistry.get("easypay.test.sweep.run").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음으로 나눠 모두 실행하고 결과별 처리 건수를 기록한다")
+    void runsAllBatchesAndCountsOutcomes() {
+        List<List<Integer>> batches = SweepRunner.partition(List.of(1, 2, 3, 4, 5), 2);
+        ConcurrentLinkedQueue<Integer> processed = new ConcurrentLinkedQueue<>();
+
+        runner.runAll(batches, processed::addAll);
+        runner.count("done", processed.size());
+        runner.count("skipped");
+
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(processed).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+        assertThat(meterRegistry.get("easypay.test.sweep.processed").tag("outcome", "done").counter().count())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("easypay.test.sweep.processed").tag("outcome", "skipped").counter().count())
+                .isEqualTo(1);
+    }
+}
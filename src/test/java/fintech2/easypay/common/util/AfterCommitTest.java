@@ -0,0 +1,58 @@
+package fintech2.easypay.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("커밋 후 실행 도우미 테스트")
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 실행한다")
+    void runsImmediatelyWithoutTransaction() {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        AfterCommit.run(() -> ran.set(true));
+
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 호출 시점의 키로 캐시를 비운다")
+    void evictsAfterCommit() {
+        Cache cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("balanceCache")).thenReturn(cache);
+        Set<String> keys = new HashSet<>(Set.of("EP0000000001"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.evict(cacheManager, "balanceCache", keys);
+        keys.add("EP0000000002");
+        verifyNoInteractions(cache);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(cache).evict("EP0000000001");
+        verifyNoMoreInteractions(cache);
+    }
+}
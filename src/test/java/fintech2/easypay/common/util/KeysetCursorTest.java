@@ -0,0 +1,56 @@
+package fintech2.easypay.common.util;
+
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.dto.CursorPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("키셋 페이지 토큰 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("토큰으로 인코딩한 위치를 그대로 복원한다")
+    void roundTrips() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 잘못된 요청으로 처리한다")
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("size + 1건을 조회했을 때만 다음 페이지 토큰을 만든다")
+    void buildsPageFromExtraRow() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        CursorPage<String> page = CursorPage.of(rows, 2, id -> new KeysetCursor(now, id), id -> "row-" + id);
+        CursorPage<String> last = CursorPage.of(rows, 3, id -> new KeysetCursor(now, id), id -> "row-" + id);
+
+        assertThat(page.items()).containsExactly("row-5", "row-4");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(now, 4L));
+        assertThat(last.items()).hasSize(3);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+}
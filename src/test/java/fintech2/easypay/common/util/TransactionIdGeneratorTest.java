@@ -0,0 +1,141 @@
+package fintech2.easypay.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("거래 ID 생성기 테스트")
+class TransactionIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않는다")
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        TransactionIdGenerator generator = new TransactionIdGenerator(7, Clock.systemUTC());
+        int threads = 16;
+        int idsPerThread = 50_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.nextTransactionId());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("한 스레드에서 생성한 ID는 문자열 순서로도 단조 증가한다")
+    void idsAreMonotonicAndFixedLength() {
+        TransactionIdGenerator generator = new TransactionIdGenerator(1, Clock.systemUTC());
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(generator.nextTransactionId());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+        }
+        assertThat(ids.get(0)).startsWith("TXN").hasSize(16);
+        assertThat(generator.nextPaymentId()).startsWith("PAY").hasSize(16);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가거나 멈춰도 ID는 계속 증가한다")
+    void idsKeepIncreasingWhenClockStallsOrGoesBack() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+        TransactionIdGenerator generator = new TransactionIdGenerator(3, clock);
+
+        long previous = generator.nextId();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.millis -= 1_000;
+            }
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(seen.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("노드마다 다른 ID 공간을 사용한다")
+    void differentNodesNeverCollide() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        TransactionIdGenerator node1 = new TransactionIdGenerator(1, fixed);
+        TransactionIdGenerator node2 = new TransactionIdGenerator(2, fixed);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 4_096; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+        assertThat(ids).hasSize(2 * 4_096);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성할 수 없다")
+    void rejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new TransactionIdGenerator(1024, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
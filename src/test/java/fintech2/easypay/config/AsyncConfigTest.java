@@ -0,0 +1,156 @@
+package fintech2.easypay.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비동기 실행기 설정 테스트")
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncConfig asyncConfig = new AsyncConfig(meterRegistry);
+    private ThreadPoolTaskExecutor executor;
+    private SimpleAsyncTaskExecutor virtualExecutor;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (virtualExecutor != null) {
+            virtualExecutor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("호출 스레드의 MDC와 SecurityContext가 작업 스레드로 전달되고, 작업 후 정리된다")
+    void propagatesMdcAndSecurityContext() throws Exception {
+        executor = asyncConfig.createExecutor("test", "test-", 1, 1, 10,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken("01012345678", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "REQ-1");
+
+        AtomicReference<String> seenRequestId = new AtomicReference<>();
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        executor.submit(() -> {
+            seenRequestId.set(MDC.get("requestId"));
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(seenRequestId.get()).isEqualTo("REQ-1");
+        assertThat(seenAuthentication.get()).isSameAs(authentication);
+
+        // 같은 워커 스레드에서 컨텍스트 없이 제출된 작업에는 이전 값이 남지 않음
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+        executor.submit(() -> {
+            seenRequestId.set(MDC.get("requestId"));
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(seenRequestId.get()).isNull();
+        assertThat(seenAuthentication.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 거절 정책을 적용하고 거절 수를 기록한다")
+    void countsRejectionsAndAppliesPolicy() throws Exception {
+        executor = asyncConfig.createExecutor("test", "test-", 1, 1, 1,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+
+        // 워커와 큐가 모두 찬 상태 - 호출 스레드에서 실행됨
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertThat(runner.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("easypay.async.rejected").tag("executor", "test").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("easypay.async.queue.depth").tag("executor", "test").gauge().value())
+                .isEqualTo(1.0);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 실행기는 작업마다 가상 스레드에서 실행하고 동시 실행 수를 제한한다")
+    void virtualExecutorLimitsConcurrency() throws Exception {
+        virtualExecutor = asyncConfig.createVirtualExecutor("virtual", "virtual-", 2);
+
+        MDC.put("requestId", "REQ-2");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicReference<String> seenRequestId = new AtomicReference<>();
+        AtomicReference<Boolean> virtual = new AtomicReference<>();
+        Runnable task = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            seenRequestId.set(MDC.get("requestId"));
+            virtual.set(Thread.currentThread().isVirtual());
+            started.countDown();
+            awaitQuietly(release);
+            running.decrementAndGet();
+            finished.countDown();
+        };
+        virtualExecutor.execute(task);
+        virtualExecutor.execute(task);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 상한에 도달한 상태 - 세 번째 제출은 자리가 날 때까지 대기
+        Thread submitter = Thread.ofVirtual().start(() -> {
+            MDC.put("requestId", "REQ-2");
+            virtualExecutor.execute(task);
+        });
+        Thread.sleep(100);
+        assertThat(submitter.isAlive()).isTrue();
+        assertThat(meterRegistry.get("easypay.async.active").tag("executor", "virtual").gauge().value())
+                .isEqualTo(2.0);
+
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        submitter.join(5000);
+
+        assertThat(maxRunning).hasValue(2);
+        assertThat(seenRequestId.get()).isEqualTo("REQ-2");
+        assertThat(virtual.get()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
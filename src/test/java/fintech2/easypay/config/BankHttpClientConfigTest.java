@@ -0,0 +1,119 @@
+package fintech2.easypay.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("은행 API 커넥션 풀 테스트")
+class BankHttpClientConfigTest {
+
+    private static final int MAX_PER_ROUTE = 4;
+    private static final int REQUESTS = 400;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BankHttpClientConfig config = new BankHttpClientConfig();
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private ExecutorService callers;
+    private PoolingHttpClientConnectionManager pool;
+    private CloseableHttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/kb/account/verify", exchange -> {
+            handled.incrementAndGet();
+            byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubExecutor = Executors.newFixedThreadPool(16);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+        baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        pool = config.bankConnectionPool(meterRegistry, 50, MAX_PER_ROUTE, "", 1000, 2000, 300);
+        client = config.bankHttpClient(pool, meterRegistry, 30);
+        callers = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        callers.shutdownNow();
+        client.close();
+        pool.close();
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("부하 중에도 호스트별 연결 수 제한 안에서 keep-alive 연결을 재사용한다")
+    void reusesKeepAliveConnectionsUnderLoad() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(callers.submit(() -> client.execute(new HttpGet(baseUrl + "/kb/account/verify"),
+                    response -> {
+                        EntityUtils.consume(response.getEntity());
+                        return response.getCode();
+                    })));
+        }
+        for (Future<Integer> future : futures) {
+            assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+
+        double reused = connections(true);
+        double created = connections(false);
+
+        assertThat(handled.get()).isEqualTo(REQUESTS);
+        assertThat(reused + created).isEqualTo(REQUESTS);
+        // 16개 스레드가 동시에 호출해도 새 연결은 호스트별 한도를 넘지 않음
+        assertThat(created).isLessThanOrEqualTo(MAX_PER_ROUTE);
+        assertThat(reused / REQUESTS).isGreaterThanOrEqualTo(0.95);
+        assertThat(meterRegistry.get("easypay.http.pool.lease").timer().count()).isEqualTo(REQUESTS);
+        assertThat(pool.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("호스트별 연결 수 예외 설정을 적용한다")
+    void appliesRouteLimits() {
+        PoolingHttpClientConnectionManager custom = config.bankConnectionPool(new SimpleMeterRegistry(),
+                50, MAX_PER_ROUTE, "https://api.kb.example.com=12, http://127.0.0.1:8080=2", 1000, 2000, 300);
+
+        assertThat(custom.getMaxPerRoute(BankHttpClientConfig.routeOf("https://api.kb.example.com"))).isEqualTo(12);
+        assertThat(custom.getMaxPerRoute(BankHttpClientConfig.routeOf("http://127.0.0.1:8080"))).isEqualTo(2);
+        assertThat(custom.getMaxPerRoute(BankHttpClientConfig.routeOf("https://api.toss.example.com")))
+                .isEqualTo(MAX_PER_ROUTE);
+        custom.close();
+    }
+
+    private double connections(boolean reused) {
+        return meterRegistry.find("easypay.http.pool.connections").tag("reused", Boolean.toString(reused))
+                .counters().stream().mapToDouble(counter -> counter.count()).sum();
+    }
+}
@@ -0,0 +1,111 @@
+package fintech2.easypay.external.service;
+
+import fintech2.easypay.external.dto.AccountVerificationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계좌 검증 캐시 테스트")
+class AccountVerificationCacheTest {
+
+    private static final String BANK_CODE = "004";
+    private static final String ACCOUNT_NUMBER = "123456-04-123456";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private AccountVerificationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AccountVerificationCache(new SimpleMeterRegistry(), Duration.ofMinutes(10),
+                Duration.ofSeconds(60), 100, nanos::get);
+    }
+
+    @Test
+    @DisplayName("검증 성공 결과는 캐시에서 반환한다")
+    void cachesSuccess() {
+        AccountVerificationResponse first = cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(success()));
+        advance(Duration.ofMinutes(9));
+        AccountVerificationResponse second = cache.get(BANK_CODE, " " + ACCOUNT_NUMBER + " ", false,
+                loader(success()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 계좌 결과는 miss-ttl 동안만 캐시한다")
+    void cachesNotFoundForMissTtl() {
+        cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(failure(AccountVerificationCache.NOT_FOUND)));
+        advance(Duration.ofSeconds(30));
+        AccountVerificationResponse cached = cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(success()));
+
+        assertThat(cached.isSuccess()).isFalse();
+        assertThat(loads.get()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(31));
+        AccountVerificationResponse reloaded = cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(success()));
+
+        assertThat(reloaded.isSuccess()).isTrue();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("skipCache 요청은 캐시를 건너뛰고 새 결과로 갱신한다")
+    void skipCacheReloads() {
+        cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(failure(AccountVerificationCache.NOT_FOUND)));
+
+        AccountVerificationResponse fresh = cache.get(BANK_CODE, ACCOUNT_NUMBER, true, loader(success()));
+        AccountVerificationResponse cached = cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(success()));
+
+        assertThat(fresh.isSuccess()).isTrue();
+        assertThat(cached).isSameAs(fresh);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("API 오류는 캐시하지 않는다")
+    void doesNotCacheApiErrors() {
+        cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(failure("API_ERROR")));
+        cache.get(BANK_CODE, ACCOUNT_NUMBER, false, loader(failure("API_ERROR")));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Supplier<AccountVerificationResponse> loader(AccountVerificationResponse response) {
+        return () -> {
+            loads.incrementAndGet();
+            return response;
+        };
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static AccountVerificationResponse success() {
+        return AccountVerificationResponse.builder()
+                .success(true)
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountHolderName("김국민")
+                .bankCode(BANK_CODE)
+                .build();
+    }
+
+    private static AccountVerificationResponse failure(String errorCode) {
+        return AccountVerificationResponse.builder()
+                .success(false)
+                .accountNumber(ACCOUNT_NUMBER)
+                .bankCode(BANK_CODE)
+                .errorCode(errorCode)
+                .build();
+    }
+}
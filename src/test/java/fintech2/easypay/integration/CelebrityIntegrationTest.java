@@ -1,41 +1,62 @@
 package fintech2.easypay.integration;
 
 import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.AccountBalanceShardRepository;
 import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.repository.HotAccountCreditRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.account.service.BalanceShardService;
+import fintech2.easypay.account.service.HotAccountBalanceEngine;
+import fintech2.easypay.audit.service.AlarmService;
 import fintech2.easypay.auth.entity.User;
-import fintech2.easypay.auth.repository.UserRepository;
-import fintech2.easypay.auth.service.AuthService;
 import fintech2.easypay.common.enums.AccountStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
 import fintech2.easypay.payment.dto.PaymentRequest;
 import fintech2.easypay.payment.entity.PaymentMethod;
-import fintech2.easypay.payment.service.PaymentService;
 import fintech2.easypay.transfer.dto.TransferRequest;
-import fintech2.easypay.transfer.service.TransferService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
-
-@ExtendWith(MockitoExtension.class)
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 연예인 시나리오로 BalanceService의 입출금을 실제 원장/거래 내역에 반영해 검증
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
 @DisplayName("한국 연예인 통합 시나리오 테스트")
 class CelebrityIntegrationTest {
 
-    @Mock private UserRepository userRepository;
-    @Mock private AccountRepository accountRepository;
-    @Mock private AuthService authService;
-    @Mock private PaymentService paymentService;
-    @Mock private TransferService transferService;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private AccountBalanceRepository accountBalanceRepository;
+    @Autowired private AccountBalanceShardRepository accountBalanceShardRepository;
+    @Autowired private HotAccountCreditRepository hotAccountCreditRepository;
+    @Autowired private TransactionHistoryRepository transactionHistoryRepository;
+
+    private final AlarmService alarmService = mock(AlarmService.class);
+    private BalanceService balanceService;
 
     // 한국 연예인 가상 사용자들
     private User parkBoGum;      // 박보검 - 톱스타
@@ -47,7 +68,7 @@ class CelebrityIntegrationTest {
 
     // 연예인 계좌들
     private Account parkBoGumAccount;
-    private Account shinSeKyungAccount;  
+    private Account shinSeKyungAccount;
     private Account chaEunWooAccount;
     private Account karinaAccount;
     private Account kimSeonHoAccount;
@@ -55,121 +76,28 @@ class CelebrityIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        // Given: 한국 연예인 가상 사용자 데이터 생성
-        parkBoGum = User.builder()
-                .id(1L)
-                .phoneNumber("010-1234-1234")
-                .email("parkbogum@example.com")
-                .password("encodedPasswordBogum")
-                .name("박보검")
-                .createdAt(LocalDateTime.now().minusYears(5))
-                .accountNumber("VA1234123412")
-                .build();
-
-        shinSeKyung = User.builder()
-                .id(2L)
-                .phoneNumber("010-5678-5678")
-                .email("shinsekyung@example.com")
-                .password("encodedPasswordSeKyung")
-                .name("신세경")
-                .createdAt(LocalDateTime.now().minusYears(7))
-                .accountNumber("VA5678567856")
-                .build();
-
-        chaEunWoo = User.builder()
-                .id(3L)
-                .phoneNumber("010-9999-1111")
-                .email("chaeunwoo@example.com")
-                .password("encodedPasswordEunWoo")
-                .name("차은우")
-                .createdAt(LocalDateTime.now().minusYears(3))
-                .accountNumber("VA9999111199")
-                .build();
-
-        karina = User.builder()
-                .id(4L)
-                .phoneNumber("010-1111-9999")
-                .email("karina@example.com")
-                .password("encodedPasswordKarina")
-                .name("카리나")
-                .createdAt(LocalDateTime.now().minusYears(2))
-                .accountNumber("VA1111999911")
-                .build();
+        balanceService = new BalanceService(accountBalanceRepository, transactionHistoryRepository, alarmService,
+                new HotAccountBalanceEngine(hotAccountCreditRepository, accountBalanceRepository,
+                        transactionHistoryRepository),
+                new BalanceShardService(accountBalanceRepository, accountBalanceShardRepository),
+                new ConcurrentMapCacheManager());
 
-        kimSeonHo = User.builder()
-                .id(5L)
-                .phoneNumber("010-7777-8888")
-                .email("kimseonho@example.com")
-                .password("encodedPasswordSeonHo")
-                .name("김선호")
-                .createdAt(LocalDateTime.now().minusYears(4))
-                .accountNumber("VA7777888877")
-                .build();
-
-        suzy = User.builder()
-                .id(6L)
-                .phoneNumber("010-2222-3333")
-                .email("suzy@example.com")
-                .password("encodedPasswordSuzy")
-                .name("수지")
-                .createdAt(LocalDateTime.now().minusYears(6))
-                .accountNumber("VA2222333322")
-                .build();
-
-        // Given: 연예인 계좌 데이터 생성 (연예인답게 높은 잔액)
-        parkBoGumAccount = Account.builder()
-            .id(1L)
-            .accountNumber("VA1234123412")
-            .userId(1L)
-            .balance(new BigDecimal("50000000"))  // 5천만원 (톱스타)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(5))
-            .build();
-
-        shinSeKyungAccount = Account.builder()
-            .id(2L)
-            .accountNumber("VA5678567856")
-            .userId(2L)
-            .balance(new BigDecimal("30000000"))  // 3천만원 (베테랑)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(7))
-            .build();
-
-        chaEunWooAccount = Account.builder()
-            .id(3L)
-            .accountNumber("VA9999111199")
-            .userId(3L)
-            .balance(new BigDecimal("25000000"))  // 2천5백만원 (아이돌 배우)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(3))
-            .build();
-
-        karinaAccount = Account.builder()
-            .id(4L)
-            .accountNumber("VA1111999911")
-            .userId(4L)
-            .balance(new BigDecimal("20000000"))  // 2천만원 (K-POP 스타)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(2))
-            .build();
-
-        kimSeonHoAccount = Account.builder()
-            .id(5L)
-            .accountNumber("VA7777888877")
-            .userId(5L)
-            .balance(new BigDecimal("40000000"))  // 4천만원 (드라마 스타)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(4))
-            .build();
-
-        suzyAccount = Account.builder()
-            .id(6L)
-            .accountNumber("VA2222333322")
-            .userId(6L)
-            .balance(new BigDecimal("60000000"))  // 6천만원 (국민첫사랑)
-            .status(AccountStatus.ACTIVE)
-            .createdAt(LocalDateTime.now().minusYears(6))
-            .build();
+        // Given: 한국 연예인 가상 사용자 데이터 생성
+        parkBoGum = user(1L, "010-1234-1234", "parkbogum@example.com", "박보검", 5, "VA1234123412");
+        shinSeKyung = user(2L, "010-5678-5678", "shinsekyung@example.com", "신세경", 7, "VA5678567856");
+        chaEunWoo = user(3L, "010-9999-1111", "chaeunwoo@example.com", "차은우", 3, "VA9999111199");
+        karina = user(4L, "010-1111-9999", "karina@example.com", "카리나", 2, "VA1111999911");
+        kimSeonHo = user(5L, "010-7777-8888", "kimseonho@example.com", "김선호", 4, "VA7777888877");
+        suzy = user(6L, "010-2222-3333", "suzy@example.com", "수지", 6, "VA2222333322");
+
+        // Given: 연예인 계좌와 원장 데이터 생성 (연예인답게 높은 잔액)
+        parkBoGumAccount = persistAccount(parkBoGum, "50000000");    // 5천만원 (톱스타)
+        shinSeKyungAccount = persistAccount(shinSeKyung, "30000000"); // 3천만원 (베테랑)
+        chaEunWooAccount = persistAccount(chaEunWoo, "25000000");    // 2천5백만원 (아이돌 배우)
+        karinaAccount = persistAccount(karina, "20000000");          // 2천만원 (K-POP 스타)
+        kimSeonHoAccount = persistAccount(kimSeonHo, "40000000");    // 4천만원 (드라마 스타)
+        suzyAccount = persistAccount(suzy, "60000000");              // 6천만원 (국민첫사랑)
+        entityManager.flush();
     }
 
     @Test
@@ -181,13 +109,15 @@ class CelebrityIntegrationTest {
         request.setAmount(new BigDecimal("10000000"));
         request.setMemo("신세경 선배님 생일 축하드려요! 🎉");
 
-        // When: 송금 실행 (잔액 변화 시뮬레이션)
-        parkBoGumAccount.withdraw(request.getAmount());
-        shinSeKyungAccount.deposit(request.getAmount());
+        // When: 송금 실행 (출금 후 입금)
+        withdraw(parkBoGum, TransactionType.TRANSFER_OUT, request.getAmount());
+        deposit(shinSeKyung, TransactionType.TRANSFER_IN, request.getAmount());
 
-        // Then: 송금 결과 검증
-        assertThat(parkBoGumAccount.getBalance()).isEqualTo(new BigDecimal("40000000")); // 5천만 - 1천만
-        assertThat(shinSeKyungAccount.getBalance()).isEqualTo(new BigDecimal("40000000")); // 3천만 + 1천만
+        // Then: 원장 잔액과 거래 내역 검증
+        assertBalance(parkBoGumAccount, "40000000"); // 5천만 - 1천만
+        assertBalance(shinSeKyungAccount, "40000000"); // 3천만 + 1천만
+        assertHistory(parkBoGumAccount, TransactionType.TRANSFER_OUT, "10000000", "50000000", "40000000");
+        assertHistory(shinSeKyungAccount, TransactionType.TRANSFER_IN, "10000000", "30000000", "40000000");
         assertThat(request.getMemo()).contains("생일 축하");
         assertThat(parkBoGum.getName()).isEqualTo("박보검");
         assertThat(shinSeKyung.getName()).isEqualTo("신세경");
@@ -204,11 +134,12 @@ class CelebrityIntegrationTest {
         request.setMemo("화보 촬영용 의상");
         request.setPaymentMethod(PaymentMethod.BALANCE);
 
-        // When: 결제 실행 (잔액 변화 시뮬레이션)
-        chaEunWooAccount.withdraw(request.getAmount());
+        // When: 결제 실행
+        withdraw(chaEunWoo, TransactionType.PAYMENT, request.getAmount());
 
         // Then: 결제 결과 검증
-        assertThat(chaEunWooAccount.getBalance()).isEqualTo(new BigDecimal("20000000")); // 2천5백만 - 5백만
+        assertBalance(chaEunWooAccount, "20000000"); // 2천5백만 - 5백만
+        assertHistory(chaEunWooAccount, TransactionType.PAYMENT, "5000000", "25000000", "20000000");
         assertThat(request.getMerchantName()).isEqualTo("구찌 청담점");
         assertThat(request.getMemo()).contains("화보 촬영용");
         assertThat(chaEunWoo.getName()).isEqualTo("차은우");
@@ -222,14 +153,28 @@ class CelebrityIntegrationTest {
         int juniorCount = 10; // 후배 10명
         BigDecimal totalAmount = coffeeAmount.multiply(new BigDecimal(juniorCount));
 
-        // When: 다중 송금 시뮬레이션
+        // When: 다중 송금 실행
         for (int i = 0; i < juniorCount; i++) {
-            karinaAccount.withdraw(coffeeAmount);
+            withdraw(karina, TransactionType.TRANSFER_OUT, coffeeAmount);
         }
 
-        // Then: 다중 송금 결과 검증
-        assertThat(karinaAccount.getBalance()).isEqualTo(new BigDecimal("19500000")); // 2천만 - 50만
+        // Then: 건별 거래 내역이 누적 잔액으로 남는지 검증
+        assertBalance(karinaAccount, "19500000"); // 2천만 - 50만
         assertThat(totalAmount).isEqualTo(new BigDecimal("500000")); // 총 50만원
+        List<TransactionHistory> histories = histories(karinaAccount);
+        assertThat(histories).hasSize(juniorCount)
+                .allSatisfy(history -> {
+                    assertThat(history.getAmount()).isEqualByComparingTo(coffeeAmount);
+                    assertThat(history.getBalanceBefore().subtract(history.getBalanceAfter()))
+                            .isEqualByComparingTo(coffeeAmount);
+                });
+        assertThat(histories).extracting(TransactionHistory::getBalanceAfter)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(
+                        new BigDecimal("19950000"), new BigDecimal("19900000"), new BigDecimal("19850000"),
+                        new BigDecimal("19800000"), new BigDecimal("19750000"), new BigDecimal("19700000"),
+                        new BigDecimal("19650000"), new BigDecimal("19600000"), new BigDecimal("19550000"),
+                        new BigDecimal("19500000"));
         assertThat(karina.getName()).isEqualTo("카리나");
     }
 
@@ -245,10 +190,11 @@ class CelebrityIntegrationTest {
         donationRequest.setPaymentMethod(PaymentMethod.BALANCE);
 
         // When: 기부 결제 실행
-        kimSeonHoAccount.withdraw(donationRequest.getAmount());
+        withdraw(kimSeonHo, TransactionType.PAYMENT, donationRequest.getAmount());
 
         // Then: 기부 결제 결과 검증
-        assertThat(kimSeonHoAccount.getBalance()).isEqualTo(new BigDecimal("25000000")); // 4천만 - 1천5백만
+        assertBalance(kimSeonHoAccount, "25000000"); // 4천만 - 1천5백만
+        assertHistory(kimSeonHoAccount, TransactionType.PAYMENT, "15000000", "40000000", "25000000");
         assertThat(donationRequest.getMerchantName()).contains("사회복지공동모금회");
         assertThat(donationRequest.getMemo()).contains("기부");
         assertThat(kimSeonHo.getName()).isEqualTo("김선호");
@@ -264,11 +210,12 @@ class CelebrityIntegrationTest {
 
         // When: 팬미팅 선물 송금 실행
         for (int i = 0; i < winnerCount; i++) {
-            suzyAccount.withdraw(prizeAmount);
+            withdraw(suzy, TransactionType.TRANSFER_OUT, prizeAmount);
         }
 
         // Then: 선물 송금 결과 검증
-        assertThat(suzyAccount.getBalance()).isEqualTo(new BigDecimal("55000000")); // 6천만 - 5백만
+        assertBalance(suzyAccount, "55000000"); // 6천만 - 5백만
+        assertThat(histories(suzyAccount)).hasSize(winnerCount);
         assertThat(totalPrize).isEqualTo(new BigDecimal("5000000")); // 총 5백만원
         assertThat(suzy.getName()).isEqualTo("수지");
     }
@@ -285,12 +232,12 @@ class CelebrityIntegrationTest {
         BigDecimal suzyDonation = new BigDecimal("15000000");       // 수지 1천5백만
 
         // When: 각 연예인별 자선 기부 실행
-        parkBoGumAccount.withdraw(parkBoGumDonation);
-        shinSeKyungAccount.withdraw(shinSeKyungDonation);
-        chaEunWooAccount.withdraw(chaEunWooDonation);
-        karinaAccount.withdraw(karinaDonation);
-        kimSeonHoAccount.withdraw(kimSeonHoDonation);
-        suzyAccount.withdraw(suzyDonation);
+        withdraw(parkBoGum, TransactionType.PAYMENT, parkBoGumDonation);
+        withdraw(shinSeKyung, TransactionType.PAYMENT, shinSeKyungDonation);
+        withdraw(chaEunWoo, TransactionType.PAYMENT, chaEunWooDonation);
+        withdraw(karina, TransactionType.PAYMENT, karinaDonation);
+        withdraw(kimSeonHo, TransactionType.PAYMENT, kimSeonHoDonation);
+        withdraw(suzy, TransactionType.PAYMENT, suzyDonation);
 
         // 총 기부금 계산
         BigDecimal totalDonation = parkBoGumDonation
@@ -302,12 +249,13 @@ class CelebrityIntegrationTest {
 
         // Then: 합동 자선 프로젝트 결과 검증
         assertThat(totalDonation).isEqualTo(new BigDecimal("57000000")); // 총 5천7백만원
-        assertThat(parkBoGumAccount.getBalance()).isEqualTo(new BigDecimal("40000000"));
-        assertThat(shinSeKyungAccount.getBalance()).isEqualTo(new BigDecimal("22000000"));
-        assertThat(chaEunWooAccount.getBalance()).isEqualTo(new BigDecimal("18000000"));
-        assertThat(karinaAccount.getBalance()).isEqualTo(new BigDecimal("15000000"));
-        assertThat(kimSeonHoAccount.getBalance()).isEqualTo(new BigDecimal("28000000"));
-        assertThat(suzyAccount.getBalance()).isEqualTo(new BigDecimal("45000000"));
+        assertBalance(parkBoGumAccount, "40000000");
+        assertBalance(shinSeKyungAccount, "22000000");
+        assertBalance(chaEunWooAccount, "18000000");
+        assertBalance(karinaAccount, "15000000");
+        assertBalance(kimSeonHoAccount, "28000000");
+        assertBalance(suzyAccount, "45000000");
+        assertHistory(suzyAccount, TransactionType.PAYMENT, "15000000", "60000000", "45000000");
 
         // 모든 연예인이 기부에 참여했는지 확인
         assertThat(parkBoGum.getName()).isEqualTo("박보검");
@@ -324,7 +272,7 @@ class CelebrityIntegrationTest {
         // Given: 연예인 계좌들의 보안 상태를 검증하는 시나리오
 
         // When & Then: 각 연예인 계좌 보안 상태 검증
-        
+
         // 1. 모든 계좌가 활성 상태인지 확인
         assertThat(parkBoGumAccount.isActive()).isTrue();
         assertThat(shinSeKyungAccount.isActive()).isTrue();
@@ -357,4 +305,100 @@ class CelebrityIntegrationTest {
         assertThat(kimSeonHoAccount.getAccountNumber()).matches("VA\\d{10}");
         assertThat(suzyAccount.getAccountNumber()).matches("VA\\d{10}");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시나리오 8: 잔액을 넘는 송금은 원장과 거래 내역을 바꾸지 않는다")
+    void insufficientBalanceLeavesLedgerUntouched() {
+        // When: 카리나가 잔액(2천만)보다 큰 금액을 송금
+        assertThatThrownBy(() -> withdraw(karina, TransactionType.TRANSFER_OUT, new BigDecimal("20000001")))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // Then: 잔액과 거래 내역 변화 없음, 잔액 부족 알림 발송
+        assertBalance(karinaAccount, "20000000");
+        assertThat(histories(karinaAccount)).isEmpty();
+        verify(alarmService).sendInsufficientBalanceAlert(eq("VA1111999911"), eq("4"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("시나리오 9: 원장 행이 없는 계좌의 출금은 원장 행을 만들지 않고 잔액 부족으로 실패한다")
+    void withdrawalWithoutLedgerRowDoesNotCreateRow() {
+        // Given: 원장 행 없이 계좌만 있는 신규 연예인
+        entityManager.persist(Account.builder()
+                .accountNumber("VA3333444433")
+                .userId(7L)
+                .build());
+        entityManager.flush();
+
+        // When: 출금 시도
+        assertThatThrownBy(() -> balanceService.decrease("VA3333444433", new BigDecimal("10000"),
+                TransactionType.TRANSFER_OUT, "송금 출금", null, "7"))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // Then: 원장 행과 거래 내역 모두 생기지 않음
+        assertThat(accountBalanceRepository.existsById("VA3333444433")).isFalse();
+        assertThat(transactionHistoryRepository.findByAccountNumberOrderByCreatedAtDesc("VA3333444433")).isEmpty();
+    }
+
+    private static User user(Long id, String phoneNumber, String email, String name, int years, String accountNumber) {
+        return User.builder()
+                .id(id)
+                .phoneNumber(phoneNumber)
+                .email(email)
+                .password("encodedPassword" + id)
+                .name(name)
+                .createdAt(LocalDateTime.now().minusYears(years))
+                .accountNumber(accountNumber)
+                .build();
+    }
+
+    private Account persistAccount(User owner, String balance) {
+        entityManager.persist(AccountBalance.builder()
+                .accountNumber(owner.getAccountNumber())
+                .balance(new BigDecimal(balance))
+                .build());
+        return entityManager.persist(Account.builder()
+                .accountNumber(owner.getAccountNumber())
+                .userId(owner.getId())
+                .status(AccountStatus.ACTIVE)
+                .createdAt(owner.getCreatedAt())
+                .build());
+    }
+
+    private void withdraw(User owner, TransactionType type, BigDecimal amount) {
+        balanceService.decrease(owner.getAccountNumber(), amount, type, type.name(), null, owner.getId().toString());
+    }
+
+    private void deposit(User owner, TransactionType type, BigDecimal amount) {
+        balanceService.increase(owner.getAccountNumber(), amount, type, type.name(), null, owner.getId().toString());
+    }
+
+    /**
+     * 원장 값과 다시 읽은 계좌(원장 파생 잔액)가 모두 기대 잔액인지 확인
+     */
+    private void assertBalance(Account account, String expected) {
+        assertThat(accountBalanceRepository.findBalanceByAccountNumber(account.getAccountNumber()))
+                .hasValueSatisfying(balance -> assertThat(balance).isEqualByComparingTo(expected));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow().getBalance())
+                .isEqualByComparingTo(expected);
+    }
+
+    /**
+     * 단건 거래 내역의 금액과 전후 잔액 확인
+     */
+    private void assertHistory(Account account, TransactionType type, String amount, String before, String after) {
+        List<TransactionHistory> histories = histories(account);
+        assertThat(histories).filteredOn(history -> history.getTransactionType() == type)
+                .singleElement()
+                .satisfies(history -> {
+                    assertThat(history.getAmount()).isEqualByComparingTo(amount);
+                    assertThat(history.getBalanceBefore()).isEqualByComparingTo(before);
+                    assertThat(history.getBalanceAfter()).isEqualByComparingTo(after);
+                });
+    }
+
+    private List<TransactionHistory> histories(Account account) {
+        return transactionHistoryRepository.findByAccountNumberOrderByCreatedAtDesc(account.getAccountNumber());
+    }
+}
@@ -0,0 +1,102 @@
+package fintech2.easypay.payment.service;
+
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentDailyAggregate;
+import fintech2.easypay.payment.entity.PaymentDailyAggregate.Dimension;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.repository.PaymentDailyAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("결제 일별 집계 테스트")
+class PaymentAggregateServiceTest {
+
+    @Mock private PaymentDailyAggregateRepository aggregateRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private PaymentAggregateService service;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        service = new PaymentAggregateService(aggregateRepository, transactionManager);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        payment = Payment.builder()
+                .id(1L)
+                .paymentId("PAY-0001")
+                .user(User.builder().id(10L).phoneNumber("010-1111-1111").name("고객").build())
+                .accountNumber("VA1111111111")
+                .merchantId("MERCHANT_CAFE")
+                .merchantName("스타벅스")
+                .amount(new BigDecimal("4500"))
+                .paymentMethod(PaymentMethod.CARD)
+                .build();
+    }
+
+    @Test
+    @DisplayName("승인은 가맹점 버킷과 사용자 버킷에 순서대로 더한다")
+    void appliesToMerchantAndUserBuckets() {
+        when(aggregateRepository.applyDelta(any(), anyString(), any(), anyLong(), any(), anyLong(), any(),
+                anyLong(), any(), any())).thenReturn(1);
+
+        service.recordApproved(payment);
+
+        var inOrder = inOrder(aggregateRepository);
+        inOrder.verify(aggregateRepository).applyDelta(eq(Dimension.MERCHANT), eq("MERCHANT_CAFE"), any(),
+                eq(1L), eq(new BigDecimal("4500")), eq(0L), eq(BigDecimal.ZERO), eq(0L), eq(BigDecimal.ZERO), any());
+        inOrder.verify(aggregateRepository).applyDelta(eq(Dimension.USER), eq("10"), any(),
+                eq(1L), eq(new BigDecimal("4500")), eq(0L), eq(BigDecimal.ZERO), eq(0L), eq(BigDecimal.ZERO), any());
+        verify(aggregateRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("그날 첫 반영이면 버킷을 만든 뒤 다시 반영하고, 동시 생성 충돌은 무시한다")
+    void createsBucketWhenMissing() {
+        when(aggregateRepository.applyDelta(any(), anyString(), any(), anyLong(), any(), anyLong(), any(),
+                anyLong(), any(), any())).thenReturn(0, 1, 1);
+        when(aggregateRepository.saveAndFlush(any(PaymentDailyAggregate.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_payment_daily_aggregates"));
+
+        service.recordRefunded(payment, new BigDecimal("1000"));
+
+        verify(aggregateRepository, times(1)).saveAndFlush(any(PaymentDailyAggregate.class));
+        verify(aggregateRepository, times(2)).applyDelta(eq(Dimension.MERCHANT), eq("MERCHANT_CAFE"), any(),
+                eq(0L), any(), eq(0L), any(), eq(1L), eq(new BigDecimal("1000")), any());
+        verify(aggregateRepository, times(1)).applyDelta(eq(Dimension.USER), eq("10"), any(),
+                eq(0L), any(), eq(0L), any(), eq(1L), eq(new BigDecimal("1000")), any());
+    }
+
+    @Test
+    @DisplayName("조회 기간이 뒤집혔거나 최대 기간을 넘으면 거부한다")
+    void rejectsInvalidRange() {
+        LocalDate today = LocalDate.of(2025, 1, 31);
+
+        assertThatThrownBy(() -> service.getUserDailySummary(10L, today, today.minusDays(1)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.getMerchantDailySummary("MERCHANT_CAFE",
+                today.minusDays(PaymentAggregateService.MAX_RANGE_DAYS), today))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(aggregateRepository);
+    }
+}
@@ -0,0 +1,247 @@
+package fintech2.easypay.payment.service;
+
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.external.PaymentGatewayService;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("처리 중 결제 복구 테스트")
+class PaymentRecoveryServiceTest {
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentGatewayService paymentGatewayService;
+    @Mock private PaymentSettlementService paymentSettlementService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentRecoveryService service;
+    private final Map<Long, Payment> payments = new TreeMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PaymentRecoveryService(paymentRepository, paymentGatewayService, paymentSettlementService,
+                meterRegistry, 3, 2, 2, 120, 50, 60, 3600, 24, false);
+
+        when(paymentRepository.findRecoveryCandidates(eq(PaymentStatus.PROCESSING), any(), any(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(3);
+                    int limit = invocation.<Pageable>getArgument(4).getPageSize();
+                    return payments.values().stream()
+                            .filter(payment -> payment.getId() > afterId)
+                            .limit(limit)
+                            .toList();
+                });
+        when(paymentSettlementService.settle(anyString(), any())).thenAnswer(invocation -> {
+            PgApiResponse response = invocation.getArgument(1);
+            PaymentStatus status = switch (response.getStatus()) {
+                case SUCCESS -> PaymentStatus.APPROVED;
+                case PENDING -> PaymentStatus.PROCESSING;
+                default -> PaymentStatus.FAILED;
+            };
+            return PaymentResponse.builder().paymentId(invocation.getArgument(0)).status(status).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대상 결제를 키셋 페이지로 조회해 일괄 조회 단위로 확인하고 건별로 반영한다")
+    void recoversPageByPageInBatches() {
+        for (long id = 1; id <= 5; id++) {
+            addPayment(id);
+        }
+        when(paymentGatewayService.getPaymentStatuses(any())).thenAnswer(invocation ->
+                statusesFor(invocation.getArgument(0), PgApiStatus.SUCCESS));
+
+        int checked = service.recover();
+
+        assertThat(checked).isEqualTo(5);
+        // 페이지 크기 3: (1,2,3) 다음 3번 이후 (4,5), 일괄 조회 단위 2
+        verify(paymentRepository).findRecoveryCandidates(eq(PaymentStatus.PROCESSING), any(), any(), eq(0L), any());
+        verify(paymentRepository).findRecoveryCandidates(eq(PaymentStatus.PROCESSING), any(), any(), eq(3L), any());
+        verify(paymentGatewayService).getPaymentStatuses(List.of("PAY-1", "PAY-2"));
+        verify(paymentGatewayService).getPaymentStatuses(List.of("PAY-3"));
+        verify(paymentGatewayService).getPaymentStatuses(List.of("PAY-4", "PAY-5"));
+        verify(paymentSettlementService, times(5)).settle(anyString(), any());
+        assertThat(processed("approved")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("PG에서 아직 처리 중이거나 조회에 실패한 결제는 다음 실행으로 넘긴다")
+    void leavesPendingAndErroredPayments() {
+        addPayment(1L);
+        addPayment(2L);
+        addPayment(3L);
+        addPayment(4L);
+        when(paymentGatewayService.getPaymentStatuses(List.of("PAY-1", "PAY-2"))).thenAnswer(invocation -> {
+            Map<String, PgApiResponse> responses = new LinkedHashMap<>();
+            responses.put("PAY-1", response("PAY-1", PgApiStatus.PENDING));
+            return responses; // PAY-2 누락
+        });
+        when(paymentGatewayService.getPaymentStatuses(List.of("PAY-3"))).thenThrow(new RuntimeException("PG 연결 실패"));
+        when(paymentGatewayService.getPaymentStatuses(List.of("PAY-4"))).thenAnswer(invocation ->
+                statusesFor(invocation.getArgument(0), PgApiStatus.INVALID_CARD));
+
+        service.recover();
+
+        verify(paymentSettlementService).settle(eq("PAY-1"), any());
+        verify(paymentSettlementService, never()).settle(eq("PAY-2"), any());
+        verify(paymentSettlementService, never()).settle(eq("PAY-3"), any());
+        assertThat(processed("pending")).isEqualTo(2);
+        assertThat(processed("error")).isEqualTo(1);
+        assertThat(processed("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확정되지 않은 결제는 시도 횟수에 따라 간격을 늘려 다시 확인하고, 제한 시간이 지나면 복구를 포기한다")
+    void backsOffAndGivesUp() {
+        addPayment(1L);
+        addPayment(2L);
+        Payment stale = payments.get(2L);
+        ReflectionTestUtils.setField(stale, "createdAt", LocalDateTime.now().minusHours(25));
+        when(paymentGatewayService.getPaymentStatuses(any())).thenAnswer(invocation ->
+                statusesFor(invocation.getArgument(0), PgApiStatus.PENDING));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.recover();
+
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(paymentSettlementService).scheduleRecovery(eq("PAY-1"), next.capture());
+        assertThat(next.getValue()).isBetween(before.plusSeconds(48), LocalDateTime.now().plusSeconds(72));
+        verify(paymentSettlementService).giveUpRecovery(eq("PAY-2"), anyString());
+        verify(paymentSettlementService, never()).scheduleRecovery(eq("PAY-2"), any());
+        assertThat(processed("gave_up")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("환불 확인 중 결제는 PG 누적 환불액에 반영된 경우에만 환불을 확정하고, 아니면 환불 전 상태로 되돌린다")
+    void recoversPendingRefunds() {
+        Map<Long, Payment> refunds = new TreeMap<>();
+        refunds.put(1L, refundPendingPayment(1L, "0"));
+        refunds.put(2L, refundPendingPayment(2L, "1000"));  // 이전 부분 환불 1000원 + 확인 중 3500원
+        refunds.put(3L, refundPendingPayment(3L, "0"));
+        when(paymentRepository.findRefundRecoveryCandidates(any(), any(), anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(2);
+            return refunds.values().stream().filter(payment -> payment.getId() > afterId).toList();
+        });
+        when(paymentGatewayService.getPaymentStatuses(any())).thenAnswer(invocation -> {
+            Map<String, PgApiResponse> responses = new LinkedHashMap<>();
+            responses.put("PAY-1", refunded("PAY-1", "4500"));
+            responses.put("PAY-2", refunded("PAY-2", "1000"));  // 이전 부분 환불만 반영됨
+            responses.put("PAY-3", response("PAY-3", PgApiStatus.SUCCESS));
+            responses.keySet().retainAll(invocation.getArgument(0));
+            return responses;
+        });
+        when(paymentSettlementService.settleRefund(anyString(), any(), anyString())).thenAnswer(invocation -> {
+            Payment payment = refunds.values().stream()
+                    .filter(candidate -> candidate.getPaymentId().equals(invocation.getArgument(0)))
+                    .findFirst().orElseThrow();
+            if (invocation.<PgApiResponse>getArgument(1).getStatus() == PgApiStatus.REFUNDED) {
+                payment.completePendingRefund();
+            } else {
+                payment.revertPendingRefund();
+            }
+            return PaymentResponse.builder().paymentId(payment.getPaymentId()).status(payment.getStatus())
+                    .refundedAmount(payment.getRefundedAmount()).build();
+        });
+
+        int checked = service.recover();
+
+        assertThat(checked).isEqualTo(3);
+        verify(paymentSettlementService).settleRefund(eq("PAY-1"),
+                argThat(response -> response.getStatus() == PgApiStatus.REFUNDED), anyString());
+        verify(paymentSettlementService).settleRefund(eq("PAY-2"),
+                argThat(response -> response.getStatus() != PgApiStatus.REFUNDED), anyString());
+        assertThat(refunds.get(1L).getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(refunds.get(2L).getRefundedAmount()).isEqualByComparingTo("1000");
+        assertThat(refunds.get(3L).getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(processed("refunded")).isEqualTo(1);
+        assertThat(processed("refund_reverted")).isEqualTo(2);
+    }
+
+    private static Payment refundPendingPayment(Long id, String refundedAmount) {
+        Payment payment = Payment.builder()
+                .id(id)
+                .paymentId("PAY-" + id)
+                .accountNumber("VA1111111111")
+                .merchantId("MERCHANT_CAFE")
+                .merchantName("스타벅스")
+                .amount(new BigDecimal("4500"))
+                .paymentMethod(PaymentMethod.CARD)
+                .status(PaymentStatus.APPROVED)
+                .build();
+        if (new BigDecimal(refundedAmount).signum() > 0) {
+            payment.markAsRefunded(new BigDecimal(refundedAmount));
+        }
+        payment.markAsRefundPending(payment.getRefundableAmount());
+        return payment;
+    }
+
+    private static PgApiResponse refunded(String paymentId, String refundedTotal) {
+        return PgApiResponse.builder().paymentId(paymentId).status(PgApiStatus.REFUNDED)
+                .approvedAmount(new BigDecimal(refundedTotal).negate()).build();
+    }
+
+    private void addPayment(Long id) {
+        Payment payment = Payment.builder()
+                .id(id)
+                .paymentId("PAY-" + id)
+                .accountNumber("VA1111111111")
+                .merchantId("MERCHANT_CAFE")
+                .merchantName("스타벅스")
+                .amount(new BigDecimal("4500"))
+                .paymentMethod(PaymentMethod.CARD)
+                .status(PaymentStatus.PROCESSING)
+                .build();
+        payments.put(id, payment);
+    }
+
+    private static Map<String, PgApiResponse> statusesFor(Collection<String> paymentIds, PgApiStatus status) {
+        Map<String, PgApiResponse> responses = new LinkedHashMap<>();
+        paymentIds.forEach(paymentId -> responses.put(paymentId, response(paymentId, status)));
+        return responses;
+    }
+
+    private static PgApiResponse response(String paymentId, PgApiStatus status) {
+        return PgApiResponse.builder().paymentId(paymentId).status(status).build();
+    }
+
+    private double processed(String outcome) {
+        return meterRegistry.find("easypay.payment.recovery.processed").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+}
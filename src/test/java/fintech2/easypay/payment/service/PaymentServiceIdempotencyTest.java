@@ -0,0 +1,168 @@
+package fintech2.easypay.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.idempotency.IdempotencyRecord;
+import fintech2.easypay.common.idempotency.IdempotencyRecord.Status;
+import fintech2.easypay.common.idempotency.IdempotencyRecordRepository;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.common.util.TransactionIdGenerator;
+import fintech2.easypay.payment.dto.PaymentRequest;
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.exception.PaymentErrorCode;
+import fintech2.easypay.payment.exception.PaymentException;
+import fintech2.easypay.payment.external.PaymentGatewayService;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("결제 멱등 키 유지 테스트")
+class PaymentServiceIdempotencyTest {
+
+    private static final String PHONE = "010-1111-1111";
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PaymentGatewayService paymentGatewayService;
+    @Mock private TransactionIdGenerator transactionIdGenerator;
+    @Mock private PaymentSettlementService paymentSettlementService;
+    @Mock private PaymentAggregateService paymentAggregateService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private CacheManager cacheManager;
+    @Mock private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private PaymentService paymentService;
+    private IdempotencyService idempotencyService;
+    private final Map<Long, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(10L).phoneNumber(PHONE).name("고객").build();
+        when(userRepository.findByPhoneNumber(PHONE)).thenReturn(Optional.of(user));
+        when(accountRepository.findByUserId(10L))
+                .thenReturn(Optional.of(Account.builder().userId(10L).accountNumber("VA1111111111").build()));
+        when(transactionIdGenerator.nextPaymentId()).thenReturn("PAY-1", "PAY-2");
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            if (record.getId() == null) {
+                record.setId(ids.incrementAndGet());
+            }
+            records.put(record.getId(), record);
+            return record;
+        });
+        when(idempotencyRecordRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(records.get(invocation.<Long>getArgument(0))));
+        when(idempotencyRecordRepository.findByScopeAndOwnerAndIdempotencyKey(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> records.values().stream()
+                        .filter(record -> record.getIdempotencyKey().equals(invocation.getArgument(2)))
+                        .findFirst());
+        when(idempotencyRecordRepository.findForUpdate(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> records.values().stream()
+                        .filter(record -> record.getIdempotencyKey().equals(invocation.getArgument(2)))
+                        .findFirst());
+        doAnswer(invocation -> records.remove(invocation.<Long>getArgument(0)))
+                .when(idempotencyRecordRepository).deleteById(anyLong());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        paymentService = new PaymentService(paymentRepository, accountRepository, userRepository, balanceService,
+                auditLogService, notificationService, paymentGatewayService, transactionIdGenerator,
+                paymentSettlementService, paymentAggregateService, transactionTemplate, cacheManager);
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper(),
+                transactionManager, new SimpleMeterRegistry(), 24, 2000, 1000, 100, 120);
+    }
+
+    @Test
+    @DisplayName("PG 승인 후 결과 반영이 실패하면 멱등 키를 남겨 같은 키의 재시도가 다시 결제하지 않는다")
+    void keepsKeyWhenSettlementFailsAfterApproval() {
+        when(paymentGatewayService.processPayment(any())).thenReturn(PgApiResponse.builder()
+                .paymentId("PAY-1").pgTransactionId("PG-1").status(PgApiStatus.SUCCESS).build());
+        when(paymentSettlementService.settle(eq("PAY-1"), any()))
+                .thenThrow(new IllegalStateException("결과 반영 실패"));
+        PaymentRequest request = cardRequest();
+
+        assertThatThrownBy(() -> pay("key-1", request)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(records.values()).singleElement().satisfies(record -> {
+            assertThat(record.getStatus()).isEqualTo(Status.IN_PROGRESS);
+            assertThat(record.getLeaseExpiresAt()).isNull();
+        });
+        assertThatThrownBy(() -> pay("key-1", request))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        verify(paymentGatewayService, times(1)).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("결제 요청을 저장하기 전에 실패하면 멱등 키를 지워 같은 키로 다시 결제할 수 있다")
+    void dropsKeyWhenFailingBeforeProcessingSaved() {
+        when(balanceService.hasSufficientBalance(anyString(), any())).thenReturn(false);
+        PaymentRequest request = cardRequest();
+        request.setPaymentMethod(PaymentMethod.BALANCE);
+
+        assertThatThrownBy(() -> pay("key-1", request))
+                .isInstanceOf(PaymentException.class)
+                .extracting(e -> ((PaymentException) e).getErrorCode())
+                .isEqualTo(PaymentErrorCode.INSUFFICIENT_BALANCE);
+
+        assertThat(records).isEmpty();
+        verifyNoInteractions(paymentGatewayService);
+    }
+
+    private PaymentResponse pay(String key, PaymentRequest request) {
+        return idempotencyService.execute("PAYMENT", PHONE, key, request, PaymentResponse.class,
+                () -> paymentService.processPayment(PHONE, request));
+    }
+
+    private static PaymentRequest cardRequest() {
+        PaymentRequest request = new PaymentRequest();
+        request.setMerchantId("M001");
+        request.setMerchantName("가맹점");
+        request.setAmount(new BigDecimal("10000"));
+        request.setPaymentMethod(PaymentMethod.CARD);
+        request.setCardNumber("1234567812345678");
+        return request;
+    }
+}
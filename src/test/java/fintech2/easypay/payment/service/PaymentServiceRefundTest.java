@@ -0,0 +1,289 @@
+package fintech2.easypay.payment.service;
+
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.TransactionIdGenerator;
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.exception.PaymentException;
+import fintech2.easypay.payment.external.PaymentGatewayService;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("결제 취소/환불 잔액 반영 테스트")
+class PaymentServiceRefundTest {
+
+    private static final String PHONE = "010-1111-1111";
+    private static final String ACCOUNT = "VA1111111111";
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PaymentGatewayService paymentGatewayService;
+    @Mock private TransactionIdGenerator transactionIdGenerator;
+    @Mock private PaymentAggregateService paymentAggregateService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private CacheManager cacheManager;
+
+    private PaymentService paymentService;
+
+    private User user;
+    private final Map<String, Payment> paymentsById = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(10L).phoneNumber(PHONE).name("고객").build();
+        when(userRepository.findByPhoneNumber(PHONE)).thenReturn(Optional.of(user));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(paymentRepository.findByPaymentIdForUpdate(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(paymentsById.get(invocation.<String>getArgument(0))));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        PaymentSettlementService paymentSettlementService = new PaymentSettlementService(paymentRepository,
+                auditLogService, notificationService, paymentAggregateService, transactionTemplate);
+        paymentService = new PaymentService(paymentRepository, accountRepository, userRepository, balanceService,
+                auditLogService, notificationService, paymentGatewayService, transactionIdGenerator,
+                paymentSettlementService, paymentAggregateService, transactionTemplate, cacheManager);
+    }
+
+    @Test
+    @DisplayName("잔액 결제 부분 환불은 BalanceService로 잔액을 복원하고 누적 환불액만 늘린다")
+    void partialRefundGoesThroughBalanceService() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.BALANCE, "10000");
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+
+        PaymentResponse first = paymentService.refundPayment(PHONE, "PAY-1", new BigDecimal("3000"), "부분 환불");
+
+        assertThat(first.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(first.getRefundedAmount()).isEqualByComparingTo("3000");
+        verify(balanceService).increase(eq(ACCOUNT), eq(new BigDecimal("3000")), eq(TransactionType.REFUND),
+                anyString(), eq("PAY-1"), eq("10"));
+        verify(paymentAggregateService).recordRefunded(payment, new BigDecimal("3000"));
+        verifyNoInteractions(accountRepository);
+
+        PaymentResponse rest = paymentService.refundPayment(PHONE, "PAY-1", new BigDecimal("7000"), "잔여 환불");
+
+        assertThat(rest.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(rest.getRefundedAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("남은 환불 가능 금액을 넘는 환불은 거부한다")
+    void rejectsRefundOverRemainingAmount() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.BALANCE, "10000");
+        payment.markAsRefunded(new BigDecimal("6000"));
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+
+        assertThatThrownBy(() -> paymentService.refundPayment(PHONE, "PAY-1", new BigDecimal("5000"), "초과 환불"))
+                .isInstanceOf(PaymentException.class);
+        verifyNoInteractions(balanceService);
+    }
+
+    @Test
+    @DisplayName("잔액 결제 취소는 BalanceService로 결제 금액 전체를 복원한다")
+    void cancelGoesThroughBalanceService() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.BALANCE, "10000");
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+
+        PaymentResponse response = paymentService.cancelPayment(PHONE, "PAY-1", "주문 취소");
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        verify(balanceService).increase(eq(ACCOUNT), eq(new BigDecimal("10000")), eq(TransactionType.REFUND),
+                anyString(), eq("PAY-1"), eq("10"));
+        verify(paymentAggregateService).recordCancelled(payment);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("PG 취소 응답을 받지 못하면 환불 확인 중으로 응답하고, 다시 취소를 요청해도 PG를 호출하지 않는다")
+    void cancelTimeoutStaysRefundPending() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.CARD, "10000");
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+        when(paymentGatewayService.cancelPayment(eq("PAY-1"), any()))
+                .thenReturn(PgApiResponse.builder().paymentId("PAY-1").status(PgApiStatus.PENDING).build());
+
+        PaymentResponse response = paymentService.cancelPayment(PHONE, "PAY-1", "주문 취소");
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.REFUND_PENDING);
+        assertThat(payment.getPendingRefundAmount()).isEqualByComparingTo("10000");
+        verifyNoInteractions(paymentAggregateService, notificationService);
+
+        assertThatThrownBy(() -> paymentService.cancelPayment(PHONE, "PAY-1", "주문 취소"))
+                .isInstanceOf(PaymentException.class);
+        verify(paymentGatewayService, times(1)).cancelPayment(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("PG 취소는 트랜잭션 밖에서 호출하고 취소 응답을 받으면 취소를 확정한다")
+    void cancelThroughPgOutsideTransaction() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.CARD, "10000");
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+        when(paymentGatewayService.cancelPayment(eq("PAY-1"), any()))
+                .thenReturn(PgApiResponse.builder().paymentId("PAY-1").status(PgApiStatus.CANCELLED).build());
+
+        PaymentResponse response = paymentService.cancelPayment(PHONE, "PAY-1", "주문 취소");
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        InOrder inOrder = inOrder(transactionManager, paymentGatewayService);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGatewayService).cancelPayment(eq("PAY-1"), any());
+        inOrder.verify(transactionManager).commit(any());
+        verify(paymentAggregateService).recordCancelled(payment);
+        verify(notificationService).sendPaymentActivityNotification(eq(10L), eq(PHONE), anyString());
+    }
+
+    @Test
+    @DisplayName("PG가 부분 환불을 거절하면 실패로 응답하고 환불 전 상태로 되돌린다")
+    void rejectedPgRefundRevertsPayment() {
+        Payment payment = approvedPayment("PAY-1", PaymentMethod.CARD, "10000");
+        when(paymentRepository.findByPaymentIdAndUserIdForUpdate("PAY-1", 10L)).thenReturn(Optional.of(payment));
+        when(paymentGatewayService.refundPayment(eq("PAY-1"), any(), any()))
+                .thenReturn(PgApiResponse.builder().paymentId("PAY-1").status(PgApiStatus.FAILED)
+                        .errorMessage("환불 불가").build());
+
+        assertThatThrownBy(() -> paymentService.refundPayment(PHONE, "PAY-1", new BigDecimal("3000"), "부분 환불"))
+                .isInstanceOf(PaymentException.class);
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(payment.getRefundedAmount()).isEqualByComparingTo("0");
+        assertThat(payment.getPendingRefundAmount()).isNull();
+        verifyNoInteractions(paymentAggregateService, notificationService);
+    }
+
+    @Test
+    @DisplayName("대량 환불은 잔액 결제를 한 번의 원장 반영으로 모으고 PG 거절 건은 건너뛴다")
+    void bulkRefundBatchesLedgerEntries() {
+        Payment balanceA = approvedPayment("PAY-1", PaymentMethod.BALANCE, "10000");
+        Payment balanceB = approvedPayment("PAY-2", PaymentMethod.BALANCE, "5000");
+        balanceB.markAsRefunded(new BigDecimal("2000"));
+        Payment card = approvedPayment("PAY-3", PaymentMethod.CARD, "8000");
+        Payment rejected = approvedPayment("PAY-4", PaymentMethod.CARD, "9000");
+        List<String> paymentIds = List.of("PAY-1", "PAY-2", "PAY-3", "PAY-4");
+        when(paymentRepository.findByMerchantIdAndPaymentIdInForUpdate("MERCHANT_CAFE", paymentIds))
+                .thenReturn(List.of(balanceA, balanceB, card, rejected));
+        when(paymentGatewayService.refundPayment(eq("PAY-3"), any(), any()))
+                .thenReturn(PgApiResponse.builder().paymentId("PAY-3").status(PgApiStatus.REFUNDED).build());
+        when(paymentGatewayService.refundPayment(eq("PAY-4"), any(), any()))
+                .thenReturn(PgApiResponse.builder().paymentId("PAY-4").status(PgApiStatus.SYSTEM_ERROR).build());
+
+        List<PaymentResponse> refunded = paymentService.refundMerchantPayments("MERCHANT_CAFE", paymentIds, "가맹점 일괄 환불");
+
+        assertThat(refunded).extracting(PaymentResponse::getPaymentId).containsExactly("PAY-1", "PAY-2", "PAY-3");
+        assertThat(rejected.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(card.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceService.Credit>> credits = ArgumentCaptor.forClass(List.class);
+        verify(balanceService, times(1)).increaseAll(credits.capture());
+        verify(balanceService, never()).increase(any(), any(), any(), any(), any(), any());
+        assertThat(credits.getValue()).extracting(BalanceService.Credit::amount)
+                .containsExactly(new BigDecimal("10000"), new BigDecimal("3000"));
+        verify(paymentAggregateService).recordRefunded(balanceB, new BigDecimal("3000"));
+        verify(paymentAggregateService).recordRefunded(card, new BigDecimal("8000"));
+        verify(paymentAggregateService, never()).recordRefunded(eq(rejected), any());
+    }
+
+    @Test
+    @DisplayName("대량 환불의 PG 호출은 잠금 트랜잭션이 커밋된 뒤 트랜잭션 밖에서 하고, 결과는 결제마다 짧은 트랜잭션으로 반영한다")
+    void bulkRefundCallsPgOutsideLockingTransaction() {
+        Payment cardA = approvedPayment("PAY-1", PaymentMethod.CARD, "8000");
+        Payment cardB = approvedPayment("PAY-2", PaymentMethod.CARD, "6000");
+        List<String> paymentIds = List.of("PAY-1", "PAY-2");
+        when(paymentRepository.findByMerchantIdAndPaymentIdInForUpdate("MERCHANT_CAFE", paymentIds))
+                .thenReturn(List.of(cardA, cardB));
+        when(paymentGatewayService.refundPayment(anyString(), any(), any())).thenAnswer(invocation -> {
+            // PG 호출 시점에는 환불 확인 중으로 표시되어 있음
+            assertThat(paymentsById.get(invocation.<String>getArgument(0)).getStatus())
+                    .isEqualTo(PaymentStatus.REFUND_PENDING);
+            return PgApiResponse.builder().paymentId(invocation.getArgument(0)).status(PgApiStatus.REFUNDED).build();
+        });
+
+        paymentService.refundMerchantPayments("MERCHANT_CAFE", paymentIds, "가맹점 일괄 환불");
+
+        InOrder inOrder = inOrder(transactionManager, paymentGatewayService);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGatewayService).refundPayment(eq("PAY-1"), any(), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGatewayService).refundPayment(eq("PAY-2"), any(), any());
+        inOrder.verify(transactionManager).commit(any());
+        assertThat(cardA.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(cardB.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+    }
+
+    @Test
+    @DisplayName("PG 응답을 받지 못한 환불은 확인 중으로 남기고, 재요청해도 PG 환불을 다시 호출하지 않는다")
+    void unansweredBulkRefundStaysPending() {
+        Payment card = approvedPayment("PAY-1", PaymentMethod.CARD, "8000");
+        List<String> paymentIds = List.of("PAY-1");
+        when(paymentRepository.findByMerchantIdAndPaymentIdInForUpdate("MERCHANT_CAFE", paymentIds))
+                .thenReturn(List.of(card));
+        when(paymentGatewayService.refundPayment(eq("PAY-1"), any(), any()))
+                .thenThrow(new RuntimeException("PG 응답 시간 초과"));
+
+        List<PaymentResponse> first = paymentService.refundMerchantPayments("MERCHANT_CAFE", paymentIds, "가맹점 일괄 환불");
+
+        assertThat(first).extracting(PaymentResponse::getStatus).containsExactly(PaymentStatus.REFUND_PENDING);
+        assertThat(card.getRefundedAmount()).isEqualByComparingTo("0");
+        assertThat(card.getPendingRefundAmount()).isEqualByComparingTo("8000");
+        verify(paymentAggregateService, never()).recordRefunded(any(), any());
+
+        List<PaymentResponse> retried = paymentService.refundMerchantPayments("MERCHANT_CAFE", paymentIds, "가맹점 일괄 환불");
+
+        assertThat(retried).isEmpty();
+        verify(paymentGatewayService, times(1)).refundPayment(anyString(), any(), any());
+    }
+
+    private Payment approvedPayment(String paymentId, PaymentMethod method, String amount) {
+        Payment payment = Payment.builder()
+                .paymentId(paymentId)
+                .user(user)
+                .accountNumber(ACCOUNT)
+                .merchantId("MERCHANT_CAFE")
+                .merchantName("스타벅스")
+                .amount(new BigDecimal(amount))
+                .paymentMethod(method)
+                .build();
+        payment.markAsProcessing();
+        payment.markAsApproved("PG-" + paymentId, null);
+        paymentsById.put(paymentId, payment);
+        return payment;
+    }
+}
@@ -0,0 +1,184 @@
+package fintech2.easypay.payment.service;
+
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.payment.dto.PaymentResponse;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.external.PgApiResponse;
+import fintech2.easypay.payment.external.PgApiStatus;
+import fintech2.easypay.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PG 결과 반영 테스트")
+class PaymentSettlementServiceTest {
+
+    private static final String PAYMENT_ID = "PAY-0001";
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PaymentAggregateService paymentAggregateService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private PaymentSettlementService service;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        service = new PaymentSettlementService(paymentRepository, auditLogService, notificationService,
+                paymentAggregateService, new TransactionTemplate(transactionManager));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        payment = Payment.builder()
+                .id(1L)
+                .paymentId(PAYMENT_ID)
+                .user(User.builder().id(10L).phoneNumber("010-1111-1111").name("고객").build())
+                .accountNumber("VA1111111111")
+                .merchantId("MERCHANT_CAFE")
+                .merchantName("스타벅스")
+                .amount(new BigDecimal("4500"))
+                .paymentMethod(PaymentMethod.CARD)
+                .build();
+        payment.markAsProcessing();
+        when(paymentRepository.findByPaymentIdForUpdate(PAYMENT_ID)).thenReturn(Optional.of(payment));
+    }
+
+    @Test
+    @DisplayName("PG 승인 응답이면 승인 처리하고 트랜잭션을 한 번만 연다")
+    void approvesOnSuccess() {
+        PaymentResponse response = service.settle(PAYMENT_ID, pgResponse(PgApiStatus.SUCCESS));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(response.getPgTransactionId()).isEqualTo("PG-TXN-1");
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(notificationService).sendPaymentActivityNotification(eq(10L), eq("010-1111-1111"), anyString());
+        verify(paymentAggregateService).recordApproved(payment);
+    }
+
+    @Test
+    @DisplayName("PG 타임아웃(PENDING)이면 실패로 확정하지 않고 처리 중으로 남긴다")
+    void keepsProcessingWhenPending() {
+        PaymentResponse response = service.settle(PAYMENT_ID, pgResponse(PgApiStatus.PENDING));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(payment.getFailedReason()).isNull();
+        verifyNoInteractions(auditLogService, notificationService, paymentAggregateService);
+    }
+
+    @Test
+    @DisplayName("PG 거절 응답이면 실패 사유와 함께 실패 처리한다")
+    void failsOnRejection() {
+        PaymentResponse response = service.settle(PAYMENT_ID, pgResponse(PgApiStatus.LIMIT_EXCEEDED));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(response.getFailedReason()).contains("한도초과");
+        verify(auditLogService).logFailure(eq(10L), anyString(), any(), anyString(), any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 확정된 결제는 다시 반영하지 않는다")
+    void ignoresSettledPayment() {
+        payment.markAsFailed("이전 실패");
+
+        PaymentResponse response = service.settle(PAYMENT_ID, pgResponse(PgApiStatus.SUCCESS));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(payment.getApprovedAt()).isNull();
+        verifyNoInteractions(auditLogService, notificationService, paymentAggregateService);
+    }
+
+    @Test
+    @DisplayName("환불 확인 중 결제는 PG 환불 응답이면 환불을 확정하고, 거절이면 환불 전 상태로 되돌린다")
+    void settlesPendingRefund() {
+        payment.markAsApproved("PG-TXN-1", null);
+        payment.markAsRefundPending(new BigDecimal("4500"));
+
+        PaymentResponse pending = service.settleRefund(PAYMENT_ID, pgResponse(PgApiStatus.PENDING), "주문 취소");
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.REFUND_PENDING);
+        verifyNoInteractions(paymentAggregateService);
+
+        PaymentResponse refunded = service.settleRefund(PAYMENT_ID, pgResponse(PgApiStatus.REFUNDED), "주문 취소");
+        assertThat(refunded.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(refunded.getRefundedAmount()).isEqualByComparingTo("4500");
+        assertThat(payment.getPendingRefundAmount()).isNull();
+        verify(paymentAggregateService).recordRefunded(payment, new BigDecimal("4500"));
+
+        // 이미 확정된 환불은 다시 반영하지 않음
+        service.settleRefund(PAYMENT_ID, pgResponse(PgApiStatus.REFUNDED), "주문 취소");
+        verify(paymentAggregateService, times(1)).recordRefunded(any(), any());
+    }
+
+    @Test
+    @DisplayName("PG가 환불을 거절하면 환불액을 늘리지 않고 승인 상태로 되돌린다")
+    void revertsRejectedRefund() {
+        payment.markAsApproved("PG-TXN-1", null);
+        payment.markAsRefundPending(new BigDecimal("4500"));
+
+        PaymentResponse response = service.settleRefund(PAYMENT_ID, pgResponse(PgApiStatus.SYSTEM_ERROR), "주문 취소");
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(response.getRefundedAmount()).isEqualByComparingTo("0");
+        assertThat(payment.canBeRefunded()).isTrue();
+        verifyNoInteractions(paymentAggregateService, auditLogService);
+    }
+
+    @Test
+    @DisplayName("복구 재확인은 확정되지 않은 결제에만 예약하고, 포기하면 확인 불가로 바꿔 운영팀에 알린다")
+    void schedulesAndGivesUpRecovery() {
+        LocalDateTime next = LocalDateTime.now().plusMinutes(2);
+
+        service.scheduleRecovery(PAYMENT_ID, next);
+
+        assertThat(payment.getRecoveryAttempts()).isEqualTo(1);
+        assertThat(payment.getNextRecoveryAt()).isEqualTo(next);
+
+        PaymentResponse response = service.giveUpRecovery(PAYMENT_ID, "24시간 이상 PG 결과 확인 불가");
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.UNRESOLVED);
+        assertThat(payment.getNextRecoveryAt()).isNull();
+        assertThat(payment.canBeCancelled()).isFalse();
+        verify(auditLogService).logError(eq(10L), eq("010-1111-1111"), eq(AuditEventType.PAYMENT_FAILED),
+                anyString(), any(), any(), anyString(), eq("24시간 이상 PG 결과 확인 불가"));
+        verify(notificationService).sendSecurityAlert(eq(10L), eq("010-1111-1111"), contains(PAYMENT_ID));
+
+        service.scheduleRecovery(PAYMENT_ID, next);
+        service.giveUpRecovery(PAYMENT_ID, "24시간 이상 PG 결과 확인 불가");
+
+        assertThat(payment.getRecoveryAttempts()).isEqualTo(1);
+        verify(notificationService, times(1)).sendSecurityAlert(any(), any(), anyString());
+    }
+
+    private static PgApiResponse pgResponse(PgApiStatus status) {
+        return PgApiResponse.builder()
+                .paymentId(PAYMENT_ID)
+                .pgTransactionId(status == PgApiStatus.SUCCESS ? "PG-TXN-1" : null)
+                .status(status)
+                .errorMessage(status == PgApiStatus.SUCCESS ? null : "PG 응답")
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package fintech2.easypay.transfer.action;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.transfer.action.command.InternalTransferCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("송금 액션 프로세서 트랜잭션 전략/비동기 접수 테스트")
+class TransferActionProcessorTest {
+
+    @Mock private TransferActionResolver resolver;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private TransferAction<InternalTransferCommand> action;
+    @Mock private TransferWorkQueue workQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferActionProcessor processor;
+    private InternalTransferCommand command;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new TransferActionProcessor(resolver, workQueue, transactionManager, meterRegistry);
+        command = InternalTransferCommand.builder()
+                .senderPhoneNumber("01012345678")
+                .receiverAccountNumber("EP0000000002")
+                .amount(new BigDecimal("10000"))
+                .transactionId("TXN000000000001")
+                .build();
+
+        when(resolver.resolve(command)).thenReturn(action);
+        when(action.validate(command)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("단일 커밋 전략은 저장/실행/반영을 한 트랜잭션에서 커밋한다")
+    void singleCommitRunsAllStagesInOneTransaction() {
+        when(action.transactionStrategy(command)).thenReturn(TransactionStrategy.SINGLE_COMMIT);
+        when(action.execute(command)).thenReturn(ActionResult.success("ok"));
+
+        ActionResult result = processor.process(command);
+
+        assertThat(result.isSuccess()).isTrue();
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+
+        InOrder inOrder = inOrder(action);
+        inOrder.verify(action).savePending(command);
+        inOrder.verify(action).execute(command);
+        inOrder.verify(action).updateFromResult(eq(command), same(result));
+
+        assertThat(meterRegistry.get("easypay.transfer.action.commits")
+                .tag("strategy", "SINGLE_COMMIT").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("단일 커밋 전략에서 실행이 실패하면 롤백 후 실패만 별도 트랜잭션으로 기록한다")
+    void singleCommitFailureRollsBackAndRecordsFailureSeparately() {
+        when(action.transactionStrategy(command)).thenReturn(TransactionStrategy.SINGLE_COMMIT);
+        ActionResult failure = ActionResult.failure("INSUFFICIENT_BALANCE", "잔액이 부족합니다");
+        when(action.execute(command)).thenReturn(failure);
+
+        ActionResult result = processor.process(command);
+
+        assertThat(result).isSameAs(failure);
+
+        ArgumentCaptor<TransactionStatus> statusCaptor = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager, times(2)).commit(statusCaptor.capture());
+        List<TransactionStatus> statuses = statusCaptor.getAllValues();
+        assertThat(statuses.get(0).isRollbackOnly()).isTrue();
+        assertThat(statuses.get(1).isRollbackOnly()).isFalse();
+
+        ArgumentCaptor<TransactionDefinition> definitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitionCaptor.capture());
+        assertThat(definitionCaptor.getAllValues().get(1).getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        verify(action, times(2)).savePending(command);
+        verify(action, times(1)).updateFromResult(command, failure);
+    }
+
+    @Test
+    @DisplayName("단계별 커밋 전략은 저장과 반영을 새 트랜잭션으로, 실행은 트랜잭션 없이 수행한다")
+    void separateCommitsUseIndependentBoundaries() {
+        when(action.transactionStrategy(command)).thenReturn(TransactionStrategy.SEPARATE_COMMITS);
+        when(action.execute(command)).thenReturn(ActionResult.pending("처리 중"));
+
+        ActionResult result = processor.process(command);
+
+        assertThat(result.isPending()).isTrue();
+
+        ArgumentCaptor<TransactionDefinition> definitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(definitionCaptor.capture());
+        assertThat(definitionCaptor.getAllValues())
+                .extracting(TransactionDefinition::getPropagationBehavior)
+                .containsExactly(
+                        TransactionDefinition.PROPAGATION_REQUIRES_NEW,
+                        TransactionDefinition.PROPAGATION_NOT_SUPPORTED,
+                        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(action).updateFromResult(command, result);
+
+        assertThat(meterRegistry.get("easypay.transfer.action")
+                .tag("strategy", "SEPARATE_COMMITS").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("비동기 접수는 대기 저장만 커밋하고 실행은 송금 계좌 파티션 큐에 맡긴다")
+    void asyncCommitsPendingAndEnqueuesBySenderAccount() {
+        when(action.transactionStrategy(command)).thenReturn(TransactionStrategy.SINGLE_COMMIT);
+        command.setContext(TransferContext.builder()
+                .senderAccount(Account.builder()
+                        .accountNumber("EP0000000001").build())
+                .build());
+        when(workQueue.submit(eq("EP0000000001"), any())).thenReturn(true);
+
+        ActionResult accepted = processor.processAsync(command);
+
+        assertThat(accepted.isPending()).isTrue();
+        verify(action).savePending(command);
+        verify(action, never()).execute(any());
+        verify(transactionManager, times(1)).commit(any());
+
+        // 워커가 큐에서 꺼내 실행 - 대기 저장은 다시 하지 않음
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(workQueue).submit(eq("EP0000000001"), taskCaptor.capture());
+        ActionResult executed = ActionResult.success("ok");
+        when(action.claimPending(command)).thenReturn(true);
+        when(action.execute(command)).thenReturn(executed);
+
+        taskCaptor.getValue().run();
+
+        verify(action, times(1)).savePending(command);
+        verify(action).updateFromResult(command, executed);
+        assertThat(meterRegistry.get("easypay.transfer.action")
+                .tag("status", "SUCCESS").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 접수를 거절하고 대기 건을 실패로 기록한다")
+    void asyncRejectsWhenQueueIsFull() {
+        when(action.transactionStrategy(command)).thenReturn(TransactionStrategy.SINGLE_COMMIT);
+        when(workQueue.submit(any(), any())).thenReturn(false);
+
+        ActionResult result = processor.processAsync(command);
+
+        assertThat(result.getCode()).isEqualTo("QUEUE_FULL");
+        verify(action).savePending(command);
+        verify(action, never()).execute(any());
+        verify(action).updateFromResult(command, result);
+    }
+}
@@ -0,0 +1,94 @@
+package fintech2.easypay.transfer.action;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비동기 송금 작업 큐 테스트")
+class TransferWorkQueueTest {
+
+    private TransferWorkQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 송금 계좌의 작업은 접수 순서대로 실행된다")
+    void preservesOrderPerPartitionKey() throws InterruptedException {
+        queue = new TransferWorkQueue(4, 1000, 5000, false, new SimpleMeterRegistry());
+        queue.start();
+
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            assertThat(queue.submit("EP0000000001", () -> {
+                executed.add(sequence);
+                done.countDown();
+            })).isTrue();
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("파티션 큐가 가득 차면 대기하지 않고 거절한다")
+    void rejectsWhenPartitionIsFull() throws InterruptedException {
+        queue = new TransferWorkQueue(1, 1, 5000, false, new SimpleMeterRegistry());
+        queue.start();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit("EP0000000001", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 워커가 첫 작업을 잡고 있는 동안 큐 용량(1)만큼만 접수됨
+        assertThat(queue.submit("EP0000000001", () -> { })).isTrue();
+        assertThat(queue.submit("EP0000000001", () -> { })).isFalse();
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 후에는 새 작업을 거절하고 접수된 작업은 모두 처리한다 (가상 스레드 워커)")
+    void drainsAcceptedTasksOnShutdown() {
+        queue = new TransferWorkQueue(2, 100, 5000, true, new SimpleMeterRegistry());
+        queue.start();
+
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int sequence = i;
+            queue.submit("EP" + (i % 5), () -> executed.add(sequence));
+        }
+
+        queue.shutdown();
+
+        assertThat(executed).hasSize(50);
+        assertThat(queue.submit("EP0", () -> { })).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package fintech2.easypay.transfer.action.impl;
+
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.account.service.BalanceShardService;
+import fintech2.easypay.account.service.HotAccountBalanceEngine;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.command.BatchTransferCommand;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.repository.TransferBatchJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일괄 송금 액션 테스트")
+class BatchTransferActionTest {
+
+    private static final String SENDER_ACCOUNT = "EP0000000001";
+    private static final String RECEIVER_A = "EP0000000002";
+    private static final String RECEIVER_B = "EP0000000003";
+
+    @Mock private TransferBatchJdbcRepository transferBatchJdbcRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private BalanceShardService balanceShardService;
+    @Mock private HotAccountBalanceEngine hotAccountBalanceEngine;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private CacheManager cacheManager;
+
+    @InjectMocks
+    private BatchTransferAction action;
+
+    private BatchTransferCommand command;
+
+    @BeforeEach
+    void setUp() {
+        User sender = User.builder().id(1L).phoneNumber("01012345678").build();
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.of(sender));
+
+        command = BatchTransferCommand.builder()
+                .senderPhoneNumber("01012345678")
+                .senderAccountNumber(SENDER_ACCOUNT)
+                .batchId("BAT000000000001")
+                .legs(List.of(
+                        leg(RECEIVER_B, "30000", "TXN000000000001"),
+                        leg(RECEIVER_A, "20000", "TXN000000000002"),
+                        leg(RECEIVER_B, "10000", "TXN000000000003")))
+                .build();
+    }
+
+    @Test
+    @DisplayName("총액 기준 잔액이 부족하면 쓰기 없이 실패한다")
+    void insufficientTotalBalanceFailsBeforeAnyWrite() {
+        when(transferBatchJdbcRepository.lockBalances(any())).thenReturn(new HashMap<>(Map.of(
+                SENDER_ACCOUNT, new BigDecimal("50000"),
+                RECEIVER_A, BigDecimal.ZERO,
+                RECEIVER_B, BigDecimal.ZERO)));
+
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCode()).isEqualTo("INSUFFICIENT_BALANCE");
+        verify(transferBatchJdbcRepository, never()).updateBalances(any());
+        verify(transferBatchJdbcRepository, never()).insertHistories(any());
+    }
+
+    @Test
+    @DisplayName("잔액은 계좌별로 한 번씩 갱신되고 거래 내역은 건별 누적 잔액으로 기록된다")
+    @SuppressWarnings("unchecked")
+    void appliesNettedBalancesWithRunningHistory() {
+        when(transferBatchJdbcRepository.lockBalances(any())).thenReturn(new HashMap<>(Map.of(
+                SENDER_ACCOUNT, new BigDecimal("100000"),
+                RECEIVER_A, new BigDecimal("5000"),
+                RECEIVER_B, BigDecimal.ZERO)));
+
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ArgumentCaptor<SortedMap<String, BigDecimal>> balanceCaptor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(transferBatchJdbcRepository).updateBalances(balanceCaptor.capture());
+        SortedMap<String, BigDecimal> balances = balanceCaptor.getValue();
+        assertThat(balances.firstKey()).isEqualTo(SENDER_ACCOUNT);
+        assertThat(balances.get(SENDER_ACCOUNT)).isEqualByComparingTo("40000");
+        assertThat(balances.get(RECEIVER_A)).isEqualByComparingTo("25000");
+        assertThat(balances.get(RECEIVER_B)).isEqualByComparingTo("40000");
+
+        ArgumentCaptor<List<TransactionHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transferBatchJdbcRepository).insertHistories(historyCaptor.capture());
+        List<TransactionHistory> histories = historyCaptor.getValue();
+        assertThat(histories).hasSize(6);
+        assertThat(histories.get(4).getBalanceBefore()).isEqualByComparingTo("50000");
+        assertThat(histories.get(4).getBalanceAfter()).isEqualByComparingTo("40000");
+        assertThat(histories.get(5).getBalanceAfter()).isEqualByComparingTo("40000");
+
+        verify(transferBatchJdbcRepository).updateTransferStatus(
+                eq(List.of("TXN000000000001", "TXN000000000002", "TXN000000000003")),
+                eq(TransferStatus.COMPLETED), isNull());
+    }
+
+    @Test
+    @DisplayName("샤딩된 송금자 계좌는 본 행을 계좌번호 순으로 잠근 뒤 샤드 잔액을 모아 검증한다")
+    void borrowsShardsOnlyAfterSortedLockPass() {
+        // 수신 계좌도 샤딩 여부를 확인하므로 다른 계좌 조회는 기본값(false)
+        lenient().when(balanceShardService.isSharded(SENDER_ACCOUNT)).thenReturn(true);
+        when(transferBatchJdbcRepository.lockBalances(any())).thenReturn(new HashMap<>(Map.of(
+                SENDER_ACCOUNT, new BigDecimal("40000"),
+                RECEIVER_A, BigDecimal.ZERO,
+                RECEIVER_B, BigDecimal.ZERO)));
+        when(balanceShardService.borrowFromShards(SENDER_ACCOUNT)).thenReturn(new BigDecimal("30000"));
+
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isSuccess()).isTrue();
+        InOrder inOrder = inOrder(transferBatchJdbcRepository, balanceShardService);
+        inOrder.verify(transferBatchJdbcRepository).lockBalances(any());
+        inOrder.verify(balanceShardService).borrowFromShards(SENDER_ACCOUNT);
+        inOrder.verify(transferBatchJdbcRepository).updateBalances(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<SortedMap<String, BigDecimal>> balanceCaptor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(transferBatchJdbcRepository).updateBalances(balanceCaptor.capture());
+        assertThat(balanceCaptor.getValue().get(SENDER_ACCOUNT)).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("샤딩/핫 수신 계좌는 본 행을 잠그지 않고 BalanceService로 입금하며, 메모가 없으면 설명에 null을 남기지 않는다")
+    @SuppressWarnings("unchecked")
+    void routesShardedAndHotReceiversThroughBalanceService() {
+        when(balanceShardService.isSharded(anyString()))
+                .thenAnswer(invocation -> RECEIVER_B.equals(invocation.getArgument(0)));
+        when(hotAccountBalanceEngine.isHotAccount(anyString()))
+                .thenAnswer(invocation -> RECEIVER_A.equals(invocation.getArgument(0)));
+        when(transferBatchJdbcRepository.lockBalances(any())).thenReturn(new HashMap<>(Map.of(
+                SENDER_ACCOUNT, new BigDecimal("100000"))));
+        command.getLegs().get(1).setMemo(null);
+
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isSuccess()).isTrue();
+        ArgumentCaptor<SortedMap<String, BigDecimal>> balanceCaptor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(transferBatchJdbcRepository).updateBalances(balanceCaptor.capture());
+        assertThat(balanceCaptor.getValue()).containsOnlyKeys(SENDER_ACCOUNT);
+        assertThat(balanceCaptor.getValue().get(SENDER_ACCOUNT)).isEqualByComparingTo("40000");
+
+        ArgumentCaptor<List<TransactionHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transferBatchJdbcRepository).insertHistories(historyCaptor.capture());
+        assertThat(historyCaptor.getValue())
+                .extracting(TransactionHistory::getAccountNumber, TransactionHistory::getDescription)
+                .containsExactly(
+                        tuple(SENDER_ACCOUNT, "일괄 송금 출금: 급여"),
+                        tuple(SENDER_ACCOUNT, "일괄 송금 출금"),
+                        tuple(SENDER_ACCOUNT, "일괄 송금 출금: 급여"));
+
+        InOrder inOrder = inOrder(balanceService);
+        inOrder.verify(balanceService).increase(RECEIVER_A, new BigDecimal("20000"), TransactionType.TRANSFER_IN,
+                "일괄 송금 입금", "TXN000000000002", "1");
+        inOrder.verify(balanceService).increase(RECEIVER_B, new BigDecimal("30000"), TransactionType.TRANSFER_IN,
+                "일괄 송금 입금: 급여", "TXN000000000001", "1");
+        inOrder.verify(balanceService).increase(RECEIVER_B, new BigDecimal("10000"), TransactionType.TRANSFER_IN,
+                "일괄 송금 입금: 급여", "TXN000000000003", "1");
+    }
+
+    private BatchTransferCommand.Leg leg(String receiver, String amount, String transactionId) {
+        return BatchTransferCommand.Leg.builder()
+                .receiverAccountNumber(receiver)
+                .amount(new BigDecimal(amount))
+                .memo("급여")
+                .transactionId(transactionId)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package fintech2.easypay.transfer.action.impl;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.command.InternalTransferCommand;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("내부 송금 액션 테스트")
+class InternalTransferActionTest {
+
+    private static final String SENDER_ACCOUNT = "EP0000000002";
+    private static final String RECEIVER_ACCOUNT = "EP0000000001";
+
+    @Mock private TransferRepository transferRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private ApplicationContext applicationContext;
+
+    @InjectMocks
+    private InternalTransferAction action;
+
+    private InternalTransferCommand command;
+
+    @BeforeEach
+    void setUp() {
+        User sender = User.builder().id(1L).phoneNumber("01012345678").build();
+        User receiver = User.builder().id(2L).phoneNumber("01087654321").build();
+        Account senderAccount = Account.builder().accountNumber(SENDER_ACCOUNT).userId(1L).build();
+        Account receiverAccount = Account.builder().accountNumber(RECEIVER_ACCOUNT).userId(2L).build();
+
+        lenient().when(userRepository.findByPhoneNumber("01087654321")).thenReturn(Optional.of(receiver));
+        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.of(sender));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
+        when(accountRepository.findByAccountNumber(SENDER_ACCOUNT)).thenReturn(Optional.of(senderAccount));
+        when(accountRepository.findByAccountNumber(RECEIVER_ACCOUNT)).thenReturn(Optional.of(receiverAccount));
+
+        command = InternalTransferCommand.builder()
+                .senderPhoneNumber("01012345678")
+                .senderAccountNumber(SENDER_ACCOUNT)
+                .receiverAccountNumber(RECEIVER_ACCOUNT)
+                .amount(new BigDecimal("10000"))
+                .memo("점심값")
+                .transactionId("TXN000000000001")
+                .build();
+    }
+
+    @Test
+    @DisplayName("검증 단계에서 조회한 컨텍스트를 모든 단계가 재사용한다")
+    void lifecycleReusesContextResolvedDuringValidation() {
+        when(balanceService.hasSufficientBalance(SENDER_ACCOUNT, new BigDecimal("10000"))).thenReturn(true);
+        when(transferRepository.findByTransactionId("TXN000000000001"))
+                .thenReturn(Optional.of(Transfer.builder().transactionId("TXN000000000001").build()));
+
+        assertThat(action.validate(command)).isTrue();
+        assertThat(command.getContext()).isNotNull();
+
+        action.savePending(command);
+        ActionResult result = action.execute(command);
+        action.updateFromResult(command, result);
+
+        assertThat(result.isSuccess()).isTrue();
+        verify(userRepository, times(1)).findByPhoneNumber(anyString());
+        verify(userRepository, times(1)).findById(anyLong());
+        verify(accountRepository, times(1)).findByAccountNumber(SENDER_ACCOUNT);
+        verify(accountRepository, times(1)).findByAccountNumber(RECEIVER_ACCOUNT);
+    }
+
+    @Test
+    @DisplayName("원장 행은 계좌번호 순으로 갱신된다")
+    void ledgerRowsAreUpdatedInAccountNumberOrder() {
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isSuccess()).isTrue();
+        InOrder inOrder = inOrder(balanceService);
+        inOrder.verify(balanceService).increase(eq(RECEIVER_ACCOUNT), any(), eq(TransactionType.TRANSFER_IN),
+                anyString(), anyString(), anyString());
+        inOrder.verify(balanceService).decrease(eq(SENDER_ACCOUNT), any(), eq(TransactionType.TRANSFER_OUT),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 실패 결과를 반환하고, 출금은 호출자 트랜잭션을 rollback-only로 만들지 않는다")
+    void insufficientBalanceReturnsFailure() throws NoSuchMethodException {
+        when(balanceService.decrease(eq(SENDER_ACCOUNT), any(), any(), anyString(), anyString(), anyString()))
+                .thenThrow(new InsufficientBalanceException("잔액이 부족합니다. 현재 잔액: 0"));
+
+        ActionResult result = action.execute(command);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getCode()).isEqualTo("INSUFFICIENT_BALANCE");
+        Transactional transactional = BalanceService.class.getMethod("decrease", String.class, BigDecimal.class,
+                TransactionType.class, String.class, String.class, String.class).getAnnotation(Transactional.class);
+        assertThat(transactional.noRollbackFor()).contains(InsufficientBalanceException.class);
+    }
+
+    @Test
+    @DisplayName("역방향 동시 송금도 같은 계좌번호 순으로 원장 행을 잠가 교착되지 않는다")
+    void oppositeTransfersDoNotDeadlock() throws Exception {
+        // 원장 행 락 모사: 트랜잭션(실행) 동안 보유, 2초 안에 못 얻으면 교착으로 간주
+        Map<String, ReentrantLock> rowLocks = Map.of(
+                SENDER_ACCOUNT, new ReentrantLock(), RECEIVER_ACCOUNT, new ReentrantLock());
+        ThreadLocal<List<ReentrantLock>> held = ThreadLocal.withInitial(ArrayList::new);
+        CountDownLatch bothLockedFirstRow = new CountDownLatch(2);
+        Answer<Object> lockRow = invocation -> {
+            ReentrantLock lock = rowLocks.get(invocation.<String>getArgument(0));
+            if (!lock.tryLock(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("deadlock on " + invocation.getArgument(0));
+            }
+            held.get().add(lock);
+            if (held.get().size() == 1) {
+                // 상대 송금이 첫 행을 잡을 시간을 줌 (순서가 어긋나 있으면 여기서 교착 상태가 만들어짐)
+                bothLockedFirstRow.countDown();
+                bothLockedFirstRow.await(200, TimeUnit.MILLISECONDS);
+            }
+            return null;
+        };
+        when(balanceService.increase(anyString(), any(), any(), anyString(), anyString(), anyString())).thenAnswer(lockRow);
+        when(balanceService.decrease(anyString(), any(), any(), anyString(), anyString(), anyString())).thenAnswer(lockRow);
+
+        InternalTransferCommand reverse = InternalTransferCommand.builder()
+                .senderPhoneNumber("01087654321")
+                .senderAccountNumber(RECEIVER_ACCOUNT)
+                .receiverAccountNumber(SENDER_ACCOUNT)
+                .amount(new BigDecimal("5000"))
+                .memo("저녁값")
+                .transactionId("TXN000000000002")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<ActionResult>> results = List.of(command, reverse).stream()
+                    .map(transfer -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return action.execute(transfer);
+                        } finally {
+                            held.get().forEach(ReentrantLock::unlock);
+                            held.get().clear();
+                        }
+                    }, executor))
+                    .toList();
+
+            for (CompletableFuture<ActionResult> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package fintech2.easypay.transfer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.auth.service.PinService;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.idempotency.IdempotencyRecord;
+import fintech2.easypay.common.idempotency.IdempotencyRecordRepository;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.dto.BatchTransferResponse;
+import fintech2.easypay.transfer.dto.SecureTransferRequest;
+import fintech2.easypay.transfer.dto.TransferRequest;
+import fintech2.easypay.transfer.dto.TransferResponse;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.service.TransferService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("송금 API 멱등 키 범위 테스트")
+class TransferControllerIdempotencyTest {
+
+    private static final String PHONE = "01012345678";
+
+    @Mock private TransferService transferService;
+    @Mock private PinService pinService;
+    @Mock private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private TransferController controller;
+    private final UserPrincipal user = UserPrincipal.builder().id(1L).phoneNumber(PHONE).build();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            record.setId(ids.incrementAndGet());
+            return record;
+        });
+        IdempotencyService idempotencyService = new IdempotencyService(idempotencyRecordRepository,
+                new ObjectMapper().findAndRegisterModules(), transactionManager, new SimpleMeterRegistry(),
+                24, 2000, 1000, 100, 120);
+        controller = new TransferController(transferService, pinService, idempotencyService);
+
+        when(transferService.transfer(eq(PHONE), any())).thenReturn(transferResponse(TransferStatus.COMPLETED));
+        when(transferService.submitTransfer(eq(PHONE), any())).thenReturn(transferResponse(TransferStatus.PENDING));
+        when(transferService.secureTransfer(eq(PHONE), any())).thenReturn(transferResponse(TransferStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("동기/비동기/보안 송금에 같은 키를 다시 쓰면 거절하고 송금은 한 번만 실행된다")
+    void rejectsKeyReuseAcrossTransferModes() {
+        TransferRequest request = transferRequest();
+
+        controller.transfer(user, request, "sync", "key-1");
+        controller.transfer(user, request, "SYNC", "key-1");
+
+        assertKeyReused(() -> controller.transfer(user, request, "async", "key-1"));
+        assertKeyReused(() -> controller.secureTransfer(user, secureRequest("pin-session-2"), "key-1"));
+        verify(transferService, times(1)).transfer(eq(PHONE), any());
+        verify(transferService, never()).submitTransfer(any(), any());
+        verify(transferService, never()).secureTransfer(any(), any());
+
+        controller.transfer(user, request, "async", "key-2");
+        assertKeyReused(() -> controller.transfer(user, request, "sync", "key-2"));
+        verify(transferService, times(1)).submitTransfer(eq(PHONE), any());
+    }
+
+    @Test
+    @DisplayName("보안 송금은 PIN 세션 토큰이 바뀐 재시도도 같은 요청으로 보고, 일괄 송금도 키로 중복 실행을 막는다")
+    void secureAndBatchTransfersAreIdempotent() {
+        controller.secureTransfer(user, secureRequest("pin-session-1"), "key-1");
+        controller.secureTransfer(user, secureRequest("pin-session-2"), "key-1");
+        verify(transferService, times(1)).secureTransfer(eq(PHONE), any());
+
+        BatchTransferRequest batch = new BatchTransferRequest("EP0000000001",
+                List.of(new BatchTransferRequest.Item("EP0000000002", new BigDecimal("10000"), "급여")));
+        when(transferService.batchTransfer(PHONE, batch)).thenReturn(BatchTransferResponse.builder()
+                .batchId("BAT-1").totalCount(1).totalAmount(new BigDecimal("10000"))
+                .status(TransferStatus.COMPLETED).build());
+
+        controller.batchTransfer(user, batch, "batch-key");
+        BatchTransferResponse replayed = controller.batchTransfer(user, batch, "batch-key").getData();
+
+        verify(transferService, times(1)).batchTransfer(PHONE, batch);
+        assertThat(replayed.getBatchId()).isEqualTo("BAT-1");
+    }
+
+    private static void assertKeyReused(ThrowableAssert.ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    private static TransferRequest transferRequest() {
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("EP0000000002");
+        request.setSenderAccountNumber("EP0000000001");
+        request.setAmount(new BigDecimal("10000"));
+        request.setMemo("점심");
+        return request;
+    }
+
+    private static SecureTransferRequest secureRequest(String pinSessionToken) {
+        return new SecureTransferRequest("EP0000000002", "EP0000000001", new BigDecimal("10000"), "점심",
+                pinSessionToken);
+    }
+
+    private static TransferResponse transferResponse(TransferStatus status) {
+        return TransferResponse.builder()
+                .transactionId("TXN-1")
+                .amount(new BigDecimal("10000"))
+                .status(status)
+                .build();
+    }
+}
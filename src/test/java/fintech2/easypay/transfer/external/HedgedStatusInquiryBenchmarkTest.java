@@ -0,0 +1,93 @@
+package fintech2.easypay.transfer.external;
+
+import fintech2.easypay.common.resilience.AdaptiveTimeout;
+import fintech2.easypay.common.resilience.RequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 조회 헤지 벤치마크 (./gradlew benchmark)
+ * MockBankingApiService의 상태 조회는 5% 확률로 500-1500ms가 걸리는 긴 꼬리 지연을 가짐
+ * 같은 부하에서 헤지 없이/헤지 적용 시의 응답 시간 분위수를 비교
+ */
+@Tag("benchmark")
+@DisplayName("상태 조회 헤지 벤치마크")
+class HedgedStatusInquiryBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int REQUESTS = 1000;
+    private static final int CONCURRENCY = 32;
+
+    private final MockBankingApiService bankingApiService = new MockBankingApiService();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+    private final ExecutorService attempts = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        attempts.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("헤지 적용 시 p99 응답 시간이 줄고 추가 요청은 한도 안에 머문다")
+    void hedgingCutsTailLatency() throws Exception {
+        long[] plain = measure(() -> bankingApiService.getTransferStatus("TXN-BENCH"));
+
+        RequestHedger hedger = new RequestHedger("bank:status",
+                new AdaptiveTimeout(200, 20, 0.95, 1.0, Duration.ofMillis(10), Duration.ofMillis(2000)),
+                0.10, 10, attempts, meterRegistry);
+        measure(() -> hedger.call(() -> bankingApiService.getTransferStatus("TXN-BENCH")), WARMUP);
+        long[] hedged = measure(() -> hedger.call(() -> bankingApiService.getTransferStatus("TXN-BENCH")));
+
+        double hedges = meterRegistry.get("easypay.resilience.hedge").tag("outcome", "hedge").counter().count();
+        double primaries = meterRegistry.get("easypay.resilience.hedge").tag("outcome", "primary").counter().count();
+        System.out.printf("[hedge benchmark] %-8s p50=%4dms p95=%4dms p99=%4dms max=%4dms%n",
+                "plain", percentile(plain, 0.50), percentile(plain, 0.95), percentile(plain, 0.99), plain[plain.length - 1]);
+        System.out.printf("[hedge benchmark] %-8s p50=%4dms p95=%4dms p99=%4dms max=%4dms (hedge wins=%.0f / %.0f)%n",
+                "hedged", percentile(hedged, 0.50), percentile(hedged, 0.95), percentile(hedged, 0.99),
+                hedged[hedged.length - 1], hedges, hedges + primaries);
+
+        assertThat(percentile(hedged, 0.99)).isLessThan(percentile(plain, 0.99));
+    }
+
+    private long[] measure(Callable<?> inquiry) throws Exception {
+        return measure(inquiry, REQUESTS);
+    }
+
+    private long[] measure(Callable<?> inquiry, int requests) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(callers.submit(() -> {
+                long startedAt = System.nanoTime();
+                inquiry.call();
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            }));
+        }
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            latencies[i] = futures.get(i).get(60, TimeUnit.SECONDS);
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,47 @@
+package fintech2.easypay.transfer.external;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Mock 뱅킹 API 일괄 상태 조회 테스트")
+class MockBankingApiServiceTest {
+
+    private final MockBankingApiService bankingApiService = new MockBankingApiService();
+
+    @Test
+    @DisplayName("여러 거래를 한 번의 호출 지연으로 조회하고 요청 순서대로 결과를 돌려준다")
+    void batchInquiryPaysOneRoundTrip() {
+        List<String> transactionIds = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> "TXN" + i)
+                .toList();
+
+        long startedAt = System.nanoTime();
+        Map<String, BankingApiResponse> responses = bankingApiService.getTransferStatuses(transactionIds);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(responses.keySet()).containsExactlyElementsOf(transactionIds);
+        assertThat(responses.values())
+                .allMatch(response -> response.getStatus() == BankingApiStatus.FAILED)
+                .allMatch(response -> "E404".equals(response.getErrorCode()));
+        // 건별 조회라면 최소 200 × 50ms = 10초가 걸림
+        assertThat(elapsedMillis).isLessThan(2000);
+    }
+
+    @Test
+    @DisplayName("최대 일괄 조회 건수를 넘으면 거부한다")
+    void rejectsOversizedBatch() {
+        List<String> transactionIds = IntStream.rangeClosed(1, MockBankingApiService.MAX_STATUS_BATCH_SIZE + 1)
+                .mapToObj(i -> "TXN" + i)
+                .toList();
+
+        assertThatThrownBy(() -> bankingApiService.getTransferStatuses(transactionIds))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
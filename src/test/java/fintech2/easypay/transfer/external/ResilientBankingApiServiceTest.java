@@ -0,0 +1,61 @@
+package fintech2.easypay.transfer.external;
+
+import fintech2.easypay.common.resilience.ResilienceRegistry;
+import fintech2.easypay.external.service.BankAccountDirectory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("외부 뱅킹 API 보호 장치 적용 테스트")
+class ResilientBankingApiServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceRegistry registry = new ResilienceRegistry(meterRegistry,
+            4, 2, 50, 60000, 1, 5, 100, 20, 0.99, 2.0, 100, 5000, 0.95, 0.05, 10, 2000);
+    private final BankingApiService delegate = mock(BankingApiService.class);
+    private final ResilientBankingApiService service = new ResilientBankingApiService(
+            delegate, registry, new BankAccountDirectory(), false);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("취급 은행은 은행 코드별 보호 장치를 쓰고, 알 수 없는 은행 코드는 공용 보호 장치 하나로 모은다")
+    void unknownBankCodesShareOneGuard() {
+        assertThat(service.transferGuardName("088")).isEqualTo("bank:088");
+        assertThat(service.transferGuardName("999")).isEqualTo(ResilientBankingApiService.UNKNOWN_BANK_GUARD);
+        assertThat(service.transferGuardName(null)).isEqualTo(ResilientBankingApiService.UNKNOWN_BANK_GUARD);
+
+        when(delegate.processTransfer(any())).thenReturn(BankingApiResponse.builder()
+                .status(BankingApiStatus.SUCCESS)
+                .build());
+
+        for (int i = 0; i < 20; i++) {
+            service.processTransfer(request("X" + i));
+        }
+
+        assertThat(meterRegistry.find("easypay.resilience.circuit.state").gauges())
+                .extracting(gauge -> gauge.getId().getTag("name"))
+                .containsExactly(ResilientBankingApiService.UNKNOWN_BANK_GUARD);
+    }
+
+    private static BankingApiRequest request(String bankCode) {
+        return BankingApiRequest.builder()
+                .transactionId("TXN-" + bankCode)
+                .senderAccountNumber("EP0000000001")
+                .receiverAccountNumber("110-123-456789")
+                .receiverBankCode(bankCode)
+                .amount(new BigDecimal("1000"))
+                .build();
+    }
+}
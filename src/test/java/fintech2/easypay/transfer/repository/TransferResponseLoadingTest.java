@@ -0,0 +1,89 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.transfer.dto.TransferResponse;
+import fintech2.easypay.transfer.entity.Transfer;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 송금 처리(NOT_SUPPORTED)와 같이 트랜잭션/OSIV 없이 응답을 만드는 경로 검증
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.open-in-view=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("트랜잭션 밖 송금 응답 조회 테스트")
+class TransferResponseLoadingTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    @Test
+    @DisplayName("응답용 조회는 송/수신 사용자를 함께 읽어 트랜잭션 밖에서도 응답을 만든다")
+    void buildsResponseOutsideTransaction() {
+        User sender = userRepository.save(user("01011112222"));
+        User receiver = userRepository.save(user("01033334444"));
+        transferRepository.save(Transfer.builder()
+                .transactionId("TXN-LAZY-1")
+                .sender(sender)
+                .senderAccountNumber("EP0000000001")
+                .receiver(receiver)
+                .receiverAccountNumber("EP0000000002")
+                .amount(new BigDecimal("10000"))
+                .build());
+
+        Transfer detached = transferRepository.findByTransactionId("TXN-LAZY-1").orElseThrow();
+        assertThatThrownBy(() -> TransferResponse.from(detached))
+                .isInstanceOf(LazyInitializationException.class);
+
+        Transfer transfer = transferRepository.findWithPartiesByTransactionId("TXN-LAZY-1").orElseThrow();
+        TransferResponse response = TransferResponse.from(transfer);
+
+        assertThat(response.getSenderPhoneNumber()).isEqualTo("01011112222");
+        assertThat(response.getReceiverPhoneNumber()).isEqualTo("01033334444");
+    }
+
+    @Test
+    @DisplayName("수신 사용자가 없는 외부 송금도 응답용 조회로 읽힌다")
+    void loadsExternalTransferWithoutReceiver() {
+        User sender = userRepository.save(user("01055556666"));
+        transferRepository.save(Transfer.builder()
+                .transactionId("TXN-EXT-1")
+                .sender(sender)
+                .senderAccountNumber("EP0000000003")
+                .receiver(null)
+                .receiverAccountNumber("1234567890")
+                .amount(new BigDecimal("10000"))
+                .build());
+
+        Transfer transfer = transferRepository.findWithPartiesByTransactionId("TXN-EXT-1").orElseThrow();
+        TransferResponse response = TransferResponse.from(transfer);
+
+        assertThat(response.getSenderPhoneNumber()).isEqualTo("01055556666");
+        assertThat(response.getReceiverPhoneNumber()).isNull();
+        assertThat(response.getReceiverAccountNumber()).isEqualTo("1234567890");
+    }
+
+    private static User user(String phoneNumber) {
+        return User.builder()
+                .phoneNumber(phoneNumber)
+                .email(phoneNumber + "@easypay.test")
+                .password("encoded")
+                .name("사용자" + phoneNumber.substring(7))
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.transfer.action.ActionResult;
+import fintech2.easypay.transfer.action.TransferAction;
+import fintech2.easypay.transfer.action.TransferActionProcessor;
+import fintech2.easypay.transfer.action.TransferActionResolver;
+import fintech2.easypay.transfer.action.TransferWorkQueue;
+import fintech2.easypay.transfer.action.command.InternalTransferCommand;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.repository.TransferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("접수 상태 송금 재처리 테스트")
+class RequestedTransferRecoveryServiceTest {
+
+    private static final String SENDER_PHONE = "01012345678";
+
+    private final Map<String, TransferStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicInteger claims = new AtomicInteger();
+    private final TransferActionResolver resolver = mock(TransferActionResolver.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransferRepository transferRepository = mock(TransferRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch blocker = new CountDownLatch(1);
+
+    private TransferWorkQueue stoppedQueue;
+    private TransferWorkQueue restartedQueue;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(new RecordingAction()).when(resolver).resolve(any());
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        blocker.countDown();
+        if (restartedQueue != null) {
+            restartedQueue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("종료로 큐에서 사라진 접수 송금은 재시작 후 다시 실행되고, 원래 작업이 뒤늦게 돌아도 한 번만 실행된다")
+    void resumesTransfersLeftInStoppedQueue() throws InterruptedException {
+        // 1. 워커가 앞 작업에 묶인 상태에서 두 건을 접수하고 노드 종료 (드레인 시간 초과)
+        stoppedQueue = new TransferWorkQueue(1, 10, 100, false, meterRegistry);
+        stoppedQueue.start();
+        CountDownLatch started = new CountDownLatch(1);
+        stoppedQueue.submit("EP0000000001", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        TransferActionProcessor stoppedNode = new TransferActionProcessor(
+                resolver, stoppedQueue, transactionManager, meterRegistry);
+        assertThat(stoppedNode.processAsync(command("TXN-1")).isPending()).isTrue();
+        assertThat(stoppedNode.processAsync(command("TXN-2")).isPending()).isTrue();
+        stoppedQueue.shutdown();
+
+        assertThat(stoppedQueue.size()).isEqualTo(2);
+        assertThat(statuses).containsOnly(
+                Map.entry("TXN-1", TransferStatus.REQUESTED), Map.entry("TXN-2", TransferStatus.REQUESTED));
+
+        // 2. 재시작한 노드의 재처리 스케줄러가 접수 상태 송금을 새 큐에 넣음
+        restartedQueue = new TransferWorkQueue(1, 10, 5000, false, meterRegistry);
+        restartedQueue.start();
+        TransferActionProcessor restartedNode = new TransferActionProcessor(
+                resolver, restartedQueue, transactionManager, meterRegistry);
+        when(transferRepository.findStaleRequested(any(), anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            return afterId == 0L ? List.of(transfer(1L, "TXN-1"), transfer(2L, "TXN-2")) : List.of();
+        });
+        RequestedTransferRecoveryService service = new RequestedTransferRecoveryService(
+                transferRepository, restartedNode, meterRegistry, 500, 300);
+
+        assertThat(service.resume()).isEqualTo(2);
+        restartedQueue.shutdown();
+        service.shutdown();
+
+        assertThat(statuses).containsOnly(
+                Map.entry("TXN-1", TransferStatus.COMPLETED), Map.entry("TXN-2", TransferStatus.COMPLETED));
+        assertThat(executions).hasValue(2);
+
+        // 3. 종료 전 노드의 작업이 뒤늦게 실행돼도 이미 처리된 송금은 다시 실행하지 않음
+        blocker.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (claims.get() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(claims).hasValue(4);
+        assertThat(executions).hasValue(2);
+    }
+
+    private static InternalTransferCommand command(String transactionId) {
+        return InternalTransferCommand.builder()
+                .senderPhoneNumber(SENDER_PHONE)
+                .receiverAccountNumber("EP0000000002")
+                .amount(new BigDecimal("10000"))
+                .transactionId(transactionId)
+                .build();
+    }
+
+    private static Transfer transfer(Long id, String transactionId) {
+        return Transfer.builder()
+                .id(id)
+                .transactionId(transactionId)
+                .sender(User.builder().id(1L).phoneNumber(SENDER_PHONE).build())
+                .senderAccountNumber("EP0000000001")
+                .receiverAccountNumber("EP0000000002")
+                .amount(new BigDecimal("10000"))
+                .build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 거래 상태를 메모리에 기록하는 송금 액션 (거래 ID 기준으로 실행 권한 확인)
+     */
+    private class RecordingAction implements TransferAction<InternalTransferCommand> {
+
+        @Override
+        public Class<InternalTransferCommand> commandType() {
+            return InternalTransferCommand.class;
+        }
+
+        @Override
+        public boolean validate(InternalTransferCommand command) {
+            return true;
+        }
+
+        @Override
+        public void savePending(InternalTransferCommand command) {
+            statuses.put(command.getTransactionId(), TransferStatus.REQUESTED);
+        }
+
+        @Override
+        public synchronized boolean claimPending(InternalTransferCommand command) {
+            claims.incrementAndGet();
+            return statuses.get(command.getTransactionId()) == TransferStatus.REQUESTED;
+        }
+
+        @Override
+        public ActionResult execute(InternalTransferCommand command) {
+            executions.incrementAndGet();
+            return ActionResult.success("ok");
+        }
+
+        @Override
+        public void updateFromResult(InternalTransferCommand command, ActionResult result) {
+            statuses.put(command.getTransactionId(),
+                    result.isSuccess() ? TransferStatus.COMPLETED : TransferStatus.FAILED);
+        }
+    }
+}
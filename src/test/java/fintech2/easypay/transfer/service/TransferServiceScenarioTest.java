@@ -1,6 +1,10 @@
 package fintech2.easypay.transfer.service;
 
+import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.dto.CursorPage;
+import fintech2.easypay.common.util.KeysetCursor;
+import fintech2.easypay.common.util.TransactionIdGenerator;
 import fintech2.easypay.transfer.action.ActionResult;
 import fintech2.easypay.transfer.action.TransferActionProcessor;
 import fintech2.easypay.transfer.dto.TransferRequest;
@@ -13,9 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,7 +44,8 @@ class TransferServiceScenarioTest {
         transferService = new TransferService(
             transferRepository,
             userRepository,
-            transferActionProcessor
+            transferActionProcessor,
+            new TransactionIdGenerator(1, Clock.systemUTC())
         );
     }
 
@@ -60,14 +69,16 @@ class TransferServiceScenarioTest {
         // Mock Transfer entity
         Transfer mockTransfer = Transfer.builder()
             .transactionId("TXN123456789")
+            .sender(User.builder().id(1L).phoneNumber(senderPhoneNumber).build())
             .senderAccountNumber("123456789001")
+            .receiver(User.builder().id(2L).phoneNumber("01098765432").build())
             .receiverAccountNumber("123456789002")
             .amount(BigDecimal.valueOf(100000))
             .memo("테스트 송금")
             .build();
         mockTransfer.markAsCompleted();
         
-        when(transferRepository.findByTransactionId(anyString()))
+        when(transferRepository.findWithPartiesByTransactionId(anyString()))
             .thenReturn(java.util.Optional.of(mockTransfer));
 
         // When
@@ -77,6 +88,7 @@ class TransferServiceScenarioTest {
         assertThat(response).isNotNull();
         assertThat(response.getAmount()).isEqualTo(BigDecimal.valueOf(100000));
         assertThat(response.getMemo()).isEqualTo("테스트 송금");
+        assertThat(response.getReceiverPhoneNumber()).isEqualTo("01098765432");
     }
 
     @Test
@@ -117,4 +129,57 @@ class TransferServiceScenarioTest {
             assertThat(e).hasMessageContaining("잔액이 부족합니다");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 내역 키셋 조회 - 보낸/받은 내역을 최신순으로 병합하고 다음 페이지 토큰을 만든다")
+    void mergesSentAndReceivedHistoryByKeyset() {
+        // Given
+        User me = User.builder().id(1L).phoneNumber("01012345678").build();
+        User other = User.builder().id(2L).phoneNumber("01098765432").build();
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 12, 0);
+        Transfer sentNewest = historyTransfer(10L, me, other, base.plusMinutes(3));
+        Transfer receivedMiddle = historyTransfer(7L, other, me, base.plusMinutes(2));
+        Transfer self = historyTransfer(9L, me, me, base.plusMinutes(2));
+        Transfer sentOldest = historyTransfer(3L, me, other, base);
+
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.of(me));
+        when(transferRepository.findSentFirstPage(eq(1L), any()))
+            .thenReturn(List.of(sentNewest, self, sentOldest));
+        when(transferRepository.findReceivedFirstPage(eq(1L), any()))
+            .thenReturn(List.of(self, receivedMiddle));
+
+        // When
+        CursorPage<TransferResponse> page = transferService.getTransferHistory("01012345678", null, 2);
+
+        // Then - 같은 시각은 id 내림차순, 자기 자신 송금은 한 번만
+        assertThat(page.items()).extracting(TransferResponse::getId).containsExactly(10L, 9L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(base.plusMinutes(2), 9L));
+
+        // 다음 페이지는 커서 이후 행만 조회
+        when(transferRepository.findSentPageAfter(eq(1L), eq(base.plusMinutes(2)), eq(9L), any()))
+            .thenReturn(List.of(sentOldest));
+        when(transferRepository.findReceivedPageAfter(eq(1L), eq(base.plusMinutes(2)), eq(9L), any()))
+            .thenReturn(List.of(receivedMiddle));
+
+        CursorPage<TransferResponse> next = transferService.getTransferHistory("01012345678", page.nextCursor(), 2);
+
+        assertThat(next.items()).extracting(TransferResponse::getId).containsExactly(7L, 3L);
+        assertThat(next.hasNext()).isFalse();
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    private static Transfer historyTransfer(Long id, User sender, User receiver, LocalDateTime createdAt) {
+        Transfer transfer = Transfer.builder()
+            .id(id)
+            .transactionId("TXN" + id)
+            .sender(sender)
+            .receiver(receiver)
+            .senderAccountNumber("123456789001")
+            .receiverAccountNumber("123456789002")
+            .amount(BigDecimal.valueOf(1000))
+            .build();
+        ReflectionTestUtils.setField(transfer, "createdAt", createdAt);
+        return transfer;
+    }
+}
@@ -0,0 +1,233 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.external.BankingApiResponse;
+import fintech2.easypay.transfer.external.BankingApiService;
+import fintech2.easypay.transfer.external.BankingApiStatus;
+import fintech2.easypay.transfer.repository.TransferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("거래 상태 확인(대사) 엔진 테스트")
+class TransferStatusCheckServiceTest {
+
+    @Mock private TransferRepository transferRepository;
+    @Mock private BankingApiService bankingApiService;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferStatusCheckService service;
+    private final Map<Long, Transfer> transfers = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TransferStatusCheckService(transferRepository, bankingApiService, balanceService,
+                auditLogService, notificationService, transactionManager, meterRegistry,
+                2, 2, 2, 10, 240, 60, 3600, 24, false);
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(transferRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(transfers.get(invocation.<Long>getArgument(0))));
+        when(transferRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Transfer> found = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> {
+                if (transfers.containsKey(id)) {
+                    found.add(transfers.get(id));
+                }
+            });
+            return found;
+        });
+        when(transferRepository.findOldestCreatedAtByStatusIn(any())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대상 거래를 id 키셋으로 페이지 단위 조회하며 페이지마다 일괄 조회로 확인한다")
+    void pagesThroughCandidatesByKeyset() {
+        for (long id = 1; id <= 3; id++) {
+            transfers.put(id, transfer(id, TransferStatus.TIMEOUT));
+        }
+        when(bankingApiService.getTransferStatuses(anyCollection())).thenAnswer(invocation -> {
+            Map<String, BankingApiResponse> responses = new HashMap<>();
+            invocation.<Collection<String>>getArgument(0)
+                    .forEach(txId -> responses.put(txId, response(BankingApiStatus.SUCCESS)));
+            return responses;
+        });
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(3L));
+
+        int checked = service.reconcile();
+
+        assertThat(checked).isEqualTo(3);
+        assertThat(transfers.values()).allMatch(Transfer::isCompleted);
+        verify(balanceService, times(3)).decrease(eq("EP0000000001"), eq(new BigDecimal("10000")),
+                eq(TransactionType.TRANSFER_OUT), anyString(), anyString(), eq("1"));
+        // 외부 호출은 페이지당 1회, 반영 트랜잭션은 거래당 1건
+        verify(bankingApiService).getTransferStatuses(List.of("TXN1", "TXN2"));
+        verify(bankingApiService).getTransferStatuses(List.of("TXN3"));
+        verify(bankingApiService, never()).getTransferStatus(anyString());
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.get("easypay.reconcile.processed").tag("outcome", "completed")
+                .counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("결과가 확정되지 않으면 시도 횟수에 따라 다음 확인 시각을 늦춘다")
+    void schedulesBackoffForPendingTransfers() {
+        Transfer transfer = transfer(1L, TransferStatus.UNKNOWN);
+        transfers.put(1L, transfer);
+
+        service.applyStatus(1L, response(BankingApiStatus.PENDING));
+        LocalDateTime firstCheck = transfer.getNextReconcileAt();
+        service.applyStatus(1L, response(BankingApiStatus.PENDING));
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.UNKNOWN);
+        assertThat(transfer.getReconcileAttempts()).isEqualTo(2);
+        assertThat(transfer.getNextReconcileAt()).isAfter(firstCheck);
+        verifyNoInteractions(balanceService);
+
+        assertThat(service.backoffFor(0)).isBetween(Duration.ofSeconds(48), Duration.ofSeconds(72));
+        assertThat(service.backoffFor(3)).isBetween(Duration.ofSeconds(384), Duration.ofSeconds(576));
+        assertThat(service.backoffFor(40)).isLessThanOrEqualTo(Duration.ofSeconds(4320));
+    }
+
+    @Test
+    @DisplayName("성공 확인 후 잔액이 부족하면 잔액 변경을 롤백하고 실패만 별도로 기록한다")
+    void insufficientBalanceRollsBackAndRecordsFailure() {
+        Transfer transfer = transfer(1L, TransferStatus.TIMEOUT);
+        transfers.put(1L, transfer);
+        when(balanceService.decrease(anyString(), any(), any(), anyString(), anyString(), anyString()))
+                .thenThrow(new InsufficientBalanceException("잔액이 부족합니다"));
+
+        service.applyStatus(1L, response(BankingApiStatus.SUCCESS));
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("다른 경로에서 이미 확정된 거래는 변경하지 않는다")
+    void skipsTransfersResolvedElsewhere() {
+        Transfer transfer = transfer(1L, TransferStatus.COMPLETED);
+        transfers.put(1L, transfer);
+
+        service.applyStatus(1L, response(BankingApiStatus.FAILED));
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        verifyNoInteractions(auditLogService);
+    }
+
+    @Test
+    @DisplayName("외부 API 호출이 실패하면 백오프를 예약하고 24시간이 지난 거래는 실패 처리한다")
+    void apiErrorsBackOffThenGiveUp() {
+        Transfer recent = transfer(1L, TransferStatus.TIMEOUT);
+        Transfer stale = transfer(2L, TransferStatus.TIMEOUT);
+        ReflectionTestUtils.setField(stale, "createdAt", LocalDateTime.now().minusHours(25));
+        transfers.put(1L, recent);
+        transfers.put(2L, stale);
+        when(bankingApiService.getTransferStatuses(anyCollection())).thenThrow(new RuntimeException("connection reset"));
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        service.reconcile();
+
+        assertThat(recent.getStatus()).isEqualTo(TransferStatus.TIMEOUT);
+        assertThat(recent.getReconcileAttempts()).isEqualTo(1);
+        assertThat(stale.getStatus()).isEqualTo(TransferStatus.FAILED);
+        verify(notificationService).sendSecurityAlert(eq(1L), anyString(), contains("TXN2"));
+    }
+
+    @Test
+    @DisplayName("이미 확정된 거래는 조회에서 빼고, 응답에서 누락된 거래는 다음 확인으로 미룬다")
+    void excludesResolvedAndDefersMissingResponses() {
+        Transfer resolved = transfer(1L, TransferStatus.COMPLETED);
+        Transfer missing = transfer(2L, TransferStatus.UNKNOWN);
+        transfers.put(1L, resolved);
+        transfers.put(2L, missing);
+        when(bankingApiService.getTransferStatuses(anyCollection())).thenReturn(Map.of());
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(transferRepository.findReconcileCandidateIds(any(), any(), any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        service.reconcile();
+
+        verify(bankingApiService).getTransferStatuses(List.of("TXN2"));
+        assertThat(missing.getStatus()).isEqualTo(TransferStatus.UNKNOWN);
+        assertThat(missing.getReconcileAttempts()).isEqualTo(1);
+        assertThat(meterRegistry.get("easypay.reconcile.processed").tag("outcome", "skipped")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    private Transfer transfer(Long id, TransferStatus status) {
+        User sender = User.builder().id(1L).phoneNumber("01012345678").build();
+        Transfer transfer = Transfer.builder()
+                .id(id)
+                .transactionId("TXN" + id)
+                .sender(sender)
+                .senderAccountNumber("EP0000000001")
+                .receiverAccountNumber("9876543210")
+                .amount(new BigDecimal("10000"))
+                .status(status)
+                .build();
+        ReflectionTestUtils.setField(transfer, "createdAt", LocalDateTime.now().minusMinutes(30));
+        return transfer;
+    }
+
+    private BankingApiResponse response(BankingApiStatus status) {
+        return BankingApiResponse.builder()
+                .status(status)
+                .bankTransactionId("BANK-1")
+                .message("ok")
+                .build();
+    }
+}